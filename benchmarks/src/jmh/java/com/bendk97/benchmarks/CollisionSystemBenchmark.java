@@ -0,0 +1,157 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.RandomXS128;
+import com.bendk97.components.EnemyComponent;
+import com.bendk97.components.PlayerBulletComponent;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.listeners.CollisionListener;
+import com.bendk97.systems.collision.ContactBuffer;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.screens.levels.utils.PositionHistory;
+import com.bendk97.systems.collision.CollisionSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bendk97.SpaceKillerGameConstants.PLAYER_BULLET_VELOCITY;
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
+import static com.bendk97.components.helpers.ComponentMapperHelper.position;
+
+/**
+ * One collision pass of {@link CollisionSystem} over player bullets and enemies spread on the screen, with the
+ * entities standing still or with the bullets flying up as during a step of the level, their moves being swept.
+ * A step of the level, where the pass is throttled to 20 Hz, is compared to a step forcing a pass every step.
+ * As in the level, a bullet hitting an enemy is gone: it is fired again from the bottom of the screen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionSystemBenchmark {
+
+    // long enough for the throttled system to run a pass
+    private static final float PASS = 1f;
+
+    @Param({"10", "100", "300"})
+    public int bullets;
+
+    @Param({"10", "50", "200"})
+    public int enemies;
+
+    private final RandomXS128 random = new RandomXS128(97L);
+    private CollisionSystem collisionSystem;
+    private PositionHistory positionHistory;
+    private PositionComponent[] bulletPositions;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        PooledEngine engine = new PooledEngine();
+        collisionSystem = new CollisionSystem(new RefiringListener(), 0);
+        engine.addSystem(collisionSystem);
+        positionHistory = new PositionHistory(engine);
+        bulletPositions = new PositionComponent[bullets];
+        for (int i = 0; i < bullets; ++i) {
+            bulletPositions[i] = addEntity(engine, PlayerBulletComponent.class, 8f);
+        }
+        for (int i = 0; i < enemies; ++i) {
+            addEntity(engine, EnemyComponent.class, 64f);
+        }
+    }
+
+    private PositionComponent addEntity(PooledEngine engine, Class<? extends Component> type, float size) {
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.setXY(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.sprite = new Sprite();
+        sprite.sprite.setSize(size, size);
+        entity.add(position);
+        entity.add(sprite);
+        entity.add(engine.createComponent(type));
+        engine.addEntity(entity);
+        return position;
+    }
+
+    @Benchmark
+    public void update() {
+        collisionSystem.update(PASS);
+    }
+
+    @Benchmark
+    public void step() {
+        moveBullets();
+        collisionSystem.update(FixedTimestep.STEP);
+    }
+
+    @Benchmark
+    public void passEveryStep() {
+        moveBullets();
+        collisionSystem.update(PASS);
+    }
+
+    private void moveBullets() {
+        positionHistory.startStep();
+        for (PositionComponent position : bulletPositions) {
+            float y = position.y() + PLAYER_BULLET_VELOCITY * FixedTimestep.STEP;
+            position.setY(y > SCREEN_HEIGHT ? 0f : y);
+        }
+    }
+
+    private static class RefiringListener implements CollisionListener {
+
+        @Override
+        public void resolveContacts(ContactBuffer contacts) {
+            for (int i = 0; i < contacts.size(); ++i) {
+                position.get(contacts.get(i).first).setY(0f);
+            }
+        }
+
+        @Override
+        public void enemyShoot(Entity enemy, Entity player, Entity bullet) {
+        }
+
+        @Override
+        public void playerHitByEnemyBody(Entity player) {
+        }
+
+        @Override
+        public void playerHitByEnemyBullet(Entity player, Entity bullet) {
+        }
+
+        @Override
+        public void playerPowerUp(Entity player, Entity powerUp) {
+        }
+
+        @Override
+        public void bulletStoppedByShield(Entity bullet) {
+        }
+
+        @Override
+        public void enemyShootByShield(Entity enemy) {
+        }
+
+        @Override
+        public void playerShieldUp(Entity player, Entity shieldUp) {
+        }
+
+        @Override
+        public void playerBombUp(Entity player, Entity bombUp) {
+        }
+
+        @Override
+        public void enemyShootByExplosion(Entity enemy, Entity player) {
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.bendk97.SpaceKillerGame;
+import com.bendk97.assets.GameAssets;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.screens.levels.Level;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.tweens.PositionComponentTweenAccessor;
+import com.bendk97.tweens.SpriteComponentTweenAccessor;
+import com.bendk97.tweens.SpriteTweenAccessor;
+
+import static com.bendk97.assets.GameAssets.GFX_LEVEL_COMMON;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * libGDX context of the benchmarks: headless backend, mocked GL, and factories working on fake textures.
+ */
+final class Headless {
+
+    private Headless() {
+    }
+
+    static synchronized void start() {
+        if (Gdx.app == null) {
+            HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+            // no main loop: runnables are only executed by the benchmarks, on their own thread
+            configuration.renderInterval = -1f;
+            new HeadlessApplication(new ApplicationAdapter() {
+            }, configuration);
+            Gdx.gl20 = mock(GL20.class, withSettings().stubOnly());
+            Gdx.gl = Gdx.gl20;
+            Gdx.gl30 = mock(GL30.class, withSettings().stubOnly());
+            Gdx.graphics = mock(Graphics.class, withSettings().stubOnly());
+            Tween.registerAccessor(Sprite.class, new SpriteTweenAccessor());
+            Tween.registerAccessor(SpriteComponent.class, new SpriteComponentTweenAccessor());
+            Tween.registerAccessor(PositionComponent.class, new PositionComponentTweenAccessor());
+        }
+    }
+
+    /**
+     * @return entity factory whose atlases give a 32x32 region for any name
+     */
+    static EntityFactory entityFactory(PooledEngine engine, TweenManager tweenManager, Level level) {
+        GameAssets assets = mock(GameAssets.class, withSettings().stubOnly());
+        TextureAtlas atlas = mock(TextureAtlas.class, withSettings().stubOnly());
+        AtlasRegion region = new AtlasRegion(texture(), 0, 0, 32, 32);
+        Array<AtlasRegion> regions = new Array<>();
+        regions.add(region);
+        when(atlas.findRegion(anyString())).thenReturn(region);
+        when(atlas.findRegions(anyString())).thenReturn(regions);
+        when(assets.get(GFX_LEVEL_COMMON)).thenReturn(atlas);
+        when(assets.get(level.sprites)).thenReturn(atlas);
+        return new EntityFactory(mock(SpaceKillerGame.class, withSettings().stubOnly()), engine, assets, tweenManager,
+                null, mock(CameraShakeSystem.class, withSettings().stubOnly()), level);
+    }
+
+    static Texture texture() {
+        Texture texture = mock(Texture.class, withSettings().stubOnly());
+        when(texture.getWidth()).thenReturn(1024);
+        when(texture.getHeight()).thenReturn(1024);
+        return texture;
+    }
+}
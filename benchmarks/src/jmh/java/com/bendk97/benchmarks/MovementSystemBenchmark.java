@@ -0,0 +1,64 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.RandomXS128;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.VelocityComponent;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.systems.MovementSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
+
+/**
+ * One step of {@link MovementSystem}, i.e. AbstractMovementSystem.processEntity on every moving entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovementSystemBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private PooledEngine engine;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        RandomXS128 random = new RandomXS128(97L);
+        engine = new PooledEngine();
+        engine.addSystem(new MovementSystem(0));
+        for (int i = 0; i < entities; ++i) {
+            Entity entity = engine.createEntity();
+            PositionComponent position = engine.createComponent(PositionComponent.class);
+            position.setXY(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+            VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+            velocity.x = random.nextFloat() * 200f - 100f;
+            velocity.y = random.nextFloat() * 200f - 100f;
+            SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+            sprite.sprite = new Sprite();
+            entity.add(position);
+            entity.add(velocity);
+            entity.add(sprite);
+            engine.addEntity(entity);
+        }
+    }
+
+    @Benchmark
+    public void step() {
+        engine.update(FixedTimestep.STEP);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.RandomXS128;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.systems.DynamicEntitiesRenderingSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Sort by z-index of {@link DynamicEntitiesRenderingSystem}.
+ * Entities are placed above the screen so that nothing is drawn: what is left is the sort and the culling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderingSortBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int entities;
+
+    private DynamicEntitiesRenderingSystem renderingSystem;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        RandomXS128 random = new RandomXS128(97L);
+        PooledEngine engine = new PooledEngine();
+        renderingSystem = new DynamicEntitiesRenderingSystem(mock(SpriteBatch.class, withSettings().stubOnly()),
+                new FixedTimestep(), 0);
+        engine.addSystem(renderingSystem);
+        for (int i = 0; i < entities; ++i) {
+            Entity entity = engine.createEntity();
+            PositionComponent position = engine.createComponent(PositionComponent.class);
+            position.setXY(0f, SCREEN_HEIGHT * 2f);
+            SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+            sprite.sprite = new Sprite();
+            sprite.zIndex = random.nextInt(100);
+            entity.add(position);
+            entity.add(sprite);
+            engine.addEntity(entity);
+        }
+    }
+
+    /**
+     * an entity has been added or removed since last frame: the family is sorted again
+     */
+    @Benchmark
+    public void sortAndCull() {
+        renderingSystem.forceSort();
+        renderingSystem.update(FixedTimestep.STEP);
+    }
+
+    @Benchmark
+    public void cullOnly() {
+        renderingSystem.update(FixedTimestep.STEP);
+    }
+}
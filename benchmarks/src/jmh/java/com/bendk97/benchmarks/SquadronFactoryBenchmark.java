@@ -0,0 +1,130 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.ashley.core.PooledEngine;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.entities.enemies.SquadronFactory;
+import com.bendk97.screens.levels.Level;
+import com.bendk97.screens.levels.utils.ScriptItem;
+import com.bendk97.screens.levels.utils.ScriptItemBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bendk97.SpaceKillerGameConstants.*;
+import static com.bendk97.entities.EntityFactoryIds.SHIP_1;
+import static com.bendk97.entities.enemies.SquadronFactory.*;
+import static com.bendk97.pools.GamePools.poolVector2;
+
+/**
+ * {@link SquadronFactory#createSquadron(ScriptItem)} for each type of squadron of the level scripts.
+ * The squadron of the previous invocation is removed before each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SquadronFactoryBenchmark {
+
+    private static final int SHIPS = 5;
+
+    @Param({"LINEAR_X", "LINEAR_Y", "LINEAR_XY", "SEMI_CIRCLE", "BEZIER_SPLINE", "CATMULL_ROM_SPLINE", "ARROW_DOWN",
+            "INFINITE_CIRCLE"})
+    public String squadron;
+
+    private PooledEngine engine;
+    private TweenManager tweenManager;
+    private EntityFactory entityFactory;
+    private ScriptItem scriptItem;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        engine = new PooledEngine();
+        tweenManager = new TweenManager();
+        entityFactory = Headless.entityFactory(engine, tweenManager, Level.Level1);
+    }
+
+    @Setup(org.openjdk.jmh.annotations.Level.Invocation)
+    public void nextSquadron() {
+        tweenManager.killAll();
+        tweenManager.update(0f);
+        engine.removeAllEntities();
+        int type = typeOf(squadron);
+        scriptItem = new ScriptItemBuilder().typeShip(SHIP_1).typeSquadron(type).velocity(150f)
+                .number(type == ARROW_DOWN ? 7 : SHIPS).powerUp(false).displayBonus(true).withBonus(SHIPS * 10)
+                .rateShoot(STANDARD_RATE_SHOOT).bulletVelocity(ENEMY_BULLET_EASY_VELOCITY).withParams(paramsOf(type))
+                .createScriptItem();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tweenManager.killAll();
+        engine.removeAllEntities();
+        entityFactory.dispose();
+    }
+
+    @Benchmark
+    public void createSquadron() {
+        entityFactory.enemyEntityFactory.squadronFactory.createSquadron(scriptItem);
+    }
+
+    private static int typeOf(String squadron) {
+        switch (squadron) {
+            case "LINEAR_X":
+                return LINEAR_X;
+            case "LINEAR_Y":
+                return LINEAR_Y;
+            case "LINEAR_XY":
+                return LINEAR_XY;
+            case "SEMI_CIRCLE":
+                return SEMI_CIRCLE;
+            case "BEZIER_SPLINE":
+                return BEZIER_SPLINE;
+            case "CATMULL_ROM_SPLINE":
+                return CATMULL_ROM_SPLINE;
+            case "ARROW_DOWN":
+                return ARROW_DOWN;
+            case "INFINITE_CIRCLE":
+            default:
+                return INFINITE_CIRCLE;
+        }
+    }
+
+    /**
+     * same parameters as the random spawns of the level scripts, coming from the left
+     */
+    private static Object[] paramsOf(int type) {
+        switch (type) {
+            case LINEAR_X:
+                return new Object[]{-SHIP_WIDTH, 2f / 3f * SCREEN_HEIGHT, 1f};
+            case LINEAR_Y:
+                return new Object[]{SCREEN_WIDTH / 2f, SCREEN_HEIGHT};
+            case LINEAR_XY:
+                return new Object[]{0f, SCREEN_HEIGHT, SCREEN_WIDTH, 0f};
+            case SEMI_CIRCLE:
+                return new Object[]{-OFFSET_WIDTH, SCREEN_HEIGHT, true};
+            case BEZIER_SPLINE:
+                return new Object[]{
+                        poolVector2.getVector2(-OFFSET_WIDTH, SCREEN_HEIGHT),
+                        poolVector2.getVector2(SCREEN_WIDTH, SCREEN_HEIGHT),
+                        poolVector2.getVector2(SCREEN_WIDTH, 0f),
+                        poolVector2.getVector2(-OFFSET_WIDTH, 0f)};
+            case CATMULL_ROM_SPLINE:
+                return new Object[]{
+                        poolVector2.getVector2(0f, SCREEN_HEIGHT),
+                        poolVector2.getVector2(SCREEN_WIDTH * 0.8f, 3 * SCREEN_HEIGHT / 4f),
+                        poolVector2.getVector2(SCREEN_WIDTH * 0.2f, 2 * SCREEN_HEIGHT / 4f),
+                        poolVector2.getVector2(SCREEN_WIDTH * 0.8f, SCREEN_HEIGHT / 4f),
+                        poolVector2.getVector2(SCREEN_WIDTH * 0.2f, -SCREEN_HEIGHT / 4f),
+                        poolVector2.getVector2(SCREEN_WIDTH * 0.8f, -2 * SCREEN_HEIGHT / 4f)};
+            default:
+                return null;
+        }
+    }
+}
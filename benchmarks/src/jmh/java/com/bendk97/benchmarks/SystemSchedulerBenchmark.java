@@ -0,0 +1,120 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.RandomXS128;
+import com.bendk97.components.*;
+import com.bendk97.components.TankComponent.TankLevel;
+import com.bendk97.entities.EntityCommandBuffer;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.systems.*;
+import com.bendk97.systems.scheduler.SystemScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
+
+/**
+ * One step of the systems scheduled by the level, run by {@link SystemScheduler} on a given number of workers,
+ * to compare with the same systems run one after the other (no worker) on a multi-core device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SystemSchedulerBenchmark {
+
+    @Param({"0", "1", "3"})
+    public int workers;
+
+    @Param({"100", "500", "2000"})
+    public int entities;
+
+    private PooledEngine engine;
+    private SystemScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        RandomXS128 random = new RandomXS128(97L);
+        engine = new PooledEngine();
+        Entity player = createEntity(random);
+        player.add(engine.createComponent(PlayerComponent.class));
+        engine.addEntity(player);
+        scheduler = new SystemScheduler(0, workers);
+        engine.addSystem(scheduler);
+        schedule(new StateSystem(1));
+        schedule(new MovementSystem(2));
+        schedule(new FollowPlayerSystem(2));
+        schedule(new DirectionableSpriteSystem(5));
+        schedule(new TankAttackSystem(13));
+        schedule(new RemovableSystem(16, new TweenManager(), new EntityCommandBuffer(engine)));
+        for (int i = 0; i < entities; ++i) {
+            Entity entity = createEntity(random);
+            VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+            velocity.x = random.nextFloat() * 200f - 100f;
+            velocity.y = random.nextFloat() * 200f - 100f;
+            entity.add(velocity);
+            entity.add(engine.createComponent(StateComponent.class));
+            // never out of time: the crowd stays the same along the benchmark
+            RemovableComponent removable = engine.createComponent(RemovableComponent.class);
+            removable.setDuration(Float.MAX_VALUE);
+            entity.add(removable);
+            switch (i % 3) {
+                case 0:
+                    entity.add(engine.createComponent(DirectionableComponent.class));
+                    break;
+                case 1:
+                    FollowPlayerComponent follow = engine.createComponent(FollowPlayerComponent.class);
+                    follow.rotate = true;
+                    entity.add(follow);
+                    break;
+                default:
+                    entity.add(engine.createComponent(EnemyComponent.class));
+                    TankComponent tank = engine.createComponent(TankComponent.class);
+                    tank.setLevel(TankLevel.MEDIUM);
+                    entity.add(tank);
+                    break;
+            }
+            engine.addEntity(entity);
+        }
+    }
+
+    private Entity createEntity(RandomXS128 random) {
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.setXY(random.nextFloat() * SCREEN_WIDTH, random.nextFloat() * SCREEN_HEIGHT);
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.sprite = new Sprite();
+        entity.add(position);
+        entity.add(sprite);
+        return entity;
+    }
+
+    private void schedule(EntitySystem system) {
+        engine.addSystem(system);
+        scheduler.schedule(system);
+        // run by the scheduler only
+        system.setProcessing(false);
+    }
+
+    @Benchmark
+    public void step() {
+        engine.update(FixedTimestep.STEP);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.removeSystem(scheduler);
+    }
+}
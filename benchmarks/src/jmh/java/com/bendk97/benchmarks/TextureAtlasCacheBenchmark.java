@@ -0,0 +1,65 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.bendk97.entities.TextureAtlasCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TextureAtlasCache#findRegions(String)} against the linear search of {@link TextureAtlas#findRegions(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextureAtlasCacheBenchmark {
+
+    private static final int FRAMES = 4;
+
+    @Param({"50", "200"})
+    public int animations;
+
+    private TextureAtlas atlas;
+    private TextureAtlasCache cache;
+    private String[] names;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        Headless.start();
+        Texture texture = Headless.texture();
+        atlas = new TextureAtlas();
+        names = new String[animations];
+        for (int i = 0; i < animations; ++i) {
+            names[i] = "animation" + i;
+            for (int frame = 0; frame < FRAMES; ++frame) {
+                atlas.addRegion(names[i], texture, frame * 32, i * 32, 32, 32).index = frame;
+            }
+        }
+        cache = new TextureAtlasCache(atlas);
+    }
+
+    private String nextName() {
+        next = (next + 1) % names.length;
+        return names[next];
+    }
+
+    @Benchmark
+    public Array<AtlasRegion> cache() {
+        return cache.findRegions(nextName());
+    }
+
+    @Benchmark
+    public Array<AtlasRegion> atlas() {
+        return atlas.findRegions(nextName());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.bendk97.systems.TimerSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules many tasks, or pooled actions, on the {@link TimerSystem}, then lets the game time pass step by step
+ * until all of them have run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimerSystemBenchmark {
+
+    private static final float STEP = 1f / 60f;
+    private static final float MAX_DELAY = 10f;
+
+    @Param({"100", "1000", "10000"})
+    public int tasks;
+
+    private int executed = 0;
+    private final TimerSystem timer = new TimerSystem(0);
+    private final Entity entity = new Entity();
+    private final TimerSystem.EntityAction action = target -> executed++;
+    private TimerSystem.Task[] pending;
+
+    @Setup
+    public void setUp() {
+        pending = new TimerSystem.Task[tasks];
+        for (int i = 0; i < tasks; ++i) {
+            pending[i] = new TimerSystem.Task() {
+                @Override
+                public void run() {
+                    executed++;
+                }
+            };
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        timer.clear();
+    }
+
+    @Benchmark
+    public int scheduleAndRun() {
+        for (int i = 0; i < tasks; ++i) {
+            timer.schedule(pending[i], MAX_DELAY * i / tasks);
+        }
+        return runAll();
+    }
+
+    @Benchmark
+    public int schedulePooledActionsAndRun() {
+        for (int i = 0; i < tasks; ++i) {
+            timer.schedule(action, entity, MAX_DELAY * i / tasks);
+        }
+        return runAll();
+    }
+
+    private int runAll() {
+        while (!timer.isEmpty()) {
+            timer.update(STEP);
+        }
+        return executed;
+    }
+}
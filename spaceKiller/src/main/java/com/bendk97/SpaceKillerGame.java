@@ -8,6 +8,7 @@ package com.bendk97;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.utils.Disposable;
@@ -28,6 +29,7 @@ import static com.bendk97.screens.SocialScoreScreen.TEMP_DIRECTORY;
 public class SpaceKillerGame extends Game implements Disposable {
     private static final String INTENT_FILES = "intent files";
     private static final String WAS_UNABLE_TO_CLEAN_TEMP_DIRECTORY = "was unable to clean temp directory";
+    private static final String SPACE_KILLER_POOLS = "space-killer-pools";
     private final GameAssets assets = new GameAssets();
     public final PlayServices playServices;
     public PlayerData playerData;
@@ -40,6 +42,13 @@ public class SpaceKillerGame extends Game implements Disposable {
         this.intentShare = intentShare;
     }
 
+    /**
+     * @return storage of the pool profiles of the levels, kept from one game to the other
+     */
+    public Preferences getPoolProfiles() {
+        return Gdx.app.getPreferences(SPACE_KILLER_POOLS);
+    }
+
     private void cleanTempDirectory() {
         if (Gdx.files.isExternalStorageAvailable()) {
             final File[] tempDirectoryFiles = Gdx.files.external(TEMP_DIRECTORY).file().listFiles();
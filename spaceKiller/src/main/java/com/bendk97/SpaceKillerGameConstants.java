@@ -19,6 +19,8 @@ public class SpaceKillerGameConstants {
     public static boolean SKIP_SPLASH = false;
     public static String VERSION = "x.y.z";
     public static String ABI_DEVICE = "???";
+    // threads running the scheduled systems along with the engine, -1 for one per extra core
+    public static int SYSTEM_WORKERS = -1;
     // player
     public final static int LIVES = 4;
     public final static int NUMBER_OF_CONTINUE = 2;
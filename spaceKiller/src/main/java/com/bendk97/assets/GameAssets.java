@@ -30,6 +30,7 @@ import com.bendk97.screens.SplashScreen;
 import com.bendk97.screens.levels.Level1Screen;
 import com.bendk97.screens.levels.Level2Screen;
 import com.bendk97.screens.levels.Level3Screen;
+import com.bendk97.screens.levels.StressLevelScreen;
 import com.bendk97.screens.levels.utils.TransitionScreen;
 import com.bendk97.screens.menu.MenuScreen;
 import com.google.common.collect.Sets;
@@ -255,6 +256,7 @@ public class GameAssets {
                 // FONTS
                 FONT_SPACE_KILLER, FONT_SPACE_KILLER_LARGE, FONT_SPACE_KILLER_MEDIUM, FONT_SPACE_KILLER_SMALLEST
         ));
+        assets.put(StressLevelScreen.class, assets.get(Level3Screen.class));
         assets.put(TransitionScreen.class, emptySet());
         assets.put(SocialScoreScreen.class, emptySet());
         return assets;
@@ -8,23 +8,22 @@ package com.bendk97.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Pool;
 
+/**
+ * Animations of the entity, shared with the other entities: the frames are copied in the own sprite
+ * of the entity ({@link SpriteComponent}), which keeps its transform and its tint.
+ */
 public class AnimationComponent implements Component, Pool.Poolable {
-    public IntMap<Animation<Sprite>> animations = new IntMap<>();
+    public IntMap<Animation<AtlasRegion>> animations = new IntMap<>();
+    // frame shown by the sprite
+    public AtlasRegion frame = null;
 
     @Override
     public void reset() {
-        animations = new IntMap<>();
-    }
-
-    public void tintRed(int key, float red) {
-        int length = animations.get(key).getKeyFrames().length;
-        for (int i = 0; i < length; ++i) {
-            Sprite sprite = animations.get(key).getKeyFrames()[i];
-            sprite.setColor(red, 0f, 0f, 1f);
-        }
+        animations.clear();
+        frame = null;
     }
 }
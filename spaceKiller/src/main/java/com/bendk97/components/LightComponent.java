@@ -19,6 +19,7 @@ public class LightComponent implements Component, Pool.Poolable {
         if (light != null) {
             light.setActive(false);
             lights.free(light);
+            light = null;
         }
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.bendk97.entities.paths.BakedPath;
+
+/**
+ * Ship following a shared path: only its distance along it (negative while coming to its start), its speed and the
+ * origin the path is drawn from are its own
+ */
+public class PathComponent implements Component, Pool.Poolable {
+
+    public enum Mode {
+        // removed at the end of the path
+        ONCE,
+        // back to the start of the path at its end
+        LOOP,
+        // back and forth, waiting at both ends
+        YOYO
+    }
+
+    public BakedPath path = null;
+    public float distance = 0f;
+    public float speed = 0f;
+    public Mode mode = Mode.ONCE;
+    public float pause = 0f;
+    public float waiting = 0f;
+    public boolean backward = false;
+    public float originX = 0f;
+    public float originY = 0f;
+
+    @Override
+    public void reset() {
+        path = null;
+        distance = 0f;
+        speed = 0f;
+        mode = Mode.ONCE;
+        pause = 0f;
+        waiting = 0f;
+        backward = false;
+        originX = 0f;
+        originY = 0f;
+    }
+
+    /**
+     * leaves the ship where it is, e.g. to tween its death
+     */
+    public void stop() {
+        path = null;
+    }
+}
@@ -10,8 +10,21 @@ import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.utils.Pool.Poolable;
 
 public class PositionComponent implements Component, Poolable {
+    // beyond this distance in one step, the entity is teleported and not interpolated
+    private static final float TELEPORT_DISTANCE = 50f;
+    // previous coordinates are the ones at the beginning of the current step
     private float previousX = 0.0f, previousY = 0.0f;
     private float x = 0.0f, y = 0.0f;
+    private boolean moved = false;
+
+    /**
+     * to be called at the beginning of each simulation step, before anything moves, see PositionHistory
+     */
+    public void startStep() {
+        previousX = x;
+        previousY = y;
+        moved = false;
+    }
 
 
     @Override
@@ -20,6 +33,7 @@ public class PositionComponent implements Component, Poolable {
         y = 0;
         previousX = 0;
         previousY = 0;
+        moved = false;
     }
 
     public float x() {
@@ -31,18 +45,18 @@ public class PositionComponent implements Component, Poolable {
     }
 
     public void setXY(float x, float y){
-        savePreviousCoordinates();
+        moved = true;
         this.x = x;
         this.y = y;
     }
 
     public void setX(float x){
-        savePreviousCoordinates();
+        moved = true;
         this.x = x;
     }
 
     public void setY(float y){
-        savePreviousCoordinates();
+        moved = true;
         this.y = y;
     }
 
@@ -54,8 +68,20 @@ public class PositionComponent implements Component, Poolable {
         return previousY;
     }
 
-    private void savePreviousCoordinates() {
-        this.previousX = this.x;
-        this.previousY = this.y;
+    public float interpolatedX(float alpha) {
+        return isInterpolated() ? previousX + (x - previousX) * alpha : x;
+    }
+
+    public float interpolatedY(float alpha) {
+        return isInterpolated() ? previousY + (y - previousY) * alpha : y;
+    }
+
+    private boolean isInterpolated() {
+        return moved
+                && Math.abs(x - previousX) < TELEPORT_DISTANCE && Math.abs(y - previousY) < TELEPORT_DISTANCE;
+    }
+
+    public boolean hasMovedInStep() {
+        return moved;
     }
 }
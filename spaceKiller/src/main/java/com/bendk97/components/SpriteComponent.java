@@ -8,6 +8,7 @@ package com.bendk97.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Pool;
 
@@ -36,6 +37,19 @@ public class SpriteComponent implements Component, Pool.Poolable {
         this.sprite.rotate(rotation);
     }
 
+    /**
+     * shows another frame of an animation, keeping the transform and the tint of the sprite
+     */
+    public void setFrame(AtlasRegion frame) {
+        int width = frame.getRegionWidth();
+        int height = frame.getRegionHeight();
+        if (sprite.getWidth() != width || sprite.getHeight() != height) {
+            sprite.setSize(width, height);
+            sprite.setOrigin(width / 2f, height / 2f);
+        }
+        sprite.setRegion(frame);
+    }
+
     public void tintRed(float red){
         this.sprite.setColor(red, 0f, 0f, 1f);
     }
@@ -43,7 +43,7 @@ public class SquadronComponent implements Component, Pool.Poolable {
     @Override
     public void reset() {
         powerUpAfterDestruction = false;
-        ships = new Array<>();
+        ships.clear();
         lastKilledPosition.set(10f, 10f);
         displayBonusSquadron = false;
         scoreBonus = 1000;
@@ -7,16 +7,15 @@
 package com.bendk97.components;
 
 import com.badlogic.ashley.core.Component;
-import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
+import com.bendk97.random.GameRandom;
 
 import java.util.Random;
 
 public class TankComponent implements Component, Pool.Poolable {
 
-    public long lastShoot = TimeUtils.millis() - 300;
-    private TankLevel level = TankLevel.EASY;
+    // seconds of simulation since the last shoot, so that a replayed session fires as the recorded one
+    public float sinceLastShoot = 0.3f;
     public long nbShootsBeforeLastReload = 0;
     public long delayShoot = TankLevel.EASY.delayShoot;
     public int nbShoots = TankLevel.EASY.nbShoots;
@@ -28,35 +27,35 @@ public class TankComponent implements Component, Pool.Poolable {
         final long delayBetweenBursts;
         public final float bulletVelocity;
         final int nbShoots;
-        final Random random = new RandomXS128();
 
         TankLevel(int nbShoots, long delayShoot, long delayBetweenBursts, float bulletVelocity) {
-            this.nbShoots = (nbShoots - 1) + random.nextInt(3);
-            this.delayShoot = (delayShoot - 100) + (long) random.nextFloat() * 200;
+            this.nbShoots = nbShoots;
+            this.delayShoot = delayShoot;
             this.bulletVelocity = bulletVelocity;
-            this.delayBetweenBursts = (delayBetweenBursts - 100) + (long) random.nextFloat() * 200;
+            this.delayBetweenBursts = delayBetweenBursts;
         }
     }
 
+    /**
+     * draws the characteristics of the tank around those of its level, from the random generator of the level
+     */
     public void setLevel(TankLevel level) {
-        delayShoot = level.delayShoot;
-        delayBetweenBursts = level.delayBetweenBursts;
-        nbShoots = level.nbShoots;
-        this.level = level;
+        Random random = GameRandom.get();
+        nbShoots = (level.nbShoots - 1) + random.nextInt(3);
+        delayShoot = (level.delayShoot - 100) + random.nextInt(200);
+        delayBetweenBursts = (level.delayBetweenBursts - 100) + random.nextInt(200);
     }
 
     @Override
     public void reset() {
-        lastShoot = TimeUtils.millis() - 300;
-        level = TankLevel.EASY;
+        sinceLastShoot = 0.3f;
         delayShoot = TankLevel.EASY.delayShoot;
         nbShoots = TankLevel.EASY.nbShoots;
         delayBetweenBursts = TankLevel.EASY.delayBetweenBursts;
         nbShootsBeforeLastReload = 0;
     }
 
-    public void reRandomCharacteristics() {
-        setLevel(level);
+    public void reload() {
         nbShootsBeforeLastReload = 0;
     }
 }
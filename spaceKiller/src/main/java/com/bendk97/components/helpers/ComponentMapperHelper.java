@@ -28,6 +28,7 @@ public class ComponentMapperHelper {
     public static final ComponentMapper<InvulnerableComponent> invulnerable = ComponentMapper.getFor(InvulnerableComponent.class);
     public static final ComponentMapper<LevelFinishedComponent> levelFinished = ComponentMapper.getFor(LevelFinishedComponent.class);
     public static final ComponentMapper<LightComponent> light = ComponentMapper.getFor(LightComponent.class);
+    public static final ComponentMapper<PathComponent> path = ComponentMapper.getFor(PathComponent.class);
     public static final ComponentMapper<StatusHealthComponent> healthBar = ComponentMapper.getFor(StatusHealthComponent.class);
     public static final ComponentMapper<BossAlertComponent> bossAlert = ComponentMapper.getFor(BossAlertComponent.class);
     public static final ComponentMapper<GameOverComponent> gameOver = ComponentMapper.getFor(GameOverComponent.class);
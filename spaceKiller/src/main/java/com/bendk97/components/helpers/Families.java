@@ -21,5 +21,8 @@ public class Families {
     public static final Family player = Family.one(PlayerComponent.class).exclude(GameOverComponent.class).get();
     public static final Family shield = Family.one(ShieldComponent.class).get();
     public static final Family boss = Family.one(BossComponent.class).get();
+    public static final Family collidable = Family.all(PositionComponent.class, SpriteComponent.class)
+            .one(PlayerComponent.class, PlayerBulletComponent.class, EnemyComponent.class, EnemyBulletComponent.class,
+                    ShieldComponent.class, PowerUpComponent.class, ShieldUpComponent.class, BombUpComponent.class).get();
 
 }
\ No newline at end of file
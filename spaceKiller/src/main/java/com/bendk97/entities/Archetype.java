@@ -0,0 +1,55 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentType;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * Kind of entity spawned often (bullets, enemies): its set of components and their default values.
+ * Entities of an archetype keep their components when removed from the engine and wait in a free list
+ * to be handed out again by {@link ArchetypeRegistry}.
+ */
+public class Archetype {
+
+    /**
+     * default values of the components, applied after they are reset
+     */
+    public interface Defaults {
+        void apply(Entity entity);
+    }
+
+    final int id;
+    final Array<Class<? extends Component>> components = new Array<>(true, 8);
+    final Bits componentBits = new Bits();
+    final Defaults defaults;
+    final Array<Entity> free = new Array<>(false, 16, Entity.class);
+    // entities handed out and not removed yet
+    int alive = 0;
+    int peak = 0;
+
+    Archetype(int id, Defaults defaults) {
+        this.id = id;
+        this.defaults = defaults;
+    }
+
+    void add(Class<? extends Component> component) {
+        components.add(component);
+        componentBits.set(ComponentType.getIndexFor(component));
+    }
+
+    public int getFree() {
+        return free.size;
+    }
+
+    public int getPeak() {
+        return peak;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentType;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import com.bendk97.pools.PoolProfile;
+
+/**
+ * Hands out entities already assembled for their archetype.
+ * <p>
+ * Archetype entities are plain entities (not pooled by the engine), so they keep their components once removed:
+ * the registry, mapping each entity it assembled to its archetype, gets them back in the free list of their archetype.
+ * Foreign components, added after spawning, are reset (lights are switched off) and stripped once the entity is
+ * removed, after the other listeners saw it: they are not pooled by the engine and are left to the garbage collector.
+ * Components being set before the entity is added, it enters its families in a single update.
+ */
+public class ArchetypeRegistry implements EntityListener {
+    private static final String ARCHETYPE = "Archetype";
+
+    private final PooledEngine engine;
+    private final Array<Archetype> archetypes = new Array<>(true, 8, Archetype.class);
+    private final IdentityMap<Entity, Archetype> entities = new IdentityMap<>(64);
+    private final Array<Class<? extends Component>> foreign = new Array<>(false, 4);
+
+    public ArchetypeRegistry(PooledEngine engine) {
+        this.engine = engine;
+        // last listener notified, the others still see the foreign components of removed entities
+        engine.addEntityListener(Integer.MAX_VALUE, this);
+    }
+
+    @SafeVarargs
+    public final Archetype define(Archetype.Defaults defaults, Class<? extends Component>... components) {
+        Archetype archetype = new Archetype(archetypes.size + 1, defaults);
+        for (Class<? extends Component> component : components) {
+            archetype.add(component);
+        }
+        archetypes.add(archetype);
+        return archetype;
+    }
+
+    /**
+     * assembles entities in advance, so that the first spawns do not allocate
+     */
+    public void prewarm(Archetype archetype, int count) {
+        for (int i = archetype.free.size; i < count; ++i) {
+            archetype.free.add(assemble(archetype));
+        }
+    }
+
+    /**
+     * prewarms each archetype to its peak recorded in the profile
+     */
+    public void prewarm(PoolProfile profile) {
+        for (Archetype archetype : archetypes) {
+            prewarm(archetype, profile.getPeak(ARCHETYPE + archetype.id));
+        }
+    }
+
+    public void record(PoolProfile profile) {
+        for (Archetype archetype : archetypes) {
+            profile.record(ARCHETYPE + archetype.id, archetype.peak);
+        }
+    }
+
+    /**
+     * @return an entity of the archetype with default values, not added to the engine yet
+     */
+    public Entity obtain(Archetype archetype) {
+        Entity entity;
+        if (archetype.free.size > 0) {
+            entity = archetype.free.pop();
+        } else {
+            entity = assemble(archetype);
+        }
+        ImmutableArray<Component> components = entity.getComponents();
+        for (int i = 0; i < components.size(); ++i) {
+            Component component = components.get(i);
+            if (component instanceof Pool.Poolable) {
+                ((Pool.Poolable) component).reset();
+            }
+        }
+        if (archetype.defaults != null) {
+            archetype.defaults.apply(entity);
+        }
+        archetype.alive++;
+        archetype.peak = Math.max(archetype.peak, archetype.alive);
+        return entity;
+    }
+
+    private Entity assemble(Archetype archetype) {
+        Entity entity = new Entity();
+        for (Class<? extends Component> component : archetype.components) {
+            // not taken from the pools of the engine: the entity keeps its components for good
+            entity.add(newComponent(component));
+        }
+        entities.put(entity, archetype);
+        return entity;
+    }
+
+    private static Component newComponent(Class<? extends Component> component) {
+        try {
+            return ClassReflection.newInstance(component);
+        } catch (ReflectionException e) {
+            throw new GdxRuntimeException("component " + component.getSimpleName() + " cannot be created", e);
+        }
+    }
+
+    /**
+     * resets and removes the components the entity was not assembled with
+     */
+    private void stripForeignComponents(Archetype archetype, Entity entity) {
+        ImmutableArray<Component> components = entity.getComponents();
+        for (int i = 0; i < components.size(); ++i) {
+            Component component = components.get(i);
+            if (!archetype.componentBits.get(ComponentType.getIndexFor(component.getClass()))) {
+                if (component instanceof Pool.Poolable) {
+                    ((Pool.Poolable) component).reset();
+                }
+                foreign.add(component.getClass());
+            }
+        }
+        for (int i = 0; i < foreign.size; ++i) {
+            entity.remove(foreign.get(i));
+        }
+        foreign.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        free(entity);
+    }
+
+    /**
+     * gets back an entity of an archetype, removed from the engine or never added to it
+     *
+     * @return false if the entity was not assembled by the registry
+     */
+    public boolean free(Entity entity) {
+        Archetype archetype = entities.get(entity);
+        if (archetype == null) {
+            return false;
+        }
+        stripForeignComponents(archetype, entity);
+        archetype.free.add(entity);
+        archetype.alive--;
+        return true;
+    }
+
+    public void dispose() {
+        engine.removeEntityListener(this);
+        for (Archetype archetype : archetypes) {
+            archetype.free.clear();
+        }
+        entities.clear();
+    }
+}
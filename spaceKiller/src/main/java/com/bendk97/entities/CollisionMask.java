@@ -0,0 +1,72 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Opaque pixels of a texture region packed in bits, 64 pixels per word.
+ * Row 0 is the top of the region, as in the texture.
+ */
+public class CollisionMask {
+
+    private static final int ALPHA_THRESHOLD = 16;
+
+    public final int width;
+    public final int height;
+    public final int wordsPerRow;
+    public final long[] bits;
+
+    public CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    public static CollisionMask of(Pixmap pixmap, TextureRegion region) {
+        CollisionMask mask = new CollisionMask(region.getRegionWidth(), region.getRegionHeight());
+        int regionX = region.getRegionX();
+        int regionY = region.getRegionY();
+        for (int y = 0; y < mask.height; ++y) {
+            for (int x = 0; x < mask.width; ++x) {
+                if ((pixmap.getPixel(regionX + x, regionY + y) & 0xff) >= ALPHA_THRESHOLD) {
+                    mask.set(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    public void set(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    public boolean get(int x, int y) {
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * @return the 64 pixels of the row starting at column x, pixels out of the region are transparent
+     */
+    public long word(int y, int x) {
+        if (x <= -64 || x >= width) {
+            return 0L;
+        }
+        if (x < 0) {
+            return word(y, 0) << -x;
+        }
+        int index = y * wordsPerRow + (x >>> 6);
+        int shift = x & 63;
+        long word = bits[index] >>> shift;
+        if (shift != 0 && (x >>> 6) + 1 < wordsPerRow) {
+            word |= bits[index + 1] << (64 - shift);
+        }
+        return word;
+    }
+}
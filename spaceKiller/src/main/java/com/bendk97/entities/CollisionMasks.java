@@ -0,0 +1,66 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Collision masks of the loaded atlases, looked up from any region (or sprite) of their pages.
+ */
+public class CollisionMasks {
+
+    private static final ObjectMap<Texture, IntMap<CollisionMask>> masksByTexture = new ObjectMap<>();
+    private static final ObjectIntMap<Texture> references = new ObjectIntMap<>();
+
+    private CollisionMasks() {
+    }
+
+    static boolean isRegistered(Texture texture) {
+        return masksByTexture.containsKey(texture);
+    }
+
+    static void register(Texture texture, IntMap<CollisionMask> masks) {
+        masksByTexture.put(texture, masks);
+    }
+
+    static void retain(Texture texture) {
+        references.getAndIncrement(texture, 0, 1);
+    }
+
+    static void release(Texture texture) {
+        if (references.getAndIncrement(texture, 0, -1) <= 1) {
+            references.remove(texture, 0);
+            masksByTexture.remove(texture);
+        }
+    }
+
+    static int key(int regionX, int regionY) {
+        return regionY << 16 | regionX;
+    }
+
+    /**
+     * @return the mask of the region, or null when its texture has no mask
+     */
+    public static CollisionMask find(TextureRegion region) {
+        Texture texture = region.getTexture();
+        if (texture == null) {
+            return null;
+        }
+        IntMap<CollisionMask> masks = masksByTexture.get(texture);
+        if (masks == null) {
+            return null;
+        }
+        // u2 < u when the region is flipped
+        int regionX = Math.round(Math.min(region.getU(), region.getU2()) * texture.getWidth());
+        int regionY = Math.round(Math.min(region.getV(), region.getV2()) * texture.getHeight());
+        return masks.get(key(regionX, regionY));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Structural changes (entities and components added or removed) requested from tweens, timers, scripts and systems.
+ * <p>
+ * When deferred, commands are recorded and played back in bulk at the sync points of the level
+ * (see {@link #playback()}); otherwise they are applied right away, which is what the engine needs during its update
+ * since it already delays them until the end of the running system.
+ * An entity is removed exactly once: removing it again while its removal is pending, from a late tween callback
+ * or a second collision, is ignored. Only pending removals are tracked, the engine ignores the removal of an entity
+ * it does not hold anymore.
+ * Pooled entities are reused once removed: the recorded commands are stamped with the generation of their entity,
+ * bumped each time it leaves the engine, so that commands meant for a previous life of the entity are dropped.
+ */
+public class EntityCommandBuffer implements EntityListener {
+
+    private enum CommandType {
+        ADD_ENTITY, REMOVE_ENTITY, ADD_COMPONENT, REMOVE_COMPONENT
+    }
+
+    private static class Command implements Pool.Poolable {
+        CommandType type;
+        Entity entity;
+        Component component;
+        Class<? extends Component> componentClass;
+        int generation;
+        boolean done;
+
+        @Override
+        public void reset() {
+            type = null;
+            entity = null;
+            component = null;
+            componentClass = null;
+            generation = 0;
+            done = false;
+        }
+    }
+
+    private final Engine engine;
+    private final Array<Command> commands = new Array<>(false, 64, Command.class);
+    private final Pool<Command> commandPool = new Pool<Command>(64) {
+        @Override
+        protected Command newObject() {
+            return new Command();
+        }
+    };
+    // entities whose removal is pending, until the engine removes them
+    private final ObjectSet<Entity> removed = new ObjectSet<>();
+    private final ObjectSet<Entity> added = new ObjectSet<>();
+    private final ObjectSet<Entity> removing = new ObjectSet<>();
+    // generation of the entities of the recorded commands
+    private final ObjectIntMap<Entity> generations = new ObjectIntMap<>();
+    private boolean deferred = false;
+
+    public EntityCommandBuffer(Engine engine) {
+        this.engine = engine;
+        engine.addEntityListener(this);
+    }
+
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    public void addEntity(Entity entity) {
+        removed.remove(entity);
+        record(CommandType.ADD_ENTITY, entity, null, null);
+    }
+
+    public void removeEntity(Entity entity) {
+        if (removed.add(entity)) {
+            record(CommandType.REMOVE_ENTITY, entity, null, null);
+        }
+    }
+
+    public void addComponent(Entity entity, Component component) {
+        record(CommandType.ADD_COMPONENT, entity, component, null);
+    }
+
+    public void removeComponent(Entity entity, Class<? extends Component> componentClass) {
+        record(CommandType.REMOVE_COMPONENT, entity, null, componentClass);
+    }
+
+    /**
+     * @return true if the entity will be removed at the next sync point, or at the end of the running system
+     */
+    public boolean isRemoved(Entity entity) {
+        return removed.contains(entity);
+    }
+
+    private void record(CommandType type, Entity entity, Component component, Class<? extends Component> componentClass) {
+        Command command = commandPool.obtain();
+        command.type = type;
+        command.entity = entity;
+        command.component = component;
+        command.componentClass = componentClass;
+        if (deferred) {
+            if (!generations.containsKey(entity)) {
+                generations.put(entity, 0);
+            }
+            command.generation = generations.get(entity, 0);
+            commands.add(command);
+        } else {
+            apply(command);
+            // the engine delays removals during its update, until the end of the running system
+            if (type == CommandType.REMOVE_ENTITY && !entity.isScheduledForRemoval()) {
+                removed.remove(entity);
+            }
+            commandPool.free(command);
+        }
+    }
+
+    /**
+     * Applies the recorded commands, in order.
+     * Components of entities added in the same batch are set before the entity enters the engine, so their families
+     * are computed once, and commands on entities removed in the same batch are dropped, as well as the commands
+     * recorded before their entity left the engine.
+     */
+    public void playback() {
+        if (commands.size == 0) {
+            return;
+        }
+        Command[] items = commands.items;
+        int size = commands.size;
+        for (int i = 0; i < size; ++i) {
+            if (items[i].type == CommandType.ADD_ENTITY) {
+                added.add(items[i].entity);
+            } else if (items[i].type == CommandType.REMOVE_ENTITY && !isStale(items[i])) {
+                removing.add(items[i].entity);
+            }
+        }
+        for (int i = 0; i < size; ++i) {
+            Command command = items[i];
+            boolean componentCommand = command.type == CommandType.ADD_COMPONENT || command.type == CommandType.REMOVE_COMPONENT;
+            if (componentCommand && added.contains(command.entity) && !isStale(command)) {
+                apply(command);
+                command.done = true;
+            }
+        }
+        for (int i = 0; i < size; ++i) {
+            Command command = items[i];
+            if (!command.done) {
+                boolean componentCommand = command.type == CommandType.ADD_COMPONENT || command.type == CommandType.REMOVE_COMPONENT;
+                if ((!componentCommand || !removing.contains(command.entity)) && !isStale(command)) {
+                    apply(command);
+                }
+                if (command.type == CommandType.REMOVE_ENTITY) {
+                    removed.remove(command.entity);
+                }
+            }
+        }
+        commandPool.freeAll(commands);
+        commands.clear();
+        added.clear();
+        removing.clear();
+        generations.clear();
+    }
+
+    private boolean isStale(Command command) {
+        return command.type != CommandType.ADD_ENTITY && generations.get(command.entity, 0) != command.generation;
+    }
+
+    private void apply(Command command) {
+        switch (command.type) {
+            case ADD_ENTITY:
+                engine.addEntity(command.entity);
+                break;
+            case REMOVE_ENTITY:
+                engine.removeEntity(command.entity);
+                break;
+            case ADD_COMPONENT:
+                command.entity.add(command.component);
+                break;
+            case REMOVE_COMPONENT:
+                command.entity.remove(command.componentClass);
+                break;
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        removed.remove(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        removed.remove(entity);
+        if (generations.containsKey(entity)) {
+            generations.getAndIncrement(entity, 0, 1);
+        }
+    }
+
+    public void dispose() {
+        engine.removeEntityListener(this);
+        commandPool.freeAll(commands);
+        commands.clear();
+        removed.clear();
+        removing.clear();
+        generations.clear();
+    }
+}
@@ -17,9 +17,7 @@ import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
 import com.bendk97.SpaceKillerGame;
 import com.bendk97.assets.GameAssets;
-import com.bendk97.components.LightComponent;
-import com.bendk97.components.PositionComponent;
-import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.enemies.EnemyActionEntityFactory;
 import com.bendk97.entities.enemies.EnemyEntityFactory;
@@ -27,7 +25,8 @@ import com.bendk97.entities.player.BonusEntityFactory;
 import com.bendk97.entities.player.PlayerActionsEntityFactory;
 import com.bendk97.entities.player.PlayerEntityFactory;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.systems.TimerSystem;
 
 import static com.bendk97.assets.GameAssets.GFX_LEVEL_COMMON;
 
@@ -37,7 +36,14 @@ public class EntityFactory implements Disposable {
     public PooledEngine engine;
     public final GameAssets assets;
     public TweenManager tweenManager;
-    public final ScreenShake screenShake;
+    public EntityCommandBuffer commands;
+    public TimerSystem timer;
+    public ArchetypeRegistry archetypes;
+    public Archetype playerBullet;
+    public Archetype enemyBullet;
+    public Archetype enemyLaser;
+    public Archetype enemy;
+    public final CameraShakeSystem screenShake;
     public final TextureAtlasCache commonAtlas;
     public final TextureAtlasCache levelAtlas;
     public final RayHandler rayHandler;
@@ -55,10 +61,14 @@ public class EntityFactory implements Disposable {
     public EnemyEntityFactory enemyEntityFactory;
     public EnemyActionEntityFactory enemyActionEntityFactory;
     public BonusEntityFactory bonusEntityFactory;
+    private Array<Entity> staged = null;
 
     public EntityFactory(SpaceKillerGame game, PooledEngine engine, GameAssets assets, TweenManager tweenManager, RayHandler rayHandler,
-                         ScreenShake screenShake, Level level) {
+                         CameraShakeSystem screenShake, Level level) {
         this.engine = engine;
+        this.commands = new EntityCommandBuffer(engine);
+        this.archetypes = new ArchetypeRegistry(engine);
+        this.timer = new TimerSystem(0);
         this.screenShake = screenShake;
         this.rayHandler = rayHandler;
         if (rayHandler != null) {
@@ -74,9 +84,29 @@ public class EntityFactory implements Disposable {
         this.tweenManager = tweenManager;
         this.commonAtlas = new TextureAtlasCache(assets.get(GFX_LEVEL_COMMON));
         this.levelAtlas = new TextureAtlasCache(assets.get(level.sprites));
+        initArchetypes();
         initSubFactories(game, level);
     }
 
+    private void initArchetypes() {
+        playerBullet = archetypes.define(null, PlayerBulletComponent.class, PositionComponent.class,
+                VelocityComponent.class, SpriteComponent.class, RemovableComponent.class);
+        enemyBullet = archetypes.define(bullet -> ComponentMapperHelper.removable.get(bullet).setDuration(5f),
+                EnemyBulletComponent.class, PositionComponent.class, VelocityComponent.class,
+                SpriteComponent.class, RemovableComponent.class);
+        enemyLaser = archetypes.define(laser -> {
+                    ComponentMapperHelper.removable.get(laser).setDuration(2f);
+                    ComponentMapperHelper.sprite.get(laser).pixelPerfectCollision = true;
+                }, EnemyBulletComponent.class, PositionComponent.class, VelocityComponent.class,
+                SpriteComponent.class, RemovableComponent.class);
+        // squadron ships follow their path without extra component
+        enemy = archetypes.define(null, EnemyComponent.class, PositionComponent.class,
+                AnimationComponent.class, SpriteComponent.class, StateComponent.class, PathComponent.class);
+        archetypes.prewarm(playerBullet, 30);
+        archetypes.prewarm(enemyBullet, 40);
+        archetypes.prewarm(enemy, 10);
+    }
+
     private void initSubFactories(SpaceKillerGame game, Level level) {
         this.stageSetEntityFactory = new StageSetEntityFactory(engine);
         this.playerEntityFactory = new PlayerEntityFactory(this, game);
@@ -86,6 +116,24 @@ public class EntityFactory implements Disposable {
         this.enemyEntityFactory = new EnemyEntityFactory(this, level);
     }
 
+    /**
+     * adds the entity to the engine through the commands, or to the entities of the spawn being staged
+     */
+    public void addEntity(Entity entity) {
+        if (staged != null) {
+            staged.add(entity);
+        } else {
+            commands.addEntity(entity);
+        }
+    }
+
+    /**
+     * the squadrons created from now on are kept in these entities until their spawn is due, see SpawnScheduler
+     */
+    public void stageEntities(Array<Entity> entities) {
+        this.staged = entities;
+    }
+
     public void createLight(Entity entity) {
         createLight(entity, LIGHT_EXPLOSION_COLOR,
                 ComponentMapperHelper.sprite.get(entity).sprite.getHeight() * 20f);
@@ -109,6 +157,9 @@ public class EntityFactory implements Disposable {
     @Override
     public void dispose() {
         lightPool.clear();
+        timer.clear();
+        commands.dispose();
+        archetypes.dispose();
         commonAtlas.dispose();
         levelAtlas.dispose();
     }
@@ -6,10 +6,19 @@
 
 package com.bendk97.entities;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectSet;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,10 +28,64 @@ public class TextureAtlasCache implements Disposable {
     private final TextureAtlas textureAtlas;
     private final Map<String, AtlasRegion> regionByRegionName = new HashMap<>();
     private final Map<String, Array<AtlasRegion>> regionsByRegionName = new HashMap<>();
+    private final Map<String, Array<Animation<AtlasRegion>>> animationsByRegionName = new HashMap<>();
+
+
+    private final Array<Texture> maskedTextures = new Array<>();
 
 
     public TextureAtlasCache(TextureAtlas textureAtlas) {
         this.textureAtlas = textureAtlas;
+        buildCollisionMasks();
+    }
+
+    private void buildCollisionMasks() {
+        if (textureAtlas == null) {
+            return;
+        }
+        ObjectSet<Texture> textures = textureAtlas.getTextures();
+        Array<AtlasRegion> regions = textureAtlas.getRegions();
+        if (textures == null || regions == null) {
+            return;
+        }
+        for (Texture texture : textures) {
+            maskedTextures.add(texture);
+            CollisionMasks.retain(texture);
+            if (!CollisionMasks.isRegistered(texture)) {
+                IntMap<CollisionMask> masks = buildCollisionMasks(texture, regions);
+                if (masks != null) {
+                    CollisionMasks.register(texture, masks);
+                }
+            }
+        }
+    }
+
+    private IntMap<CollisionMask> buildCollisionMasks(Texture texture, Array<AtlasRegion> regions) {
+        TextureData textureData = texture.getTextureData();
+        if (textureData == null) {
+            return null;
+        }
+        Pixmap pixmap = null;
+        try {
+            if (!textureData.isPrepared()) {
+                textureData.prepare();
+            }
+            pixmap = textureData.consumePixmap();
+            IntMap<CollisionMask> masks = new IntMap<>();
+            for (AtlasRegion region : regions) {
+                if (region.getTexture() == texture) {
+                    masks.put(CollisionMasks.key(region.getRegionX(), region.getRegionY()), CollisionMask.of(pixmap, region));
+                }
+            }
+            return masks;
+        } catch (GdxRuntimeException e) {
+            Gdx.app.log("Pixel Perfect Collision", "Unable to read texture pixels");
+            return null;
+        } finally {
+            if (pixmap != null && textureData.disposePixmap()) {
+                pixmap.dispose();
+            }
+        }
     }
 
     public AtlasRegion findRegion(String name) {
@@ -40,9 +103,34 @@ public class TextureAtlasCache implements Disposable {
         return regionsByRegionName.get(name);
     }
 
+    /**
+     * @return animation of the regions, built once and shared by all the entities: it must not be modified
+     */
+    public Animation<AtlasRegion> findAnimation(String name, float frameDuration, PlayMode playMode) {
+        Array<Animation<AtlasRegion>> animations = animationsByRegionName.get(name);
+        if (animations == null) {
+            animations = new Array<>(false, 1);
+            animationsByRegionName.put(name, animations);
+        }
+        for (int i = 0; i < animations.size; ++i) {
+            Animation<AtlasRegion> animation = animations.get(i);
+            if (animation.getFrameDuration() == frameDuration && animation.getPlayMode() == playMode) {
+                return animation;
+            }
+        }
+        Animation<AtlasRegion> animation = new Animation<>(frameDuration, findRegions(name), playMode);
+        animations.add(animation);
+        return animation;
+    }
+
     @Override
     public void dispose() {
         regionByRegionName.clear();
         regionsByRegionName.clear();
+        animationsByRegionName.clear();
+        for (Texture texture : maskedTextures) {
+            CollisionMasks.release(texture);
+        }
+        maskedTextures.clear();
     }
 }
@@ -11,15 +11,15 @@ import aurelienribon.tweenengine.Tween;
 import aurelienribon.tweenengine.TweenManager;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.entities.EntityFactoryIds;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.timer.PausableTimer;
+import com.bendk97.systems.TimerSystem;
 
 import java.util.Random;
 
@@ -37,7 +37,8 @@ public class EnemyActionEntityFactory {
 
     private final EntityFactory entityFactory;
     private final TweenManager tweenManager;
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
+    private final TimerSystem.EntitiesAction enemyFire = this::createEnemyFire;
 
     public EnemyActionEntityFactory(EntityFactory entityFactory, TweenManager tweenManager) {
         this.entityFactory = entityFactory;
@@ -65,20 +66,12 @@ public class EnemyActionEntityFactory {
 
     private void createEnemyFireLaser(float posX, float posY, float velocity) {
         entityFactory.assets.playSound(SOUND_FIRE_ENEMY);
-        Entity bullet = entityFactory.engine.createEntity();
-        bullet.add(entityFactory.engine.createComponent(EnemyBulletComponent.class));
-        PositionComponent positionComponent = entityFactory.engine.createComponent(PositionComponent.class);
-        bullet.add(positionComponent);
-        VelocityComponent velocityComponent = entityFactory.engine.createComponent(VelocityComponent.class);
-        bullet.add(velocityComponent);
-        SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
+        Entity bullet = entityFactory.archetypes.obtain(entityFactory.enemyLaser);
+        PositionComponent positionComponent = position.get(bullet);
+        VelocityComponent velocityComponent = ComponentMapperHelper.velocity.get(bullet);
+        SpriteComponent spriteComponent = sprite.get(bullet);
         spriteComponent.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("laser"));
-        spriteComponent.pixelPerfectCollision = true;
-        bullet.add(spriteComponent);
-        RemovableComponent removableComponent = entityFactory.engine.createComponent(RemovableComponent.class);
-        removableComponent.setDuration(2f);
-        bullet.add(removableComponent);
-        entityFactory.engine.addEntity(bullet);
+        entityFactory.commands.addEntity(bullet);
         positionComponent.setXY(posX - spriteComponent.sprite.getWidth() / 2f, posY - spriteComponent.sprite.getHeight() / 2f);
 
         Vector2 directionBullet = poolVector2.getVector2(0f, -1);
@@ -92,7 +85,7 @@ public class EnemyActionEntityFactory {
     private void createEnemyFireCircle(Entity enemy, Entity player) {
         entityFactory.assets.playSound(SOUND_FIRE_ENEMY);
         Entity bullet = createEnemyBullet();
-        entityFactory.engine.addEntity(bullet);
+        entityFactory.commands.addEntity(bullet);
         PositionComponent playerPosition = position.get(player);
         PositionComponent enemyPosition = position.get(enemy);
         EnemyComponent enemyComponent = ComponentMapperHelper.enemy.get(enemy);
@@ -138,12 +131,7 @@ public class EnemyActionEntityFactory {
             final int bullets = level.equals(Level3) ? 20 : 10;
             float delay = level.equals(Level3) ? 0.1f : 0.2f;
             for (int i = 0; i < bullets; ++i) {
-                PausableTimer.schedule(new PausableTimer.Task() {
-                    @Override
-                    public void run() {
-                        createEnemyFire(boss, player);
-                    }
-                }, 0f + delay * i);
+                entityFactory.timer.schedule(enemyFire, boss, player, delay * i);
             }
         } else if (type == 1 || level.equals(Level1)
                 || position.get(boss).x() < 0 || position.get(boss).x() > SCREEN_WIDTH * 3f / 4f) {
@@ -184,7 +172,7 @@ public class EnemyActionEntityFactory {
             bulletPosition.setY(enemyPosition.y() + sprite.get(boss).sprite.getHeight() / 4f);
 
             bullets.add(bullet);
-            entityFactory.engine.addEntity(bullet);
+            entityFactory.commands.addEntity(bullet);
         }
         float rotation = yUp ? 35f : -35f;
         for (int i = 0; i < bullets.size; ++i) {
@@ -200,21 +188,16 @@ public class EnemyActionEntityFactory {
     }
 
     private Entity createEnemyBullet() {
-        Entity bullet = entityFactory.engine.createEntity();
-        bullet.add(entityFactory.engine.createComponent(EnemyBulletComponent.class));
-        bullet.add(entityFactory.engine.createComponent(PositionComponent.class));
-        bullet.add(entityFactory.engine.createComponent(VelocityComponent.class));
-        SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
+        Entity bullet = entityFactory.archetypes.obtain(entityFactory.enemyBullet);
+        SpriteComponent spriteComponent = sprite.get(bullet);
         spriteComponent.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("bulletEnemy"));
-        bullet.add(spriteComponent);
+        // the blinking of a previous bullet may still run on a reused component
+        tweenManager.killTarget(spriteComponent);
         Timeline.createSequence()
                 .push(Tween.to(spriteComponent, ALPHA, 0.09f).target(0.5f))
                 .push(Tween.to(spriteComponent, ALPHA, 0.09f).target(1f))
                 .repeat(Tween.INFINITY, 0f)
                 .start(tweenManager);
-        RemovableComponent removableComponent = entityFactory.engine.createComponent(RemovableComponent.class);
-        removableComponent.setDuration(5.0f);
-        bullet.add(removableComponent);
         return bullet;
     }
 }
@@ -1,25 +1,69 @@
 /*
  * Developed by Benjamin Lefèvre
- * Last modified 13/10/18 11:36
+ * Last modified 18/10/26 09:12
  * Copyright (c) 2018. All rights reserved.
  */
 
 package com.bendk97.entities.enemies;
 
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.utils.IntMap;
+
+import static com.badlogic.gdx.graphics.g2d.Animation.PlayMode.LOOP;
+import static com.badlogic.gdx.graphics.g2d.Animation.PlayMode.LOOP_PINGPONG;
+import static com.bendk97.SpaceKillerGameConstants.FRAME_DURATION;
+import static com.bendk97.SpaceKillerGameConstants.FRAME_DURATION_ENEMY_3;
+import static com.bendk97.entities.EntityFactoryIds.*;
+
+/**
+ * Characteristics of a kind of enemy ship, shared by all the ships of this kind (see {@link #of(int)}).
+ * What depends on the level script (attack, shoot rate, bullet velocity) is given at spawn.
+ */
 public class EnemyCharacteristics {
 
-    protected boolean canAttack;
-    public boolean directionable;
-    protected int rateShoot;
-    protected int strength;
-    protected int attackCapacity;
-    protected float velocityBullet;
+    private static final IntMap<EnemyCharacteristics> CATALOG = new IntMap<>();
+
+    static {
+        CATALOG.put(SOUCOUPE, new EnemyCharacteristics().setAtlasName("soucoupe").directionable(false).setPoints(100));
+        CATALOG.put(SHIP_1, new EnemyCharacteristics().setAtlasName("enemy"));
+        CATALOG.put(SHIP_2, new EnemyCharacteristics().setAtlasName("enemy2"));
+        CATALOG.put(SHIP_3, new EnemyCharacteristics().setAtlasName("enemy3").directionable(false)
+                .setFrameDuration(FRAME_DURATION_ENEMY_3));
+        CATALOG.put(SHIP_4, new EnemyCharacteristics().setAtlasName("enemy4"));
+        CATALOG.put(SHIP_5, new EnemyCharacteristics().setAtlasName("enemy5").directionable(false)
+                .setPlayMode(LOOP_PINGPONG));
+        CATALOG.put(SHIP_LV3_1, new EnemyCharacteristics().setAtlasName("lark").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(3).setStrength(2).setPoints(250));
+        CATALOG.put(SHIP_LV3_2, new EnemyCharacteristics().setAtlasName("stab").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2));
+        CATALOG.put(SHIP_LV3_3, new EnemyCharacteristics().setAtlasName("squid").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(3).setStrength(2).setPoints(250));
+        CATALOG.put(SHIP_LV3_4, new EnemyCharacteristics().setAtlasName("bug").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2));
+        CATALOG.put(SHIP_LV3_5, new EnemyCharacteristics().setAtlasName("swarmer").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2).directionable(false).setPoints(250));
+        CATALOG.put(SHIP_LV3_6, new EnemyCharacteristics().setAtlasName("stingray").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2));
+        CATALOG.put(SHIP_LV3_7, new EnemyCharacteristics().setAtlasName("fish").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2).setStrength(2).setPoints(250));
+        CATALOG.put(SHIP_LV3_8, new EnemyCharacteristics().setAtlasName("podfish").setPlayMode(LOOP_PINGPONG)
+                .setAttackCapacity(2));
+    }
+
+    public boolean directionable = true;
+    protected int strength = 1;
+    protected int attackCapacity = 1;
     protected String atlasName;
-    public int points;
+    public int points = 200;
+    protected float frameDuration = FRAME_DURATION;
+    protected Animation.PlayMode playMode = LOOP;
 
-    protected EnemyCharacteristics setCanAttack(boolean canAttack) {
-        this.canAttack = canAttack;
-        return this;
+    /**
+     * @return characteristics of the enemy type, the last ship of level 3 for unknown types
+     */
+    public static EnemyCharacteristics of(int enemyType) {
+        EnemyCharacteristics characteristics = CATALOG.get(enemyType);
+        return characteristics != null ? characteristics : CATALOG.get(SHIP_LV3_8);
     }
 
     protected EnemyCharacteristics directionable(boolean directionable) {
@@ -27,11 +71,6 @@ public class EnemyCharacteristics {
         return this;
     }
 
-    protected EnemyCharacteristics setRateShoot(int rateShoot) {
-        this.rateShoot = rateShoot;
-        return this;
-    }
-
     protected EnemyCharacteristics setStrength(int strength) {
         this.strength = strength;
         return this;
@@ -42,11 +81,6 @@ public class EnemyCharacteristics {
         return this;
     }
 
-    protected EnemyCharacteristics setVelocityBullet(float velocityBullet) {
-        this.velocityBullet = velocityBullet;
-        return this;
-    }
-
     protected EnemyCharacteristics setAtlasName(String atlasName) {
         this.atlasName = atlasName;
         return this;
@@ -56,4 +90,14 @@ public class EnemyCharacteristics {
         this.points = points;
         return this;
     }
+
+    protected EnemyCharacteristics setFrameDuration(float frameDuration) {
+        this.frameDuration = frameDuration;
+        return this;
+    }
+
+    protected EnemyCharacteristics setPlayMode(Animation.PlayMode playMode) {
+        this.playMode = playMode;
+        return this;
+    }
 }
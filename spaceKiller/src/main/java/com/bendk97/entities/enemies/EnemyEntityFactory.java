@@ -9,14 +9,14 @@ package com.bendk97.entities.enemies;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.utils.Array;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.timer.PausableTimer;
+import com.bendk97.systems.TimerSystem;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +28,8 @@ import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.assets.GameAssets.SOUND_EXPLOSION;
 import static com.bendk97.entities.EntityFactoryIds.*;
 import static com.bendk97.pools.GamePools.poolSprite;
+import static com.bendk97.systems.BossAttackSystem.READY_TO_FIRE1;
+import static com.bendk97.systems.BossAttackSystem.READY_TO_FIRE2;
 
 public class EnemyEntityFactory {
 
@@ -35,7 +37,8 @@ public class EnemyEntityFactory {
     private final EntityFactory entityFactory;
     public SoloEnemyFactory soloEnemyFactory;
     public SquadronFactory squadronFactory;
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
+    private final TimerSystem.EntityAction explodeBossPart = this::explodeBossPart;
 
 
     public EnemyEntityFactory(EntityFactory entityFactory, Level level) {
@@ -90,7 +93,7 @@ public class EnemyEntityFactory {
 
     private Entity createLaserShip(String atlasRegion, Float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean fromLeft) {
         Entity enemy = entityFactory.engine.createEntity();
-        entityFactory.engine.addEntity(enemy);
+        entityFactory.commands.addEntity(enemy);
         PositionComponent positionComponent = entityFactory.engine.createComponent(PositionComponent.class);
         enemy.add(positionComponent);
         if (velocity != null) {
@@ -103,12 +106,12 @@ public class EnemyEntityFactory {
 
         }
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions(atlasRegion));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION, sprites, LOOP_PINGPONG));
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation(atlasRegion, FRAME_DURATION, LOOP_PINGPONG);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         enemy.add(animationComponent);
         SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
         enemy.add(spriteComponent);
-        spriteComponent.sprite = sprites.get(0);
+        spriteComponent.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         spriteComponent.zIndex = 20;
         positionComponent.setX(fromLeft ? -spriteComponent.sprite.getWidth() : SCREEN_WIDTH);
         positionComponent.setY(SCREEN_HEIGHT - spriteComponent.sprite.getHeight());
@@ -151,7 +154,7 @@ public class EnemyEntityFactory {
         TankComponent tankComponent = entityFactory.engine.createComponent(TankComponent.class);
         tankComponent.setLevel(level);
         tankCannon.add(tankComponent);
-        entityFactory.engine.addEntity(tankCannon);
+        entityFactory.commands.addEntity(tankCannon);
         Entity tankBody = entityFactory.engine.createEntity();
         tankBody.add(entityFactory.engine.createComponent(PositionComponent.class));
         SpriteComponent sprite = entityFactory.engine.createComponent(SpriteComponent.class);
@@ -159,154 +162,43 @@ public class EnemyEntityFactory {
         sprite.zIndex = -6;
         tankBody.add(sprite);
         tankBody.add(entityFactory.engine.createComponent(GroundEnemyComponent.class));
-        entityFactory.engine.addEntity(tankBody);
+        entityFactory.commands.addEntity(tankBody);
 
         entities.add(tankBody);
         entities.add(tankCannon);
         return entities;
     }
 
-    private Entity createEnemy(Entity squadron, EnemyCharacteristics characteristics, float frameDuration, Animation.PlayMode animationType) {
-        Entity enemy = entityFactory.engine.createEntity();
-        EnemyComponent enemyComponent = entityFactory.engine.createComponent(EnemyComponent.class);
+    private Entity createEnemy(Entity squadron, EnemyCharacteristics characteristics, boolean canAttack, float velocityBullet, int rateShoot) {
+        Entity enemy = entityFactory.archetypes.obtain(entityFactory.enemy);
+        EnemyComponent enemyComponent = ComponentMapperHelper.enemy.get(enemy);
         enemyComponent.points = characteristics.points;
         enemyComponent.initLifeGauge(characteristics.strength);
-        enemyComponent.probabilityAttack = characteristics.rateShoot;
-        enemyComponent.bulletVelocity = characteristics.velocityBullet;
-        enemyComponent.attackCapacity = characteristics.canAttack ? characteristics.attackCapacity : 0;
+        enemyComponent.probabilityAttack = rateShoot;
+        enemyComponent.bulletVelocity = velocityBullet;
+        enemyComponent.attackCapacity = canAttack ? characteristics.attackCapacity : 0;
         if (squadron != null) {
             enemyComponent.squadron = squadron;
         }
-        enemy.add(enemyComponent);
-        PositionComponent position = entityFactory.engine.createComponent(PositionComponent.class);
-        enemy.add(position);
-        AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions(characteristics.atlasName));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(frameDuration, sprites, animationType));
-        enemy.add(animationComponent);
-        SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = sprites.get(0);
-        enemy.add(component);
+        AnimationComponent animationComponent = ComponentMapperHelper.animation.get(enemy);
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation(characteristics.atlasName,
+                characteristics.frameDuration, characteristics.playMode);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
+        ComponentMapperHelper.sprite.get(enemy).sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         if(characteristics.directionable) {
             enemy.add(entityFactory.engine.createComponent(DirectionableComponent.class));
         }
-        enemy.add(entityFactory.engine.createComponent(StateComponent.class));
-        entityFactory.engine.addEntity(enemy);
+        entityFactory.addEntity(enemy);
         return enemy;
     }
 
     protected Entity createEnemySoucoupe(Entity squadron, boolean canAttack, float velocityBullet) {
-        EnemyCharacteristics characteristics = new EnemyCharacteristics()
-                .setAtlasName("soucoupe")
-                .setCanAttack(canAttack)
-                .directionable(false)
-                .setRateShoot(STANDARD_RATE_SHOOT)
-                .setVelocityBullet(velocityBullet)
-                .setPoints(100)
-                .setStrength(1)
-                .setAttackCapacity(1);
-
-        return createEnemy(squadron, characteristics, FRAME_DURATION, LOOP);
+        return createEnemy(squadron, EnemyCharacteristics.of(SOUCOUPE), canAttack, velocityBullet, STANDARD_RATE_SHOOT);
     }
 
 
     protected Entity createEnemyShip(Entity squadron, boolean canAttack, float velocityBullet, int rateShoot, int enemyType) {
-        String atlasRegion;
-        int points = 200;
-        boolean directionable = true;
-        int strength = 1;
-        int attackCapacity = 1;
-        Animation.PlayMode playMode = LOOP;
-        float frameDuration = FRAME_DURATION;
-        switch (enemyType) {
-            case SHIP_1:
-                atlasRegion = "enemy";
-                break;
-            case SHIP_2:
-                atlasRegion = "enemy2";
-                break;
-            case SHIP_3:
-                atlasRegion = "enemy3";
-                directionable = false;
-                frameDuration = FRAME_DURATION_ENEMY_3;
-                break;
-            case SHIP_4:
-                atlasRegion = "enemy4";
-                break;
-            case SHIP_5:
-                directionable = false;
-                atlasRegion = "enemy5";
-                playMode = LOOP_PINGPONG;
-                break;
-            case SHIP_LV3_1:
-                atlasRegion = "lark";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 3;
-                strength = 2;
-                points = 250;
-                break;
-            case SHIP_LV3_2:
-                atlasRegion = "stab";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                strength = 1;
-                points = 200;
-                break;
-            case SHIP_LV3_3:
-                atlasRegion = "squid";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 3;
-                strength = 2;
-                points = 250;
-                break;
-            case SHIP_LV3_4:
-                atlasRegion = "bug";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                strength = 1;
-                points = 200;
-                break;
-            case SHIP_LV3_5:
-                atlasRegion = "swarmer";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                directionable = false;
-                strength = 1;
-                points = 250;
-                break;
-            case SHIP_LV3_6:
-                atlasRegion = "stingray";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                strength = 1;
-                points = 200;
-                break;
-            case SHIP_LV3_7:
-                atlasRegion = "fish";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                strength = 2;
-                points = 250;
-                break;
-            case SHIP_LV3_8:
-            default:
-                atlasRegion = "podfish";
-                playMode = LOOP_PINGPONG;
-                attackCapacity = 2;
-                strength = 1;
-                points = 200;
-                break;
-        }
-        EnemyCharacteristics characteristics = new EnemyCharacteristics()
-                .setAtlasName(atlasRegion)
-                .setCanAttack(canAttack)
-                .directionable(directionable)
-                .setRateShoot(rateShoot)
-                .setVelocityBullet(velocityBullet)
-                .setPoints(points)
-                .setStrength(strength)
-                .setAttackCapacity(attackCapacity);
-        return createEnemy(squadron, characteristics, frameDuration, playMode);
+        return createEnemy(squadron, EnemyCharacteristics.of(enemyType), canAttack, velocityBullet, rateShoot);
     }
 
 
@@ -332,13 +224,9 @@ public class EnemyEntityFactory {
         spriteComponent.pixelPerfectCollision = true;
         spriteComponent.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("boss-level1"));
         boss.add(spriteComponent);
+        // right away, the level script picks it up from the engine
         entityFactory.engine.addEntity(boss);
-        PausableTimer.schedule(new PausableTimer.Task() {
-            @Override
-            public void run() {
-                ComponentMapperHelper.boss.get(boss).pleaseFire1 = true;
-            }
-        }, 5f);
+        entityFactory.timer.schedule(READY_TO_FIRE1, boss, 5f);
         return boss;
     }
 
@@ -367,19 +255,10 @@ public class EnemyEntityFactory {
         spriteComponent.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("boss"));
         spriteComponent.pixelPerfectCollision = true;
         boss.add(spriteComponent);
+        // right away, the level script picks it up from the engine
         entityFactory.engine.addEntity(boss);
-        PausableTimer.schedule(new PausableTimer.Task() {
-            @Override
-            public void run() {
-                ComponentMapperHelper.boss.get(boss).pleaseFire1 = true;
-            }
-        }, 5f);
-        PausableTimer.schedule(new PausableTimer.Task() {
-            @Override
-            public void run() {
-                ComponentMapperHelper.boss.get(boss).pleaseFire2 = true;
-            }
-        }, 2f);
+        entityFactory.timer.schedule(READY_TO_FIRE1, boss, 5f);
+        entityFactory.timer.schedule(READY_TO_FIRE2, boss, 2f);
 
         return boss;
     }
@@ -407,21 +286,16 @@ public class EnemyEntityFactory {
         boss.add(position);
 
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions("boss3"));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(0.075f, (Sprite[]) sprites.toArray(Sprite.class)));
-        animationComponent.animations.get(ANIMATION_MAIN).setPlayMode(LOOP_PINGPONG);
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation("boss3", 0.075f, LOOP_PINGPONG);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         boss.add(animationComponent);
         SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
-        spriteComponent.sprite = sprites.get(0);
+        spriteComponent.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         spriteComponent.pixelPerfectCollision = true;
         boss.add(spriteComponent);
+        // right away, the level script picks it up from the engine
         entityFactory.engine.addEntity(boss);
-        PausableTimer.schedule(new PausableTimer.Task() {
-            @Override
-            public void run() {
-                ComponentMapperHelper.boss.get(boss).pleaseFire1 = true;
-            }
-        }, 5f);
+        entityFactory.timer.schedule(READY_TO_FIRE1, boss, 5f);
         boss.add(entityFactory.engine.createComponent(StateComponent.class));
         return boss;
     }
@@ -445,15 +319,15 @@ public class EnemyEntityFactory {
         enemy.add(position);
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
         String asteroidSprite = asteroid == ASTEROID_1 ? "asteroid" : "asteroid2";
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions(asteroidSprite));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION, sprites, LOOP));
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation(asteroidSprite, FRAME_DURATION, LOOP);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         enemy.add(animationComponent);
         SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = sprites.get(0);
+        component.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         component.zIndex = -99;
         enemy.add(component);
         enemy.add(entityFactory.engine.createComponent(StateComponent.class));
-        entityFactory.engine.addEntity(enemy);
+        entityFactory.addEntity(enemy);
         return enemy;
     }
 
@@ -473,7 +347,7 @@ public class EnemyEntityFactory {
         component.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("house-" + (houseType - HOUSE_1 + 1)));
         component.zIndex = -10;
         house.add(component);
-        entityFactory.engine.addEntity(house);
+        entityFactory.addEntity(house);
 
         Entity houseDestroyed = entityFactory.engine.createEntity();
         houseDestroyed.add(entityFactory.engine.createComponent(PositionComponent.class));
@@ -482,7 +356,7 @@ public class EnemyEntityFactory {
         component.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion("house-" + (houseType - HOUSE_1 + 1) + "_destroyed"));
         component.zIndex = -11;
         houseDestroyed.add(component);
-        entityFactory.engine.addEntity(houseDestroyed);
+        entityFactory.addEntity(houseDestroyed);
 
         entities.add(house);
         entities.add(houseDestroyed);
@@ -495,15 +369,16 @@ public class EnemyEntityFactory {
         explosion.add(position);
         position.setXY(x, y);
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.commonAtlas.findRegions("explosion"));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION_EXPLOSION, sprites, Animation.PlayMode.NORMAL));
+        Animation<AtlasRegion> animation = entityFactory.commonAtlas.findAnimation("explosion", FRAME_DURATION_EXPLOSION,
+                Animation.PlayMode.NORMAL);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         explosion.add(animationComponent);
         SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = animationComponent.animations.get(ANIMATION_MAIN).getKeyFrame(0);
+        component.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         component.zIndex = 100;
         explosion.add(component);
         explosion.add(entityFactory.engine.createComponent(StateComponent.class));
-        entityFactory.engine.addEntity(explosion);
+        entityFactory.commands.addEntity(explosion);
         //
         if (entityFactory.rayHandler != null) {
             entityFactory.createLight(explosion);
@@ -514,23 +389,23 @@ public class EnemyEntityFactory {
     public void createBossExploding(final Entity enemy) {
         final SpriteComponent sprite = ComponentMapperHelper.sprite.get(enemy);
         for (int i = 0; i < 50; ++i) {
-            PausableTimer.schedule(new PausableTimer.Task() {
-                @Override
-                public void run() {
-                    entityFactory.assets.playSound(SOUND_EXPLOSION);
-                    PositionComponent position = ComponentMapperHelper.position.get(enemy);
-                    if (position != null) {
-                        createEntityExploding(position.x() + random.nextFloat() * sprite.sprite.getWidth(),
-                                position.y() + random.nextFloat() * sprite.sprite.getHeight());
-                    }
-                }
-            }, i * 0.1f);
+            entityFactory.timer.schedule(explodeBossPart, enemy, i * 0.1f);
         }
         if (entityFactory.rayHandler != null) {
             entityFactory.createLight(enemy, SOFT_RED_40, sprite.sprite.getHeight() * 20f);
         }
     }
 
+    private void explodeBossPart(Entity enemy) {
+        entityFactory.assets.playSound(SOUND_EXPLOSION);
+        PositionComponent position = ComponentMapperHelper.position.get(enemy);
+        SpriteComponent sprite = ComponentMapperHelper.sprite.get(enemy);
+        if (position != null && sprite != null) {
+            createEntityExploding(position.x() + random.nextFloat() * sprite.sprite.getWidth(),
+                    position.y() + random.nextFloat() * sprite.sprite.getHeight());
+        }
+    }
+
 
     protected Entity createSquadron(boolean powerUp, boolean displayScoreBonus, int bonus) {
         Entity squadron = entityFactory.engine.createEntity();
@@ -539,7 +414,7 @@ public class EnemyEntityFactory {
         squadronComponent.displayBonusSquadron = displayScoreBonus;
         squadronComponent.scoreBonus = bonus;
         squadron.add(squadronComponent);
-        entityFactory.engine.addEntity(squadron);
+        entityFactory.addEntity(squadron);
         return squadron;
     }
 
@@ -562,7 +437,7 @@ public class EnemyEntityFactory {
         }
         scoreSquadron.add(position);
         scoreSquadron.add(score);
-        entityFactory.engine.addEntity(scoreSquadron);
+        entityFactory.commands.addEntity(scoreSquadron);
         return scoreSquadron;
     }
 
@@ -6,21 +6,18 @@
 
 package com.bendk97.entities.enemies;
 
-import aurelienribon.tweenengine.Timeline;
-import aurelienribon.tweenengine.Tween;
-import aurelienribon.tweenengine.TweenCallback;
-import aurelienribon.tweenengine.equations.Linear;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Bezier;
-import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
-import com.bendk97.components.PositionComponent;
+import com.bendk97.components.PathComponent;
 import com.bendk97.components.TankComponent.TankLevel;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.entities.paths.BakedPath;
+import com.bendk97.entities.paths.PathBuilder;
+import com.bendk97.entities.paths.PathCache;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.tweens.PositionComponentTweenAccessor;
 
 import java.util.List;
 import java.util.Random;
@@ -28,10 +25,10 @@ import java.util.Random;
 import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
 import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
 import static com.bendk97.entities.EntityFactoryIds.*;
+import static com.bendk97.pools.GamePools.pathCache;
 import static com.bendk97.pools.GamePools.poolVector2;
 import static com.bendk97.screens.levels.Level.Level2;
 import static com.bendk97.screens.levels.Level.Level3;
-import static com.bendk97.tweens.TweenCallbacks.removeEntity;
 
 public class SoloEnemyFactory {
 
@@ -40,8 +37,10 @@ public class SoloEnemyFactory {
     private final static int TRAPEZE = 2;
     private final static int BEZIER = 3;
 
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
     private final EntityFactory entityFactory;
+    private final Vector2[] bezierControlPoints = new Vector2[4];
+    private final PathBuilder pathBuilder = new PathBuilder();
     private Entity player;
     private final Level level;
 
@@ -82,93 +81,64 @@ public class SoloEnemyFactory {
         List<Entity> entities = entityFactory.enemyEntityFactory.createTank(level, gaugeLife, points);
         ComponentMapperHelper.player.get(player).enemiesCountLevel++;
         float posX = random.nextFloat() * (SCREEN_WIDTH - 64f);
+        BakedPath path = pathCache.line(0f, 0f, 0f, -SCREEN_HEIGHT - 100f, 0f, 1f);
         for (final Entity entity : entities) {
-            PositionComponent position = ComponentMapperHelper.position.get(entity);
-            position.setXY(posX, SCREEN_HEIGHT + 20f);
-            Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (SCREEN_HEIGHT + 100f) / velocity)
-                    .ease(Linear.INOUT).targetRelative(-SCREEN_HEIGHT - 100f)
-                    .setCallback(removeEntity(entityFactory.engine, entity)).start(entityFactory.tweenManager);
+            entityFactory.enemyEntityFactory.squadronFactory
+                    .followPath(entity, path, velocity, 0f, PathComponent.Mode.ONCE, posX, SCREEN_HEIGHT + 20f);
         }
     }
 
-    private void createSoloEnemyBezier(final float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean comingFromLeft) {
-        final boolean direction = comingFromLeft;
-        final int directionFactor = direction ? 1 : -1;
-        Entity enemy = entityFactory.enemyEntityFactory.createLaserShip(getRandomStaticEnemy(), null, bulletVelocity, rateShoot, gaugeLife, points, direction);
-        final PositionComponent position = ComponentMapperHelper.position.get(enemy);
+    private void createSoloEnemyBezier(float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean comingFromLeft) {
+        Entity enemy = entityFactory.enemyEntityFactory.createLaserShip(getRandomStaticEnemy(), null, bulletVelocity, rateShoot, gaugeLife, points, comingFromLeft);
         Sprite sprite = ComponentMapperHelper.sprite.get(enemy).sprite;
-        final int k = 100;
-        Bezier<Vector2> bezier = new Bezier<>(
-                poolVector2.getVector2(0f, SCREEN_HEIGHT - sprite.getHeight()),
-                poolVector2.getVector2(0f, SCREEN_HEIGHT / 2f),
-                poolVector2.getVector2(SCREEN_WIDTH, SCREEN_HEIGHT / 2f),
-                poolVector2.getVector2(SCREEN_WIDTH - sprite.getWidth(), SCREEN_HEIGHT - sprite.getHeight()));
-        final Vector2[] vPoints = new Vector2[k];
-        for (int i = 0; i < k; ++i) {
-            vPoints[i] = poolVector2.obtain();
-            bezier.valueAt(vPoints[i], ((float) i) / ((float) k - 1));
-        }
-        poolVector2.free(bezier.points);
-        Tween.to(position, PositionComponentTweenAccessor.POSITION_X, sprite.getWidth() / velocity)
-                .ease(Linear.INOUT).targetRelative(directionFactor * sprite.getWidth())
-                .setCallback((i, baseTween) -> {
-                    Timeline timeline = Timeline.createSequence();
-                    timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, vPoints[direction ? 0 : k - 1].dst(position.x(), position.y()) / velocity)
-                            .ease(Linear.INOUT)
-                            .target(vPoints[direction ? 0 : k - 1].x, vPoints[direction ? 0 : k - 1].y));
-                    for (int j = 1; j < vPoints.length; ++j) {
-                        int jx = direction ? j : k - j;
-                        timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, vPoints[jx].dst(vPoints[jx - 1].x, vPoints[jx - 1].y) / velocity)
-                                .ease(Linear.INOUT)
-                                .target(vPoints[jx].x, vPoints[jx].y));
-                    }
-                    timeline.repeatYoyo(Tween.INFINITY, 1f)
-                            .start(entityFactory.tweenManager);
-                    poolVector2.free(vPoints);
-                }).start(entityFactory.tweenManager);
+        // from the right: same curve, the other way round
+        int first = comingFromLeft ? 0 : 3;
+        int step = comingFromLeft ? 1 : -1;
+        bezierControlPoints[first] = poolVector2.getVector2(0f, SCREEN_HEIGHT - sprite.getHeight());
+        bezierControlPoints[first + step] = poolVector2.getVector2(0f, SCREEN_HEIGHT / 2f);
+        bezierControlPoints[first + 2 * step] = poolVector2.getVector2(SCREEN_WIDTH, SCREEN_HEIGHT / 2f);
+        bezierControlPoints[first + 3 * step] = poolVector2.getVector2(SCREEN_WIDTH - sprite.getWidth(), SCREEN_HEIGHT - sprite.getHeight());
+        // enters the screen horizontally
+        BakedPath path = pathCache.bezier(bezierControlPoints, 100, comingFromLeft ? -1f : 1f, 0f);
+        poolVector2.free(bezierControlPoints);
+        PathComponent pathComponent = entityFactory.enemyEntityFactory.squadronFactory
+                .followPath(enemy, path, velocity, sprite.getWidth(), PathComponent.Mode.YOYO);
+        pathComponent.pause = 1f;
     }
 
     private void createSoloEnemyTrapeze(final float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean comingFromLeft) {
         final int directionFactor = comingFromLeft ? 1 : -1;
         Entity enemy = entityFactory.enemyEntityFactory.createLaserShip(getRandomStaticEnemy(), null, bulletVelocity, rateShoot, gaugeLife, points, comingFromLeft);
-        final PositionComponent position = ComponentMapperHelper.position.get(enemy);
         final Sprite sprite = ComponentMapperHelper.sprite.get(enemy).sprite;
-        Tween.to(position, PositionComponentTweenAccessor.POSITION_X, sprite.getWidth() / velocity)
-                .ease(Linear.INOUT).targetRelative(directionFactor * sprite.getWidth())
-                .setCallback((i, baseTween) -> {
-                    if (i == TweenCallback.COMPLETE) {
-                        Vector2 point1 = poolVector2.getVector2(0f, SCREEN_HEIGHT - sprite.getHeight());
-                        Vector2 point2 = poolVector2.getVector2(75f, SCREEN_HEIGHT - sprite.getHeight() - 75f);
-                        float distance = point1.dst(point2);
-                        poolVector2.free(point1, point2);
-                        Timeline.createSequence()
-                                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, distance / velocity)
-                                        .ease(Linear.INOUT).targetRelative(75f * directionFactor, -75f))
-                                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH - 2 * 75f - sprite.getWidth()) / velocity)
-                                        .delay(2.0f).ease(Linear.INOUT).targetRelative(directionFactor * (SCREEN_WIDTH - 2 * 75f - sprite.getWidth())))
-                                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, distance / velocity)
-                                        .delay(2.0f).ease(Linear.INOUT).targetRelative(75f * directionFactor, 75f))
-                                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH - sprite.getWidth()) / velocity)
-                                        .ease(Linear.INOUT).targetRelative(-directionFactor * (SCREEN_WIDTH - sprite.getWidth())))
-                                .repeat(Tween.INFINITY, 0f).start(entityFactory.tweenManager);
-                    }
-                }).start(entityFactory.tweenManager);
+        BakedPath path = pathCache.key(PathCache.TRAPEZE).param(sprite.getWidth()).param(sprite.getHeight())
+                .param(velocity).param(directionFactor).get();
+        if (path == null) {
+            float distance = Vector2.dst(0f, 0f, 75f, 75f);
+            path = pathCache.put(pathBuilder.start(comingFromLeft ? 0f : SCREEN_WIDTH - sprite.getWidth(), SCREEN_HEIGHT - sprite.getHeight())
+                    .moveBy(75f * directionFactor, -75f, distance / velocity)
+                    .waitFor(2.0f)
+                    .moveBy(directionFactor * (SCREEN_WIDTH - 2 * 75f - sprite.getWidth()), 0f, (SCREEN_WIDTH - 2 * 75f - sprite.getWidth()) / velocity)
+                    .waitFor(2.0f)
+                    .moveBy(75f * directionFactor, 75f, distance / velocity)
+                    .moveBy(-directionFactor * (SCREEN_WIDTH - sprite.getWidth()), 0f, (SCREEN_WIDTH - sprite.getWidth()) / velocity)
+                    // enters the screen at its velocity
+                    .build(-directionFactor * velocity, 0f));
+        }
+        entityFactory.enemyEntityFactory.squadronFactory
+                .followPath(enemy, path, 1f, sprite.getWidth() / velocity, PathComponent.Mode.LOOP);
     }
 
     private void createSoloEnemyLinearX(final float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean comingFromLeft) {
         final int directionFactor = comingFromLeft ? 1 : -1;
         Entity enemy = entityFactory.enemyEntityFactory.createLaserShip(getRandomStaticEnemy(), null, bulletVelocity, rateShoot, gaugeLife, points, comingFromLeft);
-        final PositionComponent position = ComponentMapperHelper.position.get(enemy);
         final Sprite sprite = ComponentMapperHelper.sprite.get(enemy).sprite;
-        Tween.to(position, PositionComponentTweenAccessor.POSITION_X, SCREEN_WIDTH / velocity)
-                .ease(Linear.INOUT).targetRelative(directionFactor * SCREEN_WIDTH)
-                .setCallback((i, baseTween) -> {
-                    if (i == TweenCallback.COMPLETE) {
-                        Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH - sprite.getWidth()) / velocity)
-                                .ease(Linear.INOUT).targetRelative(-directionFactor * (SCREEN_WIDTH - sprite.getWidth()))
-                                .repeatYoyo(Tween.INFINITY, 0f).start(entityFactory.tweenManager);
-                    }
-                }).start(entityFactory.tweenManager);
+        // crosses the screen, then back and forth
+        float far = comingFromLeft ? SCREEN_WIDTH - sprite.getWidth() : 0f;
+        float near = comingFromLeft ? 0f : SCREEN_WIDTH - sprite.getWidth();
+        BakedPath path = pathCache.line(far, SCREEN_HEIGHT - sprite.getHeight(), near, SCREEN_HEIGHT - sprite.getHeight(),
+                -directionFactor, 0f);
+        entityFactory.enemyEntityFactory.squadronFactory
+                .followPath(enemy, path, velocity, SCREEN_WIDTH, PathComponent.Mode.YOYO);
     }
 
     private void createSoloEnemyFollowingPlayerOnAxisX(float velocity, float bulletVelocity, int rateShoot, int gaugeLife, int points, boolean comingFromLeft) {
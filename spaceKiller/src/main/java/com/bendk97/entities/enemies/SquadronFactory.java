@@ -6,29 +6,28 @@
 
 package com.bendk97.entities.enemies;
 
-import aurelienribon.tweenengine.Timeline;
-import aurelienribon.tweenengine.Tween;
-import aurelienribon.tweenengine.equations.Linear;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Bezier;
-import com.badlogic.gdx.math.CatmullRomSpline;
-import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.bendk97.components.EnemyComponent;
+import com.bendk97.components.PathComponent;
 import com.bendk97.components.PositionComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.entities.paths.BakedPath;
+import com.bendk97.entities.paths.PathBuilder;
+import com.bendk97.entities.paths.PathCache;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.utils.ScriptItem;
-import com.bendk97.tweens.PositionComponentTweenAccessor;
 
 import java.util.Random;
 
-import static aurelienribon.tweenengine.TweenCallback.COMPLETE;
 import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.entities.EntityFactoryIds.*;
+import static com.bendk97.pools.GamePools.pathCache;
 import static com.bendk97.pools.GamePools.poolVector2;
 
 public class SquadronFactory {
@@ -49,7 +48,8 @@ public class SquadronFactory {
 
 
     private final EntityFactory entityFactory;
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
+    private final PathBuilder pathBuilder = new PathBuilder();
 
     protected SquadronFactory(EntityFactory entityFactory) {
         this.entityFactory = entityFactory;
@@ -160,26 +160,18 @@ public class SquadronFactory {
             throw new IllegalArgumentException("Works only with 1 boss");
         }
         final Entity entity = entities[0];
-        SpriteComponent spriteComponent = ComponentMapperHelper.sprite.get(entity);
-        PositionComponent position = ComponentMapperHelper.position.get(entity);
-        position.setXY(SCREEN_WIDTH / 2f - spriteComponent.sprite.getWidth() / 2f,
-                SCREEN_HEIGHT + 10f);
-        Timeline.createSequence()
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (spriteComponent.sprite.getHeight() + 30f) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(SCREEN_HEIGHT - spriteComponent.sprite.getHeight() - 20f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, ((SCREEN_WIDTH + spriteComponent.sprite.getWidth()) / 2f) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(-spriteComponent.sprite.getWidth()).delay(2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH + spriteComponent.sprite.getWidth() / 2f) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(SCREEN_WIDTH / 2f - spriteComponent.sprite.getWidth() / 2f).delay(2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH + spriteComponent.sprite.getWidth() / 2f) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(SCREEN_WIDTH).delay(2f))
-
-                .repeatYoyo(Tween.INFINITY, 1f)
-                .start(entityFactory.tweenManager);
+        Sprite sprite = ComponentMapperHelper.sprite.get(entity).sprite;
+        BakedPath path = pathBuilder.start(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f, SCREEN_HEIGHT + 10f)
+                .moveTo(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f, SCREEN_HEIGHT - sprite.getHeight() - 20f,
+                        (sprite.getHeight() + 30f) / velocity)
+                .waitFor(2f)
+                .moveBy(-(SCREEN_WIDTH + sprite.getWidth()) / 2f, 0f, ((SCREEN_WIDTH + sprite.getWidth()) / 2f) / velocity)
+                .waitFor(2f)
+                .moveBy((SCREEN_WIDTH + sprite.getWidth()) / 2f, 0f, (SCREEN_WIDTH + sprite.getWidth() / 2f) / velocity)
+                .waitFor(2f)
+                .moveBy((SCREEN_WIDTH + sprite.getWidth()) / 2f, 0f, (SCREEN_WIDTH + sprite.getWidth() / 2f) / velocity)
+                .build(0f, 0f);
+        followPath(entity, path, 1f, 0f, PathComponent.Mode.YOYO).pause = 1f;
     }
 
     private void createBossMove2(Entity[] entities, float velocity) {
@@ -188,24 +180,16 @@ public class SquadronFactory {
         }
         final Entity entity = entities[0];
         Sprite sprite = ComponentMapperHelper.sprite.get(entity).sprite;
-        PositionComponent position = ComponentMapperHelper.position.get(entity);
-        position.setXY(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f,
-                SCREEN_HEIGHT);
-        Timeline.createSequence()
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (sprite.getHeight() + 30f) / velocity)
-                        .ease(Linear.INOUT)
-                        .targetRelative(-sprite.getHeight() - 30f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH / 2f) / (velocity * 2))
-                        .ease(Linear.INOUT)
-                        .targetRelative(SCREEN_WIDTH / 2f).delay(2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH) / (velocity * 2))
-                        .ease(Linear.INOUT)
-                        .targetRelative(-SCREEN_WIDTH).delay(2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH / 2f) / (velocity * 2))
-                        .ease(Linear.INOUT)
-                        .targetRelative(SCREEN_WIDTH / 2f).delay(2f))
-                .repeatYoyo(Tween.INFINITY, 1f)
-                .start(entityFactory.tweenManager);
+        BakedPath path = pathBuilder.start(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f, SCREEN_HEIGHT)
+                .moveBy(0f, -sprite.getHeight() - 30f, (sprite.getHeight() + 30f) / velocity)
+                .waitFor(2f)
+                .moveBy(SCREEN_WIDTH / 2f, 0f, (SCREEN_WIDTH / 2f) / (velocity * 2))
+                .waitFor(2f)
+                .moveBy(-SCREEN_WIDTH, 0f, (SCREEN_WIDTH) / (velocity * 2))
+                .waitFor(2f)
+                .moveBy(SCREEN_WIDTH / 2f, 0f, (SCREEN_WIDTH / 2f) / (velocity * 2))
+                .build(0f, 0f);
+        followPath(entity, path, 1f, 0f, PathComponent.Mode.YOYO).pause = 1f;
     }
 
     private void createBossMove3(Entity[] entities, float velocity) {
@@ -214,39 +198,22 @@ public class SquadronFactory {
         }
         final Entity entity = entities[0];
         Sprite sprite = ComponentMapperHelper.sprite.get(entity).sprite;
-        PositionComponent position = ComponentMapperHelper.position.get(entity);
-        position.setXY(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f,
-                SCREEN_HEIGHT);
         float velocityMin = velocity * 0.75f;
         float velocityMax = velocity * 2f;
 
-        Timeline.createSequence()
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (3 * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(-3 * sprite.getHeight()))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (1.5f * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(1.5f * sprite.getHeight()))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH / 2f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(-SCREEN_WIDTH / 2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(SCREEN_WIDTH))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH / 2f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(-SCREEN_WIDTH / 2f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, (0.5f * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT)
-                        .targetRelative(0.5f * sprite.getHeight()))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (SCREEN_WIDTH / 4f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT).delay(1f)
-                        .targetRelative(-SCREEN_WIDTH / 4f))
-                .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_X, (2 * SCREEN_WIDTH / 4f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
-                        .ease(Linear.INOUT).delay(1f)
-                        .targetRelative(2 * SCREEN_WIDTH / 4f))
-                .repeatYoyo(Tween.INFINITY, 1f)
-                .start(entityFactory.tweenManager);
+        BakedPath path = pathBuilder.start(SCREEN_WIDTH / 2f - sprite.getWidth() / 2f, SCREEN_HEIGHT)
+                .moveBy(0f, -3 * sprite.getHeight(), (3 * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .moveBy(0f, 1.5f * sprite.getHeight(), (1.5f * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .moveBy(-SCREEN_WIDTH / 2f, 0f, (SCREEN_WIDTH / 2f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .moveBy(SCREEN_WIDTH, 0f, (SCREEN_WIDTH) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .moveBy(-SCREEN_WIDTH / 2f, 0f, (SCREEN_WIDTH / 2f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .moveBy(0f, 0.5f * sprite.getHeight(), (0.5f * sprite.getHeight()) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .waitFor(1f)
+                .moveBy(-SCREEN_WIDTH / 4f, 0f, (SCREEN_WIDTH / 4f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .waitFor(1f)
+                .moveBy(2 * SCREEN_WIDTH / 4f, 0f, (2 * SCREEN_WIDTH / 4f) / (velocityMin + random.nextFloat() * (velocityMax - velocityMin)))
+                .build(0f, 0f);
+        followPath(entity, path, 1f, 0f, PathComponent.Mode.YOYO).pause = 1f;
     }
 
 
@@ -265,7 +232,7 @@ public class SquadronFactory {
         ComponentMapperHelper.position.get(entities[5]).setXY(SCREEN_WIDTH / 2f - width / 2f + 2 * width * 1.1f, SCREEN_HEIGHT + 2 * height * 1.1f);
         ComponentMapperHelper.position.get(entities[6]).setXY(SCREEN_WIDTH / 2f - width / 2f + 3 * width * 1.1f, SCREEN_HEIGHT + 3 * height * 1.1f);
 
-        arrowTween(entities, velocity);
+        arrowMove(entities, velocity);
     }
 
     private void createArrowDownSquadron(Entity[] entities, float velocity) {
@@ -283,250 +250,181 @@ public class SquadronFactory {
         ComponentMapperHelper.position.get(entities[5]).setXY(SCREEN_WIDTH / 2f - width / 2f + 2 * width * 1.1f, SCREEN_HEIGHT + height * 1.1f);
         ComponentMapperHelper.position.get(entities[6]).setXY(SCREEN_WIDTH / 2f - width / 2f + 3 * width * 1.1f, SCREEN_HEIGHT);
 
-        arrowTween(entities, velocity);
+        arrowMove(entities, velocity);
     }
 
-    private void arrowTween(Entity[] entities, float velocity) {
+    private void arrowMove(Entity[] entities, float velocity) {
+        BakedPath path = pathCache.line(0f, 0f, 0f, -3f * SCREEN_HEIGHT, 0f, 1f);
         for (final Entity entity : entities) {
             PositionComponent position = ComponentMapperHelper.position.get(entity);
-            Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, 3 * SCREEN_HEIGHT / velocity)
-                    .ease(Linear.INOUT)
-                    .targetRelative(-3f * SCREEN_HEIGHT)
-                    .setCallback((i, baseTween) -> {
-                        if (i == COMPLETE) {
-                            removeEntitySquadron(entity);
-                        }
-                    })
-                    .start(entityFactory.tweenManager);
+            followPath(entity, path, velocity, 0f, PathComponent.Mode.ONCE, position.x(), position.y());
         }
     }
 
     private void createInfiniteCircle(Entity[] entities, float velocity) {
-        float spriteWidth = 0;
+        float spriteWidth = ComponentMapperHelper.sprite.get(entities[entities.length - 1]).sprite.getWidth();
+        BakedPath path = pathCache.key(PathCache.INFINITE_CIRCLE).param(spriteWidth).get();
+        if (path == null) {
+            path = pathCache.put(bakeInfiniteCircle(spriteWidth));
+        }
         for (int i = 0; i < entities.length; ++i) {
             Entity entity = entities[i];
-            PositionComponent positionComponent = ComponentMapperHelper.position.get(entity);
-            Sprite sprite = ComponentMapperHelper.sprite.get(entity).sprite;
-            spriteWidth = sprite.getWidth();
-            positionComponent.setXY(-(i + 1) * sprite.getWidth(), SCREEN_HEIGHT * 3f / 4f);
+            followPath(entity, path, velocity, (i + 1) * ComponentMapperHelper.sprite.get(entity).sprite.getWidth(), PathComponent.Mode.LOOP);
         }
+    }
+
+    private BakedPath bakeInfiniteCircle(float spriteWidth) {
         int k = 50;
-        Vector2[] points = new Vector2[2 * k];
+        float[] points = new float[4 * k];
         Bezier<Vector2> bezier = new Bezier<>(
                 poolVector2.getVector2(0f, SCREEN_HEIGHT * 3f / 4f),
                 poolVector2.getVector2(SCREEN_WIDTH / 2f - spriteWidth / 2f, SCREEN_HEIGHT),
                 poolVector2.getVector2(SCREEN_WIDTH - spriteWidth, SCREEN_HEIGHT * 3f / 4f));
-        for (int i = 0; i < k; ++i) {
-            points[i] = poolVector2.obtain();
-            bezier.valueAt(points[i], ((float) i) / ((float) k - 1));
-        }
+        sample(bezier, k, points, 0);
         poolVector2.free(bezier.points);
         bezier = new Bezier<>(
                 poolVector2.getVector2(SCREEN_WIDTH - spriteWidth, SCREEN_HEIGHT * 3f / 4f),
                 poolVector2.getVector2(SCREEN_WIDTH / 2f - spriteWidth / 2f, SCREEN_HEIGHT / 2f),
                 poolVector2.getVector2(0f, SCREEN_HEIGHT * 3f / 4f));
-        for (int i = 0; i < k; ++i) {
-            points[k + i] = poolVector2.obtain();
-            bezier.valueAt(points[k + i], ((float) i) / ((float) k - 1));
-        }
+        sample(bezier, k, points, k);
         poolVector2.free(bezier.points);
-        placeEntitiesOnSplineInfinite(entities, velocity, points);
+        // coming from the left
+        return new BakedPath(points, -1f, 0f);
     }
 
-    private void createBezierSplineSquadron(Entity[] entities, float velocity, Vector2... vector2s) {
-        int k = 100;
-        Bezier<Vector2> bezier = new Bezier<>(vector2s);
-        Vector2[] points = new Vector2[k];
+    private void sample(Bezier<Vector2> bezier, int k, float[] points, int offset) {
+        Vector2 point = poolVector2.obtain();
         for (int i = 0; i < k; ++i) {
-            points[i] = poolVector2.obtain();
-            bezier.valueAt(points[i], ((float) i) / ((float) k - 1));
+            bezier.valueAt(point, ((float) i) / ((float) k - 1));
+            points[2 * (offset + i)] = point.x;
+            points[2 * (offset + i) + 1] = point.y;
         }
-        placeEntitiesOnSpline(entities, velocity, points, vector2s[0]);
+        poolVector2.free(point);
+    }
+
+    private void createBezierSplineSquadron(Entity[] entities, float velocity, Vector2... vector2s) {
+        // ships one above the other
+        placeEntitiesOnPath(entities, velocity, pathCache.bezier(vector2s, 100, 0f, 1f));
         poolVector2.free(vector2s);
-        poolVector2.free(points);
     }
 
 
     private void createCatmullSplineSquadron(Entity[] entities, float velocity, Vector2... vector2s) {
-        int k = 100;
-        CatmullRomSpline<Vector2> catmull = new CatmullRomSpline<>(vector2s, false);
-        Vector2[] points = new Vector2[k];
-        for (int i = 0; i < k; ++i) {
-            points[i] = poolVector2.obtain();
-            catmull.valueAt(points[i], ((float) i) / ((float) k - 1));
-        }
-        placeEntitiesOnSpline(entities, velocity, points, vector2s[0]);
+        placeEntitiesOnPath(entities, velocity, pathCache.catmullRom(vector2s, 100, 0f, 1f));
         poolVector2.free(vector2s);
-        poolVector2.free(points);
     }
 
-    private void placeEntitiesOnSpline(Entity[] entities, float velocity, Vector2[] points, Vector2 startPoint) {
+    private void placeEntitiesOnPath(Entity[] entities, float velocity, BakedPath path) {
         for (int i = 0; i < entities.length; ++i) {
-            final Entity entity = entities[i];
-            PositionComponent position = ComponentMapperHelper.position.get(entity);
-            position.setXY(startPoint.x, startPoint.y + i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight());
-            Timeline timeline = Timeline.createSequence();
-            timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, points[0].dst(position.x(), position.y()) / velocity)
-                    .ease(Linear.INOUT)
-                    .target(points[0].x, points[0].y));
-            for (int j = 1; j < points.length; ++j) {
-                timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, points[j].dst(points[j - 1].x, points[j - 1].y) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(points[j].x, points[j].y));
-            }
-            timeline.setCallback((i1, baseTween) -> {
-                if (i1 == COMPLETE) {
-                    removeEntitySquadron(entity);
-                }
-            })
-                    .start(entityFactory.tweenManager);
+            Entity entity = entities[i];
+            followPath(entity, path, velocity, i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight(), PathComponent.Mode.ONCE);
         }
     }
 
-    private void placeEntitiesOnSplineInfinite(Entity[] entities, final float velocity, final Vector2[] points) {
-        float[] pointsSpread = new float[points.length * 2];
-        for (int i = 0; i < points.length; ++i) {
-            pointsSpread[i * 2] = points[i].x;
-            pointsSpread[i * 2 + 1] = points[i].y;
-        }
-        for (final Entity entity : entities) {
-            final PositionComponent position = ComponentMapperHelper.position.get(entity);
-            Tween.to(position, PositionComponentTweenAccessor.POSITION_XY,
-                    points[0].dst(position.x(), position.y()) / velocity)
-                    .ease(Linear.INOUT)
-                    .target(points[0].x, points[0].y)
-                    .setCallback((i, baseTween) -> {
-                        if (i == COMPLETE) {
-                            Timeline timeline = Timeline.createSequence();
-                            for (int j = 2; j < pointsSpread.length; j += 2) {
-                                Vector2 dest = poolVector2.getVector2(pointsSpread[j], pointsSpread[j + 1]);
-                                timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY,
-                                        dest.dst(pointsSpread[j - 2], pointsSpread[j - 1]) / velocity)
-                                        .ease(Linear.INOUT)
-                                        .target(pointsSpread[j], pointsSpread[j + 1]));
-                                poolVector2.free(dest);
-                            }
-                            timeline.repeat(Tween.INFINITY, 0f)
-                                    .start(entityFactory.tweenManager);
-                        }
-                    }).start(entityFactory.tweenManager);
+    /**
+     * puts the entity on the path, queued at the given distance before its start
+     */
+    public PathComponent followPath(Entity entity, BakedPath path, float velocity, float queue, PathComponent.Mode mode) {
+        return followPath(entity, path, velocity, queue, mode, 0f, 0f);
+    }
+
+    /**
+     * puts the entity on the path drawn from the given origin, queued at the given distance before its start
+     */
+    public PathComponent followPath(Entity entity, BakedPath path, float velocity, float queue, PathComponent.Mode mode,
+                                    float originX, float originY) {
+        PathComponent pathComponent = ComponentMapperHelper.path.get(entity);
+        if (pathComponent == null) {
+            pathComponent = entityFactory.engine.createComponent(PathComponent.class);
+            entity.add(pathComponent);
         }
-        poolVector2.free(points);
+        pathComponent.path = path;
+        pathComponent.distance = -queue;
+        pathComponent.speed = velocity;
+        pathComponent.mode = mode;
+        pathComponent.originX = originX;
+        pathComponent.originY = originY;
+        Vector2 start = poolVector2.obtain();
+        path.valueAt(pathComponent.distance, start);
+        ComponentMapperHelper.position.get(entity).setXY(originX + start.x, originY + start.y);
+        poolVector2.free(start);
+        return pathComponent;
     }
 
-    private void removeEntitySquadron(Entity entity) {
+    public void removeEntitySquadron(Entity entity) {
         EnemyComponent enemyComponent = ComponentMapperHelper.enemy.get(entity);
         if (enemyComponent != null && enemyComponent.squadron != null) {
             ComponentMapperHelper.squadron.get(enemyComponent.squadron).powerUpAfterDestruction = false;
             ComponentMapperHelper.squadron.get(enemyComponent.squadron).ships.removeValue(entity, true);
         }
-        entityFactory.engine.removeEntity(entity);
+        entityFactory.commands.removeEntity(entity);
     }
 
 
     private void createLinearXSquadron(final Entity[] entities, float velocity, float posX, float posY, float direction) {
+        // ships one behind the other
+        BakedPath path = pathCache.line(0f, 0f, direction * 3f * SCREEN_WIDTH, 0f, -direction, 0f);
         for (int i = 0; i < entities.length; ++i) {
             final Entity entity = entities[i];
-            PositionComponent positionComponent = ComponentMapperHelper.position.get(entity);
-            positionComponent.setXY(posX - direction * i * ComponentMapperHelper.sprite.get(entity).sprite.getWidth(), posY);
-            Tween.to(positionComponent, PositionComponentTweenAccessor.POSITION_X, 3f * SCREEN_WIDTH / velocity)
-                    .ease(Linear.INOUT)
-                    .targetRelative(direction * 3f * SCREEN_WIDTH)
-                    .setCallback((state, tween) -> {
-                        if (state == COMPLETE) {
-                            removeEntitySquadron(entity);
-                        }
-                    })
-                    .start(entityFactory.tweenManager);
+            followPath(entity, path, velocity, i * ComponentMapperHelper.sprite.get(entity).sprite.getWidth(),
+                    PathComponent.Mode.ONCE, posX, posY);
         }
     }
 
     private void createLinearYSquadron(Entity[] entities, float velocity, float posX, float posY,
                                        boolean samePosition) {
+        BakedPath path = pathCache.line(0f, 0f, 0f, -3f * SCREEN_HEIGHT, 0f, 1f);
         for (int i = 0; i < entities.length; ++i) {
             final Entity entity = entities[i];
-            PositionComponent position = ComponentMapperHelper.position.get(entity);
-            if (samePosition) {
-                position.setXY(posX, posY);
-            } else {
-                position.setXY(posX, posY + i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight());
-            }
-            Timeline.createSequence()
-                    .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_Y, 3 * SCREEN_HEIGHT / velocity)
-                            .ease(Linear.INOUT)
-                            .targetRelative(-3f * SCREEN_HEIGHT))
-                    .setCallback((i1, baseTween) -> {
-                        if (i1 == COMPLETE) {
-                            removeEntitySquadron(entity);
-                        }
-                    })
-                    .start(entityFactory.tweenManager);
+            float queue = samePosition ? 0f : i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight();
+            followPath(entity, path, velocity, queue, PathComponent.Mode.ONCE, posX, posY);
         }
     }
 
 
     private void createLinearXYSquadron(Entity[] entities, float velocity, float startX, float startY, float endX,
                                         float endY) {
-        Vector2 start = poolVector2.getVector2(startX, startY);
-        Vector2 end = poolVector2.getVector2(endX, endY);
+        // ships one above the other
+        BakedPath path = pathCache.line(startX, startY, endX, endY, 0f, 1f);
         for (int i = 0; i < entities.length; ++i) {
             final Entity entity = entities[i];
-            PositionComponent position = ComponentMapperHelper.position.get(entity);
-            position.setXY(startX, startY + i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight());
-            Timeline.createSequence()
-                    .push(
-                            Tween.to(position, PositionComponentTweenAccessor.POSITION_XY,
-                                    (start).dst(end) / velocity)
-                                    .ease(Linear.INOUT)
-                                    .target(endX, endY))
-                    .setCallback((i1, baseTween) -> {
-                        if (i1 == COMPLETE) {
-                            removeEntitySquadron(entity);
-                        }
-                    })
-                    .start(entityFactory.tweenManager);
+            followPath(entity, path, velocity, i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight(),
+                    PathComponent.Mode.ONCE);
         }
-        poolVector2.free(start);
-        poolVector2.free(end);
-
     }
 
     private void createSemiCircleSquadron(Entity[] entities, float velocity, float posX, float posY,
                                           boolean comingFromLeft) {
+        BakedPath path = pathCache.key(PathCache.SEMI_CIRCLE).param(posX).param(posY).param(comingFromLeft ? 1f : 0f).get();
+        if (path == null) {
+            path = pathCache.put(bakeSemiCircle(posX, posY, comingFromLeft));
+        }
+        for (int i = 0; i < entities.length; ++i) {
+            Entity entity = entities[i];
+            followPath(entity, path, velocity, 2 * i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight(), PathComponent.Mode.ONCE);
+        }
+    }
+
+    private BakedPath bakeSemiCircle(float posX, float posY, boolean comingFromLeft) {
         float worldWidth = SCREEN_WIDTH + 2 * OFFSET_WIDTH;
         int leftOrRight = comingFromLeft ? 0 : 1;
         int direction = comingFromLeft ? 1 : -1;
+        int k = 20;
+        float[] points = new float[2 * (k + 1)];
+        points[0] = posX + leftOrRight * worldWidth;
+        points[1] = posY;
         Vector2 center = poolVector2.getVector2(SCREEN_WIDTH / 2f, SCREEN_HEIGHT);
         Vector2 radius = poolVector2.getVector2((worldWidth * -direction) / 2f, 0f);
-        Vector2[] array = new Vector2[20];
-        for (int i = 0; i < array.length; ++i) {
-            Vector2 radiusClone = poolVector2.getVector2(radius.x, radius.y);
-            array[i] = radiusClone.rotate(((180f * direction) / array.length - 1) * i).add(center);
-        }
-        for (int i = 0; i < entities.length; ++i) {
-            final Entity entity = entities[i];
-            PositionComponent position = ComponentMapperHelper.position.get(entity);
-            position.setXY(posX + leftOrRight * worldWidth,
-                    posY + 2 * i * ComponentMapperHelper.sprite.get(entity).sprite.getHeight());
-            Timeline timeline = Timeline.createSequence()
-                    .push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, array[0].dst(position.x(), position.y()) / velocity)
-                            .ease(Linear.INOUT)
-                            .target(array[0].x, array[0].y));
-            for (int j = 1; j < array.length; ++j) {
-                timeline.push(Tween.to(position, PositionComponentTweenAccessor.POSITION_XY, array[j].dst(array[j - 1].x, array[j - 1].y) / velocity)
-                        .ease(Linear.INOUT)
-                        .target(array[j].x, array[j].y));
-            }
-            timeline.setCallback((i1, baseTween) -> {
-                if (i1 == COMPLETE) {
-                    removeEntitySquadron(entity);
-                }
-            })
-                    .start(entityFactory.tweenManager);
+        Vector2 point = poolVector2.obtain();
+        for (int i = 0; i < k; ++i) {
+            point.set(radius).rotate(((180f * direction) / k - 1) * i).add(center);
+            points[2 * i + 2] = point.x;
+            points[2 * i + 3] = point.y;
         }
         poolVector2.free(radius);
-        poolVector2.free(array);
         poolVector2.free(center);
-
+        poolVector2.free(point);
+        // ships one above the other
+        return new BakedPath(points, 0f, 1f);
     }
 }
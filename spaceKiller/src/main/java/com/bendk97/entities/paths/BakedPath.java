@@ -0,0 +1,104 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities.paths;
+
+import com.badlogic.gdx.math.Path;
+import com.badlogic.gdx.math.Vector2;
+
+import static com.bendk97.pools.GamePools.poolVector2;
+
+/**
+ * Curve sampled once into a polyline, looked up by distance travelled along it (arc length), so that a ship moves
+ * at constant speed. Immutable: shared by every ship following it, see {@link PathCache}.
+ * <p>
+ * Before its start (negative distance), ships queue on a straight line in the entry direction.
+ * <p>
+ * Waypoint paths built by {@link PathBuilder} are looked up by time instead, and followed at speed 1.
+ */
+public final class BakedPath {
+
+    // x, y of each point
+    private final float[] points;
+    // arc length (or time) from the first point to each point
+    private final float[] lengths;
+    private final float entryX, entryY;
+
+    public BakedPath(float[] points, float entryX, float entryY) {
+        this(points, arcLengths(points), entryX, entryY);
+    }
+
+    /**
+     * @param lengths non-decreasing key of each point, e.g. the time at which it is reached
+     */
+    public BakedPath(float[] points, float[] lengths, float entryX, float entryY) {
+        if (points.length < 4 || points.length % 2 != 0) {
+            throw new IllegalArgumentException("a path needs at least 2 points");
+        }
+        if (lengths.length != points.length / 2) {
+            throw new IllegalArgumentException("one length per point expected");
+        }
+        this.points = points;
+        this.lengths = lengths;
+        this.entryX = entryX;
+        this.entryY = entryY;
+    }
+
+    private static float[] arcLengths(float[] points) {
+        float[] lengths = new float[points.length / 2];
+        for (int i = 1; i < lengths.length; ++i) {
+            lengths[i] = lengths[i - 1] + Vector2.dst(points[2 * i - 2], points[2 * i - 1], points[2 * i], points[2 * i + 1]);
+        }
+        return lengths;
+    }
+
+    /**
+     * samples the curve uniformly from 0 to 1, after the given start point
+     */
+    public static BakedPath sample(Path<Vector2> curve, int samples, float startX, float startY, float entryX, float entryY) {
+        float[] points = new float[2 * (samples + 1)];
+        points[0] = startX;
+        points[1] = startY;
+        Vector2 point = poolVector2.obtain();
+        for (int i = 0; i < samples; ++i) {
+            curve.valueAt(point, ((float) i) / ((float) samples - 1));
+            points[2 * i + 2] = point.x;
+            points[2 * i + 3] = point.y;
+        }
+        poolVector2.free(point);
+        return new BakedPath(points, entryX, entryY);
+    }
+
+    public float length() {
+        return lengths[lengths.length - 1];
+    }
+
+    public void valueAt(float distance, Vector2 out) {
+        if (distance <= 0f) {
+            out.set(points[0] - entryX * distance, points[1] - entryY * distance);
+            return;
+        }
+        int last = lengths.length - 1;
+        if (distance >= lengths[last]) {
+            out.set(points[2 * last], points[2 * last + 1]);
+            return;
+        }
+        int low = 0;
+        int high = last;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (lengths[middle] <= distance) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        float segment = lengths[high] - lengths[low];
+        float alpha = segment == 0f ? 0f : (distance - lengths[low]) / segment;
+        out.set(points[2 * low] + (points[2 * high] - points[2 * low]) * alpha,
+                points[2 * low + 1] + (points[2 * high + 1] - points[2 * low + 1]) * alpha);
+    }
+}
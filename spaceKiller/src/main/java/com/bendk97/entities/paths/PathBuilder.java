@@ -0,0 +1,63 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities.paths;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Builds waypoint paths looked up by time: each move lasts its own duration and the ship may wait at a waypoint, as
+ * tween sequences did. The resulting path is followed at speed 1.
+ * <p>
+ * Usage: {@code builder.start(x, y).moveBy(0f, -100f, 2f).waitFor(1f).moveTo(x, y, 2f).build(0f, 0f)}
+ */
+public class PathBuilder {
+
+    private final FloatArray points = new FloatArray();
+    private final FloatArray times = new FloatArray();
+    private float time;
+
+    public PathBuilder start(float x, float y) {
+        points.clear();
+        times.clear();
+        time = 0f;
+        return add(x, y);
+    }
+
+    public PathBuilder moveTo(float x, float y, float duration) {
+        time += duration;
+        return add(x, y);
+    }
+
+    public PathBuilder moveBy(float x, float y, float duration) {
+        return moveTo(lastX() + x, lastY() + y, duration);
+    }
+
+    public PathBuilder waitFor(float duration) {
+        return moveTo(lastX(), lastY(), duration);
+    }
+
+    /**
+     * @param entryX entry direction, in pixels per second
+     */
+    public BakedPath build(float entryX, float entryY) {
+        return new BakedPath(points.toArray(), times.toArray(), entryX, entryY);
+    }
+
+    private float lastX() {
+        return points.get(points.size - 2);
+    }
+
+    private float lastY() {
+        return points.get(points.size - 1);
+    }
+
+    private PathBuilder add(float x, float y) {
+        points.add(x, y);
+        times.add(time);
+        return this;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities.paths;
+
+import com.badlogic.gdx.math.Bezier;
+import com.badlogic.gdx.math.CatmullRomSpline;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Paths baked once and shared, keyed by their type and the parameters they were built from. The same few curves are
+ * flown by every squadron of a session: looking one up allocates nothing.
+ * <p>
+ * Usage: {@code BakedPath path = cache.key(type).param(x).param(y).get();} then, if null,
+ * {@code path = cache.put(new BakedPath(...));} for the same key.
+ */
+public class PathCache {
+
+    public static final int BEZIER = 0;
+    public static final int CATMULL_ROM = 1;
+    public static final int SEMI_CIRCLE = 2;
+    public static final int INFINITE_CIRCLE = 3;
+    public static final int LINE = 4;
+    public static final int TRAPEZE = 5;
+
+    private final ObjectMap<Key, BakedPath> paths = new ObjectMap<>();
+    private final Key lookup = new Key();
+
+    public PathCache key(int type) {
+        lookup.type = type;
+        lookup.params.clear();
+        return this;
+    }
+
+    public PathCache param(float value) {
+        lookup.params.add(value);
+        return this;
+    }
+
+    public PathCache param(Vector2 value) {
+        lookup.params.add(value.x, value.y);
+        return this;
+    }
+
+    /**
+     * @return the path of the current key, null if not baked yet
+     */
+    public BakedPath get() {
+        return paths.get(lookup);
+    }
+
+    /**
+     * stores the path under the current key
+     */
+    public BakedPath put(BakedPath path) {
+        Key key = new Key();
+        key.type = lookup.type;
+        key.params.addAll(lookup.params);
+        paths.put(key, path);
+        return path;
+    }
+
+    /**
+     * @return the Bézier curve of these control points, starting at the first one
+     */
+    public BakedPath bezier(Vector2[] controlPoints, int samples, float entryX, float entryY) {
+        BakedPath path = key(controlPoints, BEZIER, samples, entryX, entryY).get();
+        if (path == null) {
+            path = put(BakedPath.sample(new Bezier<>(controlPoints), samples,
+                    controlPoints[0].x, controlPoints[0].y, entryX, entryY));
+        }
+        return path;
+    }
+
+    /**
+     * @return the Catmull-Rom spline of these control points, starting at the first one
+     */
+    public BakedPath catmullRom(Vector2[] controlPoints, int samples, float entryX, float entryY) {
+        BakedPath path = key(controlPoints, CATMULL_ROM, samples, entryX, entryY).get();
+        if (path == null) {
+            path = put(BakedPath.sample(new CatmullRomSpline<>(controlPoints, false), samples,
+                    controlPoints[0].x, controlPoints[0].y, entryX, entryY));
+        }
+        return path;
+    }
+
+    /**
+     * @return the straight line between the two points
+     */
+    public BakedPath line(float fromX, float fromY, float toX, float toY, float entryX, float entryY) {
+        BakedPath path = key(LINE).param(fromX).param(fromY).param(toX).param(toY).param(entryX).param(entryY).get();
+        if (path == null) {
+            path = put(new BakedPath(new float[]{fromX, fromY, toX, toY}, entryX, entryY));
+        }
+        return path;
+    }
+
+    private PathCache key(Vector2[] controlPoints, int type, int samples, float entryX, float entryY) {
+        key(type).param(samples).param(entryX).param(entryY);
+        for (Vector2 controlPoint : controlPoints) {
+            param(controlPoint);
+        }
+        return this;
+    }
+
+    public int size() {
+        return paths.size;
+    }
+
+    public void clear() {
+        paths.clear();
+    }
+
+    private static final class Key {
+        private int type;
+        private final FloatArray params = new FloatArray(16);
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type == key.type && params.equals(key.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type + params.hashCode();
+        }
+    }
+}
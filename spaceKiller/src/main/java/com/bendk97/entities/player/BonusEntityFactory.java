@@ -12,8 +12,7 @@ import aurelienribon.tweenengine.TweenCallback;
 import aurelienribon.tweenengine.equations.Linear;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
@@ -40,17 +39,17 @@ public class BonusEntityFactory {
         powerUp.add(position);
         powerUp.add(entityFactory.engine.createComponent(VelocityComponent.class));
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions("power-up"));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION_POWER_UP, sprites, LOOP));
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation("power-up", FRAME_DURATION_POWER_UP, LOOP);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         powerUp.add(animationComponent);
         SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = sprites.get(0);
+        component.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         powerUp.add(component);
         position.setXY(ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.x,
                 ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.y);
         powerUp.add(entityFactory.engine.createComponent(StateComponent.class));
         tweenBonus(powerUp, position, component);
-        entityFactory.engine.addEntity(powerUp);
+        entityFactory.commands.addEntity(powerUp);
     }
 
 
@@ -61,17 +60,17 @@ public class BonusEntityFactory {
         shieldUp.add(position);
         shieldUp.add(entityFactory.engine.createComponent(VelocityComponent.class));
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        Array<Sprite> sprites = poolSprite.getSprites(entityFactory.levelAtlas.findRegions("shieldup"));
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION_POWER_UP, sprites, LOOP));
+        Animation<AtlasRegion> animation = entityFactory.levelAtlas.findAnimation("shieldup", FRAME_DURATION_POWER_UP, LOOP);
+        animationComponent.animations.put(ANIMATION_MAIN, animation);
         shieldUp.add(animationComponent);
         SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = sprites.get(0);
+        component.sprite = poolSprite.getSprite(animation.getKeyFrame(0));
         shieldUp.add(component);
         position.setXY(ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.x,
                 ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.y);
         shieldUp.add(entityFactory.engine.createComponent(StateComponent.class));
         tweenBonus(shieldUp, position, component);
-        entityFactory.engine.addEntity(shieldUp);
+        entityFactory.commands.addEntity(shieldUp);
     }
 
     public void createBombUp(Entity squadron) {
@@ -86,7 +85,7 @@ public class BonusEntityFactory {
         position.setXY(ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.x,
                 ComponentMapperHelper.squadron.get(squadron).lastKilledPosition.y);
         tweenBonus(bombUp, position, component);
-        entityFactory.engine.addEntity(bombUp);
+        entityFactory.commands.addEntity(bombUp);
     }
 
 
@@ -98,7 +97,7 @@ public class BonusEntityFactory {
                 .end()
                 .setCallback((i, baseTween) -> {
                     if (i == TweenCallback.COMPLETE) {
-                        entityFactory.engine.removeEntity(powerUp);
+                        entityFactory.commands.removeEntity(powerUp);
                     }
                 })
                 .start(entityFactory.tweenManager);
@@ -11,12 +11,11 @@ import aurelienribon.tweenengine.TweenCallback;
 import aurelienribon.tweenengine.equations.Linear;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.math.Vector2;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
-import com.bendk97.timer.PausableTimer;
+import com.bendk97.systems.TimerSystem;
 
 import static com.badlogic.gdx.graphics.g2d.Animation.PlayMode.LOOP;
 import static com.badlogic.gdx.graphics.g2d.Animation.PlayMode.LOOP_PINGPONG;
@@ -34,17 +33,24 @@ public class PlayerActionsEntityFactory {
     private static final Color WHITE_80 = new Color(1f, 1f, 1f, 0.8f);
     private static final String UNABLE_TO_FIRE_SIDED_AT_THIS_LEVEL = "Unable to fire sided at this level";
     private final EntityFactory entityFactory;
+    private final TimerSystem.EntityAction lightBomb;
 
     public PlayerActionsEntityFactory(EntityFactory entityFactory) {
         this.entityFactory = entityFactory;
+        this.lightBomb = bomb -> {
+            SpriteComponent spriteComponent = sprite.get(bomb);
+            if (entityFactory.rayHandler != null && spriteComponent != null) {
+                entityFactory.createLight(bomb, WHITE_80, spriteComponent.sprite.getHeight() * 20f);
+            }
+        };
     }
 
     public void createPlayerFire(Entity player) {
         PlayerComponent playerComponent = ComponentMapperHelper.player.get(player);
-        SpriteComponent spriteBulletComponent = entityFactory.engine.createComponent(SpriteComponent.class);
-        VelocityComponent velocityBulletComponent = entityFactory.engine.createComponent(VelocityComponent.class);
-        PositionComponent positionBulletComponent = entityFactory.engine.createComponent(PositionComponent.class);
-        Entity bullet = createBullet(playerComponent.powerLevel.bulletRegionName, spriteBulletComponent, velocityBulletComponent, positionBulletComponent);
+        Entity bullet = createBullet(playerComponent.powerLevel.bulletRegionName);
+        SpriteComponent spriteBulletComponent = sprite.get(bullet);
+        VelocityComponent velocityBulletComponent = ComponentMapperHelper.velocity.get(bullet);
+        PositionComponent positionBulletComponent = position.get(bullet);
         PositionComponent playerPosition = position.get(player);
         positionBulletComponent.setX(playerPosition.x() + ComponentMapperHelper.sprite.get(player).sprite.getWidth() / 2f - spriteBulletComponent.sprite.getWidth() / 2f);
         positionBulletComponent.setY(playerPosition.y() + sprite.get(player).sprite.getHeight());
@@ -64,10 +70,10 @@ public class PlayerActionsEntityFactory {
 
     private void createPlayerLeftFire(Entity player) {
         PlayerComponent playerComponent = ComponentMapperHelper.player.get(player);
-        SpriteComponent spriteBulletComponent = entityFactory.engine.createComponent(SpriteComponent.class);
-        VelocityComponent velocityBulletComponent = entityFactory.engine.createComponent(VelocityComponent.class);
-        PositionComponent positionBulletComponent = entityFactory.engine.createComponent(PositionComponent.class);
-        Entity bullet = createBullet(playerComponent.powerLevel.bulletLeftSidedRegionName, spriteBulletComponent, velocityBulletComponent, positionBulletComponent);
+        Entity bullet = createBullet(playerComponent.powerLevel.bulletLeftSidedRegionName);
+        SpriteComponent spriteBulletComponent = sprite.get(bullet);
+        VelocityComponent velocityBulletComponent = ComponentMapperHelper.velocity.get(bullet);
+        PositionComponent positionBulletComponent = position.get(bullet);
         PositionComponent playerPosition = position.get(player);
         positionBulletComponent.setX(playerPosition.x() - spriteBulletComponent.sprite.getWidth());
         positionBulletComponent.setY(playerPosition.y() + sprite.get(player).sprite.getHeight());
@@ -85,10 +91,10 @@ public class PlayerActionsEntityFactory {
 
     private void createPlayerRightFire(Entity player) {
         PlayerComponent playerComponent = ComponentMapperHelper.player.get(player);
-        SpriteComponent spriteBulletComponent = entityFactory.engine.createComponent(SpriteComponent.class);
-        VelocityComponent velocityBulletComponent = entityFactory.engine.createComponent(VelocityComponent.class);
-        PositionComponent positionBulletComponent = entityFactory.engine.createComponent(PositionComponent.class);
-        Entity bullet = createBullet(playerComponent.powerLevel.bulletRightSidedRegionName, spriteBulletComponent, velocityBulletComponent, positionBulletComponent);
+        Entity bullet = createBullet(playerComponent.powerLevel.bulletRightSidedRegionName);
+        SpriteComponent spriteBulletComponent = sprite.get(bullet);
+        VelocityComponent velocityBulletComponent = ComponentMapperHelper.velocity.get(bullet);
+        PositionComponent positionBulletComponent = position.get(bullet);
         PositionComponent playerPosition = position.get(player);
         positionBulletComponent.setX(playerPosition.x() + sprite.get(player).sprite.getWidth());
         positionBulletComponent.setY(playerPosition.y() + sprite.get(player).sprite.getHeight());
@@ -110,12 +116,12 @@ public class PlayerActionsEntityFactory {
         bomb.add(positionComponent);
         SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION, poolSprite.getSprites(entityFactory.commonAtlas.findRegions("bomb")), LOOP));
-        spriteComponent.sprite = animationComponent.animations.get(ANIMATION_MAIN).getKeyFrame(0);
+        animationComponent.animations.put(ANIMATION_MAIN, entityFactory.commonAtlas.findAnimation("bomb", FRAME_DURATION, LOOP));
+        spriteComponent.sprite = poolSprite.getSprite(animationComponent.animations.get(ANIMATION_MAIN).getKeyFrame(0));
         bomb.add(spriteComponent);
         bomb.add(animationComponent);
         bomb.add(entityFactory.engine.createComponent(StateComponent.class));
-        entityFactory.engine.addEntity(bomb);
+        entityFactory.commands.addEntity(bomb);
         PositionComponent playerPosition = position.get(player);
         positionComponent.setX(playerPosition.x() + ComponentMapperHelper.sprite.get(player).sprite.getWidth() / 2f - spriteComponent.sprite.getWidth() / 2f);
         positionComponent.setY(playerPosition.y() + ComponentMapperHelper.sprite.get(player).sprite.getHeight() >= SCREEN_HEIGHT * 3f / 4f ?
@@ -125,7 +131,7 @@ public class PlayerActionsEntityFactory {
                 .setCallback((event, baseTween) -> {
                     if (event == TweenCallback.COMPLETE) {
                         createBombExplosion(bomb);
-                        entityFactory.engine.removeEntity(bomb);
+                        entityFactory.commands.removeEntity(bomb);
                     }
                 })
                 .start(entityFactory.tweenManager);
@@ -137,14 +143,14 @@ public class PlayerActionsEntityFactory {
         bombExplosion.add(positionComponent);
         final SpriteComponent spriteComponent = entityFactory.engine.createComponent(SpriteComponent.class);
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION_BOMB_EXPLOSION,
-                poolSprite.getSprites(entityFactory.commonAtlas.findRegions("bomb_explosion")), LOOP_PINGPONG));
+        animationComponent.animations.put(ANIMATION_MAIN, entityFactory.commonAtlas.findAnimation("bomb_explosion",
+                FRAME_DURATION_BOMB_EXPLOSION, LOOP_PINGPONG));
         spriteComponent.sprite = poolSprite.getSprite(entityFactory.commonAtlas.findRegions("bomb_explosion").get(6));
         spriteComponent.zIndex = 100;
         bombExplosion.add(spriteComponent);
         bombExplosion.add(animationComponent);
         bombExplosion.add(entityFactory.engine.createComponent(StateComponent.class));
-        entityFactory.engine.addEntity(bombExplosion);
+        entityFactory.commands.addEntity(bombExplosion);
         entityFactory.assets.playSound(SOUND_BOMB_EXPLOSION);
         PositionComponent bombPosition = position.get(bomb);
         positionComponent.setX(bombPosition.x() - spriteComponent.sprite.getWidth() / 2f);
@@ -158,25 +164,13 @@ public class PlayerActionsEntityFactory {
                 })
                 .start(entityFactory.tweenManager);
         entityFactory.screenShake.shake(20f, 1f, false);
-        PausableTimer.schedule(new PausableTimer.Task() {
-            @Override
-            public void run() {
-                if (entityFactory.rayHandler != null) {
-                    entityFactory.createLight(bombExplosion, WHITE_80, spriteComponent.sprite.getHeight() * 20f);
-                }
-            }
-        }, 0.6f);
+        entityFactory.timer.schedule(lightBomb, bombExplosion, 0.6f);
     }
 
-    private Entity createBullet(String bulletSpriteName, SpriteComponent spriteBulletComponent, VelocityComponent velocityBulletComponent, PositionComponent positionBulletComponent) {
-        Entity bullet = entityFactory.engine.createEntity();
-        bullet.add(entityFactory.engine.createComponent(PlayerBulletComponent.class));
-        bullet.add(positionBulletComponent);
-        bullet.add(velocityBulletComponent);
-        spriteBulletComponent.sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion(bulletSpriteName));
-        bullet.add(spriteBulletComponent);
-        bullet.add(entityFactory.engine.createComponent(RemovableComponent.class));
-        entityFactory.engine.addEntity(bullet);
+    private Entity createBullet(String bulletSpriteName) {
+        Entity bullet = entityFactory.archetypes.obtain(entityFactory.playerBullet);
+        sprite.get(bullet).sprite = poolSprite.getSprite(entityFactory.levelAtlas.findRegion(bulletSpriteName));
+        entityFactory.commands.addEntity(bullet);
         return bullet;
     }
 
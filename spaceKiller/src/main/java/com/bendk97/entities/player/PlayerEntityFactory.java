@@ -66,23 +66,17 @@ public class PlayerEntityFactory {
         player.add(entityFactory.engine.createComponent(VelocityComponent.class));
         AnimationComponent animationComponent = entityFactory.engine.createComponent(AnimationComponent.class);
         Array<AtlasRegion> playerRegions = entityFactory.levelAtlas.findRegions("player");
-        Array<Sprite> spritesMAIN = new Array<>(true, 2, Sprite.class);
-        spritesMAIN.add(poolSprite.getSprite(playerRegions.get(1)));
-        spritesMAIN.add(poolSprite.getSprite(playerRegions.get(2)));
-        Array<Sprite> spritesLEFT = new Array<>(true, 2, Sprite.class);
-        spritesLEFT.add(poolSprite.getSprite(playerRegions.get(0)));
-        spritesLEFT.add(poolSprite.getSprite(playerRegions.get(3)));
-        Array<Sprite> spritesRIGHT = new Array<>(true, 2, Sprite.class);
-        spritesRIGHT.add(poolSprite.getSprite(playerRegions.get(0)));
-        spritesRIGHT.add(poolSprite.getSprite(playerRegions.get(3)));
-        spritesRIGHT.get(0).flip(true, false);
-        spritesRIGHT.get(1).flip(true, false);
-        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION, spritesMAIN, LOOP));
-        animationComponent.animations.put(GO_LEFT, new Animation<>(FRAME_DURATION, spritesLEFT, LOOP));
-        animationComponent.animations.put(GO_RIGHT, new Animation<>(FRAME_DURATION, spritesRIGHT, LOOP));
+        AtlasRegion[] framesMAIN = {playerRegions.get(1), playerRegions.get(2)};
+        AtlasRegion[] framesLEFT = {playerRegions.get(0), playerRegions.get(3)};
+        AtlasRegion[] framesRIGHT = {new AtlasRegion(playerRegions.get(0)), new AtlasRegion(playerRegions.get(3))};
+        framesRIGHT[0].flip(true, false);
+        framesRIGHT[1].flip(true, false);
+        animationComponent.animations.put(ANIMATION_MAIN, new Animation<>(FRAME_DURATION, new Array<>(framesMAIN), LOOP));
+        animationComponent.animations.put(GO_LEFT, new Animation<>(FRAME_DURATION, new Array<>(framesLEFT), LOOP));
+        animationComponent.animations.put(GO_RIGHT, new Animation<>(FRAME_DURATION, new Array<>(framesRIGHT), LOOP));
         player.add(animationComponent);
         SpriteComponent component = entityFactory.engine.createComponent(SpriteComponent.class);
-        component.sprite = spritesMAIN.get(0);
+        component.sprite = poolSprite.getSprite(framesMAIN[0]);
         component.zIndex = 99;
         player.add(component);
         player.add(entityFactory.engine.createComponent(StateComponent.class));
@@ -106,7 +100,7 @@ public class PlayerEntityFactory {
         shield.add(positionComponent);
         shield.add(spriteComponent);
         shield.add(entityFactory.engine.createComponent(ShieldComponent.class));
-        entityFactory.engine.addEntity(shield);
+        entityFactory.commands.addEntity(shield);
         Timeline.createSequence().beginSequence()
                 .delay(5f)
                 .push(Tween.to(spriteComponent, ALPHA, 0.2f).target(0.2f))
@@ -114,7 +108,7 @@ public class PlayerEntityFactory {
                 .repeat(5, 0f)
                 .setCallback((i, baseTween) -> {
                     if (i == TweenCallback.COMPLETE) {
-                        entityFactory.engine.removeEntity(shield);
+                        entityFactory.commands.removeEntity(shield);
                         removeInvulnerableComponent(player);
                     }
                 })
@@ -13,6 +13,8 @@ import com.badlogic.gdx.math.Vector3;
 import com.bendk97.listeners.InputListener;
 import com.bendk97.screens.levels.LevelScreen;
 
+import static com.bendk97.SpaceKillerGameConstants.DEBUG;
+
 /*          BUTTONS LAYOUT
         ---------------------
         -   0  -   1  -  2 --
@@ -43,6 +45,14 @@ abstract class AbstractPadController extends InputAdapter {
             screen.pause();
             return true;
         }
+        if (DEBUG && keycode == Input.Keys.T) {
+            screen.dumpTrace();
+            return true;
+        }
+        if (DEBUG && keycode == Input.Keys.R) {
+            screen.saveInputRecording();
+            return true;
+        }
         return false;
     }
 
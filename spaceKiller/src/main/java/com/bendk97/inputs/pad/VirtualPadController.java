@@ -28,6 +28,9 @@ public class VirtualPadController extends AbstractPadController {
         super(screen, inputListener, camera, bombButton);
         this.player = player;
         this.squareTouches = new Rectangle[9];
+        for (int i = 0; i < squareTouches.length; ++i) {
+            squareTouches[i] = new Rectangle();
+        }
     }
 
     @Override
@@ -35,9 +38,10 @@ public class VirtualPadController extends AbstractPadController {
         Vector3 worldTouch = poolVector3.getVector3(screenX, screenY, 0f);
         worldTouch = camera.unproject(worldTouch);
         touchDragged(screenX, screenY, pointer);
-        if (bombButton.contains(worldTouch.x, worldTouch.y)) {
+        boolean dropBomb = bombButton.contains(worldTouch.x, worldTouch.y);
+        poolVector3.free(worldTouch);
+        if (dropBomb) {
             listener.dropBomb();
-            return true;
         }
         return true;
     }
@@ -71,31 +75,31 @@ public class VirtualPadController extends AbstractPadController {
         float playerWidth = ComponentMapperHelper.sprite.get(player).sprite.getWidth();
         float playerHeight = ComponentMapperHelper.sprite.get(player).sprite.getHeight();
 
-        squareTouches[0] = new Rectangle(
+        squareTouches[0].set(
                 0f,
                 position.y() + 1.5f * playerHeight,
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true),
                 SCREEN_HEIGHT);
 
-        squareTouches[1] = new Rectangle(
+        squareTouches[1].set(
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true),
                 position.y() + 1.5f * playerHeight,
                 playerWidth,
                 SCREEN_HEIGHT);
 
-        squareTouches[2] = new Rectangle(
+        squareTouches[2].set(
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
                 position.y() + 1.5f * playerHeight,
                 SCREEN_WIDTH - getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
                 SCREEN_HEIGHT);
 
-        squareTouches[3] = new Rectangle(
+        squareTouches[3].set(
                 0f,
                 position.y() - 0.5f * playerHeight,
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true),
                 2 * playerHeight);
 
-        squareTouches[8] = new Rectangle(
+        squareTouches[8].set(
                 position.x() >= 50 && position.x() < SCREEN_WIDTH - 50 - playerWidth ?
                         getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true) : 666,
                 position.y() - 0.5f * playerHeight,
@@ -103,26 +107,26 @@ public class VirtualPadController extends AbstractPadController {
                 2 * playerHeight);
 
 
-        squareTouches[4] = new Rectangle(
+        squareTouches[4].set(
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
                 position.y() - 0.5f * playerHeight,
                 SCREEN_WIDTH - getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
                 playerHeight * 2);
 
 
-        squareTouches[5] = new Rectangle(
+        squareTouches[5].set(
                 0f,
                 0f,
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true),
                 position.y() - 0.5f * playerHeight);
 
-        squareTouches[6] = new Rectangle(
+        squareTouches[6].set(
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, true),
                 0f,
                 playerWidth,
                 position.y() - 0.5f * playerHeight);
 
-        squareTouches[7] = new Rectangle(
+        squareTouches[7].set(
                 getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
                 0f,
                 SCREEN_WIDTH - getPositionXTakingIntoAccountHorizontalScrolling(position, playerWidth, false),
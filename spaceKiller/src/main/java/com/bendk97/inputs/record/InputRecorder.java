@@ -0,0 +1,103 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.inputs.record;
+
+import com.bendk97.listeners.InputListener;
+
+import static com.bendk97.inputs.record.InputRecording.*;
+
+/**
+ * Records the calls to an input listener before passing them on, stamped with the current simulation tick.
+ */
+public class InputRecorder implements InputListener {
+
+    private final InputListener listener;
+    private final InputRecording recording;
+    private int tick = 0;
+
+    public InputRecorder(InputListener listener, InputRecording recording) {
+        this.listener = listener;
+        this.recording = recording;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * @param tick number of simulation steps done so far
+     */
+    public void setTick(int tick) {
+        this.tick = tick;
+    }
+
+    @Override
+    public void goLeft() {
+        recording.add(tick, GO_LEFT);
+        listener.goLeft();
+    }
+
+    @Override
+    public void goRight() {
+        recording.add(tick, GO_RIGHT);
+        listener.goRight();
+    }
+
+    @Override
+    public void goTop() {
+        recording.add(tick, GO_TOP);
+        listener.goTop();
+    }
+
+    @Override
+    public void goDown() {
+        recording.add(tick, GO_DOWN);
+        listener.goDown();
+    }
+
+    @Override
+    public void goLeftTop() {
+        recording.add(tick, GO_LEFT_TOP);
+        listener.goLeftTop();
+    }
+
+    @Override
+    public void goLeftDown() {
+        recording.add(tick, GO_LEFT_DOWN);
+        listener.goLeftDown();
+    }
+
+    @Override
+    public void goRightTop() {
+        recording.add(tick, GO_RIGHT_TOP);
+        listener.goRightTop();
+    }
+
+    @Override
+    public void goRightBottom() {
+        recording.add(tick, GO_RIGHT_BOTTOM);
+        listener.goRightBottom();
+    }
+
+    @Override
+    public void stop() {
+        recording.add(tick, STOP);
+        listener.stop();
+    }
+
+    @Override
+    public void fire() {
+        recording.add(tick, FIRE);
+        listener.fire();
+    }
+
+    @Override
+    public void dropBomb() {
+        recording.add(tick, DROP_BOMB);
+        listener.dropBomb();
+    }
+}
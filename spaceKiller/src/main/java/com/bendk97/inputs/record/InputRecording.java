@@ -0,0 +1,161 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.inputs.record;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.bendk97.listeners.InputListener;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Calls to the {@link InputListener} of a session, with the simulation tick they happened at and the seed of the level.
+ * <p>
+ * Binary format: magic, version, seed, number of calls, then for each call a varint of
+ * (ticks since the previous call << 4 | action).
+ */
+public class InputRecording {
+
+    static final int GO_LEFT = 0;
+    static final int GO_RIGHT = 1;
+    static final int GO_TOP = 2;
+    static final int GO_DOWN = 3;
+    static final int GO_LEFT_TOP = 4;
+    static final int GO_LEFT_DOWN = 5;
+    static final int GO_RIGHT_TOP = 6;
+    static final int GO_RIGHT_BOTTOM = 7;
+    static final int STOP = 8;
+    static final int FIRE = 9;
+    static final int DROP_BOMB = 10;
+    private static final int ACTION_BITS = 4;
+    private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+    private static final int MAGIC = 0x534B4952;
+    private static final byte VERSION = 1;
+
+    private final long seed;
+    final IntArray ticks = new IntArray(false, 1024);
+    final ByteArray actions = new ByteArray(false, 1024);
+
+    public InputRecording(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return ticks.size;
+    }
+
+    void add(int tick, int action) {
+        ticks.add(tick);
+        actions.add((byte) action);
+    }
+
+    static void apply(int action, InputListener listener) {
+        switch (action) {
+            case GO_LEFT:
+                listener.goLeft();
+                break;
+            case GO_RIGHT:
+                listener.goRight();
+                break;
+            case GO_TOP:
+                listener.goTop();
+                break;
+            case GO_DOWN:
+                listener.goDown();
+                break;
+            case GO_LEFT_TOP:
+                listener.goLeftTop();
+                break;
+            case GO_LEFT_DOWN:
+                listener.goLeftDown();
+                break;
+            case GO_RIGHT_TOP:
+                listener.goRightTop();
+                break;
+            case GO_RIGHT_BOTTOM:
+                listener.goRightBottom();
+                break;
+            case STOP:
+                listener.stop();
+                break;
+            case FIRE:
+                listener.fire();
+                break;
+            case DROP_BOMB:
+                listener.dropBomb();
+                break;
+            default:
+                throw new GdxRuntimeException("Unknown input action: " + action);
+        }
+    }
+
+    public void write(FileHandle file) throws IOException {
+        DataOutputStream output = new DataOutputStream(file.write(false, 8192));
+        try {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeLong(seed);
+            output.writeInt(ticks.size);
+            int previousTick = 0;
+            for (int i = 0; i < ticks.size; ++i) {
+                writeVarInt(output, (ticks.get(i) - previousTick) << ACTION_BITS | actions.get(i));
+                previousTick = ticks.get(i);
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    public static InputRecording read(FileHandle file) throws IOException {
+        DataInputStream input = new DataInputStream(file.read(8192));
+        try {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new IOException("Not an input recording: " + file.path());
+            }
+            InputRecording recording = new InputRecording(input.readLong());
+            int size = input.readInt();
+            int tick = 0;
+            for (int i = 0; i < size; ++i) {
+                int value = readVarInt(input);
+                tick += value >>> ACTION_BITS;
+                recording.add(tick, value & ACTION_MASK);
+            }
+            return recording;
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.inputs.record;
+
+import com.bendk97.listeners.InputListener;
+
+/**
+ * Feeds the calls of a recording back to an input listener, at the simulation tick they were recorded at.
+ */
+public class InputReplayer {
+
+    private final InputRecording recording;
+    private int next = 0;
+
+    public InputReplayer(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * to be called before each simulation step
+     *
+     * @param tick number of simulation steps done so far
+     */
+    public void replay(int tick, InputListener listener) {
+        while (next < recording.size() && recording.ticks.get(next) <= tick) {
+            InputRecording.apply(recording.actions.get(next), listener);
+            next++;
+        }
+    }
+
+    public boolean isFinished() {
+        return next >= recording.size();
+    }
+}
@@ -25,6 +25,7 @@ public class LightningBolt implements Disposable {
     private float alpha;
     private float alphaMultiplier;
     private float fadeOutRate;
+    // splash screen only, out of the seeded sequence of the levels
     private final Random random = new RandomXS128();
     private final LightningBoltArt lightningBoltArt;
     private Color tint;
@@ -8,9 +8,15 @@ package com.bendk97.listeners;
 
 
 import com.badlogic.ashley.core.Entity;
+import com.bendk97.systems.collision.ContactBuffer;
 
 public interface CollisionListener {
 
+    /**
+     * resolves in order every contact of a collision pass
+     */
+    void resolveContacts(ContactBuffer contacts);
+
     void enemyShoot(Entity enemy, Entity player, Entity bullet);
 
     void playerHitByEnemyBody(Entity player);
@@ -13,15 +13,20 @@ import aurelienribon.tweenengine.TweenManager;
 import aurelienribon.tweenengine.equations.Linear;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.bendk97.assets.GameAssets;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.components.helpers.Families;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.listeners.CollisionListener;
 import com.bendk97.listeners.PlayerListener;
 import com.bendk97.screens.levels.LevelScreen;
-import com.bendk97.screens.levels.utils.ScreenShake;
-import com.bendk97.timer.PausableTimer;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.systems.TimerSystem;
+import com.bendk97.systems.collision.Contact;
+import com.bendk97.systems.collision.ContactBuffer;
 import com.bendk97.tweens.PositionComponentTweenAccessor;
 
 import static com.bendk97.SpaceKillerGameConstants.*;
@@ -35,9 +40,14 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
     private final PlayerListener playerListener;
     private final TweenManager tweenManager;
     private final LevelScreen screen;
-    private final ScreenShake screenShake;
+    private final CameraShakeSystem screenShake;
+    // entities destroyed by a previous contact of the pass
+    private final ObjectSet<Entity> consumed = new ObjectSet<>();
+    private boolean playerHit = false;
+    private final TimerSystem.EntityAction nextLevel;
+    private final TimerSystem.EntityAction finishLevel;
 
-    public CollisionListenerImpl(TweenManager tweenManager, ScreenShake screenShake, GameAssets assets,
+    public CollisionListenerImpl(TweenManager tweenManager, CameraShakeSystem screenShake, GameAssets assets,
                                  EntityFactory entityFactory, PlayerListener playerListener,
                                  LevelScreen screen) {
         this.playerListener = playerListener;
@@ -46,6 +56,76 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         this.tweenManager = tweenManager;
         this.screen = screen;
         this.screenShake = screenShake;
+        this.nextLevel = player -> {
+            entityFactory.commands.removeComponent(player, LevelFinishedComponent.class);
+            screen.nextLevel();
+        };
+        this.finishLevel = player -> {
+            entityFactory.commands.addComponent(player, getEngine().createComponent(LevelFinishedComponent.class));
+            entityFactory.timer.schedule(nextLevel, player, 5f);
+        };
+    }
+
+    @Override
+    public void resolveContacts(ContactBuffer contacts) {
+        ImmutableArray<Entity> players = getEngine().getEntitiesFor(Families.player);
+        Entity player = players.size() > 0 ? players.first() : null;
+        for (int i = 0; i < contacts.size(); ++i) {
+            Contact contact = contacts.get(i);
+            if (!consumed.contains(contact.first) && !consumed.contains(contact.second)) {
+                resolveContact(contact, player);
+            }
+        }
+        consumed.clear();
+        playerHit = false;
+    }
+
+    private void resolveContact(Contact contact, Entity player) {
+        switch (contact.type) {
+            case ENEMY_SHOOT:
+                // a bullet goes through enemies already dead
+                if (player != null && !ComponentMapperHelper.enemy.get(contact.second).isDead()) {
+                    enemyShoot(contact.second, player, contact.first);
+                    consumed.add(contact.first);
+                    if (ComponentMapperHelper.enemy.get(contact.second).isDead()) {
+                        consumed.add(contact.second);
+                    }
+                }
+                break;
+            case PLAYER_POWER_UP:
+                playerPowerUp(contact.first, contact.second);
+                consumed.add(contact.second);
+                break;
+            case PLAYER_SHIELD_UP:
+                playerShieldUp(contact.first, contact.second);
+                consumed.add(contact.second);
+                break;
+            case PLAYER_BOMB_UP:
+                playerBombUp(contact.first, contact.second);
+                consumed.add(contact.second);
+                break;
+            case BULLET_STOPPED_BY_SHIELD:
+                bulletStoppedByShield(contact.second);
+                consumed.add(contact.second);
+                break;
+            case ENEMY_SHOOT_BY_SHIELD:
+                enemyShootByShield(contact.second);
+                consumed.add(contact.second);
+                break;
+            case PLAYER_HIT_BY_ENEMY_BODY:
+                if (!playerHit) {
+                    playerHitByEnemyBody(contact.first);
+                    playerHit = true;
+                }
+                break;
+            case PLAYER_HIT_BY_ENEMY_BULLET:
+                if (!playerHit) {
+                    playerHitByEnemyBullet(contact.first, contact.second);
+                    consumed.add(contact.second);
+                    playerHit = true;
+                }
+                break;
+        }
     }
 
     @Override
@@ -76,7 +156,7 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         PositionComponent explodePosition = ComponentMapperHelper.position.get(enemy);
         entityFactory.enemyEntityFactory.createEntityExploding(explodePosition.x(), explodePosition.y());
         if (bullet != null) {
-            getEngine().removeEntity(bullet);
+            entityFactory.commands.removeEntity(bullet);
         }
         // update score
         int nbHits = bullet != null ? 1 : HIT_EXPLOSION;
@@ -107,11 +187,10 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
             screenShake.shake(20, 0.5f, false);
         }
         screen.checkAchievements(player);
-        tweenManager.killTarget(ComponentMapperHelper.position.get(enemy));
         if (enemyComponent.belongsToSquadron()) {
             ComponentMapperHelper.squadron.get(enemyComponent.squadron).removeEntity(enemy);
         }
-        getEngine().removeEntity(enemy);
+        entityFactory.commands.removeEntity(enemy);
     }
 
     private void bossIsShoot(Entity boss, Entity player, Entity bullet) {
@@ -131,7 +210,7 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
             explosionPosition.setY(explosionPosition.y() + ComponentMapperHelper.sprite.get(boss).sprite.getHeight() / 2f);
         }
         if (bullet != null) {
-            getEngine().removeEntity(bullet);
+            entityFactory.commands.removeEntity(bullet);
         }
         // update score
         int nbHits = bullet != null ? 1 : HIT_EXPLOSION;
@@ -151,23 +230,19 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         ComponentMapperHelper.healthBar.get(boss).setValue(bossComponent.getRemainingLifeInPercent());
         float percentLifeAfter = bossComponent.getRemainingLifeInPercent();
         if (percentLifeBefore >= 0.25 && percentLifeAfter < 0.25) {
-            AnimationComponent animationComponent = ComponentMapperHelper.animation.get(boss);
-            if (animationComponent != null) {
-                animationComponent.tintRed(ANIMATION_MAIN, 0.99f);
-            } else {
-                ComponentMapperHelper.sprite.get(boss).tintRed(0.99f);
-            }
+            ComponentMapperHelper.sprite.get(boss).tintRed(0.99f);
         }
     }
 
     private void bossIdDead(Entity boss, Entity player, EnemyComponent enemyComponent) {
         assets.playSound(SOUND_BOSS_FINISHED);
-        boss.remove(StatusHealthComponent.class);
+        entityFactory.commands.removeComponent(boss, StatusHealthComponent.class);
         if (ComponentMapperHelper.levelFinished.get(player) == null) {
             ComponentMapperHelper.player.get(player).enemyKilled();
         }
         screen.checkAchievements(player);
-        tweenManager.killTarget(ComponentMapperHelper.position.get(boss));
+        // leaves its path to be tweened to its death
+        ComponentMapperHelper.path.get(boss).stop();
         ComponentMapperHelper.squadron.get(enemyComponent.squadron).removeEntity(boss);
         SpriteComponent spriteComponent = ComponentMapperHelper.sprite.get(boss);
 
@@ -194,21 +269,9 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
                 .end()
                 .setCallback((i, baseTween) -> {
                     if (i == TweenCallback.COMPLETE) {
-                        getEngine().removeEntity(enemy);
+                        entityFactory.commands.removeEntity(enemy);
                     }
-                    PausableTimer.schedule(new PausableTimer.Task() {
-                        @Override
-                        public void run() {
-                            player.add(getEngine().createComponent(LevelFinishedComponent.class));
-                            PausableTimer.schedule(new PausableTimer.Task() {
-                                @Override
-                                public void run() {
-                                    player.remove(LevelFinishedComponent.class);
-                                    screen.nextLevel();
-                                }
-                            }, 5f);
-                        }
-                    }, 2f);
+                    entityFactory.timer.schedule(finishLevel, player, 2f);
                 })
                 .start(tweenManager);
     }
@@ -226,7 +289,7 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         assets.playSound(SOUND_EXPLOSION);
         PositionComponent playerPosition = ComponentMapperHelper.position.get(player);
         entityFactory.enemyEntityFactory.createEntityExploding(playerPosition.x(), playerPosition.y());
-        getEngine().removeEntity(bullet);
+        entityFactory.commands.removeEntity(bullet);
         tweenManager.killTarget(ComponentMapperHelper.sprite.get(bullet));
         playerListener.loseLive(player);
     }
@@ -241,7 +304,7 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         playerComponent.powerUp();
         tweenManager.killTarget(ComponentMapperHelper.position.get(powerUp));
         tweenManager.killTarget(ComponentMapperHelper.sprite.get(powerUp));
-        getEngine().removeEntity(powerUp);
+        entityFactory.commands.removeEntity(powerUp);
     }
 
 
@@ -251,7 +314,7 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         entityFactory.playerEntityFactory.createShield(player);
         tweenManager.killTarget(ComponentMapperHelper.position.get(shieldUp));
         tweenManager.killTarget(ComponentMapperHelper.sprite.get(shieldUp));
-        getEngine().removeEntity(shieldUp);
+        entityFactory.commands.removeEntity(shieldUp);
     }
 
     @Override
@@ -260,14 +323,14 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         playerListener.newBombObtained(player);
         tweenManager.killTarget(ComponentMapperHelper.position.get(bombUp));
         tweenManager.killTarget(ComponentMapperHelper.sprite.get(bombUp));
-        getEngine().removeEntity(bombUp);
+        entityFactory.commands.removeEntity(bombUp);
     }
 
 
     @Override
     public void bulletStoppedByShield(Entity bullet) {
         assets.playSound(SOUND_SHIELD_BULLET);
-        getEngine().removeEntity(bullet);
+        entityFactory.commands.removeEntity(bullet);
         tweenManager.killTarget(ComponentMapperHelper.sprite.get(bullet));
     }
 
@@ -276,11 +339,10 @@ public class CollisionListenerImpl extends EntitySystem implements CollisionList
         assets.playSound(SOUND_EXPLOSION);
         PositionComponent enemyPosition = ComponentMapperHelper.position.get(enemy);
         entityFactory.enemyEntityFactory.createEntityExploding(enemyPosition.x(), enemyPosition.y());
-        tweenManager.killTarget(ComponentMapperHelper.position.get(enemy));
         if (ComponentMapperHelper.enemy.get(enemy).squadron != null) {
             ComponentMapperHelper.squadron.get(ComponentMapperHelper.enemy.get(enemy).squadron).removeEntity(enemy);
         }
-        getEngine().removeEntity(enemy);
+        entityFactory.commands.removeEntity(enemy);
     }
 
 }
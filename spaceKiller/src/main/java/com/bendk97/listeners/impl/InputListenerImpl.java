@@ -9,7 +9,6 @@ package com.bendk97.listeners.impl;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.bendk97.assets.GameAssets;
 import com.bendk97.components.PlayerComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
@@ -28,8 +27,10 @@ public class InputListenerImpl extends EntitySystem implements com.bendk97.liste
     private final GameAssets assets;
     private final boolean autoFire;
     private final PlayerListener playerListener;
-    private long lastShoot = 0;
-    private long lastShootSide = 0;
+    // simulated time, so that a replayed session fires as the recorded one
+    private float time = 0f;
+    private float lastShoot = -Float.MAX_VALUE;
+    private float lastShootSide = -Float.MAX_VALUE;
     private float autofireTrigger = 0;
 
     public InputListenerImpl(Entity player, PlayerListener playerListener, EntityFactory entityFactory,
@@ -45,6 +46,7 @@ public class InputListenerImpl extends EntitySystem implements com.bendk97.liste
 
     @Override
     public void update(float deltaTime) {
+        time += deltaTime;
         if (autoFire) {
             if (autofireTrigger > AUTOFIRE_DELAY) {
                 fire();
@@ -59,15 +61,15 @@ public class InputListenerImpl extends EntitySystem implements com.bendk97.liste
     public void fire() {
         if (Families.player.matches(player)) {
             PlayerComponent playerComponent = ComponentMapperHelper.player.get(player);
-            if (TimeUtils.timeSinceMillis(lastShoot) > playerComponent.fireDelay) {
+            if ((time - lastShoot) * 1000f > playerComponent.fireDelay) {
                 assets.playSound(SOUND_FIRE, 0.5f);
                 entityFactory.playerActionsEntityFactory.createPlayerFire(player);
-                lastShoot = TimeUtils.millis();
+                lastShoot = time;
             }
             if (playerComponent.powerLevel.compareTo(PlayerComponent.PowerLevel.TRIPLE_SIDE) >= 0
-                    && TimeUtils.timeSinceMillis(lastShootSide) > ComponentMapperHelper.player.get(player).fireDelaySide) {
+                    && (time - lastShootSide) * 1000f > ComponentMapperHelper.player.get(player).fireDelaySide) {
                 entityFactory.playerActionsEntityFactory.createPlayerFireSide(player);
-                lastShootSide = TimeUtils.millis();
+                lastShootSide = time;
             }
         }
     }
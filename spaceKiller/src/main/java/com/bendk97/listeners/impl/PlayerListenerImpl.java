@@ -20,8 +20,8 @@ import com.bendk97.components.helpers.Families;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.listeners.PlayerListener;
 import com.bendk97.screens.levels.LevelScreen;
-import com.bendk97.screens.levels.utils.ScreenShake;
-import com.bendk97.timer.PausableTimer;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.systems.TimerSystem;
 
 import static com.bendk97.SpaceKillerGameConstants.PLAYER_ORIGIN_X;
 import static com.bendk97.SpaceKillerGameConstants.PLAYER_ORIGIN_Y;
@@ -34,17 +34,18 @@ public final class PlayerListenerImpl extends EntitySystem implements PlayerList
     protected SnapshotArray<Entity> bombs;
     private final GameAssets assets;
     private final LevelScreen screen;
-    private final ScreenShake screenShake;
-
+    private final CameraShakeSystem screenShake;
+    private final TimerSystem.EntityAction gameOverInput;
 
     public PlayerListenerImpl(GameAssets asset, EntityFactory entityFactory, SnapshotArray<Entity> lives,
-                              SnapshotArray<Entity> bombs, ScreenShake screenShake, LevelScreen screen) {
+                              SnapshotArray<Entity> bombs, CameraShakeSystem screenShake, LevelScreen screen) {
         this.entityFactory = entityFactory;
         this.lives = lives;
         this.bombs = bombs;
         this.assets = asset;
         this.screen = screen;
         this.screenShake = screenShake;
+        this.gameOverInput = player -> Gdx.input.setInputProcessor(screen.getGameOverInputProcessor());
     }
 
     @Override
@@ -100,12 +101,7 @@ public final class PlayerListenerImpl extends EntitySystem implements PlayerList
             Settings.addScore(playerComponent.getScoreInt());
             screen.submitScore(playerComponent.getScoreInt());
             screen.pauseScripting();
-            PausableTimer.schedule(new PausableTimer.Task() {
-                @Override
-                public void run() {
-                    Gdx.input.setInputProcessor(screen.getGameOverInputProcessor());
-                }
-            }, 1);
+            entityFactory.timer.schedule(gameOverInput, player, 1f);
         } else {
             assets.playSound(SOUND_LOSE_LIFE);
             if (playerComponent.lives > 0) {
@@ -11,13 +11,13 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 public class BitmapFontHelper {
 
-    public static void drawText(SpriteBatch batcher, BitmapFontCache font, float alpha, String text, float posX, float posY) {
+    public static void drawText(SpriteBatch batcher, BitmapFontCache font, float alpha, CharSequence text, float posX, float posY) {
         font.setText(text, posX, posY);
         font.setAlphas(alpha);
         font.draw(batcher);
     }
 
-    public static void drawText(SpriteBatch batcher, BitmapFontCache font, String text, float posX, float posY) {
+    public static void drawText(SpriteBatch batcher, BitmapFontCache font, CharSequence text, float posX, float posY) {
         drawText(batcher, font, 1f, text, posX, posY);
     }
 }
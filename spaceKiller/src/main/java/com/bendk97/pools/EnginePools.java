@@ -0,0 +1,274 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.pools;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentType;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.signals.Listener;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+import static com.bendk97.SpaceKillerGameConstants.POOL_MAX;
+
+/**
+ * Peaks of the entity and component pools of a {@link PooledEngine}, for its {@link PoolProfile}.
+ * <p>
+ * Only the entities created by the engine are counted: entities of archetypes have their own free lists.
+ * Entities and their components are counted as they are added to and removed from the engine, so that the peaks
+ * include the entities created before the removed ones get back to the pools. Components added to or removed from
+ * the entities of the engine are counted as they change, against the bits of the components counted for each entity.
+ * {@link #sample()} counts everything again, for profiling.
+ */
+public class EnginePools implements EntityListener {
+    private static final String ENTITY = "Entity";
+    private static final String COMPONENT_LIST = "Components";
+    private static final String SEPARATOR = ";";
+
+    private final PooledEngine engine;
+    private int pooledEntities = 0;
+    private int entityPeak = 0;
+    private final ObjectIntMap<Class<? extends Component>> componentPeaks = new ObjectIntMap<>();
+    private final ObjectIntMap<Class<? extends Component>> componentCounts = new ObjectIntMap<>();
+    // created ahead of being added to the engine
+    private final Array<Entity> staged = new Array<>(false, 32, Entity.class);
+    // components counted for each entity of the engine, by index of component type
+    private final IdentityMap<Entity, Bits> counted = new IdentityMap<>(128);
+    private final Pool<Bits> bitsPool = new Pool<Bits>(128) {
+        @Override
+        protected Bits newObject() {
+            return new Bits();
+        }
+    };
+    private final Bits present = new Bits();
+    // component classes by index of component type
+    private final Array<Class<? extends Component>> componentClasses = new Array<>(true, 64);
+    private final Listener<Entity> componentsChanged = (signal, entity) -> countChangedComponents(entity);
+
+    public EnginePools(PooledEngine engine) {
+        this.engine = engine;
+        engine.addEntityListener(this);
+    }
+
+    /**
+     * counts again the entities of the engine, the staged ones, and their components
+     */
+    public void sample() {
+        ImmutableArray<Entity> entities = engine.getEntities();
+        pooledEntities = 0;
+        componentCounts.clear();
+        for (int i = 0; i < entities.size(); ++i) {
+            Entity entity = entities.get(i);
+            if (isPooled(entity)) {
+                countEntity(1);
+                Bits bits = counted.get(entity);
+                if (bits != null) {
+                    bits.clear();
+                    countChangedComponents(entity);
+                } else {
+                    track(entity);
+                }
+            }
+        }
+        for (int i = 0; i < staged.size; ++i) {
+            count(staged.get(i), 1);
+        }
+    }
+
+    // entities of archetypes are plain entities, not pooled ones
+    private static boolean isPooled(Entity entity) {
+        return entity.getClass() != Entity.class;
+    }
+
+    private void count(Entity entity, int increment) {
+        if (!isPooled(entity)) {
+            return;
+        }
+        countEntity(increment);
+        ImmutableArray<Component> components = entity.getComponents();
+        for (int i = 0; i < components.size(); ++i) {
+            countComponent(components.get(i).getClass(), increment);
+        }
+    }
+
+    private void countEntity(int increment) {
+        pooledEntities += increment;
+        entityPeak = Math.max(entityPeak, pooledEntities);
+    }
+
+    private void countComponent(Class<? extends Component> componentClass, int increment) {
+        int count = componentCounts.getAndIncrement(componentClass, 0, increment) + increment;
+        if (count > componentPeaks.get(componentClass, 0)) {
+            componentPeaks.put(componentClass, count);
+        }
+    }
+
+    /**
+     * counts the components of an entity of the engine from now on, as they are added and removed
+     */
+    private void track(Entity entity) {
+        counted.put(entity, bitsPool.obtain());
+        countChangedComponents(entity);
+        entity.componentAdded.add(componentsChanged);
+        entity.componentRemoved.add(componentsChanged);
+    }
+
+    /**
+     * counts the components added to and removed from the entity since its last count
+     */
+    private void countChangedComponents(Entity entity) {
+        Bits bits = counted.get(entity);
+        ImmutableArray<Component> components = entity.getComponents();
+        present.clear();
+        for (int i = 0; i < components.size(); ++i) {
+            Class<? extends Component> componentClass = components.get(i).getClass();
+            int index = ComponentType.getIndexFor(componentClass);
+            present.set(index);
+            if (!bits.get(index)) {
+                bits.set(index);
+                if (index >= componentClasses.size) {
+                    componentClasses.setSize(index + 1);
+                }
+                componentClasses.set(index, componentClass);
+                countComponent(componentClass, 1);
+            }
+        }
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            if (!present.get(index)) {
+                bits.clear(index);
+                countComponent(componentClasses.get(index), -1);
+            }
+        }
+    }
+
+    public void record(PoolProfile profile) {
+        profile.record(ENTITY, entityPeak);
+        StringBuilder components = new StringBuilder();
+        for (ObjectIntMap.Entry<Class<? extends Component>> peak : componentPeaks.entries()) {
+            profile.record(peak.key.getName(), peak.value);
+            components.append(peak.key.getName()).append(SEPARATOR);
+        }
+        profile.recordNames(COMPONENT_LIST, components.toString());
+    }
+
+    /**
+     * fills the pools of the engine up to the peaks of the profile, before any entity listener is registered
+     */
+    public void prewarm(PoolProfile profile) {
+        Array<Entity> entities = new Array<>(false, 16, Entity.class);
+        int nbEntities = Math.min(profile.getPeak(ENTITY), POOL_MAX);
+        for (int i = 0; i < nbEntities; ++i) {
+            entities.add(engine.createEntity());
+        }
+        for (String name : profile.getNames(COMPONENT_LIST).split(SEPARATOR)) {
+            Class<? extends Component> componentClass = componentClass(name);
+            if (componentClass == null) {
+                continue;
+            }
+            int nbComponents = Math.min(profile.getPeak(name), POOL_MAX);
+            for (int i = 0; i < nbComponents; ++i) {
+                if (i == entities.size) {
+                    entities.add(engine.createEntity());
+                }
+                entities.get(i).add(engine.createComponent(componentClass));
+            }
+        }
+        // entities and their components get back to the pools of the engine once removed
+        for (Entity entity : entities) {
+            engine.addEntity(entity);
+        }
+        for (Entity entity : entities) {
+            engine.removeEntity(entity);
+        }
+        // prewarmed entities are not part of the game
+        pooledEntities = 0;
+        entityPeak = 0;
+        componentCounts.clear();
+        componentPeaks.clear();
+    }
+
+    /**
+     * counts entities created ahead of being added to the engine (see SpawnScheduler), as if they were added
+     */
+    public void stage(Array<Entity> entities) {
+        for (int i = 0; i < entities.size; ++i) {
+            staged.add(entities.get(i));
+            count(entities.get(i), 1);
+        }
+    }
+
+    /**
+     * forgets staged entities, just before they are added to the engine (or dropped)
+     */
+    public void unstage(Array<Entity> entities) {
+        for (int i = 0; i < entities.size; ++i) {
+            if (staged.removeValue(entities.get(i), true)) {
+                count(entities.get(i), -1);
+            }
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        if (isPooled(entity)) {
+            countEntity(1);
+            track(entity);
+        }
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        Bits bits = counted.remove(entity);
+        if (bits == null) {
+            return;
+        }
+        untrack(entity);
+        countEntity(-1);
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            countComponent(componentClasses.get(index), -1);
+        }
+        bits.clear();
+        bitsPool.free(bits);
+    }
+
+    private void untrack(Entity entity) {
+        entity.componentAdded.remove(componentsChanged);
+        entity.componentRemoved.remove(componentsChanged);
+    }
+
+    public void dispose() {
+        engine.removeEntityListener(this);
+        for (IdentityMap.Entry<Entity, Bits> entry : counted.entries()) {
+            untrack(entry.key);
+            entry.value.clear();
+            bitsPool.free(entry.value);
+        }
+        counted.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Component> componentClass(String name) {
+        if (name.isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> klass = ClassReflection.forName(name);
+            return ClassReflection.isAssignableFrom(Component.class, klass) ? (Class<? extends Component>) klass : null;
+        } catch (ReflectionException e) {
+            // component renamed since the profile was recorded
+            return null;
+        }
+    }
+}
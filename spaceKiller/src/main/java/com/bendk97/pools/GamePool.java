@@ -6,6 +6,7 @@
 
 package com.bendk97.pools;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pools;
 import com.badlogic.gdx.utils.StringBuilder;
@@ -21,6 +22,8 @@ public abstract class GamePool<T> {
     private final Pool<T> pool;
     private final Class<T> klass;
     private int alive = 0;
+    private int peak = 0;
+    private int highWaterMark = 0;
 
     public GamePool(Class<T> klass, int max) {
         this.pool = Pools.get(klass, max);
@@ -29,6 +32,8 @@ public abstract class GamePool<T> {
 
     public T obtain() {
         alive++;
+        peak = Math.max(peak, alive);
+        highWaterMark = Math.max(highWaterMark, alive);
         return pool.obtain();
     }
 
@@ -41,9 +46,92 @@ public abstract class GamePool<T> {
     public void clear() {
         pool.clear();
         alive = 0;
+        peak = 0;
+        highWaterMark = 0;
         pool.peak = 0;
     }
 
+    /**
+     * fills the pool so that the next {@code count} objects are obtained without allocation
+     */
+    public void prewarm(int count) {
+        int missing = Math.min(count, pool.max) - pool.getFree();
+        if (missing <= 0) {
+            return;
+        }
+        Array<T> objects = new Array<>(false, missing);
+        for (int i = 0; i < missing; ++i) {
+            objects.add(pool.obtain());
+        }
+        pool.freeAll(objects);
+    }
+
+    /**
+     * lets the free objects beyond the budget be garbage collected and forgets the objects still in use
+     */
+    public void trim(int budget) {
+        while (pool.getFree() > budget) {
+            pool.obtain();
+        }
+        releaseFreeObjects();
+        alive = 0;
+        peak = 0;
+        highWaterMark = 0;
+        pool.peak = pool.getFree();
+    }
+
+    private void releaseFreeObjects() {
+        Array<T> objects = new Array<>(false, pool.getFree());
+        while (pool.getFree() > 0) {
+            objects.add(pool.obtain());
+        }
+        for (T object : objects) {
+            release(object);
+        }
+        pool.freeAll(objects);
+    }
+
+    /**
+     * drops what a free object kept by {@link #trim(int)} still refers to, like the assets of the screen left
+     */
+    protected void release(T pooledObject) {
+    }
+
+    public String getName() {
+        return klass.getSimpleName();
+    }
+
+    public int getAlive() {
+        return alive;
+    }
+
+    /**
+     * @return most objects in use at the same time since the last {@link #resetPeak()}
+     */
+    public int getPeak() {
+        return peak;
+    }
+
+    public void resetPeak() {
+        peak = alive;
+    }
+
+    /**
+     * @return most objects in use at the same time since the last {@link #resetHighWaterMark()},
+     * whatever the resets of the peak
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public void resetHighWaterMark() {
+        highWaterMark = alive;
+    }
+
+    public int getFree() {
+        return pool.getFree();
+    }
+
     public abstract void reset(T pooledObject);
 
     public String getPoolStats() {
@@ -7,6 +7,7 @@
 package com.bendk97.pools;
 
 import com.badlogic.gdx.utils.StringBuilder;
+import com.bendk97.entities.paths.PathCache;
 
 public class GamePools {
     private static final int SPRITE_MAX = 10000;
@@ -15,6 +16,13 @@ public class GamePools {
     private static final int VECTOR2_MAX = 10000;
     private static final int VECTOR3_MAX = 10000;
     private static final int COLOR_MAX = 1000;
+    private static final int TASK_MAX = 1000;
+    // free objects kept from one screen to the next
+    private static final int SPRITE_BUDGET = 256;
+    private static final int SHAPE_BUDGET = 10;
+    private static final int VECTOR_BUDGET = 256;
+    private static final int COLOR_BUDGET = 64;
+    private static final int TASK_BUDGET = 64;
 
     public static PoolCircle poolCircle = new PoolCircle(CIRCLE_MAX);
     public static PoolVector2 poolVector2 = new PoolVector2(VECTOR2_MAX);
@@ -22,8 +30,13 @@ public class GamePools {
     public static PoolRectangle poolRectangle = new PoolRectangle(RECTANGLE_MAX);
     public static PoolSprite poolSprite = new PoolSprite(SPRITE_MAX);
     public static PoolColor poolColor = new PoolColor(COLOR_MAX);
+    public static PoolTask poolTask = new PoolTask(TASK_MAX);
+    // not a pool: paths baked once for the whole session
+    public static final PathCache pathCache = new PathCache();
 
     private static StringBuilder sb = new StringBuilder();
+    private static final GamePool<?>[] pools = {poolSprite, poolCircle, poolRectangle, poolVector2, poolVector3,
+            poolColor, poolTask};
 
     public static String getPoolStats() {
         sb.setLength(0);
@@ -33,6 +46,7 @@ public class GamePools {
         sb.append(poolSprite.getPoolStats());
         sb.append(poolVector3.getPoolStats());
         sb.append(poolColor.getPoolStats());
+        sb.append(poolTask.getPoolStats());
         return sb.toString();
     }
 
@@ -43,5 +57,35 @@ public class GamePools {
         poolVector2.clear();
         poolVector3.clear();
         poolColor.clear();
+        poolTask.clear();
+    }
+
+    /**
+     * fills the pools up to the peaks of the profile, and starts measuring new peaks
+     */
+    public static void prewarmPools(PoolProfile profile) {
+        for (GamePool<?> pool : pools) {
+            pool.prewarm(profile.getPeak(pool.getName()));
+            pool.resetHighWaterMark();
+        }
+    }
+
+    public static void recordPools(PoolProfile profile) {
+        for (GamePool<?> pool : pools) {
+            profile.record(pool.getName(), pool.getHighWaterMark());
+        }
+    }
+
+    /**
+     * releases the free objects beyond the budget of each pool
+     */
+    public static void trimPools() {
+        poolSprite.trim(SPRITE_BUDGET);
+        poolCircle.trim(SHAPE_BUDGET);
+        poolRectangle.trim(SHAPE_BUDGET);
+        poolVector2.trim(VECTOR_BUDGET);
+        poolVector3.trim(VECTOR_BUDGET);
+        poolColor.trim(COLOR_BUDGET);
+        poolTask.trim(TASK_BUDGET);
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.pools;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Peaks of the pools recorded while playing a level, kept locally from one game to the other.
+ * <p>
+ * A recorded peak decreases by a quarter each time the level is played with fewer objects,
+ * so that a single crowded game does not keep the pools oversized for good.
+ * Without storage, the peaks are only kept by the profile itself.
+ */
+public class PoolProfile {
+    private static final String SEPARATOR = ".";
+
+    private final Preferences preferences;
+    private final String name;
+    private final ObjectIntMap<String> peaks = new ObjectIntMap<>();
+    private final ObjectMap<String, String> names = new ObjectMap<>();
+
+    /**
+     * @param preferences storage of the peaks recorded by the previous games, may be null
+     */
+    public PoolProfile(Preferences preferences, String name) {
+        this.preferences = preferences;
+        this.name = name;
+    }
+
+    /**
+     * @return recorded peak of the pool, 0 if unknown
+     */
+    public int getPeak(String pool) {
+        return peaks.get(pool, preferences != null ? preferences.getInteger(key(pool), 0) : 0);
+    }
+
+    public void record(String pool, int peak) {
+        int previous = getPeak(pool);
+        peaks.put(pool, Math.max(peak, previous - previous / 4));
+    }
+
+    /**
+     * @return names recorded under the key (pools created on demand), empty if unknown
+     */
+    public String getNames(String key) {
+        return names.get(key, preferences != null ? preferences.getString(key(key), "") : "");
+    }
+
+    public void recordNames(String key, String value) {
+        names.put(key, value);
+    }
+
+    public void save() {
+        if (preferences == null) {
+            return;
+        }
+        for (ObjectIntMap.Entry<String> entry : peaks.entries()) {
+            preferences.putInteger(key(entry.key), entry.value);
+        }
+        for (ObjectMap.Entry<String, String> entry : names.entries()) {
+            preferences.putString(key(entry.key), entry.value);
+        }
+        preferences.flush();
+    }
+
+    private String key(String pool) {
+        return name + SEPARATOR + pool;
+    }
+}
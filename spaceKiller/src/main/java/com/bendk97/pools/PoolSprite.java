@@ -9,7 +9,6 @@ package com.bendk97.pools;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.Array;
 
 public class PoolSprite extends GamePool<Sprite> {
 
@@ -24,6 +23,12 @@ public class PoolSprite extends GamePool<Sprite> {
         sprite.setColor(1, 1, 1, 1);
     }
 
+    @Override
+    protected void release(Sprite sprite) {
+        // texture disposed along with the screen
+        sprite.setTexture(null);
+    }
+
     public Sprite getSprite(Texture texture) {
         Sprite sprite = obtain();
         sprite.setTexture(texture);
@@ -43,14 +48,6 @@ public class PoolSprite extends GamePool<Sprite> {
         return sprite;
     }
 
-    public Array<Sprite> getSprites(Array<TextureAtlas.AtlasRegion> atlasRegions) {
-        Array<Sprite> sprites = new Array<>(true, atlasRegions.size, Sprite.class);
-        for(TextureAtlas.AtlasRegion region : atlasRegions){
-            sprites.add(getSprite(region));
-        }
-        return sprites;
-    }
-
     private static void setSpriteChars(Sprite sprite, int width, int height, float originX, float originY) {
         sprite.setSize(width, height);
         sprite.setOrigin(originX, originY);
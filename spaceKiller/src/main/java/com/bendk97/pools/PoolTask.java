@@ -0,0 +1,21 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.pools;
+
+import com.bendk97.systems.TimerSystem.PooledTask;
+
+public class PoolTask extends GamePool<PooledTask> {
+
+    protected PoolTask(int max) {
+        super(PooledTask.class, max);
+    }
+
+    @Override
+    public void reset(PooledTask task) {
+        task.reset();
+    }
+}
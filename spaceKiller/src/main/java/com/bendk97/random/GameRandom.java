@@ -0,0 +1,52 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.random;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Random;
+
+/**
+ * Single random generator of the game, seeded at the beginning of each level so that a session can be played again.
+ * It must only be used from the thread of the simulation.
+ */
+public final class GameRandom {
+
+    private static final RandomXS128 random = new RandomXS128();
+    private static long seed = 0L;
+    private static boolean nextSeedGiven = false;
+    private static long nextSeed = 0L;
+
+    private GameRandom() {
+    }
+
+    public static Random get() {
+        return random;
+    }
+
+    /**
+     * seeds the generator for a new level, with the seed given to {@link #seedNextLevel(long)} if any
+     *
+     * @return the seed
+     */
+    public static long startLevel() {
+        seed = nextSeedGiven ? nextSeed : MathUtils.random.nextLong();
+        nextSeedGiven = false;
+        random.setSeed(seed);
+        return seed;
+    }
+
+    public static void seedNextLevel(long seed) {
+        nextSeed = seed;
+        nextSeedGiven = true;
+    }
+
+    public static long getSeed() {
+        return seed;
+    }
+}
@@ -31,22 +31,25 @@ import static com.bendk97.screens.levels.Level.SoundEffect.GO;
 import static com.google.common.collect.ImmutableMap.of;
 
 public enum Level {
-    Level1(GFX_LEVEL1, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_1, BOSS, MUSIC_LEVEL_1_BOSS), 0.3f),
-    Level2(GFX_LEVEL2, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_2, BOSS, MUSIC_LEVEL_2_BOSS), 0.3f),
-    Level3(GFX_LEVEL3, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_3, BOSS, MUSIC_LEVEL_3_BOSS), 0.6f);
+    Level1(GFX_LEVEL1, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_1, BOSS, MUSIC_LEVEL_1_BOSS), 0.3f, "levels/level1.timeline"),
+    Level2(GFX_LEVEL2, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_2, BOSS, MUSIC_LEVEL_2_BOSS), 0.3f, "levels/level2.timeline"),
+    Level3(GFX_LEVEL3, of(GO, SOUND_GO, BOSS_ALERT, SOUND_BOSS_ALERT), of(LEVEL, MUSIC_LEVEL_3, BOSS, MUSIC_LEVEL_3_BOSS), 0.6f, "levels/level3.timeline");
     public final AssetDescriptor<TextureAtlas> sprites;
     public final Map<SoundEffect, AssetDescriptor<Sound>> sounds;
     public final Map<MusicTrack, AssetDescriptor<Music>> musics;
     public final float volume;
+    // classpath binary timeline, compiled from its JSON source
+    public final String timeline;
 
     Level(AssetDescriptor<TextureAtlas> sprites,
           Map<SoundEffect, AssetDescriptor<Sound>> sounds,
           Map<MusicTrack, AssetDescriptor<Music>> musics,
-          float volume) {
+          float volume, String timeline) {
         this.sprites = sprites;
         this.sounds = sounds;
         this.musics = musics;
         this.volume = volume;
+        this.timeline = timeline;
     }
 
     public enum SoundEffect {
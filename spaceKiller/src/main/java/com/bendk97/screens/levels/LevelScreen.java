@@ -14,14 +14,16 @@ import box2dLight.ConeLight;
 import box2dLight.RayHandler;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -32,6 +34,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.SnapshotArray;
 import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.bendk97.Settings;
@@ -46,25 +49,36 @@ import com.bendk97.inputs.GestureHandler;
 import com.bendk97.inputs.PauseInputProcessor;
 import com.bendk97.inputs.pad.RetroPadController;
 import com.bendk97.inputs.pad.VirtualPadController;
+import com.bendk97.inputs.record.InputRecorder;
+import com.bendk97.inputs.record.InputRecording;
+import com.bendk97.inputs.record.InputReplayer;
+import com.bendk97.listeners.InputListener;
 import com.bendk97.listeners.PlayerListener;
 import com.bendk97.listeners.impl.CollisionListenerImpl;
 import com.bendk97.listeners.impl.InputListenerImpl;
 import com.bendk97.listeners.impl.PlayerListenerImpl;
 import com.bendk97.player.PlayerData;
+import com.bendk97.pools.EnginePools;
 import com.bendk97.pools.GamePools;
+import com.bendk97.pools.PoolProfile;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.scripting.LevelScript;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.screens.levels.utils.FrameProfiler;
+import com.bendk97.screens.levels.utils.PositionHistory;
 import com.bendk97.screens.menu.MenuScreen;
 import com.bendk97.systems.*;
 import com.bendk97.systems.collision.CollisionSystem;
+import com.bendk97.systems.scheduler.SystemScheduler;
 import com.bendk97.systems.screen.GameOverRenderingSystem;
 import com.bendk97.systems.screen.PauseRenderingSystem;
-import com.bendk97.timer.PausableTimer;
 import com.bendk97.tweens.*;
 import com.bitfire.postprocessing.PostProcessor;
 import com.bitfire.postprocessing.effects.MotionBlur;
 import com.bitfire.utils.ShaderLoader;
 
+import java.io.IOException;
+
 import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.components.helpers.ComponentMapperHelper.*;
 import static com.bendk97.google.Achievement.*;
@@ -87,7 +101,7 @@ public abstract class LevelScreen extends ScreenAdapter {
     private SpriteBatch batcherHUD;
     protected final PooledEngine engine;
     private final EntityFactory entityFactory;
-    private final TweenManager tweenManager;
+    private final IndexedTweenManager tweenManager;
     private final GameAssets assets;
     private final SpaceKillerGame game;
     private final Entity player;
@@ -98,6 +112,16 @@ public abstract class LevelScreen extends ScreenAdapter {
 
     private PlayerListenerImpl playerListener;
     private State state = State.RUNNING;
+    private final FixedTimestep timestep = new FixedTimestep();
+    private final FrameProfiler profiler = new FrameProfiler(DEBUG);
+    private SystemScheduler scheduler;
+    private InputListenerImpl inputListener;
+    private InputRecorder inputRecorder;
+    private InputReplayer inputReplayer;
+    private int tick = 0;
+    private final PoolProfile poolProfile;
+    private final EnginePools enginePools;
+    private final PositionHistory positionHistory;
 
 
     public enum State {
@@ -116,8 +140,10 @@ public abstract class LevelScreen extends ScreenAdapter {
             this.batcherHUD = defaultBatcher;
             this.batcher = defaultBatcher;
         }
-        PausableTimer.instance().stop();
-        PausableTimer.instance().start();
+        long seed = GameRandom.startLevel();
+        if (DEBUG) {
+            Gdx.app.log("Level", "random seed: " + seed);
+        }
         this.game = game;
         this.fxLightEnabled = Settings.isLightFXEnabled();
         camera = new OrthographicCamera();
@@ -127,26 +153,46 @@ public abstract class LevelScreen extends ScreenAdapter {
         viewportHUD = new StretchViewport(SCREEN_WIDTH, SCREEN_HEIGHT, cameraHUD);
         cameraHUD.setToOrtho(false, SCREEN_WIDTH, SCREEN_HEIGHT);
         this.assets = assets;
-        this.tweenManager = new TweenManager();
-        ScreenShake screenShake = new ScreenShake(tweenManager, camera);
+        this.tweenManager = new IndexedTweenManager();
+        CameraShakeSystem screenShake = new CameraShakeSystem(3, camera);
+        // pools filled up to the peaks of the previous games, so that the first waves do not allocate
+        poolProfile = new PoolProfile(game.getPoolProfiles(), poolProfileName());
+        GamePools.prewarmPools(poolProfile);
         engine = new PooledEngine(POOL_INIT, POOL_MAX, POOL_INIT, POOL_MAX);
+        enginePools = new EnginePools(engine);
+        enginePools.prewarm(poolProfile);
+        positionHistory = new PositionHistory(engine);
         engineListeners();
         if (fxLightEnabled) {
             initRayLightEffects(camera);
         }
         entityFactory = new EntityFactory(game, engine, assets, tweenManager, rayHandler, screenShake, level());
+        entityFactory.commands.setDeferred(true);
+        entityFactory.archetypes.prewarm(poolProfile);
         player = entityFactory.playerEntityFactory.createEntityPlayer(level());
         SnapshotArray<Entity> lives = entityFactory.playerEntityFactory.createEntityPlayerLives(player);
         SnapshotArray<Entity> bombs = entityFactory.playerEntityFactory.createEntityPlayerBombs(player);
         createSystems(player, lives, bombs, batcher, screenShake);
         registerTweensAccessor();
         registerPostProcessingEffects();
-        this.levelScript = getLevelScript(level(), this, assets, entityFactory, tweenManager, player, engine);
+        this.levelScript = createLevelScript(assets, entityFactory, tweenManager, player, engine);
         time = -5;
     }
 
     protected abstract Level level();
 
+    protected LevelScript createLevelScript(GameAssets assets, EntityFactory entityFactory, TweenManager tweenManager,
+                                            Entity player, PooledEngine engine) {
+        return getLevelScript(level(), this, assets, entityFactory, tweenManager, player, engine);
+    }
+
+    /**
+     * @return name of the profile of the pools, one per level
+     */
+    protected String poolProfileName() {
+        return level().name();
+    }
+
     private void engineListeners() {
         engine.addEntityListener(new EntityListener() {
             static final String ENTITIES_ADDED = "entity added";
@@ -170,18 +216,10 @@ public abstract class LevelScreen extends ScreenAdapter {
                     Gdx.app.log(ENTITY_REMOVED,
                             sb.append(ENTITIES).append(engine.getEntities().size()).toString());
                 }
-                AnimationComponent animationComponent = ComponentMapperHelper.animation.get(entity);
-                if (animationComponent != null) {
-                    for (Animation<Sprite> animation : animationComponent.animations.values()) {
-                        for (int i = 0; i < animation.getKeyFrames().length; ++i) {
-                            poolSprite.free(animation.getKeyFrames()[i]);
-                        }
-                    }
-                } else {
-                    SpriteComponent spriteComponent = sprite.get(entity);
-                    if (spriteComponent != null) {
-                        poolSprite.free(spriteComponent.sprite);
-                    }
+                // animation frames are shared: only the own sprite of the entity goes back to the pool
+                SpriteComponent spriteComponent = sprite.get(entity);
+                if (spriteComponent != null) {
+                    poolSprite.free(spriteComponent.sprite);
                 }
             }
         });
@@ -264,6 +302,54 @@ public abstract class LevelScreen extends ScreenAdapter {
         return time;
     }
 
+    public EntityFactory getEntityFactory() {
+        return entityFactory;
+    }
+
+    /**
+     * replaces the inputs of the player by a recorded session, the level having been started with its seed
+     *
+     * @see GameRandom#seedNextLevel(long)
+     */
+    public void replay(InputRecording recording) {
+        inputReplayer = new InputReplayer(recording);
+    }
+
+    public void saveInputRecording() {
+        if (inputRecorder == null) {
+            return;
+        }
+        FileHandle file = Gdx.files.local("inputs-" + TimeUtils.millis() + ".bin");
+        try {
+            inputRecorder.getRecording().write(file);
+            Gdx.app.log("Inputs", "recording written to " + file.path());
+        } catch (IOException e) {
+            Gdx.app.log("Inputs", "error: " + e.getMessage(), e);
+        }
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public IndexedTweenManager getTweenManager() {
+        return tweenManager;
+    }
+
+    public EnginePools getEnginePools() {
+        return enginePools;
+    }
+
+    public void dumpTrace() {
+        FileHandle file = Gdx.files.local("trace-" + TimeUtils.millis() + ".json");
+        try {
+            profiler.dumpTrace(file);
+            Gdx.app.log("Profiler", "trace written to " + file.path());
+        } catch (IOException e) {
+            Gdx.app.log("Profiler", "error: " + e.getMessage(), e);
+        }
+    }
+
 
     private void registerPostProcessingEffects() {
         if (Gdx.app.getType() == Application.ApplicationType.HeadlessDesktop) {
@@ -290,23 +376,37 @@ public abstract class LevelScreen extends ScreenAdapter {
     }
 
     protected void createSystems(Entity player, SnapshotArray<Entity> lives, SnapshotArray<Entity> bombs, SpriteBatch batcher,
-                                 ScreenShake screenShake) {
+                                 CameraShakeSystem screenShake) {
         playerListener = new PlayerListenerImpl(assets, entityFactory, lives, bombs, screenShake, this);
+        // scheduled tasks run first, on the time of the simulation: nothing to do to pause them
+        engine.addSystem(entityFactory.timer);
         engine.addSystem(playerListener);
         engine.addSystem(createInputHandlerSystem(player, playerListener));
         CollisionListenerImpl collisionListener = new CollisionListenerImpl(tweenManager, screenShake, assets, entityFactory, playerListener, this);
         engine.addSystem(collisionListener);
-        engine.addSystem(new AnimationSystem(0));
-        engine.addSystem(new BombExplosionSystem(0, collisionListener, player, tweenManager));
-        engine.addSystem(new StateSystem(1));
-        engine.addSystem(new MovementPlayerSystem(2, camera));
-        engine.addSystem(new MovementSystem(2));
-        engine.addSystem(new ShieldSystem(3, player));
-        // RENDERING
+        engine.addSystem(new AnimationSystem(0, entityFactory.commands));
+        engine.addSystem(new BombExplosionSystem(0, collisionListener, player, tweenManager, entityFactory.commands));
+        // paths are followed before the scheduled systems, so that directionable enemies face their move
+        engine.addSystem(new PathFollowSystem(1, entityFactory));
+        // systems declaring their accesses run in parallel, see SystemScheduler. They all run in this slot:
+        // tanks arm before the enemies attack as before, but entities out of the screen or out of time now leave
+        // before the collisions and squadrons of the step instead of after them
+        scheduler = new SystemScheduler(2);
+        engine.addSystem(scheduler);
+        scheduler.setProfiler(profiler);
+        schedule(new StateSystem(1));
+        schedule(new MovementPlayerSystem(2, camera));
+        schedule(new MovementSystem(2));
+        schedule(new ShieldSystem(3, player));
+        schedule(new DirectionableSpriteSystem(5));
+        schedule(new TankAttackSystem(13));
+        schedule(new RemovableSystem(16, tweenManager, entityFactory.commands));
+        // after the camera follows the player
+        engine.addSystem(screenShake);
+        // RENDERING (once per frame, see RenderingSystem)
         engine.addSystem(new BatcherBeginSystem(viewport, batcher, 4));
         engine.addSystem(new BackgroundRenderingSystem(batcher, 5));
-        engine.addSystem(new DirectionableSpriteSystem(5));
-        engine.addSystem(new DynamicEntitiesRenderingSystem(batcher, 6));
+        engine.addSystem(new DynamicEntitiesRenderingSystem(batcher, timestep, 6));
         engine.addSystem(new ScoreSquadronSystem(6, assets, batcher));
         engine.addSystem(new BatcherEndSystem(batcher, 7));
         engine.addSystem(new BatcherHUDBeginSystem(viewportHUD, batcherHUD, 8));
@@ -321,21 +421,29 @@ public abstract class LevelScreen extends ScreenAdapter {
         }
         engine.addSystem(new BatcherHUDEndSystem(batcherHUD, 12));
         // END RENDERING
-        engine.addSystem(new CollisionSystem(collisionListener, viewport, batcher, 13));
-        engine.addSystem(new TankAttackSystem(13));
+        engine.addSystem(new CollisionSystem(collisionListener, 13));
         engine.addSystem(new EnemyAttackSystem(14, entityFactory));
         engine.addSystem(new BossAttackSystem(14, entityFactory));
         engine.addSystem(new SquadronSystem(level(), 15, entityFactory, player, playerListener));
-        engine.addSystem(new RemovableSystem(16, tweenManager));
     }
 
 
+    public void schedule(EntitySystem system) {
+        engine.addSystem(system);
+        scheduler.schedule(system);
+    }
+
     private InputListenerImpl createInputHandlerSystem(Entity player, PlayerListener playerListener) {
         // input
         inputProcessor = new InputMultiplexer();
         inputProcessor.addProcessor(new GestureDetector(new GestureHandler(this, cameraHUD)));
 
-        InputListenerImpl inputListener = new InputListenerImpl(player, playerListener, entityFactory, assets, Settings.isVirtualPad());
+        inputListener = new InputListenerImpl(player, playerListener, entityFactory, assets, Settings.isVirtualPad());
+        InputListener padListener = inputListener;
+        if (DEBUG) {
+            inputRecorder = new InputRecorder(inputListener, new InputRecording(GameRandom.getSeed()));
+            padListener = inputRecorder;
+        }
         Entity bombButton = entityFactory.playerEntityFactory.createEntityBombButton(0.2f, BOMB_X, BOMB_Y);
         if (!Settings.isVirtualPad()) {
             Entity fireButton = entityFactory.playerEntityFactory.createEntityFireButton(0.2f, FIRE_X, FIRE_Y);
@@ -354,13 +462,13 @@ public abstract class LevelScreen extends ScreenAdapter {
             squareTouchesDirection[6] = new Rectangle(PAD_X + widthTouch, PAD_Y, widthTouch, heightTouch);
             squareTouchesDirection[7] = new Rectangle(PAD_X + 2 * widthTouch, PAD_Y, widthTouch, heightTouch);
 
-            inputProcessor.addProcessor(new RetroPadController(this, inputListener, cameraHUD, squareTouchesDirection,
+            inputProcessor.addProcessor(new RetroPadController(this, padListener, cameraHUD, squareTouchesDirection,
                     sprite.get(fireButton).getBounds(),
                     sprite.get(bombButton).getBounds()));
 
         } else {
             sprite.get(bombButton).sprite.setY(BOMB_Y_VIRTUAL);
-            inputProcessor.addProcessor(new VirtualPadController(this, inputListener, cameraHUD, player,
+            inputProcessor.addProcessor(new VirtualPadController(this, padListener, cameraHUD, player,
                     sprite.get(bombButton).getBounds()));
 
         }
@@ -371,15 +479,66 @@ public abstract class LevelScreen extends ScreenAdapter {
     @Override
     public void render(float delta) {
         float deltaState = state.equals(State.PAUSED) ? 0f : delta;
-        updateScriptLevel(deltaState);
-        tweenManager.update(deltaState);
+        int steps = timestep.advance(deltaState);
+        for (int i = 0; i < steps; ++i) {
+            stepSimulation(timestep.step());
+        }
         Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        postProcessor.capture();
-        engine.update(deltaState);
-        postProcessor.render();
+        long start = profiler.begin();
+        if (postProcessor != null) {
+            postProcessor.capture();
+        }
+        profiler.end(FrameProfiler.POST_PROCESSOR_CAPTURE, start);
+        processSystems(true);
+        profiler.updateEngine(engine, deltaState);
+        start = profiler.begin();
+        if (postProcessor != null) {
+            postProcessor.render();
+        }
+        profiler.end(FrameProfiler.POST_PROCESSOR_RENDER, start);
         if (fxLightEnabled) {
+            start = profiler.begin();
             rayHandler.updateAndRender();
+            profiler.end(FrameProfiler.RAY_HANDLER, start);
+        }
+        if (deltaState > 0f) {
+            levelScript.frameRendered(deltaState);
+        }
+    }
+
+    /**
+     * advances the game of one fixed step, without drawing anything
+     */
+    public void stepSimulation(float step) {
+        if (inputReplayer != null) {
+            inputReplayer.replay(tick, inputListener);
+        }
+        positionHistory.startStep();
+        long start = profiler.begin();
+        updateScriptLevel(step);
+        profiler.end(FrameProfiler.UPDATE_SCRIPT_LEVEL, start);
+        start = profiler.begin();
+        tweenManager.update(step);
+        profiler.end(FrameProfiler.TWEEN_MANAGER, start);
+        // sync point: changes requested by the script and tweens
+        entityFactory.commands.playback();
+        processSystems(false);
+        // the engine delays the changes requested by its systems until the end of each of them
+        entityFactory.commands.setDeferred(false);
+        profiler.updateEngine(engine, step);
+        entityFactory.commands.setDeferred(true);
+        tick++;
+        if (inputRecorder != null) {
+            inputRecorder.setTick(tick);
+        }
+    }
+
+    private void processSystems(boolean rendering) {
+        ImmutableArray<EntitySystem> systems = engine.getSystems();
+        for (int i = 0; i < systems.size(); ++i) {
+            EntitySystem system = systems.get(i);
+            system.setProcessing(system instanceof RenderingSystem == rendering && !scheduler.isScheduled(system));
         }
     }
 
@@ -403,10 +562,12 @@ public abstract class LevelScreen extends ScreenAdapter {
         }
         int timeBefore = (int) Math.floor(time);
         time += delta;
+        levelScript.prefetch(time);
         int newTime = (int) Math.floor(time);
         if (newTime > timeBefore) {
             levelScript.script(newTime);
         }
+        levelScript.stage(time);
     }
 
     @Override
@@ -424,7 +585,6 @@ public abstract class LevelScreen extends ScreenAdapter {
             if (music != null) {
                 music.pause();
             }
-            PausableTimer.pause();
             player.add(engine.createComponent(PauseComponent.class));
         }
     }
@@ -435,9 +595,10 @@ public abstract class LevelScreen extends ScreenAdapter {
         if (music != null) {
             music.play();
         }
-        PausableTimer.resume();
         player.remove(PauseComponent.class);
-        postProcessor.rebind();
+        if (postProcessor != null) {
+            postProcessor.rebind();
+        }
     }
 
     public void pauseScripting() {
@@ -454,7 +615,14 @@ public abstract class LevelScreen extends ScreenAdapter {
 
     @Override
     public void dispose() {
-        PausableTimer.instance().stop();
+        // staged spawns given back to the pools before they are recorded
+        levelScript.dispose();
+        enginePools.record(poolProfile);
+        enginePools.dispose();
+        positionHistory.dispose();
+        entityFactory.archetypes.record(poolProfile);
+        GamePools.recordPools(poolProfile);
+        poolProfile.save();
         batcher.dispose();
         batcherHUD.dispose();
         entityFactory.dispose();
@@ -465,8 +633,10 @@ public abstract class LevelScreen extends ScreenAdapter {
         engine.removeAllEntities();
         engine.clearPools();
         removeSystemsEngine();
-        GamePools.clearPools();
-        postProcessor.dispose();
+        GamePools.trimPools();
+        if (postProcessor != null) {
+            postProcessor.dispose();
+        }
         tweenManager.killAll();
         tweenManager.update(0);
         Texture.clearAllTextures(Gdx.app);
@@ -474,15 +644,21 @@ public abstract class LevelScreen extends ScreenAdapter {
     }
 
     private void removeSystemsEngine() {
+        // tasks scheduled while the entities were removed hold them until given back to the pool
+        entityFactory.timer.clear();
+        engine.removeSystem(entityFactory.timer);
         engine.removeSystem(engine.getSystem(PlayerListenerImpl.class));
         engine.removeSystem(engine.getSystem(InputListenerImpl.class));
         engine.removeSystem(engine.getSystem(CollisionListenerImpl.class));
         engine.removeSystem(engine.getSystem(AnimationSystem.class));
         engine.removeSystem(engine.getSystem(BombExplosionSystem.class));
+        engine.removeSystem(engine.getSystem(PathFollowSystem.class));
         engine.removeSystem(engine.getSystem(StateSystem.class));
         engine.removeSystem(engine.getSystem(MovementPlayerSystem.class));
         engine.removeSystem(engine.getSystem(MovementSystem.class));
         engine.removeSystem(engine.getSystem(ShieldSystem.class));
+        engine.removeSystem(engine.getSystem(SystemScheduler.class));
+        engine.removeSystem(engine.getSystem(CameraShakeSystem.class));
         // RENDERING
         engine.removeSystem(engine.getSystem(BatcherBeginSystem.class));
         engine.removeSystem(engine.getSystem(BackgroundRenderingSystem.class));
@@ -0,0 +1,61 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels;
+
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.bendk97.SpaceKillerGame;
+import com.bendk97.assets.GameAssets;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.screens.levels.scripting.LevelScript;
+import com.bendk97.screens.levels.scripting.StressLevelScript;
+import com.bendk97.screens.levels.utils.StressRamp;
+
+import static com.bendk97.screens.levels.Level.Level3;
+
+/**
+ * Level 3 played with the {@link StressLevelScript}, from the menu in debug mode or headless
+ */
+public final class StressLevelScreen extends LevelScreen {
+
+    private static final String POOL_PROFILE = "Stress";
+
+    // set while the level screen is created
+    private StressLevelScript stressLevelScript;
+
+    public StressLevelScreen(GameAssets assets, SpaceKillerGame game) {
+        this(assets, game, null);
+    }
+
+    protected StressLevelScreen(GameAssets assets, SpaceKillerGame game, SpriteBatch defaultBatcher) {
+        super(assets, game, defaultBatcher);
+    }
+
+    @Override
+    protected Level level() {
+        return Level3;
+    }
+
+    @Override
+    protected LevelScript createLevelScript(GameAssets assets, EntityFactory entityFactory, TweenManager tweenManager,
+                                            Entity player, PooledEngine engine) {
+        stressLevelScript = new StressLevelScript(this, assets, entityFactory, tweenManager, player, engine);
+        return stressLevelScript;
+    }
+
+    @Override
+    protected String poolProfileName() {
+        // the peaks of the stress would oversize the pools of the level 3
+        return POOL_PROFILE;
+    }
+
+    public StressRamp getRamp() {
+        return stressLevelScript.getRamp();
+    }
+}
@@ -13,29 +13,35 @@ import aurelienribon.tweenengine.equations.Bounce;
 import aurelienribon.tweenengine.equations.Linear;
 import aurelienribon.tweenengine.equations.Quad;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Disposable;
 import com.bendk97.assets.GameAssets;
 import com.bendk97.components.helpers.Families;
 import com.bendk97.components.texts.BossAlertComponent;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.Level;
 import com.bendk97.screens.levels.Level.MusicTrack;
 import com.bendk97.screens.levels.LevelScreen;
+import com.bendk97.screens.levels.timeline.TimelineEvent;
+import com.bendk97.screens.levels.timeline.TimelineEvent.Side;
+import com.bendk97.screens.levels.timeline.TimelinePlayer;
 import com.bendk97.screens.levels.utils.ScriptItem;
 import com.bendk97.screens.levels.utils.ScriptItemBuilder;
 import com.bendk97.screens.levels.utils.ScriptItemExecutor;
+import com.bendk97.screens.levels.utils.SpawnScheduler;
 import com.bendk97.tweens.CameraTweenAccessor;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
 import static com.badlogic.gdx.graphics.Color.RED;
 import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.assets.GameAssets.*;
+import static com.bendk97.components.helpers.ComponentMapperHelper.gameOver;
 import static com.bendk97.entities.enemies.SquadronFactory.*;
 import static com.bendk97.pools.GamePools.poolVector2;
 import static com.bendk97.screens.levels.Level.MusicTrack.BOSS;
@@ -44,18 +50,28 @@ import static com.bendk97.screens.levels.Level.SoundEffect.BOSS_ALERT;
 import static com.bendk97.tweens.BitmapFontCacheTweenAccessor.ALPHA;
 import static com.bendk97.tweens.TextComponentTweenAccessor.POSY;
 
-public abstract class LevelScript implements Disposable {
+/**
+ * Plays the timeline of a level, each of its events spawning enemies or stage set, playing a sound or bringing the boss
+ */
+public abstract class LevelScript implements Disposable, TimelinePlayer.Listener {
 
     protected final GameAssets assets;
     protected final EntityFactory entityFactory;
     protected final TweenManager tweenManager;
     protected final Entity player;
-    protected final Random random = new RandomXS128();
+    protected final Random random = GameRandom.get();
     protected ScriptItemExecutor scriptItemExecutor;
+    protected SpawnScheduler spawns;
     protected ScriptItem boss;
     protected final Level level;
     protected final LevelScreen levelScreen;
-
+    protected final TimelinePlayer timeline;
+    // side drawn for the squadrons coming from a random side this second
+    private int sideSecond = Integer.MIN_VALUE;
+    private boolean sideLeft;
+    // last second whose spawns are staged, and whether they are being staged
+    private int stagedSecond = Integer.MIN_VALUE;
+    private boolean staging = false;
 
     /*
      for test purposes only
@@ -64,6 +80,7 @@ public abstract class LevelScript implements Disposable {
                           Entity player, ScriptItemExecutor scriptItemExecutor) {
         this(levelScreen, level, assets, entityFactory, tweenManager, player);
         this.scriptItemExecutor = scriptItemExecutor;
+        this.spawns = new SpawnScheduler(scriptItemExecutor, entityFactory, levelScreen.getEnginePools());
     }
 
     protected LevelScript(final LevelScreen levelScreen, Level level, GameAssets assets, EntityFactory entityFactory, TweenManager tweenManager,
@@ -75,13 +92,19 @@ public abstract class LevelScript implements Disposable {
         this.tweenManager = tweenManager;
         this.player = player;
         this.initSpawns();
+        this.timeline = openTimeline();
         this.playMusic(LEVEL, level.volume);
         this.scriptItemExecutor = new ScriptItemExecutor(entityFactory.enemyEntityFactory.squadronFactory, player);
+        this.spawns = new SpawnScheduler(scriptItemExecutor, entityFactory, levelScreen.getEnginePools());
     }
 
 
     protected abstract void initSpawns();
 
+    protected TimelinePlayer openTimeline() {
+        return new TimelinePlayer(Gdx.files.classpath(level.timeline));
+    }
+
     protected void playMusic(MusicTrack track) {
         playMusic(track, 1f);
     }
@@ -98,19 +121,153 @@ public abstract class LevelScript implements Disposable {
         assets.playSound(level.sounds.get(sound));
     }
 
+    /**
+     * decodes the events of the timeline coming in the next seconds, ahead of the script
+     */
+    public void prefetch(float time) {
+        if (timeline != null) {
+            timeline.prefetch(time);
+        }
+    }
+
+    /**
+     * stages the squadrons of the next second a little ahead of it, and creates them progressively, see
+     * {@link SpawnScheduler}
+     */
+    public void stage(float time) {
+        int next = MathUtils.floor(time) + 1;
+        if (timeline != null && next > stagedSecond && time >= next - SpawnScheduler.STAGING_AHEAD) {
+            stagedSecond = next;
+            staging = true;
+            timeline.peek(next, this);
+            staging = false;
+        }
+        spawns.update();
+    }
+
+    /**
+     * called after each frame rendered while the game is running
+     *
+     * @param delta time of the frame, in seconds
+     */
+    public void frameRendered(float delta) {
+        // only measured by the stress level
+    }
+
     public void script(int second) {
+        if (second < 0) {
+            return;
+        }
         if (second == 0) {
             assets.playSound(SOUND_READY);
         }
+        spawns.activate(second);
+        timeline.play(second, this);
     }
 
-    protected void executeScriptFromList(LinkedList<ScriptItem> scriptItems) {
-        ScriptItem item = scriptItems.poll();
-        if (item != null) {
-            scriptItemExecutor.execute(item);
+    private static boolean isSquadron(TimelineEvent event) {
+        switch (event.type) {
+            case ASTEROID:
+            case HOUSE:
+            case SQUADRON:
+                return true;
+            default:
+                return false;
         }
     }
 
+    @Override
+    public void execute(TimelineEvent event, int second) {
+        // squadrons only are staged, and they are not played again
+        if (staging ? !isSquadron(event) : isSquadron(event) && second <= stagedSecond) {
+            return;
+        }
+        switch (event.type) {
+            case ASTEROID:
+                spawn(
+                        new ScriptItemBuilder().typeShip(getRandomAsteroidType()).typeSquadron(LINEAR_Y).velocity(event.velocity + random.nextFloat() * event.velocityRange).number(1).powerUp(random.nextInt() % event.powerUpOdds == 0).displayBonus(false).withBonus(0).bulletVelocity(0f).withParams(random.nextFloat() * (SCREEN_WIDTH - 36f), SCREEN_HEIGHT).createScriptItem(), second);
+                break;
+            case HOUSE:
+                spawn(
+                        new ScriptItemBuilder().typeShip(getRandomHouseType()).typeSquadron(LINEAR_Y_SAME_POS).velocity(event.velocity).number(1).powerUp(random.nextInt() % event.powerUpOdds == 0).displayBonus(false).withBonus(0).bulletVelocity(0f).withParams(random.nextFloat() * (SCREEN_WIDTH - 64f), SCREEN_HEIGHT).createScriptItem(), second);
+                break;
+            case MIST:
+                entityFactory.stageSetEntityFactory.createForeground(getRandomMist(), event.velocity);
+                break;
+            case SQUADRON:
+                spawnSquadron(event, second);
+                break;
+            case SOLO_ENEMY:
+                Boolean comingFromLeft = comingFromLeft(event.side, second);
+                if (comingFromLeft == null) {
+                    entityFactory.enemyEntityFactory.soloEnemyFactory
+                            .createSoloEnemy(event.velocity, event.bulletVelocity, event.rateShoot, event.gaugeLife, event.points);
+                } else {
+                    entityFactory.enemyEntityFactory.soloEnemyFactory
+                            .createSoloEnemy(event.velocity, event.bulletVelocity, event.rateShoot, event.gaugeLife, event.points, comingFromLeft);
+                }
+                break;
+            case TANK:
+                entityFactory.enemyEntityFactory.soloEnemyFactory.createTank(event.velocity, event.tankLevel, event.gaugeLife, event.points);
+                break;
+            case SOUND:
+                playSound(event.sound);
+                break;
+            case BOSS_ALERT:
+                if (gameOver.get(player) == null) {
+                    bossIsComing();
+                }
+                break;
+            case BOSS:
+                if (gameOver.get(player) == null) {
+                    bossIsHere();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * spawns a random squadron, its spline control points being obtained from the pool only now
+     */
+    protected void spawnSquadron(TimelineEvent event, int second) {
+        spawn(randomSquadron(event.velocity, event.rateShoot, event.bulletVelocity, event.bonus,
+                event.minEnemies, event.maxEnemies, comingFromLeft(event.side, second)), second);
+    }
+
+    private void spawn(ScriptItem scriptItem, int second) {
+        if (staging) {
+            spawns.stage(scriptItem, second);
+        } else {
+            scriptItemExecutor.execute(scriptItem);
+        }
+    }
+
+    private Boolean comingFromLeft(Side side, int second) {
+        switch (side) {
+            case LEFT:
+                return Boolean.TRUE;
+            case RIGHT:
+                return Boolean.FALSE;
+            case RANDOM:
+                return sideOf(second);
+            case OPPOSITE:
+                return !sideOf(second);
+            case ANY:
+            default:
+                return null;
+        }
+    }
+
+    private boolean sideOf(int second) {
+        if (second != sideSecond) {
+            sideSecond = second;
+            sideLeft = random.nextBoolean();
+        }
+        return sideLeft;
+    }
+
     protected Texture getRandomMist() {
         int randomMist = random.nextInt(7);
         return getMist(randomMist);
@@ -139,25 +296,28 @@ public abstract class LevelScript implements Disposable {
     protected List<ScriptItem> randomSpawnEnemies(int nbSpawns, float velocity, int rateShoot, float bulletVelocity, int bonus, int minEnemies, int maxEnemies, Boolean comingFromLeft) {
         List<ScriptItem> list = new ArrayList<>(nbSpawns);
         for (int i = 0; i < nbSpawns; ++i) {
-            int randomMoveType = getRandomMoveType();
-            int number = randomMoveType == ARROW_DOWN || randomMoveType == ARROW_UP ? 7 : minEnemies + random.nextInt(maxEnemies - minEnemies + 1);
-            list.add(
-                    new ScriptItemBuilder()
-                            .typeShip(getRandomShipType())
-                            .typeSquadron(randomMoveType)
-                            .velocity(velocity)
-                            .number(number)
-                            .powerUp(false)
-                            .displayBonus(true)
-                            .withBonus(number * bonus)
-                            .rateShoot(rateShoot)
-                            .bulletVelocity(bulletVelocity)
-                            .withParams(getRandomMoveParams(randomMoveType, comingFromLeft == null ? random.nextBoolean() : comingFromLeft))
-                            .createScriptItem());
+            list.add(randomSquadron(velocity, rateShoot, bulletVelocity, bonus, minEnemies, maxEnemies, comingFromLeft));
         }
         return list;
     }
 
+    private ScriptItem randomSquadron(float velocity, int rateShoot, float bulletVelocity, int bonus, int minEnemies, int maxEnemies, Boolean comingFromLeft) {
+        int randomMoveType = getRandomMoveType();
+        int number = randomMoveType == ARROW_DOWN || randomMoveType == ARROW_UP ? 7 : minEnemies + random.nextInt(maxEnemies - minEnemies + 1);
+        return new ScriptItemBuilder()
+                .typeShip(getRandomShipType())
+                .typeSquadron(randomMoveType)
+                .velocity(velocity)
+                .number(number)
+                .powerUp(false)
+                .displayBonus(true)
+                .withBonus(number * bonus)
+                .rateShoot(rateShoot)
+                .bulletVelocity(bulletVelocity)
+                .withParams(getRandomMoveParams(randomMoveType, comingFromLeft == null ? random.nextBoolean() : comingFromLeft))
+                .createScriptItem();
+    }
+
     private Object[] getRandomMoveParams(int randomMoveType, boolean comingFromLeft) {
         float direction = comingFromLeft ? 1f : -1f;
         int leftOrRight = comingFromLeft ? 0 : 1;
@@ -232,7 +392,7 @@ public abstract class LevelScript implements Disposable {
                 .ease(Quad.OUT).target(0.2f)
                 .setCallback((i, baseTween) -> {
                     if (i == TweenCallback.COMPLETE) {
-                        player.remove(BossAlertComponent.class);
+                        entityFactory.commands.removeComponent(player, BossAlertComponent.class);
                         assets.get(FONT_SPACE_KILLER_LARGE).getColor().a = 1f;
                     }
                 }).repeatYoyo(8, 0f).start(entityFactory.tweenManager);
@@ -252,5 +412,10 @@ public abstract class LevelScript implements Disposable {
     }
 
     @Override
-    public abstract void dispose();
+    public void dispose() {
+        spawns.clear();
+        if (timeline != null) {
+            timeline.dispose();
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.scripting;
+
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.bendk97.assets.GameAssets;
+import com.bendk97.components.InvulnerableComponent;
+import com.bendk97.components.TankComponent;
+import com.bendk97.components.helpers.Families;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.screens.levels.LevelScreen;
+import com.bendk97.screens.levels.timeline.TimelinePlayer;
+import com.bendk97.screens.levels.utils.ScriptItem;
+import com.bendk97.screens.levels.utils.StressRamp;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import static com.bendk97.SpaceKillerGameConstants.*;
+import static com.bendk97.assets.GameAssets.SOUND_READY;
+
+/**
+ * Synthetic level finding the scaling limits of the engine: every step of the {@link StressRamp}, more squadrons,
+ * firing more often, more laser ships and more tanks, until the target frame time is missed. The player is
+ * invulnerable and there is no boss.
+ * <p>
+ * The frame time is the mean time of the frames rendered during each second of script. Headless, where nothing is
+ * rendered, it is the mean real time taken by a step of the simulation. The maximum sustainable entity counts are
+ * logged and written to a stress-*.json local file, then the game goes back to the menu.
+ */
+public class StressLevelScript extends Level3Script {
+
+    private static final String STRESS = "Stress";
+    private static final int MIN_RATE_SHOOT = 10;
+    private static final float NANOS_TO_MILLIS = 1000000f;
+    private static final float SECONDS_TO_MILLIS = 1000f;
+    private static final String[] FAMILY_NAMES = {"entities", "enemies", "enemyBullets", "playerBullets", "collidables"};
+    private static final Family[] FAMILIES = {null, Families.enemies, Families.enemyBullet, Families.playerBullet,
+            Families.collidable};
+
+    private final StressRamp ramp = new StressRamp(FAMILY_NAMES);
+    private final PooledEngine engine;
+    private long secondStart;
+    private int secondSteps = 0;
+    private int secondFrames = 0;
+    private float secondFrameTime = 0f;
+
+    public StressLevelScript(final LevelScreen levelScreen, final GameAssets assets, EntityFactory entityFactory,
+                             TweenManager tweenManager, Entity player, PooledEngine engine) {
+        super(levelScreen, assets, entityFactory, tweenManager, player, engine);
+        this.engine = engine;
+        player.add(engine.createComponent(InvulnerableComponent.class));
+    }
+
+    @Override
+    public void initSpawns() {
+        // spawned step by step
+    }
+
+    @Override
+    protected TimelinePlayer openTimeline() {
+        // no timeline
+        return null;
+    }
+
+    @Override
+    public void script(int second) {
+        if (second < 0 || ramp.isFinished()) {
+            return;
+        }
+        long now = TimeUtils.nanoTime();
+        if (second == 0) {
+            assets.playSound(SOUND_READY);
+        } else {
+            countFamilies();
+            ramp.endSecond(secondFrames > 0 ? secondFrameTime * SECONDS_TO_MILLIS / secondFrames
+                    : (now - secondStart) / NANOS_TO_MILLIS / secondSteps);
+            if (ramp.isFinished()) {
+                finish();
+                return;
+            }
+        }
+        secondStart = now;
+        secondSteps = 0;
+        secondFrames = 0;
+        secondFrameTime = 0f;
+        spawn(ramp.getStep(), second);
+    }
+
+    @Override
+    public void stage(float time) {
+        super.stage(time);
+        secondSteps++;
+    }
+
+    @Override
+    public void frameRendered(float delta) {
+        secondFrames++;
+        secondFrameTime += delta;
+    }
+
+    private void spawn(int step, int second) {
+        int rateShoot = Math.max(MIN_RATE_SHOOT, STANDARD_RATE_SHOOT / step);
+        if (second % 2 == 0) {
+            for (ScriptItem squadron : randomSpawnEnemies(step, ENEMY_LEVEL3_VELOCITY_HARD, rateShoot,
+                    ENEMY_LEVEL3_BULLET_HARD_VELOCITY, BONUS_LEVEL3_SQUADRON_HARD, 6, 10, null)) {
+                scriptItemExecutor.execute(squadron);
+            }
+        }
+        if (second % 5 == 0) {
+            for (int i = 0; i < step; ++i) {
+                entityFactory.enemyEntityFactory.soloEnemyFactory.createSoloEnemy(STATIC_ENEMY_LEVEL3_VELOCITY,
+                        STATIC_ENEMY_LEVEL3_BULLET_VELOCITY, rateShoot, 10, 200);
+            }
+        }
+        if (second % 5 == 2) {
+            for (int i = 0; i < step; ++i) {
+                entityFactory.enemyEntityFactory.soloEnemyFactory.createTank(BGD_VELOCITY_LEVEL3,
+                        TankComponent.TankLevel.HARD, 5, 400);
+            }
+        }
+    }
+
+    private void countFamilies() {
+        for (int i = 0; i < FAMILIES.length; ++i) {
+            ramp.count(i, FAMILIES[i] == null ? engine.getEntities().size() : engine.getEntitiesFor(FAMILIES[i]).size());
+        }
+    }
+
+    private void finish() {
+        StringBuilder sb = new StringBuilder("step ").append(ramp.getSustainedStep()).append(" sustained at ")
+                .append(ramp.getSustainedFrameMillis()).append("ms:");
+        for (int i = 0; i < FAMILY_NAMES.length; ++i) {
+            sb.append(' ').append(FAMILY_NAMES[i]).append('=').append(ramp.getSustainedCount(i));
+        }
+        Gdx.app.log(STRESS, sb.toString());
+        FileHandle file = Gdx.files.local("stress-" + TimeUtils.millis() + ".json");
+        try (Writer writer = file.writer(false, "UTF-8")) {
+            ramp.write(writer);
+            Gdx.app.log(STRESS, "results written to " + file.path());
+        } catch (IOException e) {
+            Gdx.app.log(STRESS, "error: " + e.getMessage(), e);
+        }
+        // not while the script is played by the screen
+        Gdx.app.postRunnable(levelScreen::quitGame);
+    }
+
+    public StressRamp getRamp() {
+        return ramp;
+    }
+}
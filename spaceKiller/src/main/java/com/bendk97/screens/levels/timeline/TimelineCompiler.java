@@ -0,0 +1,72 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compiles the JSON source of the level timelines to their binary format, next to them.
+ * <p>
+ * JSON: {"version": 1, "events": [{"type": "SQUADRON", "from": 20, "to": 90, "periods": [5, 7], ...}]}
+ */
+public final class TimelineCompiler {
+
+    public static final String SOURCE_EXTENSION = "json";
+    public static final String EXTENSION = "timeline";
+
+    private TimelineCompiler() {
+    }
+
+    public static void main(String[] args) {
+        for (String path : args) {
+            FileHandle source = new FileHandle(new File(path));
+            FileHandle target = source.sibling(source.nameWithoutExtension() + "." + EXTENSION);
+            target.writeBytes(compile(source), false);
+            System.out.println(source.path() + " -> " + target.path());
+        }
+    }
+
+    public static byte[] compile(FileHandle source) {
+        JsonValue json = new JsonReader().parse(source);
+        TimelineFormat.checkVersion(json.getInt("version"), source.path());
+        Array<TimelineEvent> events = new Array<>();
+        for (JsonValue value = json.get("events").child; value != null; value = value.next) {
+            TimelineEvent event = new TimelineEvent();
+            TimelineFormat.fromJson(value, event);
+            events.add(event);
+        }
+        // stable: events of the same second keep the order of the source
+        events.sort((event1, event2) -> Integer.compare(event1.from, event2.from));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        try {
+            output.writeInt(TimelineFormat.MAGIC);
+            output.writeShort(TimelineFormat.VERSION);
+            output.writeShort(events.size);
+            for (TimelineEvent event : events) {
+                TimelineFormat.write(output, event);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("timeline " + source.path() + " cannot be compiled", e);
+        } finally {
+            StreamUtils.closeQuietly(output);
+        }
+        return bytes.toByteArray();
+    }
+}
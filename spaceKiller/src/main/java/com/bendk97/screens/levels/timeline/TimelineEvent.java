@@ -0,0 +1,99 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.bendk97.components.TankComponent.TankLevel;
+import com.bendk97.screens.levels.Level.SoundEffect;
+
+/**
+ * Typed event of a level timeline, happening once at its first second or, with periods, at every second of
+ * [from, to] which is a multiple of one of its periods.
+ * <p>
+ * Only the fields of its type are set, the others keep their default values.
+ */
+public class TimelineEvent implements Pool.Poolable {
+
+    public static final int FOREVER = -1;
+
+    public enum Type {
+        ASTEROID, HOUSE, MIST, SQUADRON, SOLO_ENEMY, TANK, SOUND, BOSS_ALERT, BOSS
+    }
+
+    /**
+     * side the enemies come from: any side (drawn for each of them), left, right, a side drawn for the second or the
+     * opposite of the side drawn for the second
+     */
+    public enum Side {
+        ANY, LEFT, RIGHT, RANDOM, OPPOSITE
+    }
+
+    public Type type;
+    public int from;
+    public int to = FOREVER;
+    public final IntArray periods = new IntArray(false, 3);
+    public float velocity;
+    public float velocityRange;
+    public float bulletVelocity;
+    public int rateShoot;
+    public int bonus;
+    public int minEnemies;
+    public int maxEnemies;
+    public int gaugeLife;
+    public int points;
+    public int powerUpOdds;
+    public Side side = Side.ANY;
+    public TankLevel tankLevel = TankLevel.EASY;
+    public SoundEffect sound = SoundEffect.GO;
+
+    public boolean isDueAt(int second) {
+        if (periods.size == 0) {
+            return second == from;
+        }
+        if (second < from || (to != FOREVER && second > to)) {
+            return false;
+        }
+        for (int i = 0; i < periods.size; ++i) {
+            if (second % periods.get(i) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the event will not happen after this second
+     */
+    public boolean isOverAt(int second) {
+        if (periods.size == 0) {
+            return second >= from;
+        }
+        return to != FOREVER && second >= to;
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+        from = 0;
+        to = FOREVER;
+        periods.clear();
+        velocity = 0f;
+        velocityRange = 0f;
+        bulletVelocity = 0f;
+        rateShoot = 0;
+        bonus = 0;
+        minEnemies = 0;
+        maxEnemies = 0;
+        gaugeLife = 0;
+        points = 0;
+        powerUpOdds = 0;
+        side = Side.ANY;
+        tankLevel = TankLevel.EASY;
+        sound = SoundEffect.GO;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+import com.bendk97.components.TankComponent.TankLevel;
+import com.bendk97.screens.levels.Level.SoundEffect;
+import com.bendk97.screens.levels.timeline.TimelineEvent.Side;
+import com.bendk97.screens.levels.timeline.TimelineEvent.Type;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary format of the level timelines, compiled from their JSON source by the {@link TimelineCompiler}.
+ * <p>
+ * Header: magic, version, number of events. Events, sorted by first second: first second, type, last second,
+ * periods, then the fields of the type only. Enums are written as ordinals: a new constant goes at the end, anything
+ * else changing the layout bumps the version.
+ */
+public final class TimelineFormat {
+
+    public static final int MAGIC = 0x534b544c;
+    public static final int VERSION = 1;
+
+    private static final Type[] TYPES = Type.values();
+    private static final Side[] SIDES = Side.values();
+    private static final TankLevel[] TANK_LEVELS = TankLevel.values();
+    private static final SoundEffect[] SOUNDS = SoundEffect.values();
+
+    private TimelineFormat() {
+    }
+
+    static void checkVersion(int version, String source) {
+        if (version != VERSION) {
+            throw new GdxRuntimeException("timeline " + source + " has version " + version + ", expected " + VERSION);
+        }
+    }
+
+    /**
+     * reads an event, its first second being already read
+     */
+    static void read(DataInput input, TimelineEvent event) throws IOException {
+        event.type = TYPES[input.readUnsignedByte()];
+        event.to = input.readShort();
+        int nbPeriods = input.readUnsignedByte();
+        for (int i = 0; i < nbPeriods; ++i) {
+            event.periods.add(input.readUnsignedByte());
+        }
+        switch (event.type) {
+            case ASTEROID:
+                event.velocity = input.readFloat();
+                event.velocityRange = input.readFloat();
+                event.powerUpOdds = input.readUnsignedByte();
+                break;
+            case HOUSE:
+                event.velocity = input.readFloat();
+                event.powerUpOdds = input.readUnsignedByte();
+                break;
+            case MIST:
+                event.velocity = input.readFloat();
+                break;
+            case SQUADRON:
+                event.velocity = input.readFloat();
+                event.bulletVelocity = input.readFloat();
+                event.rateShoot = input.readShort();
+                event.bonus = input.readShort();
+                event.minEnemies = input.readUnsignedByte();
+                event.maxEnemies = input.readUnsignedByte();
+                event.side = SIDES[input.readUnsignedByte()];
+                break;
+            case SOLO_ENEMY:
+                event.velocity = input.readFloat();
+                event.bulletVelocity = input.readFloat();
+                event.rateShoot = input.readShort();
+                event.gaugeLife = input.readShort();
+                event.points = input.readShort();
+                event.side = SIDES[input.readUnsignedByte()];
+                break;
+            case TANK:
+                event.velocity = input.readFloat();
+                event.tankLevel = TANK_LEVELS[input.readUnsignedByte()];
+                event.gaugeLife = input.readShort();
+                event.points = input.readShort();
+                break;
+            case SOUND:
+                event.sound = SOUNDS[input.readUnsignedByte()];
+                break;
+            case BOSS_ALERT:
+            case BOSS:
+            default:
+                break;
+        }
+    }
+
+    static void write(DataOutput output, TimelineEvent event) throws IOException {
+        output.writeShort(event.from);
+        output.writeByte(event.type.ordinal());
+        output.writeShort(event.to);
+        output.writeByte(event.periods.size);
+        for (int i = 0; i < event.periods.size; ++i) {
+            output.writeByte(event.periods.get(i));
+        }
+        switch (event.type) {
+            case ASTEROID:
+                output.writeFloat(event.velocity);
+                output.writeFloat(event.velocityRange);
+                output.writeByte(event.powerUpOdds);
+                break;
+            case HOUSE:
+                output.writeFloat(event.velocity);
+                output.writeByte(event.powerUpOdds);
+                break;
+            case MIST:
+                output.writeFloat(event.velocity);
+                break;
+            case SQUADRON:
+                output.writeFloat(event.velocity);
+                output.writeFloat(event.bulletVelocity);
+                output.writeShort(event.rateShoot);
+                output.writeShort(event.bonus);
+                output.writeByte(event.minEnemies);
+                output.writeByte(event.maxEnemies);
+                output.writeByte(event.side.ordinal());
+                break;
+            case SOLO_ENEMY:
+                output.writeFloat(event.velocity);
+                output.writeFloat(event.bulletVelocity);
+                output.writeShort(event.rateShoot);
+                output.writeShort(event.gaugeLife);
+                output.writeShort(event.points);
+                output.writeByte(event.side.ordinal());
+                break;
+            case TANK:
+                output.writeFloat(event.velocity);
+                output.writeByte(event.tankLevel.ordinal());
+                output.writeShort(event.gaugeLife);
+                output.writeShort(event.points);
+                break;
+            case SOUND:
+                output.writeByte(event.sound.ordinal());
+                break;
+            case BOSS_ALERT:
+            case BOSS:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * reads an event of the JSON source, fields named as in {@link TimelineEvent}, enums by their names
+     */
+    static void fromJson(JsonValue json, TimelineEvent event) {
+        event.type = Type.valueOf(json.getString("type"));
+        event.from = json.getInt("from");
+        event.to = json.getInt("to", TimelineEvent.FOREVER);
+        JsonValue periods = json.get("periods");
+        if (periods != null) {
+            event.periods.addAll(periods.asIntArray());
+        }
+        event.velocity = json.getFloat("velocity", 0f);
+        event.velocityRange = json.getFloat("velocityRange", 0f);
+        event.bulletVelocity = json.getFloat("bulletVelocity", 0f);
+        event.rateShoot = json.getInt("rateShoot", 0);
+        event.bonus = json.getInt("bonus", 0);
+        event.minEnemies = json.getInt("minEnemies", 0);
+        event.maxEnemies = json.getInt("maxEnemies", 0);
+        event.gaugeLife = json.getInt("gaugeLife", 0);
+        event.points = json.getInt("points", 0);
+        event.powerUpOdds = json.getInt("powerUpOdds", 0);
+        event.side = Side.valueOf(json.getString("side", Side.ANY.name()));
+        event.tankLevel = TankLevel.valueOf(json.getString("tankLevel", TankLevel.EASY.name()));
+        event.sound = SoundEffect.valueOf(json.getString("sound", SoundEffect.GO.name()));
+    }
+}
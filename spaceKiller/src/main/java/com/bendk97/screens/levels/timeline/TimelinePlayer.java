@@ -0,0 +1,93 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Plays a level timeline second by second. Events are decoded only a few seconds ahead of the time of the level, and
+ * given back to their pool once over: the level starts without decoding all its events.
+ */
+public class TimelinePlayer implements Disposable {
+
+    public static final int LOOKAHEAD_SECONDS = 3;
+
+    public interface Listener {
+        void execute(TimelineEvent event, int second);
+    }
+
+    private final TimelineReader reader;
+    // decoded events, in the order of the timeline
+    private final Array<TimelineEvent> events = new Array<>(true, 16, TimelineEvent.class);
+    private final Pool<TimelineEvent> pool = new Pool<TimelineEvent>(16) {
+        @Override
+        protected TimelineEvent newObject() {
+            return new TimelineEvent();
+        }
+    };
+
+    public TimelinePlayer(FileHandle file) {
+        this.reader = new TimelineReader(file);
+    }
+
+    /**
+     * decodes the events starting before the given time plus the lookahead
+     */
+    public void prefetch(float time) {
+        while (reader.hasNext() && reader.peekFrom() <= time + LOOKAHEAD_SECONDS) {
+            events.add(reader.next(pool.obtain()));
+        }
+    }
+
+    /**
+     * executes the events due at this second, in the order of the timeline
+     */
+    public void play(int second, Listener listener) {
+        prefetch(second);
+        for (int i = 0; i < events.size; ++i) {
+            TimelineEvent event = events.get(i);
+            if (event.isDueAt(second)) {
+                listener.execute(event, second);
+            }
+        }
+        for (int i = events.size - 1; i >= 0; --i) {
+            if (events.get(i).isOverAt(second)) {
+                pool.free(events.removeIndex(i));
+            }
+        }
+    }
+
+    /**
+     * gives the events due at this second to the listener ahead of it, without playing them
+     */
+    public void peek(int second, Listener listener) {
+        prefetch(second);
+        for (int i = 0; i < events.size; ++i) {
+            TimelineEvent event = events.get(i);
+            if (event.isDueAt(second)) {
+                listener.execute(event, second);
+            }
+        }
+    }
+
+    /**
+     * @return events decoded and not over yet
+     */
+    public int getDecodedEvents() {
+        return events.size;
+    }
+
+    @Override
+    public void dispose() {
+        reader.dispose();
+        pool.freeAll(events);
+        events.clear();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Decodes the events of a binary timeline one at a time, keeping the file open until disposed
+ */
+public class TimelineReader implements Disposable {
+
+    private static final int BUFFER_SIZE = 512;
+
+    private final String name;
+    private final DataInputStream input;
+    private final int nbEvents;
+    private int nbRead = 0;
+    private int nextFrom;
+
+    public TimelineReader(FileHandle file) {
+        this.name = file.path();
+        this.input = new DataInputStream(new BufferedInputStream(file.read(), BUFFER_SIZE));
+        try {
+            if (input.readInt() != TimelineFormat.MAGIC) {
+                throw new GdxRuntimeException("not a timeline: " + name);
+            }
+            TimelineFormat.checkVersion(input.readUnsignedShort(), name);
+            nbEvents = input.readUnsignedShort();
+            readNextFrom();
+        } catch (IOException e) {
+            StreamUtils.closeQuietly(input);
+            throw new GdxRuntimeException("timeline " + name + " cannot be read", e);
+        } catch (GdxRuntimeException e) {
+            StreamUtils.closeQuietly(input);
+            throw e;
+        }
+    }
+
+    public boolean hasNext() {
+        return nbRead < nbEvents;
+    }
+
+    /**
+     * @return first second of the next event, events being sorted by first second
+     */
+    public int peekFrom() {
+        return nextFrom;
+    }
+
+    /**
+     * decodes the next event into the given one
+     */
+    public TimelineEvent next(TimelineEvent event) {
+        try {
+            event.from = nextFrom;
+            TimelineFormat.read(input, event);
+            nbRead++;
+            readNextFrom();
+            return event;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("timeline " + name + " cannot be read", e);
+        }
+    }
+
+    private void readNextFrom() throws IOException {
+        if (hasNext()) {
+            nextFrom = input.readShort();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        StreamUtils.closeQuietly(input);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+/**
+ * Accumulates frame time and tells how many fixed simulation steps to run.
+ * Time beyond the maximum number of steps per frame is dropped (the game slows down instead of spiraling).
+ */
+public class FixedTimestep {
+
+    public static final float STEP = 1f / 60f;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    private final float step;
+    private final int maxSteps;
+    private float accumulator = 0f;
+
+    public FixedTimestep() {
+        this(STEP, MAX_STEPS_PER_FRAME);
+    }
+
+    public FixedTimestep(float step, int maxSteps) {
+        this.step = step;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * @return number of steps to simulate for this frame
+     */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int) (accumulator / step);
+        if (steps > maxSteps) {
+            steps = maxSteps;
+            accumulator = 0f;
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    /**
+     * @return progress in [0, 1[ of the next step, to interpolate rendering between the last two steps
+     */
+    public float alpha() {
+        return Math.min(accumulator / step, 1f);
+    }
+
+    public float step() {
+        return step;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+    }
+}
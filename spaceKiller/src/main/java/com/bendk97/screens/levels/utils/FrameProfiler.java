@@ -0,0 +1,283 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Samples the time spent in each engine system and in the phases of a frame.
+ * Every section keeps its last samples to compute rolling percentiles, and the last events are kept
+ * to be dumped as a Chrome trace (chrome://tracing or Perfetto).
+ * Given an {@link AllocationCounter}, it also measures the bytes allocated by each section.
+ * Systems run by the scheduler get their own sections, their time being also counted in the scheduler section.
+ * Disabled, it only updates the engine.
+ */
+public class FrameProfiler {
+
+    public static final String UPDATE_SCRIPT_LEVEL = "updateScriptLevel";
+    public static final String TWEEN_MANAGER = "tweenManager.update";
+    public static final String POST_PROCESSOR_CAPTURE = "postProcessor.capture";
+    public static final String POST_PROCESSOR_RENDER = "postProcessor.render";
+    public static final String RAY_HANDLER = "rayHandler.updateAndRender";
+    private static final int WINDOW = 300;
+    private static final int TRACE_EVENTS = 16384;
+    private static final double NANOS_TO_MICROS = 1000d;
+    private static final Comparator<Section> SLOWEST_FIRST = (section1, section2) -> Long.compare(section2.p95, section1.p95);
+
+    /**
+     * bytes allocated so far by the current thread, depends on the platform
+     */
+    public interface AllocationCounter {
+        long allocatedBytes();
+    }
+
+    public static class Section {
+        public final String name;
+        private final int id;
+        private final long[] samples = new long[WINDOW];
+        private final long[] sorted = new long[WINDOW];
+        private int count = 0;
+        private int next = 0;
+        public long p50, p95, p99, max;
+        // nanoseconds since the beginning, to measure any period
+        public long total = 0L;
+        // bytes allocated since the last reset, and most bytes allocated by one sample
+        public long bytes = 0L;
+        public long maxBytes = 0L;
+        public int samplesSinceReset = 0;
+
+        private Section(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        private void add(long nanos, long allocated) {
+            total += nanos;
+            bytes += allocated;
+            maxBytes = Math.max(maxBytes, allocated);
+            samplesSinceReset++;
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW;
+            count = Math.min(count + 1, WINDOW);
+        }
+
+        private void computePercentiles() {
+            if (count == 0) {
+                return;
+            }
+            System.arraycopy(samples, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            p50 = sorted[(count - 1) * 50 / 100];
+            p95 = sorted[(count - 1) * 95 / 100];
+            p99 = sorted[(count - 1) * 99 / 100];
+            max = sorted[count - 1];
+        }
+    }
+
+    private boolean enabled;
+    private final Array<Section> sections = new Array<>(false, 48, Section.class);
+    private final Array<Section> slowest = new Array<>(false, 48, Section.class);
+    private final ObjectMap<String, Section> sectionsByName = new ObjectMap<>();
+    private final ObjectMap<EntitySystem, Section> sectionsBySystem = new ObjectMap<>();
+    private final int[] traceSections = new int[TRACE_EVENTS];
+    private final long[] traceStarts = new long[TRACE_EVENTS];
+    private final long[] traceDurations = new long[TRACE_EVENTS];
+    private int traceCount = 0;
+    private int traceNext = 0;
+    private boolean[] processing = new boolean[32];
+    private AllocationCounter allocationCounter = null;
+    private long beginBytes = 0L;
+
+    public FrameProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setAllocationCounter(AllocationCounter allocationCounter) {
+        this.allocationCounter = allocationCounter;
+    }
+
+    /**
+     * forgets the bytes allocated until now, to measure from a steady state
+     */
+    public void resetAllocations() {
+        for (Section section : sections) {
+            section.bytes = 0L;
+            section.maxBytes = 0L;
+            section.samplesSinceReset = 0;
+        }
+    }
+
+    /**
+     * @return start time of a section, to give back to {@link #end(String, long)}
+     */
+    public long begin() {
+        if (!enabled) {
+            return 0L;
+        }
+        beginBytes = allocatedBytes();
+        return TimeUtils.nanoTime();
+    }
+
+    public void end(String name, long start) {
+        if (enabled) {
+            long nanos = TimeUtils.nanoTime() - start;
+            long allocated = allocatedBytes() - beginBytes;
+            Section section = sectionsByName.get(name);
+            if (section == null) {
+                section = newSection(name);
+                sectionsByName.put(name, section);
+            }
+            record(section, start, nanos, allocated);
+        }
+    }
+
+    /**
+     * Updates the engine, timing each processing system apart.
+     * Systems are run one by one with a full engine update so that pending operations are still processed
+     * after each of them.
+     */
+    public void updateEngine(Engine engine, float deltaTime) {
+        if (!enabled) {
+            engine.update(deltaTime);
+            return;
+        }
+        ImmutableArray<EntitySystem> systems = engine.getSystems();
+        int size = systems.size();
+        if (processing.length < size) {
+            processing = new boolean[size];
+        }
+        for (int i = 0; i < size; ++i) {
+            processing[i] = systems.get(i).checkProcessing();
+            systems.get(i).setProcessing(false);
+        }
+        try {
+            for (int i = 0; i < size; ++i) {
+                if (processing[i]) {
+                    EntitySystem system = systems.get(i);
+                    system.setProcessing(true);
+                    long startBytes = allocatedBytes();
+                    long start = TimeUtils.nanoTime();
+                    engine.update(deltaTime);
+                    long nanos = TimeUtils.nanoTime() - start;
+                    record(section(system), start, nanos, allocatedBytes() - startBytes);
+                    system.setProcessing(false);
+                }
+            }
+        } finally {
+            for (int i = 0; i < size; ++i) {
+                systems.get(i).setProcessing(processing[i]);
+            }
+        }
+    }
+
+    private Section section(EntitySystem system) {
+        Section section = sectionsBySystem.get(system);
+        if (section == null) {
+            section = newSection(system.getClass().getSimpleName());
+            sectionsBySystem.put(system, section);
+        }
+        return section;
+    }
+
+    private Section newSection(String name) {
+        Section section = new Section(name, sections.size);
+        sections.add(section);
+        return section;
+    }
+
+    /**
+     * @return bytes allocated so far by the current thread, 0 without allocation counter
+     */
+    public long allocatedBytes() {
+        return allocationCounter != null ? allocationCounter.allocatedBytes() : 0L;
+    }
+
+    /**
+     * records a system run apart from the engine update, by the {@link com.bendk97.systems.scheduler.SystemScheduler}
+     */
+    public void record(EntitySystem system, long start, long nanos, long allocated) {
+        record(section(system), start, nanos, allocated);
+    }
+
+    private void record(Section section, long start, long nanos, long allocated) {
+        section.add(nanos, allocated);
+        traceSections[traceNext] = section.id;
+        traceStarts[traceNext] = start;
+        traceDurations[traceNext] = nanos;
+        traceNext = (traceNext + 1) % TRACE_EVENTS;
+        traceCount = Math.min(traceCount + 1, TRACE_EVENTS);
+    }
+
+    /**
+     * computes the percentiles of every section
+     *
+     * @return sections, slowest (p95) first
+     */
+    public Array<Section> computePercentiles() {
+        slowest.clear();
+        for (Section section : sections) {
+            section.computePercentiles();
+            slowest.add(section);
+        }
+        slowest.sort(SLOWEST_FIRST);
+        return slowest;
+    }
+
+    public Array<Section> getSections() {
+        return sections;
+    }
+
+    public void dumpTrace(FileHandle file) throws IOException {
+        Writer writer = file.writer(false, "UTF-8");
+        try {
+            dumpTrace(writer);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * writes the last events in the Chrome trace event format, as complete events in microseconds
+     */
+    public void dumpTrace(Writer writer) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"traceEvents\":[");
+        int first = (traceNext - traceCount + TRACE_EVENTS) % TRACE_EVENTS;
+        long origin = traceStarts[first];
+        for (int i = 0; i < traceCount; ++i) {
+            int event = (first + i) % TRACE_EVENTS;
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\n{\"name\":\"").append(sections.get(traceSections[event]).name)
+                    .append("\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":").append((traceStarts[event] - origin) / NANOS_TO_MICROS)
+                    .append(",\"dur\":").append(traceDurations[event] / NANOS_TO_MICROS).append('}');
+        }
+        sb.append("\n]}\n");
+        writer.write(sb.toString());
+    }
+}
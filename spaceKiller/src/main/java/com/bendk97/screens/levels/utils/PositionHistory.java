@@ -0,0 +1,63 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.bendk97.components.PositionComponent;
+
+import static com.bendk97.components.helpers.ComponentMapperHelper.position;
+
+/**
+ * Keeps the coordinates of the entities at the beginning of the current simulation step, as previous coordinates
+ * of their {@link PositionComponent}: the rendering interpolates from them and the collisions are swept from them.
+ * Entities entering the engine start the step where they are.
+ * It goes through all the entities of the engine rather than a family of its own, whose entities would have to grow
+ * with the level.
+ */
+public class PositionHistory implements EntityListener {
+
+    private final Engine engine;
+    private final ImmutableArray<Entity> entities;
+
+    public PositionHistory(Engine engine) {
+        this.engine = engine;
+        this.entities = engine.getEntities();
+        engine.addEntityListener(this);
+    }
+
+    /**
+     * to be called at the beginning of each step, before the script, the tweens and the systems move anything
+     */
+    public void startStep() {
+        for (int i = 0; i < entities.size(); ++i) {
+            startStep(entities.get(i));
+        }
+    }
+
+    private void startStep(Entity entity) {
+        PositionComponent positionComponent = position.get(entity);
+        if (positionComponent != null) {
+            positionComponent.startStep();
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        startStep(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+    }
+
+    public void dispose() {
+        engine.removeEntityListener(this);
+    }
+}
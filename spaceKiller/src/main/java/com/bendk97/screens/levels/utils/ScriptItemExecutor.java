@@ -21,7 +21,18 @@ public class ScriptItemExecutor {
 
 
     public void execute(ScriptItem scriptItem) {
+        create(scriptItem);
+        countEnemies(scriptItem);
+    }
+
+    public void create(ScriptItem scriptItem) {
         squadronFactory.createSquadron(scriptItem);
+    }
+
+    /**
+     * counts the enemies of the squadron once it enters the level
+     */
+    public void countEnemies(ScriptItem scriptItem) {
         if (ComponentMapperHelper.levelFinished.get(player) == null) {
             ComponentMapperHelper.player.get(player).enemiesCountLevel += scriptItem.number;
         }
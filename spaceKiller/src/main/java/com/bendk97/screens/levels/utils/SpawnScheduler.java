@@ -0,0 +1,165 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.pools.EnginePools;
+
+import static com.bendk97.pools.GamePools.poolSprite;
+
+/**
+ * Spreads the creation of the squadrons of a second over the steps before it, instead of creating them all in the
+ * step the second starts.
+ * <p>
+ * Script items are staged a little ahead of their second, then their entities are created a few at a time, without
+ * being added to the engine. When their second comes, they are all added to the engine at once: the squadrons enter
+ * the level exactly on time, those not created yet being created then.
+ */
+public class SpawnScheduler {
+
+    public static final float STAGING_AHEAD = 0.5f;
+    // entities created per step, at least one squadron
+    private static final int ENTITY_BUDGET = 8;
+
+    private static class Spawn implements Pool.Poolable {
+        private ScriptItem scriptItem;
+        private int second;
+        private final Array<Entity> entities = new Array<>(true, 16, Entity.class);
+
+        @Override
+        public void reset() {
+            scriptItem = null;
+            entities.clear();
+        }
+    }
+
+    private final ScriptItemExecutor scriptItemExecutor;
+    private final EntityFactory entityFactory;
+    // staged entities are counted in the peaks of the engine pools
+    private final EnginePools enginePools;
+    // staged spawns, in the order of their seconds; the first ones are already created
+    private final Array<Spawn> spawns = new Array<>(true, 8, Spawn.class);
+    private final Pool<Spawn> pool = new Pool<Spawn>(8) {
+        @Override
+        protected Spawn newObject() {
+            return new Spawn();
+        }
+    };
+    private int created = 0;
+
+    public SpawnScheduler(ScriptItemExecutor scriptItemExecutor, EntityFactory entityFactory, EnginePools enginePools) {
+        this.scriptItemExecutor = scriptItemExecutor;
+        this.entityFactory = entityFactory;
+        this.enginePools = enginePools;
+    }
+
+    public void stage(ScriptItem scriptItem, int second) {
+        Spawn spawn = pool.obtain();
+        spawn.scriptItem = scriptItem;
+        spawn.second = second;
+        spawns.add(spawn);
+    }
+
+    /**
+     * creates the next staged spawns, within the budget of the step
+     */
+    public void update() {
+        int budget = ENTITY_BUDGET;
+        while (budget > 0 && created < spawns.size) {
+            Spawn spawn = spawns.get(created++);
+            create(spawn);
+            budget -= spawn.entities.size;
+        }
+    }
+
+    /**
+     * adds the spawns due at this second to the engine
+     */
+    public void activate(int second) {
+        int due = 0;
+        while (due < spawns.size && spawns.get(due).second <= second) {
+            Spawn spawn = spawns.get(due);
+            if (due >= created) {
+                create(spawn);
+            }
+            if (enginePools != null) {
+                enginePools.unstage(spawn.entities);
+            }
+            for (int i = 0; i < spawn.entities.size; ++i) {
+                entityFactory.commands.addEntity(spawn.entities.get(i));
+            }
+            scriptItemExecutor.countEnemies(spawn.scriptItem);
+            pool.free(spawn);
+            ++due;
+        }
+        if (due > 0) {
+            spawns.removeRange(0, due - 1);
+            created = Math.max(0, created - due);
+        }
+    }
+
+    private void create(Spawn spawn) {
+        entityFactory.stageEntities(spawn.entities);
+        try {
+            scriptItemExecutor.create(spawn.scriptItem);
+        } finally {
+            entityFactory.stageEntities(null);
+        }
+        if (enginePools != null) {
+            enginePools.stage(spawn.entities);
+        }
+    }
+
+    /**
+     * @return spawns staged and not due yet
+     */
+    public int getStaged() {
+        return spawns.size;
+    }
+
+    /**
+     * forgets the staged spawns, their entities never entering the level
+     */
+    public void clear() {
+        for (int i = 0; i < created; ++i) {
+            Array<Entity> entities = spawns.get(i).entities;
+            if (enginePools != null) {
+                enginePools.unstage(entities);
+            }
+            for (int j = 0; j < entities.size; ++j) {
+                release(entities.get(j));
+            }
+        }
+        pool.freeAll(spawns);
+        spawns.clear();
+        created = 0;
+    }
+
+    /**
+     * gives back the sprite, the components and the entity to their pools, as when removed from the engine
+     */
+    private void release(Entity entity) {
+        SpriteComponent sprite = ComponentMapperHelper.sprite.get(entity);
+        if (sprite != null && sprite.sprite != null) {
+            poolSprite.free(sprite.sprite);
+            sprite.sprite = null;
+        }
+        if (entityFactory.archetypes.free(entity)) {
+            return;
+        }
+        // components back to the pools of the engine
+        entity.removeAll();
+        // the engine only takes back its entities once removed: an empty one enters no family on its way
+        entityFactory.engine.addEntity(entity);
+        entityFactory.engine.removeEntity(entity);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Load of the stress level, going up one step at a time as long as the frames stay within the target frame time.
+ * <p>
+ * The frame time of a step is the mean over its seconds, the entity count of a family its highest over the step.
+ * Once a step misses the target, the ramp is finished: the counts of the last step sustained are the maximum
+ * sustainable counts, to be compared from one build to the next.
+ */
+public class StressRamp {
+
+    public static final float TARGET_FRAME_MILLIS = 17f;
+    public static final int SECONDS_PER_STEP = 10;
+
+    private final float targetFrameMillis;
+    private final int secondsPerStep;
+    private final String[] families;
+    private final int[] counts;
+    private final int[] sustainedCounts;
+    private int step = 1;
+    private int secondsInStep = 0;
+    private float stepFrameMillis = 0f;
+    private int sustainedStep = 0;
+    private float sustainedFrameMillis = 0f;
+    private float missedFrameMillis = 0f;
+    private boolean finished = false;
+
+    public StressRamp(String... families) {
+        this(TARGET_FRAME_MILLIS, SECONDS_PER_STEP, families);
+    }
+
+    public StressRamp(float targetFrameMillis, int secondsPerStep, String... families) {
+        this.targetFrameMillis = targetFrameMillis;
+        this.secondsPerStep = secondsPerStep;
+        this.families = families;
+        this.counts = new int[families.length];
+        this.sustainedCounts = new int[families.length];
+    }
+
+    /**
+     * @return current step, from 1
+     */
+    public int getStep() {
+        return step;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * counts the entities of a family (index in the families of the ramp) during the current step
+     */
+    public void count(int family, int entities) {
+        counts[family] = Math.max(counts[family], entities);
+    }
+
+    /**
+     * ends a second of the current step
+     *
+     * @param frameMillis mean frame time over the second
+     * @return true when the load goes up one step
+     */
+    public boolean endSecond(float frameMillis) {
+        if (finished) {
+            return false;
+        }
+        stepFrameMillis += frameMillis;
+        if (++secondsInStep < secondsPerStep) {
+            return false;
+        }
+        float meanFrameMillis = stepFrameMillis / secondsInStep;
+        if (meanFrameMillis > targetFrameMillis) {
+            missedFrameMillis = meanFrameMillis;
+            finished = true;
+            return false;
+        }
+        sustainedStep = step;
+        sustainedFrameMillis = meanFrameMillis;
+        System.arraycopy(counts, 0, sustainedCounts, 0, counts.length);
+        Arrays.fill(counts, 0);
+        stepFrameMillis = 0f;
+        secondsInStep = 0;
+        step++;
+        return true;
+    }
+
+    /**
+     * @return last step within the target frame time, 0 if none
+     */
+    public int getSustainedStep() {
+        return sustainedStep;
+    }
+
+    public float getSustainedFrameMillis() {
+        return sustainedFrameMillis;
+    }
+
+    /**
+     * @return highest count of the family during the last step sustained
+     */
+    public int getSustainedCount(int family) {
+        return sustainedCounts[family];
+    }
+
+    public void write(Writer writer) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"targetFrameMillis\":").append(targetFrameMillis)
+                .append(",\"secondsPerStep\":").append(secondsPerStep)
+                .append(",\"sustainedStep\":").append(sustainedStep)
+                .append(",\"sustainedFrameMillis\":").append(sustainedFrameMillis)
+                .append(",\"missedFrameMillis\":").append(missedFrameMillis)
+                .append(",\"families\":{");
+        for (int i = 0; i < families.length; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(families[i]).append("\":").append(sustainedCounts[i]);
+        }
+        sb.append("}}\n");
+        writer.write(sb.toString());
+    }
+}
@@ -53,6 +53,7 @@ public final class MenuScreen extends HDScreen {
     private static final String LEVEL_1 = "level 1";
     private static final String LEVEL_2 = "level 2";
     private static final String LEVEL_3 = "level 3";
+    private static final String STRESS = "stress";
     private static final String BACK = "back";
     protected static final Color WHITE_ALPHA = new Color(1f, 1f, 1f, 0.75f);
     private SpriteBatch batcher;
@@ -297,6 +298,11 @@ public final class MenuScreen extends HDScreen {
         TextButton level3 = createTextButton(LEVEL_3, style, 100, 275, 200, 75);
 
         Set<TextButton> levelButtons = Sets.newHashSet(back, level1, level2, level3);
+        if (DEBUG) {
+            TextButton stress = createTextButton(STRESS, style, 100, 200, 200, 75);
+            levelButtons.add(stress);
+            onClickLevelButton(stress, StressLevelScreen.class);
+        }
 
         replaceButtonsByNewOnesOnClick(playButton, mainMenuButtons, levelButtons);
 
@@ -307,23 +313,27 @@ public final class MenuScreen extends HDScreen {
     }
 
     private void onClickLevelButton(TextButton levelButton, Level level) {
+        Class<? extends LevelScreen> levelScreen;
+        switch(level) {
+            case Level2:
+                levelScreen = Level2Screen.class;
+                break;
+            case Level3:
+                levelScreen = Level3Screen.class;
+                break;
+            case Level1:
+            default:
+                levelScreen = Level1Screen.class;
+        }
+        onClickLevelButton(levelButton, levelScreen);
+    }
+
+    private void onClickLevelButton(TextButton levelButton, Class<? extends LevelScreen> levelScreen) {
         levelButton.addListener(new InputListener() {
             @Override
             public boolean touchDown(InputEvent event, float x, float y, int pointer, int button) {
                 assets.playSound(MENU_CLICK);
                 assets.get(MENU_MUSIC).stop();
-                Class<? extends LevelScreen> levelScreen;
-                switch(level) {
-                    case Level2:
-                        levelScreen = Level2Screen.class;
-                        break;
-                    case Level3:
-                        levelScreen = Level3Screen.class;
-                        break;
-                    case Level1:
-                    default:
-                        levelScreen = Level1Screen.class;
-                }
                 game.goToScreen(levelScreen);
                 return true;
             }
@@ -13,14 +13,26 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.bendk97.components.LightComponent;
 import com.bendk97.components.PositionComponent;
 import com.bendk97.components.VelocityComponent;
+import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-public abstract class AbstractMovementSystem extends IteratingSystem {
+public abstract class AbstractMovementSystem extends IteratingSystem implements ScheduledSystem {
+
+    protected final SystemAccess access = new SystemAccess()
+            .reads(VelocityComponent.class, SpriteComponent.class)
+            .writes(PositionComponent.class, LightComponent.class);
 
     public AbstractMovementSystem(Family family, int priority) {
         super(family, priority);
     }
 
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         PositionComponent position = ComponentMapperHelper.position.get(entity);
@@ -10,16 +10,20 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.bendk97.components.AnimationComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.StateComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityCommandBuffer;
 
 public class AnimationSystem extends IteratingSystem {
 
-    public AnimationSystem(int priority) {
+    private final EntityCommandBuffer commands;
+
+    public AnimationSystem(int priority, EntityCommandBuffer commands) {
         super(Family.all(SpriteComponent.class, AnimationComponent.class, StateComponent.class).get(), priority);
+        this.commands = commands;
     }
 
     @Override
@@ -28,13 +32,17 @@ public class AnimationSystem extends IteratingSystem {
         AnimationComponent anim = ComponentMapperHelper.animation.get(entity);
         StateComponent state = ComponentMapperHelper.state.get(entity);
 
-        Animation<Sprite> animation = anim.animations.get(state.get());
+        Animation<AtlasRegion> animation = anim.animations.get(state.get());
 
         if (animation != null) {
             if (animation.getPlayMode().equals(Animation.PlayMode.NORMAL) && animation.isAnimationFinished(state.time)) {
-                getEngine().removeEntity(entity);
+                commands.removeEntity(entity);
             } else {
-                sprite.sprite = animation.getKeyFrame(state.time);
+                AtlasRegion frame = animation.getKeyFrame(state.time);
+                if (frame != anim.frame) {
+                    anim.frame = frame;
+                    sprite.setFrame(frame);
+                }
             }
         }
     }
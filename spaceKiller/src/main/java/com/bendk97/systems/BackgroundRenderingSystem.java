@@ -16,7 +16,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 
 import static com.bendk97.SpaceKillerGameConstants.*;
 
-public class BackgroundRenderingSystem extends SortedIteratingSystem {
+public class BackgroundRenderingSystem extends SortedIteratingSystem implements RenderingSystem {
 
     private final SpriteBatch batcher;
 
@@ -10,7 +10,7 @@ import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-public class BatcherBeginSystem extends EntitySystem {
+public class BatcherBeginSystem extends EntitySystem implements RenderingSystem {
 
     private final SpriteBatch batcher;
     private final Viewport viewport;
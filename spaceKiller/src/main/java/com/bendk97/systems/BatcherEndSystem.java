@@ -9,7 +9,7 @@ package com.bendk97.systems;
 import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
-public class BatcherEndSystem extends EntitySystem {
+public class BatcherEndSystem extends EntitySystem implements RenderingSystem {
 
     private final SpriteBatch batcher;
     public BatcherEndSystem(SpriteBatch batcher, int priority) {
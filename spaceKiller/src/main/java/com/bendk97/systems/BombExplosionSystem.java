@@ -13,6 +13,7 @@ import com.badlogic.ashley.systems.IteratingSystem;
 import com.bendk97.components.BombExplosionComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.components.helpers.Families;
+import com.bendk97.entities.EntityCommandBuffer;
 import com.bendk97.listeners.CollisionListener;
 
 
@@ -21,25 +22,28 @@ public class BombExplosionSystem extends IteratingSystem {
     private final CollisionListener collisionListener;
     private final Entity player;
     private final TweenManager tweenManager;
+    private final EntityCommandBuffer commands;
 
-    public BombExplosionSystem(int priority, CollisionListener collisionListener, Entity player, TweenManager tweenManager) {
+    public BombExplosionSystem(int priority, CollisionListener collisionListener, Entity player, TweenManager tweenManager,
+                               EntityCommandBuffer commands) {
         super(Family.all(BombExplosionComponent.class).get(), priority);
         this.collisionListener = collisionListener;
         this.player = player;
         this.tweenManager = tweenManager;
+        this.commands = commands;
     }
 
 
     @Override
     protected void processEntity(final Entity entity, float deltaTime) {
         for(Entity bullet : getEngine().getEntitiesFor(Families.enemyBullet)){
-            getEngine().removeEntity(bullet);
+            commands.removeEntity(bullet);
             tweenManager.killTarget(ComponentMapperHelper.sprite.get(bullet));
 
         }
         for (Entity enemy : getEngine().getEntitiesFor(Families.enemies)) {
             collisionListener.enemyShootByExplosion(enemy, player);
         }
-        getEngine().removeEntity(entity);
+        commands.removeEntity(entity);
     }
 }
@@ -10,20 +10,32 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.RandomXS128;
 import com.bendk97.components.BossComponent;
+import com.bendk97.components.EnemyComponent;
 import com.bendk97.components.PauseComponent;
 import com.bendk97.components.PlayerComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.random.GameRandom;
 
 import java.util.Random;
 
 public class BossAttackSystem extends IteratingSystem {
 
+    public static final TimerSystem.EntityAction READY_TO_FIRE1 = entity -> {
+        if (isAlive(entity)) {
+            ComponentMapperHelper.boss.get(entity).pleaseFire1 = true;
+        }
+    };
+    public static final TimerSystem.EntityAction READY_TO_FIRE2 = entity -> {
+        if (isAlive(entity)) {
+            ComponentMapperHelper.boss.get(entity).pleaseFire2 = true;
+        }
+    };
+
     private final EntityFactory entityFactory;
     private final Family player = Family.one(PlayerComponent.class).exclude(PauseComponent.class).get();
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
 
     public BossAttackSystem(int priority, EntityFactory entityFactory) {
         super(Family.all(BossComponent.class).get(), priority);
@@ -31,6 +43,11 @@ public class BossAttackSystem extends IteratingSystem {
     }
 
 
+    private static boolean isAlive(Entity boss) {
+        EnemyComponent enemy = ComponentMapperHelper.enemy.get(boss);
+        return enemy != null && !enemy.isDead() && ComponentMapperHelper.boss.get(boss) != null;
+    }
+
     @Override
     protected void processEntity(final Entity entity, float deltaTime) {
         ImmutableArray<Entity> playerEntity = getEngine().getEntitiesFor(player);
@@ -44,14 +61,7 @@ public class BossAttackSystem extends IteratingSystem {
             }
             entityFactory.enemyActionEntityFactory.createBossFire(entity, playerEntity.first());
             boss.pleaseFire1 = false;
-            com.bendk97.timer.PausableTimer.schedule(new com.bendk97.timer.PausableTimer.Task() {
-                @Override
-                public void run() {
-                    if (ComponentMapperHelper.enemy.get(entity) != null && !ComponentMapperHelper.enemy.get(entity).isDead()) {
-                        boss.pleaseFire1 = true;
-                    }
-                }
-            }, boss.minTriggerFire1 + random.nextFloat() * 2f);
+            entityFactory.timer.schedule(READY_TO_FIRE1, entity, boss.minTriggerFire1 + random.nextFloat() * 2f);
         }
         if (ComponentMapperHelper.boss.get(entity).pleaseFire2) {
             if (ComponentMapperHelper.enemy.get(entity).isDead()) {
@@ -59,14 +69,7 @@ public class BossAttackSystem extends IteratingSystem {
             }
             entityFactory.enemyActionEntityFactory.createBossFire2(entity);
             boss.pleaseFire2 = false;
-            com.bendk97.timer.PausableTimer.schedule(new com.bendk97.timer.PausableTimer.Task() {
-                @Override
-                public void run() {
-                    if (!ComponentMapperHelper.enemy.get(entity).isDead()) {
-                        boss.pleaseFire2 = true;
-                    }
-                }
-            }, boss.minTriggerFire2 + random.nextFloat() * 2f);
+            entityFactory.timer.schedule(READY_TO_FIRE2, entity, boss.minTriggerFire2 + random.nextFloat() * 2f);
         }
     }
 }
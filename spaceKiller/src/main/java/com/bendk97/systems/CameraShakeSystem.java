@@ -0,0 +1,140 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.bendk97.Settings;
+import com.bendk97.random.GameRandom;
+
+import java.util.Random;
+
+/**
+ * Shakes the camera: each shake is a noise of its strength, decreasing until the end of its duration, evaluated at
+ * each step from a few floats. Overlapping shakes add up; when too many overlap, the weakest one is replaced.
+ * <p>
+ * The offset is applied on top of the position given to the camera by the other systems (see
+ * {@link MovementPlayerSystem}), and taken back once the shakes are over.
+ */
+public class CameraShakeSystem extends EntitySystem {
+
+    private static final int MAX_SHAKES = 4;
+    // noise values per second, as many as random targets were tweened by the shake before
+    private static final float FREQUENCY = 50f;
+    private static final long[] VIBRATION_PATTERN = {0, 100, 0, 100, 0, 100, 0, 100, 0};
+
+    private final OrthographicCamera camera;
+    private final Random random = GameRandom.get();
+
+    private final float[] strengths = new float[MAX_SHAKES];
+    private final float[] durations = new float[MAX_SHAKES];
+    private final float[] elapsed = new float[MAX_SHAKES];
+    private final int[] seeds = new int[MAX_SHAKES];
+    private int shakes = 0;
+
+    // offset applied at the last step, and camera position it gave
+    private float offsetX = 0f;
+    private float offsetY = 0f;
+    private float shakenX = Float.NaN;
+    private float shakenY = Float.NaN;
+
+    public CameraShakeSystem(int priority, OrthographicCamera camera) {
+        super(priority);
+        this.camera = camera;
+    }
+
+    public void shake(float strength, float duration, boolean vibration) {
+        if (vibration && Settings.isVibrationEnabled()) {
+            Gdx.input.vibrate(VIBRATION_PATTERN, -1);
+        }
+        if (duration <= 0f) {
+            return;
+        }
+        int slot = shakes < MAX_SHAKES ? shakes++ : weakest();
+        strengths[slot] = strength;
+        durations[slot] = duration;
+        elapsed[slot] = 0f;
+        seeds[slot] = random.nextInt();
+    }
+
+    private int weakest() {
+        int weakest = 0;
+        for (int i = 1; i < shakes; ++i) {
+            if (amplitude(i) < amplitude(weakest)) {
+                weakest = i;
+            }
+        }
+        return weakest;
+    }
+
+    private float amplitude(int shake) {
+        return strengths[shake] * (1f - elapsed[shake] / durations[shake]);
+    }
+
+    public boolean isShaking() {
+        return shakes > 0;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (shakes == 0 && offsetX == 0f && offsetY == 0f) {
+            return;
+        }
+        float x = 0f;
+        float y = 0f;
+        for (int i = shakes - 1; i >= 0; --i) {
+            elapsed[i] += deltaTime;
+            if (elapsed[i] >= durations[i]) {
+                remove(i);
+                continue;
+            }
+            float amplitude = amplitude(i);
+            float time = elapsed[i] * FREQUENCY;
+            x += amplitude * noise(time, seeds[i]);
+            y += amplitude * noise(time, ~seeds[i]);
+        }
+        x = MathUtils.floor(x);
+        y = MathUtils.floor(y);
+        // the camera is placed again by the other systems, or still where the last offset left it
+        float baseX = camera.position.x == shakenX ? camera.position.x - offsetX : camera.position.x;
+        float baseY = camera.position.y == shakenY ? camera.position.y - offsetY : camera.position.y;
+        camera.position.x = shakenX = baseX + x;
+        camera.position.y = shakenY = baseY + y;
+        offsetX = x;
+        offsetY = y;
+        camera.update();
+    }
+
+    private void remove(int shake) {
+        --shakes;
+        strengths[shake] = strengths[shakes];
+        durations[shake] = durations[shakes];
+        elapsed[shake] = elapsed[shakes];
+        seeds[shake] = seeds[shakes];
+    }
+
+    /**
+     * @return smooth value noise in [-1, 1], between random values at each integer time
+     */
+    static float noise(float time, int seed) {
+        int i = MathUtils.floor(time);
+        float t = time - i;
+        float from = hash(i, seed);
+        float to = hash(i + 1, seed);
+        return from + (to - from) * t * t * (3f - 2f * t);
+    }
+
+    private static float hash(int i, int seed) {
+        int h = i * 0x27d4eb2d ^ seed;
+        h ^= h >>> 15;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return (h & 0xffff) / 32767.5f - 1f;
+    }
+}
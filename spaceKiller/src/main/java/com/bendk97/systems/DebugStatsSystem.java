@@ -12,17 +12,23 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.StringBuilder;
 import com.bendk97.pools.BitmapFontHelper;
 import com.bendk97.screens.levels.LevelScreen;
+import com.bendk97.screens.levels.utils.FrameProfiler;
+import com.bendk97.systems.scheduler.SystemScheduler;
+import com.bendk97.tweens.IndexedTweenManager;
 
 import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
 import static com.bendk97.pools.GamePools.getPoolStats;
 
-public class DebugStatsSystem extends EntitySystem {
+public class DebugStatsSystem extends EntitySystem implements RenderingSystem {
 
     private static final int FREQUENCY_POOL_STATS_MS = 5000;
     private static final int FREQUENCY_MEM_STATS_MS = 5000;
+    private static final int FREQUENCY_PROFILER_STATS_MS = 1000;
+    private static final int PROFILER_SECTIONS = 8;
     private static final String SCRIPT = "Script: ";
     private static final String CURRENT = "Current: ";
     private static final String MIN = "Min: ";
@@ -35,10 +41,17 @@ public class DebugStatsSystem extends EntitySystem {
     private static final int BYTES_TO_MB = 1024 * 1024;
     private static final String MB = "MB";
     private static final String EMPTY = "??";
+    private static final String SPEEDUP = "Systems speedup: x";
+    private static final String TWEENS = "Tweens: ";
+    private static final String PERCENTILES = "p50/p95/p99/max (us)";
+    private static final String SEPARATOR = "/";
+    private static final String SPACE = " ";
+    private static final int NANOS_TO_MICROS = 1000;
     private final SpriteBatch batcher;
     private final BitmapFontCache bitmapFont;
     private final LevelScreen screen;
     private final StringBuilder sb = new StringBuilder();
+    private final StringBuilder profilerStats = new StringBuilder();
 
     private int minFps = 999;
     private int maxFps = 0;
@@ -46,6 +59,7 @@ public class DebugStatsSystem extends EntitySystem {
     private long javaHeap;
     private float poolStatsTimeCounter = 0;
     private float memoryStatsTimeCounter = 0;
+    private float profilerStatsTimeCounter = 0;
 
     public DebugStatsSystem(LevelScreen screen, SpriteBatch batcher, int priority) {
         super(priority);
@@ -63,6 +77,7 @@ public class DebugStatsSystem extends EntitySystem {
         int currentFps = Gdx.graphics.getFramesPerSecond();
         updatePoolStats(deltaTime);
         updateMemoryStats(deltaTime);
+        updateProfilerStats(deltaTime);
 
         if (screen.getCurrentTimeScript() > 0) {
             if (currentFps > maxFps) {
@@ -79,6 +94,16 @@ public class DebugStatsSystem extends EntitySystem {
         sb.append(MAX).append(maxFps).append(FPS).append(NEWLINE);
         sb.append(JAVA_HEAP).append(javaHeap / BYTES_TO_MB).append(MB).append(NEWLINE);
         sb.append(NATIVE_HEAP).append(nativeHeap /BYTES_TO_MB).append(MB).append(NEWLINE);
+        SystemScheduler scheduler = getEngine().getSystem(SystemScheduler.class);
+        if (scheduler != null) {
+            sb.append(SPEEDUP).append(scheduler.getSpeedup()).append(NEWLINE);
+        }
+        IndexedTweenManager tweenManager = screen.getTweenManager();
+        if (tweenManager != null) {
+            sb.append(TWEENS).append(tweenManager.getLiveTweens()).append(SEPARATOR)
+                    .append(tweenManager.getTweenedTargets()).append(NEWLINE);
+        }
+        sb.append(profilerStats);
         drawText(165f, SCREEN_HEIGHT - 70f);
     }
 
@@ -91,6 +116,25 @@ public class DebugStatsSystem extends EntitySystem {
         }
     }
 
+    private void updateProfilerStats(float deltaTime) {
+        FrameProfiler profiler = screen.getProfiler();
+        profilerStatsTimeCounter += deltaTime * 1000f;
+        if (profiler != null && profiler.isEnabled() && profilerStatsTimeCounter >= FREQUENCY_PROFILER_STATS_MS) {
+            profilerStatsTimeCounter = 0f;
+            profilerStats.setLength(0);
+            profilerStats.append(PERCENTILES).append(NEWLINE);
+            Array<FrameProfiler.Section> sections = profiler.computePercentiles();
+            for (int i = 0; i < Math.min(PROFILER_SECTIONS, sections.size); ++i) {
+                FrameProfiler.Section section = sections.get(i);
+                profilerStats.append(section.name).append(SPACE)
+                        .append(section.p50 / NANOS_TO_MICROS).append(SEPARATOR)
+                        .append(section.p95 / NANOS_TO_MICROS).append(SEPARATOR)
+                        .append(section.p99 / NANOS_TO_MICROS).append(SEPARATOR)
+                        .append(section.max / NANOS_TO_MICROS).append(NEWLINE);
+            }
+        }
+    }
+
     private void updatePoolStats(float deltaTime) {
         poolStatsTimeCounter += deltaTime * 1000f;
         if (poolStatsTimeCounter >= FREQUENCY_POOL_STATS_MS) {
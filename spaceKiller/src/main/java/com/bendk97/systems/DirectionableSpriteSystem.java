@@ -14,24 +14,38 @@ import com.bendk97.components.DirectionableComponent;
 import com.bendk97.components.PositionComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-import static com.bendk97.pools.GamePools.poolVector2;
+public class DirectionableSpriteSystem extends IteratingSystem implements ScheduledSystem {
 
-public class DirectionableSpriteSystem extends IteratingSystem {
+    private final SystemAccess access = new SystemAccess()
+            .reads(PositionComponent.class)
+            .writes(SpriteComponent.class);
+    // not taken from the shared pool, the system may run on a worker thread
+    private final Vector2 origin = new Vector2();
+    private final Vector2 direction = new Vector2();
 
     public DirectionableSpriteSystem(int priority) {
         super(Family.all(DirectionableComponent.class).get(),priority);
     }
 
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         PositionComponent positionComponent = ComponentMapperHelper.position.get(entity);
+        // keeps its direction when standing still
+        if (!positionComponent.hasMovedInStep()) {
+            return;
+        }
         SpriteComponent spriteComponent = ComponentMapperHelper.sprite.get(entity);
-        Vector2 origin = poolVector2.getVector2(0, -1);
-        Vector2 direction =  poolVector2.getVector2(positionComponent.x()-positionComponent.previousX(),
+        origin.set(0, -1);
+        direction.set(positionComponent.x()-positionComponent.previousX(),
                 positionComponent.y()-positionComponent.previousY());
         spriteComponent.sprite.setRotation(-direction.angle(origin));
-        poolVector2.free(origin);
-        poolVector2.free(direction);
     }
 }
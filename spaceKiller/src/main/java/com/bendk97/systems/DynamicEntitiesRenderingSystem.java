@@ -15,18 +15,21 @@ import com.bendk97.components.GameOverComponent;
 import com.bendk97.components.PositionComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.screens.levels.utils.FixedTimestep;
 
 import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.shaders.Shaders.HIGHLIGHT;
 
-public class DynamicEntitiesRenderingSystem extends SortedIteratingSystem {
+public class DynamicEntitiesRenderingSystem extends SortedIteratingSystem implements RenderingSystem {
     private final SpriteBatch batcher;
+    private final FixedTimestep timestep;
 
-    public DynamicEntitiesRenderingSystem(SpriteBatch batcher, int priority) {
+    public DynamicEntitiesRenderingSystem(SpriteBatch batcher, FixedTimestep timestep, int priority) {
         super(Family.all(SpriteComponent.class, PositionComponent.class).exclude(GameOverComponent.class).get(),
                 (o1, o2) -> Integer.compare(ComponentMapperHelper.sprite.get(o1).zIndex, ComponentMapperHelper.sprite.get(o2).zIndex),
                 priority);
         this.batcher = batcher;
+        this.timestep = timestep;
     }
 
     @Override
@@ -34,7 +37,9 @@ public class DynamicEntitiesRenderingSystem extends SortedIteratingSystem {
         PositionComponent position = ComponentMapperHelper.position.get(entity);
         SpriteComponent spriteComponent = ComponentMapperHelper.sprite.get(entity);
         Sprite sprite = spriteComponent.sprite;
-        sprite.setPosition(position.x(), position.y());
+        // drawn between the last two simulation steps
+        float alpha = timestep.alpha();
+        sprite.setPosition(position.interpolatedX(alpha), position.interpolatedY(alpha));
         if ((sprite.getX() + sprite.getWidth() < -OFFSET_WIDTH)
                 || sprite.getX() > SCREEN_WIDTH + OFFSET_WIDTH
                 || sprite.getY() > SCREEN_HEIGHT
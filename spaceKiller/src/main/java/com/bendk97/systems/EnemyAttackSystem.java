@@ -10,10 +10,10 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.RandomXS128;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
+import com.bendk97.random.GameRandom;
 
 import java.util.Random;
 
@@ -23,7 +23,7 @@ import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
 public class EnemyAttackSystem extends IteratingSystem {
 
     private final EntityFactory entityFactory;
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
     private final Family player = Family.one(PlayerComponent.class).exclude(PauseComponent.class).get();
 
     public EnemyAttackSystem(int priority, EntityFactory entityFactory) {
@@ -6,23 +6,43 @@
 
 package com.bendk97.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.math.Vector2;
 import com.bendk97.components.*;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-import static com.bendk97.pools.GamePools.poolVector2;
-
-public class FollowPlayerSystem extends IteratingSystem {
+public class FollowPlayerSystem extends IteratingSystem implements ScheduledSystem {
 
     private final Family player = Family.one(PlayerComponent.class).get();
+    private final SystemAccess access = new SystemAccess()
+            .reads(PositionComponent.class)
+            .writes(FollowPlayerComponent.class, VelocityComponent.class, SpriteComponent.class);
+    // not taken from the shared pool, the system may run on a worker thread
+    private final Vector2 down = new Vector2();
+    private final Vector2 toPlayer = new Vector2();
+    private ImmutableArray<Entity> players;
 
     public FollowPlayerSystem(int priority) {
         super(Family.all(FollowPlayerComponent.class).get(), priority);
     }
 
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        players = engine.getEntitiesFor(player);
+    }
+
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         FollowPlayerComponent followPlayerComponent = ComponentMapperHelper.follow.get(entity);
@@ -32,7 +52,7 @@ public class FollowPlayerSystem extends IteratingSystem {
             followPlayerComponent.lastMove += deltaTime;
             if (followPlayerComponent.lastMove > 0.5) {
                 followPlayerComponent.lastMove = 0;
-                PositionComponent playerPosition = ComponentMapperHelper.position.get(getEngine().getEntitiesFor(player).first());
+                PositionComponent playerPosition = ComponentMapperHelper.position.get(players.first());
                 PositionComponent entityPosition = ComponentMapperHelper.position.get(entity);
                 VelocityComponent velocityComponent = ComponentMapperHelper.velocity.get(entity);
                 float diff = entityPosition.x() - playerPosition.x();
@@ -48,11 +68,10 @@ public class FollowPlayerSystem extends IteratingSystem {
     private void followByRotation(Entity entity) {
         SpriteComponent spriteComponent = ComponentMapperHelper.sprite.get(entity);
         PositionComponent positionComponent = ComponentMapperHelper.position.get(entity);
-        PositionComponent playerPosition = ComponentMapperHelper.position.get(getEngine().getEntitiesFor(player).first());
-        Vector2 v1 = poolVector2.getVector2(0,-1);
-        Vector2 v2 = poolVector2.getVector2(playerPosition.x()-positionComponent.x(), playerPosition.y()-positionComponent.y());
-        float angle = v2.angle(v1);
-        poolVector2.free(v1, v2);
+        PositionComponent playerPosition = ComponentMapperHelper.position.get(players.first());
+        down.set(0, -1);
+        toPlayer.set(playerPosition.x() - positionComponent.x(), playerPosition.y() - positionComponent.y());
+        float angle = toPlayer.angle(down);
         spriteComponent.sprite.setRotation(-angle);
     }
 
@@ -12,6 +12,7 @@ import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.bendk97.assets.GameAssets;
 import com.bendk97.components.LevelFinishedComponent;
 import com.bendk97.components.PauseComponent;
@@ -25,7 +26,7 @@ import static com.bendk97.pools.BitmapFontHelper.drawText;
 import static com.bendk97.screens.levels.Level.Level2;
 import static com.bendk97.screens.levels.Level.Level3;
 
-public class LevelFinishedRenderingSystem extends IteratingSystem {
+public class LevelFinishedRenderingSystem extends IteratingSystem implements RenderingSystem {
     private static final String LEVEL_1_FINISHED = "lvl 1 completed";
     private static final String LEVEL_2_FINISHED = "lvl 2 completed";
     private static final String LEVEL_3_FINISHED = "lvl 3 completed";
@@ -33,9 +34,13 @@ public class LevelFinishedRenderingSystem extends IteratingSystem {
     private static final String NEXT_NOT_IMPLEMENTED = "no level 4 yet";
     private static final String START_AGAIN = "start again";
     private static final String GO_NEXT = "go next level";
+    private static final String OUT_OF = " out of ";
     private final SpriteBatch batcher;
     private final BitmapFontCache mediumFont;
     private final Level level;
+    private final StringBuilder enemiesKilled = new StringBuilder();
+    private int enemiesKilledLevel = -1;
+    private int enemiesCountLevel = -1;
 
     public LevelFinishedRenderingSystem(SpriteBatch batcher, GameAssets assets, Level level, int priority) {
         super(Family.all(PlayerComponent.class, LevelFinishedComponent.class).exclude(PauseComponent.class).get(), priority);
@@ -52,7 +57,7 @@ public class LevelFinishedRenderingSystem extends IteratingSystem {
                         level.equals(Level2) ? LEVEL_2_FINISHED : LEVEL_1_FINISHED, 10f, 4 * SCREEN_HEIGHT / 5f);
         PlayerComponent player = ComponentMapperHelper.player.get(entity);
         drawText(batcher, mediumFont, ENEMIES_KILLED, 10f, 4 * SCREEN_HEIGHT / 5f - 100f);
-        drawText(batcher, mediumFont, player.enemiesKilledLevel + " out of " + player.enemiesCountLevel, 40f, 4 * SCREEN_HEIGHT / 5f - 150f);
+        drawText(batcher, mediumFont, getEnemiesKilled(player), 40f, 4 * SCREEN_HEIGHT / 5f - 150f);
         if (!level.equals(Level3)) {
             drawText(batcher, mediumFont, GO_NEXT, 10f, 4 * SCREEN_HEIGHT / 5f - 250f);
         } else {
@@ -61,4 +66,14 @@ public class LevelFinishedRenderingSystem extends IteratingSystem {
 
         }
     }
+
+    private StringBuilder getEnemiesKilled(PlayerComponent player) {
+        if (player.enemiesKilledLevel != enemiesKilledLevel || player.enemiesCountLevel != enemiesCountLevel) {
+            enemiesKilledLevel = player.enemiesKilledLevel;
+            enemiesCountLevel = player.enemiesCountLevel;
+            enemiesKilled.setLength(0);
+            enemiesKilled.append(enemiesKilledLevel).append(OUT_OF).append(enemiesCountLevel);
+        }
+        return enemiesKilled;
+    }
 }
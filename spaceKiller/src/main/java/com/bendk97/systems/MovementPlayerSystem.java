@@ -24,6 +24,7 @@ public class MovementPlayerSystem extends AbstractMovementSystem {
                 .exclude(GameOverComponent.class)
                 .get(), priority);
         this.camera = camera;
+        access.writesState(camera);
     }
 
 
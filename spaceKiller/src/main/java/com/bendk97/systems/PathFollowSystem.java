@@ -0,0 +1,84 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import com.bendk97.components.GameOverComponent;
+import com.bendk97.components.LightComponent;
+import com.bendk97.components.PathComponent;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityFactory;
+
+/**
+ * Moves the ships along their baked path, see {@link PathComponent}
+ */
+public class PathFollowSystem extends IteratingSystem {
+
+    private final EntityFactory entityFactory;
+    private final Vector2 point = new Vector2();
+
+    public PathFollowSystem(int priority, EntityFactory entityFactory) {
+        super(Family.all(PathComponent.class, PositionComponent.class, SpriteComponent.class).exclude(GameOverComponent.class).get(), priority);
+        this.entityFactory = entityFactory;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PathComponent path = ComponentMapperHelper.path.get(entity);
+        // stopped, e.g. to tween its death
+        if (path.path == null) {
+            return;
+        }
+        if (path.waiting > 0f) {
+            path.waiting -= deltaTime;
+            return;
+        }
+        float length = path.path.length();
+        float distance = path.distance + (path.backward ? -path.speed : path.speed) * deltaTime;
+        switch (path.mode) {
+            case ONCE:
+                if (distance >= length) {
+                    entityFactory.enemyEntityFactory.squadronFactory.removeEntitySquadron(entity);
+                    return;
+                }
+                break;
+            case LOOP:
+                if (distance >= length && length > 0f) {
+                    distance %= length;
+                }
+                break;
+            case YOYO:
+            default:
+                if (!path.backward && distance >= length) {
+                    distance = length;
+                    path.backward = true;
+                    path.waiting = path.pause;
+                } else if (path.backward && distance <= 0f) {
+                    distance = 0f;
+                    path.backward = false;
+                    path.waiting = path.pause;
+                }
+                break;
+        }
+        path.distance = distance;
+        path.path.valueAt(distance, point);
+        PositionComponent position = ComponentMapperHelper.position.get(entity);
+        position.setXY(path.originX + point.x, path.originY + point.y);
+        LightComponent light = ComponentMapperHelper.light.get(entity);
+        if (light != null) {
+            Sprite sprite = ComponentMapperHelper.sprite.get(entity).sprite;
+            light.light.setPosition(position.x() + sprite.getWidth() / 2f,
+                    position.y() + sprite.getHeight() / 2f);
+        }
+    }
+}
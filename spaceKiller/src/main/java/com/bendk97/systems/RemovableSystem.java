@@ -10,24 +10,51 @@ import aurelienribon.tweenengine.TweenManager;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.utils.Array;
 import com.bendk97.components.PositionComponent;
 import com.bendk97.components.RemovableComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.VelocityComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityCommandBuffer;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SyncedSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
 import static com.bendk97.SpaceKillerGameConstants.*;
 
-public class RemovableSystem extends IteratingSystem {
+public class RemovableSystem extends IteratingSystem implements ScheduledSystem, SyncedSystem {
 
     private final TweenManager tweenManager;
+    private final EntityCommandBuffer commands;
+    private final SystemAccess access = new SystemAccess()
+            .reads(PositionComponent.class, SpriteComponent.class)
+            .writes(RemovableComponent.class);
+    // removed at the sync point of the scheduler, on the thread of the engine
+    private final Array<Entity> removed = new Array<>(false, 32, Entity.class);
 
-    public RemovableSystem(int priority, TweenManager tweenManager) {
+    public RemovableSystem(int priority, TweenManager tweenManager, EntityCommandBuffer commands) {
         super(Family.all(RemovableComponent.class, PositionComponent.class, VelocityComponent.class).get(), priority);
         this.tweenManager = tweenManager;
+        this.commands = commands;
     }
 
 
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
+    @Override
+    public void sync() {
+        for (int i = 0; i < removed.size; ++i) {
+            Entity entity = removed.items[i];
+            commands.removeEntity(entity);
+            tweenManager.killTarget(ComponentMapperHelper.sprite.get(entity));
+        }
+        removed.clear();
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         RemovableComponent removableComponent = ComponentMapperHelper.removable.get(entity);
@@ -40,8 +67,7 @@ public class RemovableSystem extends IteratingSystem {
                     || position.x() > SCREEN_WIDTH + OFFSET_WIDTH
                     || position.y() > SCREEN_HEIGHT
                     || position.y() + sprite.sprite.getHeight() < 0) {
-                getEngine().removeEntity(entity);
-                tweenManager.killTarget(sprite);
+                removed.add(entity);
             }
         }
     }
@@ -49,8 +75,7 @@ public class RemovableSystem extends IteratingSystem {
     private void checkIfDurationIsOver(Entity entity, float deltaTime, RemovableComponent removableComponent) {
         removableComponent.elapseTime += deltaTime;
         if (removableComponent.elapseTime > removableComponent.duration) {
-            getEngine().removeEntity(entity);
-            tweenManager.killTarget(ComponentMapperHelper.sprite.get(entity));
+            removed.add(entity);
         }
     }
 }
@@ -0,0 +1,14 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+/**
+ * Marks the systems drawing the frame: they run once per rendered frame,
+ * the other systems run at each fixed simulation step.
+ */
+public interface RenderingSystem {
+}
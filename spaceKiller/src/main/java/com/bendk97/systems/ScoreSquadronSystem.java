@@ -20,7 +20,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 import static com.bendk97.assets.GameAssets.FONT_SPACE_KILLER;
 import static com.bendk97.pools.BitmapFontHelper.drawText;
 
-public class ScoreSquadronSystem extends IteratingSystem {
+public class ScoreSquadronSystem extends IteratingSystem implements RenderingSystem {
 
     private final BitmapFontCache font;
     private final SpriteBatch batcher;
@@ -36,6 +36,6 @@ public class ScoreSquadronSystem extends IteratingSystem {
         ScoreSquadronComponent squadron = ComponentMapperHelper.scoreSquadron.get(entity);
         PositionComponent position = ComponentMapperHelper.position.get(entity);
         font.setColor(Color.YELLOW);
-        drawText(batcher, font, 0.85f, squadron.score.toString(), position.x(), position.y());
+        drawText(batcher, font, 0.85f, squadron.score, position.x(), position.y());
     }
 }
\ No newline at end of file
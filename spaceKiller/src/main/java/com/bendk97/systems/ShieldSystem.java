@@ -14,16 +14,26 @@ import com.bendk97.components.PositionComponent;
 import com.bendk97.components.ShieldComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-public class ShieldSystem extends IteratingSystem {
+public class ShieldSystem extends IteratingSystem implements ScheduledSystem {
 
     private final Entity player;
+    private final SystemAccess access = new SystemAccess()
+            .reads(SpriteComponent.class)
+            .writes(PositionComponent.class);
 
     public ShieldSystem(int priority, Entity player) {
         super(Family.all(ShieldComponent.class).exclude(GameOverComponent.class).get(), priority);
         this.player = player;
     }
 
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         PositionComponent positionComponent = ComponentMapperHelper.position.get(entity);
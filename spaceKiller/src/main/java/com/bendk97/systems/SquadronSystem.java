@@ -9,13 +9,12 @@ package com.bendk97.systems;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
-import com.badlogic.gdx.math.RandomXS128;
 import com.bendk97.components.SquadronComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.listeners.PlayerListener;
+import com.bendk97.random.GameRandom;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.timer.PausableTimer;
 
 import java.util.Random;
 
@@ -31,13 +30,15 @@ public class SquadronSystem extends IteratingSystem {
     private final EntityFactory entityFactory;
     private final Entity player;
     private final PlayerListener playerListener;
-    private final Random random = new RandomXS128();
+    private final Random random = GameRandom.get();
+    private final TimerSystem.EntityAction removeScore;
 
     public SquadronSystem(Level level, int priority, EntityFactory entityFactory, Entity player, PlayerListener playerListener) {
         super(Family.all(SquadronComponent.class).get(), priority);
         this.entityFactory = entityFactory;
         this.player = player;
         this.playerListener = playerListener;
+        this.removeScore = score -> entityFactory.commands.removeEntity(score);
         if (level.equals(Level3)) {
             threshold_power_up = 14;
             threshold_shield = 20;
@@ -48,7 +49,7 @@ public class SquadronSystem extends IteratingSystem {
     public void processEntity(final Entity entity, float deltaTime) {
         SquadronComponent squadron = ComponentMapperHelper.squadron.get(entity);
         if (squadron.ships.size == 0) {
-            getEngine().removeEntity(entity);
+            entityFactory.commands.removeEntity(entity);
             if (squadron.toShoot == 0) {
                 if (squadron.powerUpAfterDestruction) {
                     int type = random.nextInt(22);
@@ -62,13 +63,8 @@ public class SquadronSystem extends IteratingSystem {
                 }
                 if (squadron.displayBonusSquadron) {
                     playerListener.updateScore(player, squadron.scoreBonus);
-                    final Entity score = entityFactory.enemyEntityFactory.createScoreSquadron(entity);
-                    PausableTimer.schedule(new PausableTimer.Task() {
-                        @Override
-                        public void run() {
-                            getEngine().removeEntity(score);
-                        }
-                    }, 1.5f);
+                    Entity score = entityFactory.enemyEntityFactory.createScoreSquadron(entity);
+                    entityFactory.timer.schedule(removeScore, score, 1.5f);
                 }
             }
         }
@@ -11,13 +11,22 @@ import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.bendk97.components.StateComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-public class StateSystem extends IteratingSystem {
+public class StateSystem extends IteratingSystem implements ScheduledSystem {
+
+    private final SystemAccess access = new SystemAccess().writes(StateComponent.class);
 
     public StateSystem(int priority) {
         super(Family.all(StateComponent.class).get(), priority);
     }
 
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
     @Override
     public void processEntity(Entity entity, float deltaTime) {
         ComponentMapperHelper.state.get(entity).time += deltaTime;
@@ -14,7 +14,7 @@ import com.bendk97.components.PositionComponent;
 import com.bendk97.components.SpriteComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 
-public class StaticEntitiesRenderingSystem extends IteratingSystem {
+public class StaticEntitiesRenderingSystem extends IteratingSystem implements RenderingSystem {
     private final SpriteBatch batcher;
 
     public StaticEntitiesRenderingSystem(SpriteBatch batcher, int priority) {
@@ -18,7 +18,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 import static com.bendk97.assets.GameAssets.FONT_SPACE_KILLER;
 import static com.bendk97.pools.BitmapFontHelper.drawText;
 
-public class StatusHealthRenderingSystem extends IteratingSystem {
+public class StatusHealthRenderingSystem extends IteratingSystem implements RenderingSystem {
     private static final float ALPHA = 0.4f;
     public static final String BOSS = "BOSS";
     private final SpriteBatch batcher;
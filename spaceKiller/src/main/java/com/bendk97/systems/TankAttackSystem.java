@@ -6,42 +6,59 @@
 
 package com.bendk97.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.utils.TimeUtils;
+import com.bendk97.components.EnemyComponent;
 import com.bendk97.components.PauseComponent;
 import com.bendk97.components.PlayerComponent;
 import com.bendk97.components.TankComponent;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.systems.scheduler.ScheduledSystem;
+import com.bendk97.systems.scheduler.SystemAccess;
 
-public class TankAttackSystem extends IteratingSystem {
+public class TankAttackSystem extends IteratingSystem implements ScheduledSystem {
 
     private final Family player = Family.one(PlayerComponent.class).exclude(PauseComponent.class).get();
+    private final SystemAccess access = new SystemAccess()
+            .reads(PlayerComponent.class, PauseComponent.class)
+            .writes(TankComponent.class, EnemyComponent.class);
+    private ImmutableArray<Entity> players;
 
     public TankAttackSystem(int priority) {
         super(Family.all(TankComponent.class).get(), priority);
     }
 
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        players = engine.getEntitiesFor(player);
+    }
+
+    @Override
+    public SystemAccess access() {
+        return access;
+    }
+
 
     @Override
     protected void processEntity(final Entity entity, float deltaTime) {
-        ImmutableArray<Entity> playerEntity = getEngine().getEntitiesFor(player);
-        if (playerEntity.size() == 0) {
+        if (players.size() == 0) {
             return;
         }
         final TankComponent tank = ComponentMapperHelper.tank.get(entity);
+        tank.sinceLastShoot += deltaTime;
         if (tank.nbShootsBeforeLastReload >= tank.nbShoots) {
-            if ((TimeUtils.millis() - tank.lastShoot) > tank.delayBetweenBursts) {
-                tank.reRandomCharacteristics();
-                tank.lastShoot = TimeUtils.millis() - 300;
+            if (tank.sinceLastShoot * 1000f > tank.delayBetweenBursts) {
+                tank.reload();
+                tank.sinceLastShoot = 0.3f;
             }
-        } else if ((TimeUtils.millis() - tank.lastShoot) > tank.delayShoot) {
-            tank.lastShoot = TimeUtils.millis();
+        } else if (tank.sinceLastShoot * 1000f > tank.delayShoot) {
+            tank.sinceLastShoot = 0f;
             tank.nbShootsBeforeLastReload++;
             ComponentMapperHelper.enemy.get(entity).attackCapacity = 1;
         }
-
     }
 }
@@ -21,7 +21,7 @@ import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.assets.GameAssets.FONT_SPACE_KILLER;
 import static com.bendk97.pools.BitmapFontHelper.drawText;
 
-public class TextHUDRenderingSystem extends IteratingSystem {
+public class TextHUDRenderingSystem extends IteratingSystem implements RenderingSystem {
     private static final String SCORE = "SCORE";
     private static final String LIVES = "LIVES";
     private static final String HIGH = "HIGH";
@@ -39,10 +39,10 @@ public class TextHUDRenderingSystem extends IteratingSystem {
         bitmapFont.setColor(Color.WHITE);
         drawText(batcher, bitmapFont, SCORE, SCORE_X, SCORE_Y);
         drawText(batcher, bitmapFont, SCORE, SCORE_X, SCORE_Y);
-        drawText(batcher, bitmapFont, ComponentMapperHelper.player.get(player).getScore().toString(), SCORE_X - 10f, SCORE_Y - 20f);
+        drawText(batcher, bitmapFont, ComponentMapperHelper.player.get(player).getScore(), SCORE_X - 10f, SCORE_Y - 20f);
         drawText(batcher, bitmapFont, LIVES, LIVES_X, LIVES_Y);
         drawText(batcher, bitmapFont, HIGH, HIGH_X, HIGH_Y);
-        drawText(batcher, bitmapFont, ComponentMapperHelper.player.get(player).getHighScoreFormatted().toString(), HIGH_X - 10f, HIGH_Y - 20f);
+        drawText(batcher, bitmapFont, ComponentMapperHelper.player.get(player).getHighScoreFormatted(), HIGH_X - 10f, HIGH_Y - 20f);
         displayEventTexts(player);
     }
 
@@ -0,0 +1,283 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+
+import static com.bendk97.pools.GamePools.poolTask;
+
+/**
+ * Executes tasks in the future, on the time of the game.
+ * The time advances with the simulation steps given to the engine: tasks are run inline during the engine update,
+ * in order of execution time then of scheduling, and they wait while the game is paused.
+ * A task scheduled by a running task is run at the next update at the earliest.
+ * <p>
+ * Actions given with their arguments are run by pooled tasks, freed once run or cancelled: with an action
+ * kept in a field or not capturing anything, scheduling allocates nothing.
+ */
+public class TimerSystem extends EntitySystem {
+
+    public static final long NO_TASK = -1L;
+
+    public interface EntityAction {
+        void run(Entity entity);
+    }
+
+    public interface EntitiesAction {
+        void run(Entity entity1, Entity entity2);
+    }
+
+    public interface FloatAction {
+        void run(Entity entity, float value);
+    }
+
+    /**
+     * Runnable scheduled on the game time.
+     */
+    public abstract static class Task implements Runnable {
+        float executeTime;
+        long order;
+        // position in the heap, -1 when not scheduled
+        int index = -1;
+
+        public boolean isScheduled() {
+            return index >= 0;
+        }
+    }
+
+    /**
+     * Task of the pool, running one of the actions with its arguments.
+     */
+    public static final class PooledTask extends Task implements Pool.Poolable {
+        private EntityAction entityAction;
+        private EntitiesAction entitiesAction;
+        private FloatAction floatAction;
+        private Entity entity1;
+        private Entity entity2;
+        private float value;
+
+        @Override
+        public void run() {
+            if (entityAction != null) {
+                entityAction.run(entity1);
+            } else if (entitiesAction != null) {
+                entitiesAction.run(entity1, entity2);
+            } else if (floatAction != null) {
+                floatAction.run(entity1, value);
+            }
+        }
+
+        @Override
+        public void reset() {
+            entityAction = null;
+            entitiesAction = null;
+            floatAction = null;
+            entity1 = null;
+            entity2 = null;
+            value = 0f;
+        }
+    }
+
+    // min-heap on (executeTime, order)
+    private Task[] tasks = new Task[16];
+    private int size = 0;
+    private long nextOrder = 0L;
+    private float time = 0f;
+    private final Array<Task> due = new Array<>(false, 16, Task.class);
+    private final LongMap<PooledTask> pooledTasks = new LongMap<>();
+
+    public TimerSystem(int priority) {
+        super(priority);
+    }
+
+    /**
+     * Schedules a task to occur once after the specified delay.
+     */
+    public void schedule(Task task, float delaySeconds) {
+        if (task.isScheduled()) {
+            throw new IllegalArgumentException("The same task may not be scheduled twice.");
+        }
+        task.executeTime = time + delaySeconds;
+        push(task);
+    }
+
+    /**
+     * @return handle to cancel the action
+     */
+    public long schedule(EntityAction action, Entity entity, float delaySeconds) {
+        PooledTask task = poolTask.obtain();
+        task.entityAction = action;
+        task.entity1 = entity;
+        return schedule(task, delaySeconds);
+    }
+
+    /**
+     * @return handle to cancel the action
+     */
+    public long schedule(EntitiesAction action, Entity entity1, Entity entity2, float delaySeconds) {
+        PooledTask task = poolTask.obtain();
+        task.entitiesAction = action;
+        task.entity1 = entity1;
+        task.entity2 = entity2;
+        return schedule(task, delaySeconds);
+    }
+
+    /**
+     * @return handle to cancel the action
+     */
+    public long schedule(FloatAction action, Entity entity, float value, float delaySeconds) {
+        PooledTask task = poolTask.obtain();
+        task.floatAction = action;
+        task.entity1 = entity;
+        task.value = value;
+        return schedule(task, delaySeconds);
+    }
+
+    private long schedule(PooledTask task, float delaySeconds) {
+        schedule((Task) task, delaySeconds);
+        pooledTasks.put(task.order, task);
+        return task.order;
+    }
+
+    /**
+     * @return false if the task was not scheduled
+     */
+    public boolean cancel(Task task) {
+        if (!task.isScheduled()) {
+            return false;
+        }
+        remove(task.index);
+        return true;
+    }
+
+    /**
+     * cancels an action, nothing happens if it has already been run or cancelled
+     *
+     * @return false if the action was not scheduled anymore
+     */
+    public boolean cancel(long handle) {
+        PooledTask task = pooledTasks.remove(handle);
+        if (task == null) {
+            return false;
+        }
+        remove(task.index);
+        poolTask.free(task);
+        return true;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        time += deltaTime;
+        while (size > 0 && tasks[0].executeTime <= time) {
+            Task task = tasks[0];
+            remove(0);
+            // a due action can no longer be cancelled
+            if (task instanceof PooledTask) {
+                pooledTasks.remove(task.order);
+            }
+            due.add(task);
+        }
+        for (int i = 0; i < due.size; ++i) {
+            Task task = due.items[i];
+            task.run();
+            if (task instanceof PooledTask) {
+                poolTask.free((PooledTask) task);
+            }
+        }
+        due.clear();
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Cancels all tasks.
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            tasks[i].index = -1;
+            if (tasks[i] instanceof PooledTask) {
+                poolTask.free((PooledTask) tasks[i]);
+            }
+            tasks[i] = null;
+        }
+        size = 0;
+        pooledTasks.clear();
+    }
+
+    private void push(Task task) {
+        if (size == tasks.length) {
+            Task[] newTasks = new Task[size << 1];
+            System.arraycopy(tasks, 0, newTasks, 0, size);
+            tasks = newTasks;
+        }
+        task.order = nextOrder++;
+        siftUp(size++, task);
+    }
+
+    private void remove(int index) {
+        Task removed = tasks[index];
+        removed.index = -1;
+        Task last = tasks[--size];
+        tasks[size] = null;
+        if (index < size) {
+            siftDown(index, last);
+            if (tasks[index] == last) {
+                siftUp(index, last);
+            }
+        }
+    }
+
+    private void siftUp(int index, Task task) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(task, tasks[parent])) {
+                break;
+            }
+            set(index, tasks[parent]);
+            index = parent;
+        }
+        set(index, task);
+    }
+
+    private void siftDown(int index, Task task) {
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(tasks[child + 1], tasks[child])) {
+                child++;
+            }
+            if (!before(tasks[child], task)) {
+                break;
+            }
+            set(index, tasks[child]);
+            index = child;
+        }
+        set(index, task);
+    }
+
+    private void set(int index, Task task) {
+        tasks[index] = task;
+        task.index = index;
+    }
+
+    private static boolean before(Task task1, Task task2) {
+        return task1.executeTime < task2.executeTime
+                || (task1.executeTime == task2.executeTime && task1.order < task2.order);
+    }
+}
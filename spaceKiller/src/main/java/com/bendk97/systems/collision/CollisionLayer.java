@@ -0,0 +1,44 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.bendk97.components.helpers.Families;
+
+public enum CollisionLayer {
+    PLAYER(Families.player),
+    PLAYER_VULNERABLE(Families.playerVulnerable),
+    PLAYER_BULLET(Families.playerBullet),
+    ENEMY(Families.enemies),
+    ENEMY_BODY(Families.enemyBodies),
+    ENEMY_BULLET(Families.enemyBullet),
+    SHIELD(Families.shield),
+    POWER_UP(Families.powerUp),
+    SHIELD_UP(Families.shieldUp),
+    BOMB_UP(Families.bombUp);
+
+    private static final CollisionLayer[] LAYERS = values();
+
+    public final Family family;
+    public final int bit;
+
+    CollisionLayer(Family family) {
+        this.family = family;
+        this.bit = 1 << ordinal();
+    }
+
+    public static int layersOf(Entity entity) {
+        int layers = 0;
+        for (CollisionLayer layer : LAYERS) {
+            if (layer.family.matches(entity)) {
+                layers |= layer.bit;
+            }
+        }
+        return layers;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Declares which collision layers interact and the contact they produce when they touch.
+ * Rules are evaluated in declaration order.
+ */
+public class CollisionMatrix {
+
+    public interface CollisionFilter {
+        boolean accept(Entity first, Entity second);
+    }
+
+    static class CollisionRule {
+        final CollisionLayer first;
+        final CollisionLayer second;
+        final CollisionFilter filter;
+        final ContactType type;
+
+        CollisionRule(CollisionLayer first, CollisionLayer second, CollisionFilter filter, ContactType type) {
+            this.first = first;
+            this.second = second;
+            this.filter = filter;
+            this.type = type;
+        }
+
+        boolean accept(Entity first, Entity second) {
+            return filter == null || filter.accept(first, second);
+        }
+    }
+
+    final Array<CollisionRule> rules = new Array<>(true, 8, CollisionRule.class);
+    private int layers = 0;
+    private int secondLayers = 0;
+
+    public CollisionMatrix add(CollisionLayer first, CollisionLayer second, ContactType type) {
+        return add(first, second, null, type);
+    }
+
+    public CollisionMatrix add(CollisionLayer first, CollisionLayer second, CollisionFilter filter, ContactType type) {
+        rules.add(new CollisionRule(first, second, filter, type));
+        layers |= first.bit | second.bit;
+        secondLayers |= second.bit;
+        return this;
+    }
+
+    /**
+     * @return bit mask of every layer used by at least one rule
+     */
+    public int layers() {
+        return layers;
+    }
+
+    /**
+     * @return bit mask of the layers searched for by at least one rule
+     */
+    public int secondLayers() {
+        return secondLayers;
+    }
+}
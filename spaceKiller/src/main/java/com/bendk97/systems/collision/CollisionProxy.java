@@ -0,0 +1,172 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.signals.Listener;
+import com.badlogic.ashley.signals.Signal;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+
+import static com.bendk97.components.helpers.ComponentMapperHelper.position;
+import static com.bendk97.components.helpers.ComponentMapperHelper.sprite;
+
+/**
+ * Collision data cached for one entity between two collision passes.
+ */
+class CollisionProxy implements Pool.Poolable, Listener<Entity> {
+    // beyond this distance a move is a teleportation, not a sweep
+    private static final float MAX_SWEEP = 300f;
+
+    Entity entity;
+    // creation order, for a deterministic ordering of contacts
+    int order = 0;
+    int layers = 0;
+    // layers are matched again only when the components of the entity change
+    boolean layersDirty = true;
+    // refreshed this pass: the entity moved, changed its layers or its sprite, or was swept last pass
+    boolean changed = true;
+    private float width, height, rotation, scaleX, scaleY;
+    final Circle circle = new Circle();
+    float minX, minY, maxX, maxY;
+    boolean pixelPerfect = false;
+    // displacement since last pass, bounds include the swept volume
+    float deltaX, deltaY;
+    boolean swept = false;
+    private float lastX, lastY;
+    // cells covered in the spatial grid, registered in them when searched for
+    boolean covered = false;
+    boolean inGrid = false;
+    int minColumn, minRow, maxColumn, maxRow;
+    // last query having visited this proxy, avoid testing twice a pair sharing several cells
+    int stamp = 0;
+
+    /**
+     * updates the bounds of the entity, unless nothing they depend on changed since last pass
+     */
+    void refresh() {
+        PositionComponent positionComponent = position.get(entity);
+        SpriteComponent spriteComponent = sprite.get(entity);
+        Sprite sprite = spriteComponent.sprite;
+        float x = positionComponent.x(), y = positionComponent.y();
+        changed = layersDirty || !swept || x != lastX || y != lastY || deltaX != 0f || deltaY != 0f
+                || pixelPerfect != spriteComponent.pixelPerfectCollision || width != sprite.getWidth()
+                || height != sprite.getHeight() || rotation != sprite.getRotation()
+                || scaleX != sprite.getScaleX() || scaleY != sprite.getScaleY();
+        if (!changed) {
+            if (pixelPerfect) {
+                // the rendering may have placed the sprite between two steps
+                sprite.setPosition(x, y);
+            }
+            return;
+        }
+        if (layersDirty) {
+            layers = CollisionLayer.layersOf(entity);
+            layersDirty = false;
+        }
+        width = sprite.getWidth();
+        height = sprite.getHeight();
+        rotation = sprite.getRotation();
+        scaleX = sprite.getScaleX();
+        scaleY = sprite.getScaleY();
+        circle.set(x + width / 2f, y + height / 2f, Math.max(width, height) / 2f);
+        minX = circle.x - circle.radius;
+        maxX = circle.x + circle.radius;
+        minY = y;
+        maxY = y + height;
+        pixelPerfect = spriteComponent.pixelPerfectCollision;
+        if (pixelPerfect) {
+            // sprites are placed by the rendering, which may not have run since last move
+            sprite.setPosition(x, y);
+            // rotated or scaled sprites can get out of their bounding circle
+            Rectangle bounds = sprite.getBoundingRectangle();
+            minX = Math.min(minX, bounds.x);
+            maxX = Math.max(maxX, bounds.x + bounds.width);
+            minY = Math.min(minY, bounds.y);
+            maxY = Math.max(maxY, bounds.y + bounds.height);
+        }
+        deltaX = 0f;
+        deltaY = 0f;
+        // a proxy created this pass has no previous position yet
+        if (swept) {
+            deltaX = x - lastX;
+            deltaY = y - lastY;
+            if (Math.abs(deltaX) > MAX_SWEEP || Math.abs(deltaY) > MAX_SWEEP) {
+                deltaX = 0f;
+                deltaY = 0f;
+            }
+        }
+        swept = true;
+        lastX = x;
+        lastY = y;
+        minX = Math.min(minX, minX - deltaX);
+        maxX = Math.max(maxX, maxX - deltaX);
+        minY = Math.min(minY, minY - deltaY);
+        maxY = Math.max(maxY, maxY - deltaY);
+    }
+
+    /**
+     * sweeps both bounding circles along their displacement since last pass
+     *
+     * @return first instant in [0, 1] at which the circles touch, -1 if they do not
+     */
+    float timeOfImpact(CollisionProxy other) {
+        // relative move of the other circle seen from this one
+        float moveX = other.deltaX - deltaX;
+        float moveY = other.deltaY - deltaY;
+        float startX = other.circle.x - circle.x - moveX;
+        float startY = other.circle.y - circle.y - moveY;
+        float radius = circle.radius + other.circle.radius;
+        float c = startX * startX + startY * startY - radius * radius;
+        if (c <= 0f) {
+            return 0f;
+        }
+        float a = moveX * moveX + moveY * moveY;
+        float b = startX * moveX + startY * moveY;
+        if (a == 0f || b >= 0f) {
+            return -1f;
+        }
+        float discriminant = b * b - a * c;
+        if (discriminant < 0f) {
+            return -1f;
+        }
+        float time = (-b - (float) Math.sqrt(discriminant)) / a;
+        return time <= 1f ? time : -1f;
+    }
+
+    @Override
+    public void receive(Signal<Entity> signal, Entity entity) {
+        layersDirty = true;
+    }
+
+    boolean overlapsVertically(CollisionProxy other) {
+        return minY <= other.maxY && other.minY <= maxY;
+    }
+
+    @Override
+    public void reset() {
+        entity = null;
+        order = 0;
+        layers = 0;
+        layersDirty = true;
+        changed = true;
+        width = height = rotation = scaleX = scaleY = 0f;
+        circle.set(0f, 0f, 0f);
+        pixelPerfect = false;
+        deltaX = 0f;
+        deltaY = 0f;
+        swept = false;
+        lastX = lastY = 0f;
+        covered = false;
+        inGrid = false;
+        stamp = 0;
+    }
+}
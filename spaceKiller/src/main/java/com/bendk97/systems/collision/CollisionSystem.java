@@ -8,55 +8,106 @@ package com.bendk97.systems.collision;
 
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
 import com.badlogic.ashley.core.EntitySystem;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.ScreenUtils;
-import com.badlogic.gdx.utils.viewport.Viewport;
-import com.bendk97.components.PositionComponent;
-import com.bendk97.components.SpriteComponent;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.Pool;
 import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.components.helpers.Families;
+import com.bendk97.entities.CollisionMask;
+import com.bendk97.entities.CollisionMasks;
 import com.bendk97.listeners.CollisionListener;
 
-import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
-import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
-import static com.bendk97.components.helpers.ComponentMapperHelper.position;
+import static com.bendk97.SpaceKillerGameConstants.*;
 import static com.bendk97.components.helpers.ComponentMapperHelper.sprite;
-import static com.bendk97.pools.GamePools.poolCircle;
-import static com.bendk97.pools.GamePools.poolRectangle;
+import static com.bendk97.systems.collision.CollisionLayer.*;
 
-public class CollisionSystem extends EntitySystem {
+public class CollisionSystem extends EntitySystem implements EntityListener {
 
+    // a pass every step costs twice a pass every third step, even when most bodies stand still
     private static final int FREQUENCY_MS = 50;
+    // pixel perfect sweeps are sampled every few pixels
+    private static final float SWEEP_STEP = 8f;
+    private static final int MAX_SWEEP_STEPS = 8;
+    private static final float CELL_SIZE = 64f;
+    private static final float GRID_MARGIN = 100f;
+    // sized for the crowded waves, so that the collidables do not grow the collections in game
+    private static final int INITIAL_PROXIES = 128;
     private final CollisionListener collisionListener;
-    private final CollisionHelper collisionHelper = new CollisionHelper();
-    private final SpriteBatch spriteBatch;
-    private FrameBuffer fbo;
-    private final Viewport viewport;
+    private final MaskCollisionDetector maskCollisionDetector = new MaskCollisionDetector();
     private float deltaCount = 0;
 
-    public CollisionSystem(CollisionListener collisionListener, Viewport viewport, SpriteBatch spriteBatch, int priority) {
-        super(priority);
-        try {
-            this.fbo = new FrameBuffer(Pixmap.Format.RGBA4444, (int) SCREEN_WIDTH, (int) SCREEN_HEIGHT, false);
-        } catch (Exception e) {
-            Gdx.app.log("Pixel Perfect Collision", "Unable on this device");
-            this.fbo = null;
+    private final CollisionMatrix matrix = new CollisionMatrix();
+    private final SpatialGrid grid = new SpatialGrid(-OFFSET_WIDTH - GRID_MARGIN, -GRID_MARGIN,
+            SCREEN_WIDTH + 2 * (OFFSET_WIDTH + GRID_MARGIN), SCREEN_HEIGHT + 2 * GRID_MARGIN, CELL_SIZE);
+    private final IdentityMap<Entity, CollisionProxy> proxiesByEntity = new IdentityMap<>(INITIAL_PROXIES);
+    private final Array<CollisionProxy> proxies = new Array<>(true, INITIAL_PROXIES, CollisionProxy.class);
+    private final Array<CollisionProxy> candidates = new Array<>(false, 16, CollisionProxy.class);
+    private final ContactBuffer contacts = new ContactBuffer();
+    private int nextOrder = 0;
+    private final Pool<CollisionProxy> proxyPool = new Pool<CollisionProxy>(INITIAL_PROXIES) {
+        @Override
+        protected CollisionProxy newObject() {
+            return new CollisionProxy();
         }
-        this.viewport = viewport;
-        this.spriteBatch = spriteBatch;
-        this.spriteBatch.enableBlending();
+    };
+
+    public CollisionSystem(CollisionListener collisionListener, int priority) {
+        super(priority);
         this.collisionListener = collisionListener;
+        declareCollisions();
+    }
+
+    private void declareCollisions() {
+        matrix.add(PLAYER_BULLET, ENEMY, (bullet, enemy) -> !ComponentMapperHelper.enemy.get(enemy).isDead(), ContactType.ENEMY_SHOOT)
+                .add(PLAYER, POWER_UP, ContactType.PLAYER_POWER_UP)
+                .add(PLAYER, SHIELD_UP, ContactType.PLAYER_SHIELD_UP)
+                .add(PLAYER, BOMB_UP, ContactType.PLAYER_BOMB_UP)
+                .add(SHIELD, ENEMY_BULLET, ContactType.BULLET_STOPPED_BY_SHIELD)
+                .add(SHIELD, ENEMY_BODY,
+                        (shield, enemy) -> ComponentMapperHelper.boss.get(enemy) == null && !ComponentMapperHelper.enemy.get(enemy).isLaserShip,
+                        ContactType.ENEMY_SHOOT_BY_SHIELD)
+                .add(PLAYER_VULNERABLE, ENEMY_BODY, ContactType.PLAYER_HIT_BY_ENEMY_BODY)
+                .add(PLAYER_VULNERABLE, ENEMY_BULLET, ContactType.PLAYER_HIT_BY_ENEMY_BULLET);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(Families.collidable, this);
+        for (Entity entity : engine.getEntitiesFor(Families.collidable)) {
+            entityAdded(entity);
+        }
     }
 
+    @Override
+    public void entityAdded(Entity entity) {
+        if (proxiesByEntity.containsKey(entity)) {
+            return;
+        }
+        CollisionProxy proxy = proxyPool.obtain();
+        proxy.entity = entity;
+        proxy.order = nextOrder++;
+        proxiesByEntity.put(entity, proxy);
+        proxies.add(proxy);
+        entity.componentAdded.add(proxy);
+        entity.componentRemoved.add(proxy);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        CollisionProxy proxy = proxiesByEntity.remove(entity);
+        if (proxy != null) {
+            entity.componentAdded.remove(proxy);
+            entity.componentRemoved.remove(proxy);
+            grid.remove(proxy);
+            proxies.removeValue(proxy, true);
+            proxyPool.free(proxy);
+        }
+    }
 
     @Override
     public void update(float delta) {
@@ -66,167 +117,117 @@ public class CollisionSystem extends EntitySystem {
         }
         deltaCount = 0f;
 
-        detectCollisionWithPlayer();
-        detectCollisionWithShields();
-        detectCollisionWithPlayerVulnerable();
-    }
-
-    private void detectCollisionWithPlayer() {
-        for (Entity player : getEngine().getEntitiesFor(Families.player)) {
-            for (Entity bullet : getEngine().getEntitiesFor(Families.playerBullet)) {
-                for (Entity enemy : getEngine().getEntitiesFor(Families.enemies)) {
-                    if (!ComponentMapperHelper.enemy.get(enemy).isDead()
-                            && isCollisionBetween(enemy, bullet)) {
-                        collisionListener.enemyShoot(enemy, player, bullet);
-                        return;
-                    }
-                }
-            }
-
-            for (Entity powerUp : getEngine().getEntitiesFor(Families.powerUp)) {
-                if (isCollisionBetween(player, powerUp)) {
-                    collisionListener.playerPowerUp(player, powerUp);
-                    return;
-                }
-            }
-            for (Entity shieldUp : getEngine().getEntitiesFor(Families.shieldUp)) {
-                if (isCollisionBetween(player, shieldUp)) {
-                    collisionListener.playerShieldUp(player, shieldUp);
-                    return;
-                }
-            }
-            for (Entity bombUp : getEngine().getEntitiesFor(Families.bombUp)) {
-                if (isCollisionBetween(player, bombUp)) {
-                    collisionListener.playerBombUp(player, bombUp);
-                    return;
-                }
-            }
+        refreshProxies();
+        for (int i = 0; i < matrix.rules.size; ++i) {
+            detectCollisions(i, matrix.rules.get(i));
+        }
+        if (contacts.size() > 0) {
+            contacts.sort();
+            collisionListener.resolveContacts(contacts);
+            contacts.clear();
         }
     }
 
-    private void detectCollisionWithPlayerVulnerable() {
-        for (Entity player : getEngine().getEntitiesFor(Families.playerVulnerable)) {
-            for (Entity enemy : getEngine().getEntitiesFor(Families.enemyBodies)) {
-                if (isCollisionBetween(enemy, player)) {
-                    collisionListener.playerHitByEnemyBody(player);
-                    return;
+    private void refreshProxies() {
+        for (int i = 0; i < proxies.size; ++i) {
+            CollisionProxy proxy = proxies.items[i];
+            if (proxy.entity.isScheduledForRemoval()) {
+                grid.remove(proxy);
+                proxy.layers = 0;
+            } else {
+                proxy.refresh();
+                if (!proxy.changed) {
+                    continue;
                 }
-
-            }
-            for (Entity bullet : getEngine().getEntitiesFor(Families.enemyBullet)) {
-                if (isCollisionBetween(bullet, player)) {
-                    collisionListener.playerHitByEnemyBullet(player, bullet);
-                    return;
+                if ((proxy.layers & matrix.secondLayers()) != 0) {
+                    grid.update(proxy);
+                } else {
+                    grid.cover(proxy);
                 }
             }
         }
     }
 
-    private void detectCollisionWithShields() {
-        for (Entity shield : getEngine().getEntitiesFor(Families.shield)) {
-            for (Entity bullet : getEngine().getEntitiesFor(Families.enemyBullet)) {
-                if (isCollisionBetween(bullet, shield)) {
-                    collisionListener.bulletStoppedByShield(bullet);
-                    return;
-                }
+    private void detectCollisions(int ruleIndex, CollisionMatrix.CollisionRule rule) {
+        for (int i = 0; i < proxies.size; ++i) {
+            CollisionProxy proxy = proxies.items[i];
+            if ((proxy.layers & rule.first.bit) == 0) {
+                continue;
             }
-            for (Entity enemy : getEngine().getEntitiesFor(Families.enemyBodies)) {
-                if (ComponentMapperHelper.boss.get(enemy) != null || ComponentMapperHelper.enemy.get(enemy).isLaserShip) {
-                    break;
+            grid.query(proxy, rule.second.bit, candidates);
+            for (int j = 0; j < candidates.size; ++j) {
+                CollisionProxy candidate = candidates.items[j];
+                // both were tested at the same place last pass, and their contact resolved
+                if (!proxy.changed && !candidate.changed) {
+                    continue;
                 }
-                if (isCollisionBetween(enemy, shield)) {
-                    collisionListener.enemyShootByShield(enemy);
-                    return;
+                if (!rule.accept(proxy.entity, candidate.entity)) {
+                    continue;
+                }
+                float time = timeOfImpact(proxy, candidate);
+                if (time >= 0f) {
+                    contacts.add(ruleIndex, rule.type, proxy, candidate, time);
                 }
             }
         }
+        candidates.clear();
     }
 
-    private boolean isCollisionBetween(Entity entity1, Entity entity2) {
-        PositionComponent positionComponent1 = position.get(entity1);
-        PositionComponent positionComponent2 = position.get(entity2);
-        SpriteComponent spriteComponent1 = sprite.get(entity1);
-        SpriteComponent spriteComponent2 = sprite.get(entity2);
-        if((positionComponent1.y() + spriteComponent1.sprite.getHeight()) < positionComponent2.y()
-        || (positionComponent2.y() + spriteComponent2.sprite.getHeight() < positionComponent1.y())){
-            return false;
+    /**
+     * @return first instant of the pass, in [0, 1], at which both entities touch, -1 if they do not
+     */
+    private float timeOfImpact(CollisionProxy proxy1, CollisionProxy proxy2) {
+        if (!proxy1.overlapsVertically(proxy2)) {
+            return -1f;
         }
-        if (fbo != null && (spriteComponent1.pixelPerfectCollision || spriteComponent2.pixelPerfectCollision)) {
-            return isPerfectPixelCollisionBetween(spriteComponent1.sprite, spriteComponent2.sprite);
-        } else {
-            return isBoundingCircleCollisionBetween(spriteComponent1.sprite, spriteComponent2.sprite);
+        if (proxy1.pixelPerfect || proxy2.pixelPerfect) {
+            return pixelPerfectTimeOfImpact(proxy1, proxy2);
         }
+        return proxy1.timeOfImpact(proxy2);
     }
 
-    private boolean isBoundingCircleCollisionBetween(Sprite sprite1, Sprite sprite2) {
-        Circle boundingCircle1 = collisionHelper.getBoundingCircle(sprite1);
-        Circle boundingCircle2 = collisionHelper.getBoundingCircle(sprite2);
-        try {
-            return Intersector.overlaps(boundingCircle1, boundingCircle2);
-        } finally {
-            poolCircle.free(boundingCircle1);
-            poolCircle.free(boundingCircle2);
+    private float pixelPerfectTimeOfImpact(CollisionProxy proxy1, CollisionProxy proxy2) {
+        Sprite sprite1 = sprite.get(proxy1.entity).sprite;
+        Sprite sprite2 = sprite.get(proxy2.entity).sprite;
+        CollisionMask mask1 = CollisionMasks.find(sprite1);
+        CollisionMask mask2 = CollisionMasks.find(sprite2);
+        float moveX = proxy2.deltaX - proxy1.deltaX;
+        float moveY = proxy2.deltaY - proxy1.deltaY;
+        int steps = Math.min(MAX_SWEEP_STEPS, MathUtils.ceil((float) Math.sqrt(moveX * moveX + moveY * moveY) / SWEEP_STEP));
+        if (steps <= 1) {
+            return maskCollisionDetector.overlaps(sprite1, mask1, sprite2, mask2) ? 1f : -1f;
         }
-    }
-
-    private boolean isPerfectPixelCollisionBetween(Sprite sprite1, Sprite sprite2) {
-        Rectangle collision = poolRectangle.obtain();
+        float x1 = sprite1.getX(), y1 = sprite1.getY();
+        float x2 = sprite2.getX(), y2 = sprite2.getY();
         try {
-            viewport.apply();
-            spriteBatch.setProjectionMatrix(viewport.getCamera().combined);
-            if (Intersector.intersectRectangles(sprite1.getBoundingRectangle(), sprite2.getBoundingRectangle(), collision)) {
-                Pixmap pix1 = null;
-                Pixmap pix2 = null;
-                try {
-                    pix1 = transformToPixels(sprite1, collision);
-                    pix2 = transformToPixels(sprite2, collision);
-                    for (int i = 0; i < pix1.getWidth(); ++i) {
-                        for (int j = 0; j < pix1.getHeight(); ++j) {
-                            if (pix1.getPixel(i, j) != 255 && pix2.getPixel(i, j) != 255) {
-                                return true;
-                            }
-                        }
-                    }
-                } finally {
-                    if (pix1 != null) {
-                        pix1.dispose();
-                    }
-                    if (pix2 != null) {
-                        pix2.dispose();
-                    }
+            for (int step = 0; step <= steps; ++step) {
+                float time = step / (float) steps;
+                sprite1.setPosition(x1 - (1f - time) * proxy1.deltaX, y1 - (1f - time) * proxy1.deltaY);
+                sprite2.setPosition(x2 - (1f - time) * proxy2.deltaX, y2 - (1f - time) * proxy2.deltaY);
+                if (maskCollisionDetector.overlaps(sprite1, mask1, sprite2, mask2)) {
+                    return time;
                 }
             }
-            return false;
+            return -1f;
         } finally {
-            poolRectangle.free(collision);
+            sprite1.setPosition(x1, y1);
+            sprite2.setPosition(x2, y2);
         }
     }
 
-    private Pixmap transformToPixels(Sprite sprite, Rectangle collision) {
-        fbo.begin();
-        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        spriteBatch.begin();
-        sprite.draw(spriteBatch);
-        spriteBatch.end();
-        fbo.end();
-        fbo.bind();
-        Pixmap pixmap = ScreenUtils.getFrameBufferPixmap(
-                (int) Math.floor(collision.x),
-                (int) Math.floor(collision.y),
-                (int) Math.ceil(collision.width),
-                (int) Math.ceil(collision.height)
-        );
-        FrameBuffer.unbind();
-        return pixmap;
-    }
-
     @Override
     public void removedFromEngine(Engine engine) {
         super.removedFromEngine(engine);
-        if (fbo != null) {
-            fbo.dispose();
+        engine.removeEntityListener(this);
+        for (int i = 0; i < proxies.size; ++i) {
+            proxies.items[i].entity.componentAdded.remove(proxies.items[i]);
+            proxies.items[i].entity.componentRemoved.remove(proxies.items[i]);
         }
+        grid.clear();
+        proxyPool.freeAll(proxies);
+        proxies.clear();
+        proxiesByEntity.clear();
+        contacts.clear();
     }
 }
 
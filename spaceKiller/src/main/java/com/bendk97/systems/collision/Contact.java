@@ -0,0 +1,33 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Pool;
+
+public class Contact implements Pool.Poolable {
+    public ContactType type;
+    public Entity first;
+    public Entity second;
+    // instant of the pass, in [0, 1], at which both entities touched
+    public float time;
+    // declaration order of the rule and creation order of both entities, for a deterministic ordering
+    int rule;
+    int firstOrder;
+    int secondOrder;
+
+    @Override
+    public void reset() {
+        type = null;
+        first = null;
+        second = null;
+        time = 0f;
+        rule = 0;
+        firstOrder = 0;
+        secondOrder = 0;
+    }
+}
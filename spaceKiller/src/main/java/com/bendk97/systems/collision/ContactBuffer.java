@@ -0,0 +1,76 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.Comparator;
+
+/**
+ * Every contact of a collision pass, sorted by time of impact then by declaration order.
+ * Contacts are pooled and reused from one pass to the next.
+ */
+public class ContactBuffer {
+
+    private static final Comparator<Contact> CONTACT_ORDER = (contact1, contact2) -> {
+        int compare = Float.compare(contact1.time, contact2.time);
+        if (compare == 0) {
+            compare = Integer.compare(contact1.rule, contact2.rule);
+        }
+        if (compare == 0) {
+            compare = Integer.compare(contact1.firstOrder, contact2.firstOrder);
+        }
+        if (compare == 0) {
+            compare = Integer.compare(contact1.secondOrder, contact2.secondOrder);
+        }
+        return compare;
+    };
+
+    private final Array<Contact> contacts = new Array<>(true, 32, Contact.class);
+    private final Pool<Contact> contactPool = new Pool<Contact>() {
+        @Override
+        protected Contact newObject() {
+            return new Contact();
+        }
+    };
+
+    public Contact add(ContactType type, Entity first, Entity second, float time) {
+        Contact contact = contactPool.obtain();
+        contact.type = type;
+        contact.first = first;
+        contact.second = second;
+        contact.time = time;
+        contacts.add(contact);
+        return contact;
+    }
+
+    void add(int rule, ContactType type, CollisionProxy first, CollisionProxy second, float time) {
+        Contact contact = add(type, first.entity, second.entity, time);
+        contact.rule = rule;
+        contact.firstOrder = first.order;
+        contact.secondOrder = second.order;
+    }
+
+    public void sort() {
+        contacts.sort(CONTACT_ORDER);
+    }
+
+    public int size() {
+        return contacts.size;
+    }
+
+    public Contact get(int index) {
+        return contacts.items[index];
+    }
+
+    public void clear() {
+        contactPool.freeAll(contacts);
+        contacts.clear();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+/**
+ * What happens when two entities touch, the contact holds them in this order.
+ */
+public enum ContactType {
+    // player bullet, enemy
+    ENEMY_SHOOT,
+    // player, power up
+    PLAYER_POWER_UP,
+    // player, shield up
+    PLAYER_SHIELD_UP,
+    // player, bomb up
+    PLAYER_BOMB_UP,
+    // shield, enemy bullet
+    BULLET_STOPPED_BY_SHIELD,
+    // shield, enemy
+    ENEMY_SHOOT_BY_SHIELD,
+    // player, enemy
+    PLAYER_HIT_BY_ENEMY_BODY,
+    // player, enemy bullet
+    PLAYER_HIT_BY_ENEMY_BULLET
+}
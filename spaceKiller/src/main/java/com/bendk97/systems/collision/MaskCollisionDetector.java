@@ -0,0 +1,144 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.bendk97.entities.CollisionMask;
+
+/**
+ * Pixel perfect collision on the CPU: both sprites are sampled row by row over the intersection of their bounds
+ * (one world unit per pixel) and the rows are compared 64 pixels at a time.
+ * A sprite without mask is considered fully opaque.
+ */
+class MaskCollisionDetector {
+
+    private final Rectangle intersection = new Rectangle();
+    private long[] row1 = new long[4];
+    private long[] row2 = new long[4];
+
+    boolean overlaps(Sprite sprite1, CollisionMask mask1, Sprite sprite2, CollisionMask mask2) {
+        if (!Intersector.intersectRectangles(sprite1.getBoundingRectangle(), sprite2.getBoundingRectangle(), intersection)) {
+            return false;
+        }
+        int minX = MathUtils.floor(intersection.x);
+        int minY = MathUtils.floor(intersection.y);
+        int width = MathUtils.ceil(intersection.x + intersection.width) - minX;
+        int height = MathUtils.ceil(intersection.y + intersection.height) - minY;
+        int words = (width + 63) >>> 6;
+        if (row1.length < words) {
+            row1 = new long[words];
+            row2 = new long[words];
+        }
+        for (int y = minY; y < minY + height; ++y) {
+            if (!sampleRow(sprite1, mask1, y + 0.5f, minX, width, row1)) {
+                continue;
+            }
+            if (!sampleRow(sprite2, mask2, y + 0.5f, minX, width, row2)) {
+                continue;
+            }
+            for (int i = 0; i < words; ++i) {
+                if ((row1[i] & row2[i]) != 0L) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * fills the row with the opaque pixels of the sprite at world height y, from minX on width pixels
+     *
+     * @return false if the row is empty
+     */
+    boolean sampleRow(Sprite sprite, CollisionMask mask, float y, int minX, int width, long[] row) {
+        int words = (width + 63) >>> 6;
+        boolean axisAligned = sprite.getRotation() == 0f && sprite.getScaleX() == 1f && sprite.getScaleY() == 1f;
+        if (axisAligned && mask != null && !sprite.isFlipX() && !sprite.isFlipY()
+                && sprite.getWidth() == mask.width && sprite.getHeight() == mask.height) {
+            return copyRow(sprite, mask, y, minX, width, words, row);
+        }
+        return transformRow(sprite, mask, y, minX, width, words, row);
+    }
+
+    private static boolean copyRow(Sprite sprite, CollisionMask mask, float y, int minX, int width, int words, long[] row) {
+        int maskY = MathUtils.floor(sprite.getY() + sprite.getHeight() - y);
+        if (maskY < 0 || maskY >= mask.height) {
+            clear(row, words);
+            return false;
+        }
+        int maskX = MathUtils.floor(minX + 0.5f - sprite.getX());
+        long any = 0L;
+        for (int i = 0; i < words; ++i) {
+            row[i] = mask.word(maskY, maskX + (i << 6));
+            any |= row[i];
+        }
+        row[words - 1] &= lastWordMask(width);
+        return any != 0L;
+    }
+
+    private static boolean transformRow(Sprite sprite, CollisionMask mask, float y, int minX, int width, int words, long[] row) {
+        clear(row, words);
+        float spriteWidth = sprite.getWidth();
+        float spriteHeight = sprite.getHeight();
+        if (spriteWidth <= 0f || spriteHeight <= 0f || sprite.getScaleX() == 0f || sprite.getScaleY() == 0f) {
+            return false;
+        }
+        float originX = sprite.getOriginX();
+        float originY = sprite.getOriginY();
+        float cos = MathUtils.cosDeg(sprite.getRotation());
+        float sin = MathUtils.sinDeg(sprite.getRotation());
+        float scaleX = sprite.getScaleX();
+        float scaleY = sprite.getScaleY();
+        // world to sprite local coordinates: translate to origin, rotate back, unscale
+        float dx = minX + 0.5f - sprite.getX() - originX;
+        float dy = y - sprite.getY() - originY;
+        float localX = (dx * cos + dy * sin) / scaleX + originX;
+        float localY = (-dx * sin + dy * cos) / scaleY + originY;
+        float stepX = cos / scaleX;
+        float stepY = -sin / scaleY;
+        float texelsX = mask != null ? mask.width / spriteWidth : 1f;
+        float texelsY = mask != null ? mask.height / spriteHeight : 1f;
+        boolean flipX = sprite.isFlipX();
+        boolean flipY = sprite.isFlipY();
+        boolean any = false;
+        for (int i = 0; i < width; ++i, localX += stepX, localY += stepY) {
+            if (localX < 0f || localY < 0f || localX >= spriteWidth || localY >= spriteHeight) {
+                continue;
+            }
+            if (mask != null) {
+                int maskX = Math.min(mask.width - 1, (int) (localX * texelsX));
+                int maskY = Math.min(mask.height - 1, (int) ((spriteHeight - localY) * texelsY));
+                if (flipX) {
+                    maskX = mask.width - 1 - maskX;
+                }
+                if (flipY) {
+                    maskY = mask.height - 1 - maskY;
+                }
+                if (!mask.get(maskX, maskY)) {
+                    continue;
+                }
+            }
+            row[i >>> 6] |= 1L << (i & 63);
+            any = true;
+        }
+        return any;
+    }
+
+    private static long lastWordMask(int width) {
+        int used = width & 63;
+        return used == 0 ? -1L : (1L << used) - 1L;
+    }
+
+    private static void clear(long[] row, int words) {
+        for (int i = 0; i < words; ++i) {
+            row[i] = 0L;
+        }
+    }
+}
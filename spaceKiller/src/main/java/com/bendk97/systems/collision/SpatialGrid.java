@@ -0,0 +1,138 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Uniform grid over the play field. Proxies are registered in every cell their bounds cover,
+ * entities out of the field are clamped into the border cells. Proxies only searching for others just get the
+ * cells they cover, to be queried.
+ */
+class SpatialGrid {
+
+    private final float originX, originY;
+    private final float cellSize;
+    private final int columns, rows;
+    private final Cell[] cells;
+    private int stamp = 0;
+
+    private static class Cell extends Array<CollisionProxy> {
+        Cell() {
+            super(false, 32, CollisionProxy.class);
+        }
+    }
+
+    SpatialGrid(float originX, float originY, float width, float height, float cellSize) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new Cell[columns * rows];
+        for (int i = 0; i < cells.length; ++i) {
+            cells[i] = new Cell();
+        }
+    }
+
+    /**
+     * registers the proxy or moves it when its covered cells changed since last call
+     */
+    void update(CollisionProxy proxy) {
+        int minColumn = column(proxy.minX);
+        int maxColumn = column(proxy.maxX);
+        int minRow = row(proxy.minY);
+        int maxRow = row(proxy.maxY);
+        if (proxy.inGrid) {
+            if (proxy.minColumn == minColumn && proxy.maxColumn == maxColumn
+                    && proxy.minRow == minRow && proxy.maxRow == maxRow) {
+                return;
+            }
+            remove(proxy);
+        }
+        proxy.minColumn = minColumn;
+        proxy.maxColumn = maxColumn;
+        proxy.minRow = minRow;
+        proxy.maxRow = maxRow;
+        for (int row = minRow; row <= maxRow; ++row) {
+            for (int column = minColumn; column <= maxColumn; ++column) {
+                cells[row * columns + column].add(proxy);
+            }
+        }
+        proxy.inGrid = true;
+        proxy.covered = true;
+    }
+
+    /**
+     * sets the cells covered by the proxy, without registering it
+     */
+    void cover(CollisionProxy proxy) {
+        remove(proxy);
+        proxy.minColumn = column(proxy.minX);
+        proxy.maxColumn = column(proxy.maxX);
+        proxy.minRow = row(proxy.minY);
+        proxy.maxRow = row(proxy.maxY);
+        proxy.covered = true;
+    }
+
+    void remove(CollisionProxy proxy) {
+        if (!proxy.inGrid) {
+            return;
+        }
+        for (int row = proxy.minRow; row <= proxy.maxRow; ++row) {
+            for (int column = proxy.minColumn; column <= proxy.maxColumn; ++column) {
+                cells[row * columns + column].removeValue(proxy, true);
+            }
+        }
+        proxy.inGrid = false;
+        proxy.covered = false;
+    }
+
+    /**
+     * collects, without duplicates, the proxies sharing a cell with the given one and belonging to one of the layers
+     */
+    void query(CollisionProxy proxy, int layers, Array<CollisionProxy> result) {
+        result.clear();
+        if (!proxy.covered) {
+            return;
+        }
+        ++stamp;
+        for (int row = proxy.minRow; row <= proxy.maxRow; ++row) {
+            for (int column = proxy.minColumn; column <= proxy.maxColumn; ++column) {
+                Cell cell = cells[row * columns + column];
+                for (int i = 0; i < cell.size; ++i) {
+                    CollisionProxy candidate = cell.items[i];
+                    if (candidate != proxy && candidate.stamp != stamp && (candidate.layers & layers) != 0) {
+                        candidate.stamp = stamp;
+                        result.add(candidate);
+                    }
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (Cell cell : cells) {
+            for (int i = 0; i < cell.size; ++i) {
+                cell.items[i].inGrid = false;
+            }
+            cell.clear();
+        }
+    }
+
+    private int column(float x) {
+        return clamp((int) Math.floor((x - originX) / cellSize), columns);
+    }
+
+    private int row(float y) {
+        return clamp((int) Math.floor((y - originY) / cellSize), rows);
+    }
+
+    private static int clamp(int index, int size) {
+        return index < 0 ? 0 : index >= size ? size - 1 : index;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.scheduler;
+
+/**
+ * A system declaring its component accesses, so that {@link SystemScheduler} can run it
+ * alongside the systems it does not conflict with.
+ */
+public interface ScheduledSystem {
+
+    SystemAccess access();
+}
@@ -0,0 +1,19 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.scheduler;
+
+/**
+ * A scheduled system recording the changes it cannot make from a worker thread (structural changes, tweens),
+ * applied by {@link SystemScheduler} on the thread of the engine once all its systems have run.
+ */
+public interface SyncedSystem {
+
+    /**
+     * applies the changes recorded during the last update
+     */
+    void sync();
+}
@@ -0,0 +1,85 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.scheduler;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentType;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * Components a system reads and writes, and the state it shares out of the components (the camera for instance),
+ * identified by instance. Two systems can run at the same time when neither writes what the other one reads or
+ * writes.
+ * A system changing the structure of the engine (adding or removing entities or components),
+ * or touching shared state (pools, tweens, factories), is exclusive and always runs alone.
+ */
+public class SystemAccess {
+
+    public static final SystemAccess EXCLUSIVE = new SystemAccess(true);
+
+    private final Bits reads = new Bits();
+    private final Bits writes = new Bits();
+    private final Array<Object> readStates = new Array<>(false, 2);
+    private final Array<Object> writtenStates = new Array<>(false, 2);
+    private final boolean exclusive;
+
+    public SystemAccess() {
+        this(false);
+    }
+
+    private SystemAccess(boolean exclusive) {
+        this.exclusive = exclusive;
+    }
+
+    @SafeVarargs
+    public final SystemAccess reads(Class<? extends Component>... components) {
+        for (Class<? extends Component> component : components) {
+            reads.set(ComponentType.getIndexFor(component));
+        }
+        return this;
+    }
+
+    @SafeVarargs
+    public final SystemAccess writes(Class<? extends Component>... components) {
+        for (Class<? extends Component> component : components) {
+            writes.set(ComponentType.getIndexFor(component));
+        }
+        return this;
+    }
+
+    public SystemAccess readsState(Object state) {
+        readStates.add(state);
+        return this;
+    }
+
+    public SystemAccess writesState(Object state) {
+        writtenStates.add(state);
+        return this;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    public boolean conflictsWith(SystemAccess other) {
+        return exclusive || other.exclusive
+                || writes.intersects(other.reads) || writes.intersects(other.writes)
+                || other.writes.intersects(reads)
+                || sharesAny(writtenStates, other.readStates) || sharesAny(writtenStates, other.writtenStates)
+                || sharesAny(other.writtenStates, readStates);
+    }
+
+    private static boolean sharesAny(Array<Object> states, Array<Object> otherStates) {
+        for (int i = 0; i < states.size; ++i) {
+            if (otherStates.contains(states.get(i), true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
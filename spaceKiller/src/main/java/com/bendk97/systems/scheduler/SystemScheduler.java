@@ -0,0 +1,249 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.scheduler;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.bendk97.screens.levels.utils.FrameProfiler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.bendk97.SpaceKillerGameConstants.DEBUG;
+import static com.bendk97.SpaceKillerGameConstants.SYSTEM_WORKERS;
+
+/**
+ * Runs a group of systems, in parallel when their component accesses allow it.
+ * <p>
+ * Systems are ordered by priority, and a system depends on every previous system it conflicts with
+ * (see {@link SystemAccess}). The resulting graph is split in waves: systems of a wave run together on worker threads,
+ * waves run one after the other. Systems not implementing {@link ScheduledSystem} are exclusive.
+ * Scheduled systems must also be added to the engine (families, getEngine()) but must not be processed by it.
+ * Structural changes are applied by the engine after the scheduler update, which is the sync point of the group:
+ * systems record them and apply them there, see {@link SyncedSystem}.
+ */
+public class SystemScheduler extends EntitySystem {
+
+    private static final String TAG = "System Scheduler";
+    private static final int MAX_WORKERS = 3;
+    private static final float REPORT_INTERVAL = 10f;
+
+    private static class SystemTask implements Runnable {
+        final EntitySystem system;
+        final SystemAccess access;
+        Semaphore done;
+        float delta;
+        FrameProfiler profiler;
+        long start;
+        long nanos;
+        long bytes;
+        Throwable error;
+
+        SystemTask(EntitySystem system) {
+            this.system = system;
+            this.access = system instanceof ScheduledSystem ? ((ScheduledSystem) system).access() : SystemAccess.EXCLUSIVE;
+        }
+
+        @Override
+        public void run() {
+            // allocations are counted on the thread running the system
+            long startBytes = profiler != null ? profiler.allocatedBytes() : 0L;
+            start = TimeUtils.nanoTime();
+            try {
+                system.update(delta);
+            } catch (Throwable e) {
+                error = e;
+            } finally {
+                nanos = TimeUtils.nanoTime() - start;
+                bytes = profiler != null ? profiler.allocatedBytes() - startBytes : 0L;
+                if (done != null) {
+                    done.release();
+                }
+            }
+        }
+    }
+
+    private final Array<SystemTask> tasks = new Array<>(true, 8, SystemTask.class);
+    private final Array<Array<SystemTask>> waves = new Array<>();
+    private final ExecutorService executor;
+    private final Semaphore done = new Semaphore(0);
+    private final StringBuilder sb = new StringBuilder();
+    private boolean dirty = false;
+    private long serialNanos = 0L;
+    private long wallNanos = 0L;
+    private float reportTime = 0f;
+    private FrameProfiler profiler = null;
+
+    /**
+     * runs the systems on {@link com.bendk97.SpaceKillerGameConstants#SYSTEM_WORKERS} workers, by default one per extra
+     * core: none on single-core devices
+     */
+    public SystemScheduler(int priority) {
+        this(priority, SYSTEM_WORKERS >= 0 ? SYSTEM_WORKERS
+                : Math.min(Runtime.getRuntime().availableProcessors() - 1, MAX_WORKERS));
+    }
+
+    /**
+     * @param workers threads running the waves along with the thread of the engine, none to run the systems one after the other
+     */
+    public SystemScheduler(int priority, int workers) {
+        super(priority);
+        // a plain thread pool: fork-join pools are not available before Android 5
+        this.executor = workers > 0 ? Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, TAG);
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public SystemScheduler schedule(EntitySystem system) {
+        tasks.add(new SystemTask(system));
+        dirty = true;
+        return this;
+    }
+
+    /**
+     * the systems run by the scheduler get their own sections in the profiler, when it is enabled
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public boolean isScheduled(EntitySystem system) {
+        for (SystemTask task : tasks) {
+            if (task.system == system) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return number of waves run at each update, the length of the longest dependency chain
+     */
+    public int getWaves() {
+        buildWaves();
+        return waves.size;
+    }
+
+    /**
+     * @return time the systems would have taken one after the other, divided by the time they actually took
+     */
+    public float getSpeedup() {
+        return wallNanos == 0L ? 1f : serialNanos / (float) wallNanos;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        buildWaves();
+        FrameProfiler enabledProfiler = profiler != null && profiler.isEnabled() ? profiler : null;
+        for (int i = 0; i < tasks.size; ++i) {
+            tasks.items[i].profiler = enabledProfiler;
+        }
+        long start = TimeUtils.nanoTime();
+        for (Array<SystemTask> wave : waves) {
+            runWave(wave, deltaTime);
+        }
+        wallNanos += TimeUtils.nanoTime() - start;
+        for (int i = 0; i < tasks.size; ++i) {
+            if (tasks.items[i].system instanceof SyncedSystem) {
+                ((SyncedSystem) tasks.items[i].system).sync();
+            }
+        }
+        if (enabledProfiler != null) {
+            for (int i = 0; i < tasks.size; ++i) {
+                SystemTask task = tasks.items[i];
+                enabledProfiler.record(task.system, task.start, task.nanos, task.bytes);
+            }
+        }
+        report(deltaTime);
+    }
+
+    private void runWave(Array<SystemTask> wave, float deltaTime) {
+        if (executor == null || wave.size == 1) {
+            for (SystemTask task : wave) {
+                task.done = null;
+                task.delta = deltaTime;
+                task.run();
+                serialNanos += task.nanos;
+                rethrow(task);
+            }
+            return;
+        }
+        for (int i = 1; i < wave.size; ++i) {
+            SystemTask task = wave.items[i];
+            task.done = done;
+            task.delta = deltaTime;
+            executor.execute(task);
+        }
+        SystemTask first = wave.first();
+        first.done = null;
+        first.delta = deltaTime;
+        first.run();
+        done.acquireUninterruptibly(wave.size - 1);
+        for (SystemTask task : wave) {
+            serialNanos += task.nanos;
+            rethrow(task);
+        }
+    }
+
+    private static void rethrow(SystemTask task) {
+        if (task.error != null) {
+            Throwable error = task.error;
+            task.error = null;
+            throw new GdxRuntimeException("System " + task.system.getClass().getSimpleName() + " failed", error);
+        }
+    }
+
+    private void buildWaves() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        waves.clear();
+        tasks.sort((task1, task2) -> Integer.compare(task1.system.priority, task2.system.priority));
+        int[] levels = new int[tasks.size];
+        for (int j = 0; j < tasks.size; ++j) {
+            for (int i = 0; i < j; ++i) {
+                if (tasks.items[i].access.conflictsWith(tasks.items[j].access)) {
+                    levels[j] = Math.max(levels[j], levels[i] + 1);
+                }
+            }
+            while (waves.size <= levels[j]) {
+                waves.add(new Array<>(true, 4, SystemTask.class));
+            }
+            waves.get(levels[j]).add(tasks.items[j]);
+        }
+    }
+
+    private void report(float deltaTime) {
+        if (!DEBUG) {
+            return;
+        }
+        reportTime += deltaTime;
+        if (reportTime >= REPORT_INTERVAL) {
+            reportTime = 0f;
+            sb.setLength(0);
+            sb.append(tasks.size).append(" systems in ").append(waves.size).append(" waves, speedup x").append(getSpeedup());
+            Gdx.app.log(TAG, sb.toString());
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -15,11 +15,12 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.bendk97.systems.RenderingSystem;
 
 import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
 import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
 
-public abstract class GLDarkRenderingSystem extends IteratingSystem {
+public abstract class GLDarkRenderingSystem extends IteratingSystem implements RenderingSystem {
 
     private static final Color BLACK_60 = new Color(0, 0, 0, 0.6f);
     protected final SpriteBatch batcher;
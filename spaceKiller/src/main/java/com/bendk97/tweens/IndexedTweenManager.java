@@ -0,0 +1,171 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.tweens;
+
+import aurelienribon.tweenengine.BaseTween;
+import aurelienribon.tweenengine.Timeline;
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+import java.util.List;
+
+/**
+ * Tween manager keeping the tweens of each target, so that killing the tweens of a dying entity only looks at its
+ * own tweens instead of every running tween and timeline.
+ * <p>
+ * Tweens and timelines are indexed when started, under each target they (or their children) animate, and
+ * forgotten once finished, just before the manager frees them. As with {@link TweenManager#killTarget(Object)},
+ * a timeline animating the target is killed as a whole.
+ */
+public class IndexedTweenManager extends TweenManager {
+
+    // Timeline.getChildren() wraps the children of built timelines (and fails on the nested ones)
+    private static final Field CHILDREN = childrenField();
+
+    // targets tweened at once in the most crowded waves
+    private static final int INITIAL_TARGETS = 128;
+
+    private final IdentityMap<Object, Array<BaseTween<?>>> tweensByTarget = new IdentityMap<>(INITIAL_TARGETS);
+    private final Array<Array<BaseTween<?>>> freeLists = new Array<>(false, INITIAL_TARGETS);
+    // tweens and timelines started, until finished
+    private final Array<BaseTween<?>> live = new Array<>(false, INITIAL_TARGETS);
+    private int peak = 0;
+
+    public IndexedTweenManager() {
+        for (int i = 0; i < INITIAL_TARGETS; ++i) {
+            freeLists.add(new Array<>(false, 4));
+        }
+    }
+
+    @Override
+    public TweenManager add(BaseTween<?> object) {
+        // started once: tweens are added by their start
+        live.add(object);
+        peak = Math.max(peak, live.size);
+        index(object, object);
+        return super.add(object);
+    }
+
+    private void index(BaseTween<?> root, BaseTween<?> tween) {
+        if (tween instanceof Tween) {
+            Object target = ((Tween) tween).getTarget();
+            if (target != null) {
+                Array<BaseTween<?>> tweens = tweensByTarget.get(target);
+                if (tweens == null) {
+                    tweens = freeLists.size > 0 ? freeLists.pop() : new Array<>(false, 4);
+                    tweensByTarget.put(target, tweens);
+                }
+                if (!tweens.contains(root, true)) {
+                    tweens.add(root);
+                }
+            }
+        } else if (tween instanceof Timeline) {
+            List<BaseTween<?>> children = children((Timeline) tween);
+            for (int i = 0; i < children.size(); ++i) {
+                index(root, children.get(i));
+            }
+        }
+    }
+
+    private void unindex(BaseTween<?> root, BaseTween<?> tween) {
+        if (tween instanceof Tween) {
+            Object target = ((Tween) tween).getTarget();
+            Array<BaseTween<?>> tweens = target != null ? tweensByTarget.get(target) : null;
+            if (tweens != null) {
+                tweens.removeValue(root, true);
+                if (tweens.size == 0) {
+                    tweensByTarget.remove(target);
+                    freeLists.add(tweens);
+                }
+            }
+        } else if (tween instanceof Timeline) {
+            List<BaseTween<?>> children = children((Timeline) tween);
+            for (int i = 0; i < children.size(); ++i) {
+                unindex(root, children.get(i));
+            }
+        }
+    }
+
+    private static Field childrenField() {
+        try {
+            Field children = ClassReflection.getDeclaredField(Timeline.class, "children");
+            children.setAccessible(true);
+            return children;
+        } catch (ReflectionException e) {
+            throw new GdxRuntimeException("children of timelines cannot be read", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<BaseTween<?>> children(Timeline timeline) {
+        try {
+            return (List<BaseTween<?>>) CHILDREN.get(timeline);
+        } catch (ReflectionException e) {
+            throw new GdxRuntimeException("children of timelines cannot be read", e);
+        }
+    }
+
+    @Override
+    public void killTarget(Object target) {
+        Array<BaseTween<?>> tweens = tweensByTarget.get(target);
+        if (tweens == null) {
+            return;
+        }
+        for (int i = 0; i < tweens.size; ++i) {
+            tweens.get(i).kill();
+        }
+    }
+
+    @Override
+    public boolean containsTarget(Object target) {
+        return tweensByTarget.containsKey(target);
+    }
+
+    @Override
+    public void update(float delta) {
+        // finished tweens are freed (and reset) by the manager at the beginning of its update
+        for (int i = live.size - 1; i >= 0; --i) {
+            BaseTween<?> tween = live.get(i);
+            if (tween.isFinished()) {
+                unindex(tween, tween);
+                live.removeIndex(i);
+            }
+        }
+        super.update(delta);
+    }
+
+    /**
+     * @return tweens and timelines started and not finished yet
+     */
+    public int getLiveTweens() {
+        return live.size;
+    }
+
+    /**
+     * @return targets animated by the live tweens
+     */
+    public int getTweenedTargets() {
+        return tweensByTarget.size;
+    }
+
+    /**
+     * @return most tweens live at the same time since the last reset
+     */
+    public int getPeak() {
+        return peak;
+    }
+
+    public void resetPeak() {
+        peak = live.size;
+    }
+}
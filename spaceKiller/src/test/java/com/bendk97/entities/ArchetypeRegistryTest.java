@@ -0,0 +1,146 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.bendk97.components.*;
+import com.bendk97.components.helpers.ComponentMapperHelper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class ArchetypeRegistryTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final ArchetypeRegistry registry = new ArchetypeRegistry(engine);
+    private final Archetype bullet = registry.define(entity -> ComponentMapperHelper.removable.get(entity).setDuration(5f),
+            EnemyBulletComponent.class, PositionComponent.class, RemovableComponent.class);
+    private int bulletsAdded = 0;
+
+    @Before
+    public void init() {
+        engine.addEntityListener(Family.all(EnemyBulletComponent.class, PositionComponent.class).get(), new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                bulletsAdded++;
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+            }
+        });
+    }
+
+    @Test
+    public void entity_is_assembled_with_defaults() {
+        Entity entity = registry.obtain(bullet);
+        engine.addEntity(entity);
+
+        assertThat(entity.getComponents()).hasSize(3);
+        assertThat(ComponentMapperHelper.removable.get(entity).duration).isEqualTo(5f);
+        assertThat(bulletsAdded).isEqualTo(1);
+    }
+
+    @Test
+    public void removed_entity_is_reused_with_defaults() {
+        Entity entity = registry.obtain(bullet);
+        PositionComponent position = ComponentMapperHelper.position.get(entity);
+        engine.addEntity(entity);
+        position.setXY(10f, 20f);
+        ComponentMapperHelper.removable.get(entity).elapseTime = 3f;
+        engine.removeEntity(entity);
+        assertThat(bullet.getFree()).isEqualTo(1);
+
+        Entity reused = registry.obtain(bullet);
+
+        assertThat(reused).isSameAs(entity);
+        assertThat(ComponentMapperHelper.position.get(reused)).isSameAs(position);
+        assertThat(position.x()).isEqualTo(0f);
+        assertThat(ComponentMapperHelper.removable.get(reused).elapseTime).isEqualTo(0f);
+        assertThat(ComponentMapperHelper.removable.get(reused).duration).isEqualTo(5f);
+        assertThat(bullet.getFree()).isEqualTo(0);
+    }
+
+    @Test
+    public void foreign_components_are_stripped_once_the_entity_is_removed() {
+        Entity entity = registry.obtain(bullet);
+        VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+        velocity.x = 10f;
+        entity.add(velocity);
+        engine.addEntity(entity);
+        Velocities velocities = new Velocities();
+        engine.addEntityListener(Family.all(VelocityComponent.class).get(), velocities);
+
+        engine.removeEntity(entity);
+
+        assertThat(velocities.removed).isEqualTo(10f);
+        assertThat(entity.getComponents()).hasSize(3);
+        assertThat(ComponentMapperHelper.velocity.get(entity)).isNull();
+        assertThat(velocity.x).isEqualTo(0f);
+        assertThat(registry.obtain(bullet)).isSameAs(entity);
+    }
+
+    @Test
+    public void archetype_is_not_held_by_the_flags_of_the_entity() {
+        Entity entity = registry.obtain(bullet);
+        entity.flags = 42;
+        engine.addEntity(entity);
+        engine.removeEntity(entity);
+
+        assertThat(bullet.getFree()).isEqualTo(1);
+    }
+
+    @Test
+    public void prewarmed_entities_are_handed_out_first() {
+        registry.prewarm(bullet, 5);
+        assertThat(bullet.getFree()).isEqualTo(5);
+
+        engine.addEntity(registry.obtain(bullet));
+
+        assertThat(bullet.getFree()).isEqualTo(4);
+        assertThat(bulletsAdded).isEqualTo(1);
+    }
+
+    @Test
+    public void entity_never_added_is_freed_without_the_engine() {
+        Entity entity = registry.obtain(bullet);
+
+        assertThat(registry.free(entity)).isTrue();
+        assertThat(bullet.getFree()).isEqualTo(1);
+        assertThat(registry.free(engine.createEntity())).isFalse();
+    }
+
+    private static class Velocities implements EntityListener {
+        private float removed;
+
+        @Override
+        public void entityAdded(Entity entity) {
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            removed = ComponentMapperHelper.velocity.get(entity).x;
+        }
+    }
+
+    @Test
+    public void entities_of_the_engine_are_not_collected() {
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(EnemyBulletComponent.class));
+        engine.addEntity(entity);
+        engine.removeEntity(entity);
+
+        assertThat(bullet.getFree()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.bendk97.components.EnemyComponent;
+import com.bendk97.components.PositionComponent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static com.bendk97.helpers.EntityTestHelper.createEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class EntityCommandBufferTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final EntityCommandBuffer commands = new EntityCommandBuffer(engine);
+    private int enemiesAdded = 0;
+
+    @Before
+    public void init() {
+        commands.setDeferred(true);
+        engine.addEntityListener(Family.all(EnemyComponent.class, PositionComponent.class).get(), new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                enemiesAdded++;
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+            }
+        });
+    }
+
+    @Test
+    public void commands_are_applied_at_playback() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(entity);
+        assertThat(engine.getEntities()).hasSize(1);
+        assertThat(commands.isRemoved(entity)).isTrue();
+
+        commands.playback();
+
+        assertThat(engine.getEntities()).isEmpty();
+    }
+
+    @Test
+    public void commands_are_applied_at_once_when_not_deferred() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.setDeferred(false);
+        commands.removeComponent(entity, PositionComponent.class);
+        assertThat(entity.getComponent(PositionComponent.class)).isNull();
+    }
+
+    @Test
+    public void entity_is_removed_exactly_once() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(entity);
+        commands.removeEntity(entity);
+        commands.playback();
+        // a late callback must not free the entity to the pool a second time
+        commands.removeEntity(entity);
+        commands.playback();
+
+        Entity entity1 = engine.createEntity();
+        Entity entity2 = engine.createEntity();
+        assertThat(entity1).isNotSameAs(entity2);
+    }
+
+    @Test
+    public void only_pending_removals_are_tracked() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(entity);
+        commands.playback();
+        assertThat(commands.isRemoved(entity)).isFalse();
+
+        commands.setDeferred(false);
+        Entity other = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(other);
+        assertThat(commands.isRemoved(other)).isFalse();
+        // taken from the pool of the engine, not added yet
+        assertThat(commands.isRemoved(engine.createEntity())).isFalse();
+    }
+
+    @Test
+    public void entity_added_back_can_be_removed_again() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(entity);
+        commands.playback();
+        commands.addEntity(entity);
+        commands.playback();
+        assertThat(commands.isRemoved(entity)).isFalse();
+
+        commands.removeEntity(entity);
+        commands.playback();
+
+        assertThat(engine.getEntities()).isEmpty();
+    }
+
+    @Test
+    public void components_of_added_entities_are_set_before_the_entity_enters_the_engine() {
+        Entity entity = engine.createEntity();
+        commands.addEntity(entity);
+        commands.addComponent(entity, engine.createComponent(EnemyComponent.class));
+        commands.addComponent(entity, engine.createComponent(PositionComponent.class));
+        commands.playback();
+
+        assertThat(engine.getEntities()).hasSize(1);
+        assertThat(enemiesAdded).isEqualTo(1);
+    }
+
+    @Test
+    public void component_commands_of_removed_entities_are_dropped() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeComponent(entity, PositionComponent.class);
+        commands.removeEntity(entity);
+        commands.playback();
+
+        assertThat(engine.getEntities()).isEmpty();
+    }
+
+    @Test
+    public void commands_recorded_before_the_entity_is_reused_are_dropped() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeComponent(entity, PositionComponent.class);
+        commands.removeEntity(entity);
+        // removed meanwhile, then reused from the pool of the engine
+        engine.removeEntity(entity);
+        Entity reused = createEntity(engine, PositionComponent.class);
+        assertThat(reused).isSameAs(entity);
+
+        commands.playback();
+
+        assertThat(engine.getEntities()).containsExactly(reused);
+        assertThat(reused.getComponent(PositionComponent.class)).isNotNull();
+    }
+
+    @Test
+    public void commands_recorded_on_the_reused_entity_are_applied() {
+        Entity entity = createEntity(engine, PositionComponent.class);
+        commands.removeEntity(entity);
+        commands.playback();
+        Entity reused = engine.createEntity();
+        assertThat(reused).isSameAs(entity);
+        commands.addEntity(reused);
+        commands.addComponent(reused, engine.createComponent(EnemyComponent.class));
+        commands.addComponent(reused, engine.createComponent(PositionComponent.class));
+        commands.playback();
+        commands.removeComponent(reused, EnemyComponent.class);
+
+        commands.playback();
+
+        assertThat(engine.getEntities()).containsExactly(reused);
+        assertThat(reused.getComponent(EnemyComponent.class)).isNull();
+        assertThat(enemiesAdded).isEqualTo(1);
+    }
+}
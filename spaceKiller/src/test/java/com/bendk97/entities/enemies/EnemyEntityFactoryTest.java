@@ -19,7 +19,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.runner.GdxTestRunner;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +29,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.List;
 
+import static com.bendk97.SpaceKillerGameConstants.ANIMATION_MAIN;
 import static com.bendk97.SpaceKillerGameConstants.STANDARD_RATE_SHOOT;
 import static com.bendk97.assets.GameAssets.GFX_LEVEL_COMMON;
 import static com.bendk97.entities.EntityFactoryIds.*;
@@ -67,11 +68,25 @@ public class EnemyEntityFactoryTest {
         when(sprites.findRegion(anyString())).thenReturn(atlasRegion);
         PooledEngine engine = new PooledEngine();
         entityFactory = new EntityFactory(mock(SpaceKillerGame.class),
-                engine, assets, mock(TweenManager.class), null, mock(ScreenShake.class),
+                engine, assets, mock(TweenManager.class), null, mock(CameraShakeSystem.class),
                 Level.Level2);
         enemyEntityFactory = new EnemyEntityFactory(entityFactory, Level.Level2);
     }
 
+    @Test
+    public void enemies_of_a_kind_share_their_animation_but_not_their_sprite() {
+        Entity enemy1 = enemyEntityFactory.createEnemySoucoupe(null, true, 10f);
+        Entity enemy2 = enemyEntityFactory.createEnemySoucoupe(null, true, 10f);
+
+        assertThat(ComponentMapperHelper.animation.get(enemy1).animations.get(ANIMATION_MAIN))
+                .isSameAs(ComponentMapperHelper.animation.get(enemy2).animations.get(ANIMATION_MAIN));
+        assertThat(ComponentMapperHelper.sprite.get(enemy1).sprite)
+                .isNotSameAs(ComponentMapperHelper.sprite.get(enemy2).sprite);
+        ComponentMapperHelper.sprite.get(enemy1).tintRed(0.99f);
+        assertThat(ComponentMapperHelper.sprite.get(enemy2).sprite.getColor().g).isEqualTo(1f);
+        verify(sprites, times(1)).findRegions(anyString());
+    }
+
     @Test
     public void a_laser_ship_enemy_1_is_created() {
         Entity entity = enemyEntityFactory.createLaserShip(SHIP_LV2_LASER_SHIP1, 10f, 10f, 1,
@@ -554,7 +569,8 @@ public class EnemyEntityFactoryTest {
                 PositionComponent.class,
                 EnemyComponent.class,
                 DirectionableComponent.class,
-                StateComponent.class);
+                StateComponent.class,
+                PathComponent.class);
         assertThat(entity.getComponents()).hasOnlyElementsOfTypes(components.toArray(new Class[components.size()]));
         if(directionable) {
             assertThat(entity.getComponents()).hasAtLeastOneElementOfType(DirectionableComponent.class);
@@ -0,0 +1,64 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.entities.paths;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(JUnit4.class)
+public class PathCacheTest {
+
+    private final PathCache cache = new PathCache();
+    private final Vector2 point = new Vector2();
+
+    @Test
+    public void path_is_looked_up_by_distance_travelled_along_it() {
+        BakedPath path = new BakedPath(new float[]{0f, 0f, 3f, 4f, 3f, 10f}, 0f, 1f);
+        assertThat(path.length()).isEqualTo(11f);
+        path.valueAt(2.5f, point);
+        assertThat(point).isEqualTo(new Vector2(1.5f, 2f));
+        path.valueAt(8f, point);
+        assertThat(point).isEqualTo(new Vector2(3f, 7f));
+        path.valueAt(20f, point);
+        assertThat(point).isEqualTo(new Vector2(3f, 10f));
+        // queued before the start, in the entry direction
+        path.valueAt(-2f, point);
+        assertThat(point).isEqualTo(new Vector2(0f, 2f));
+    }
+
+    @Test
+    public void curve_is_baked_at_constant_speed() {
+        // control points bunched at both ends: the curve parameter is much faster in the middle
+        BakedPath path = cache.bezier(new Vector2[]{new Vector2(0f, 0f), new Vector2(9f, 0f), new Vector2(1f, 0f),
+                new Vector2(10f, 0f)}, 100, 0f, 1f);
+        assertThat(path.length()).isCloseTo(10f, within(0.01f));
+        path.valueAt(2.5f, point);
+        assertThat(point.x).isCloseTo(2.5f, within(0.01f));
+        path.valueAt(7.5f, point);
+        assertThat(point.x).isCloseTo(7.5f, within(0.01f));
+    }
+
+    @Test
+    public void paths_are_shared_by_type_and_parameters() {
+        Vector2[] controlPoints = {new Vector2(0f, 0f), new Vector2(5f, 5f), new Vector2(10f, 0f)};
+        BakedPath path = cache.bezier(controlPoints, 100, 0f, 1f);
+        assertThat(cache.bezier(new Vector2[]{new Vector2(0f, 0f), new Vector2(5f, 5f), new Vector2(10f, 0f)}, 100, 0f, 1f))
+                .isSameAs(path);
+        assertThat(cache.catmullRom(new Vector2[]{new Vector2(0f, 0f), new Vector2(5f, 5f), new Vector2(10f, 0f),
+                new Vector2(15f, 5f)}, 100, 0f, 1f)).isNotSameAs(path);
+        assertThat(cache.bezier(controlPoints, 100, -1f, 0f)).isNotSameAs(path);
+        assertThat(cache.key(PathCache.SEMI_CIRCLE).param(1f).get()).isNull();
+        BakedPath semiCircle = cache.put(new BakedPath(new float[]{0f, 0f, 1f, 1f}, 0f, 1f));
+        assertThat(cache.key(PathCache.SEMI_CIRCLE).param(1f).get()).isSameAs(semiCircle);
+        assertThat(cache.size()).isEqualTo(4);
+    }
+}
@@ -18,7 +18,7 @@ import com.bendk97.assets.GameAssets;
 import com.bendk97.components.*;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.runner.GdxTestRunner;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -64,7 +64,7 @@ public class BonusEntityFactoryTest {
         when(sprites.findRegions(anyString())).thenReturn(regionArray);
         when(sprites.findRegion(anyString())).thenReturn(atlasRegion);
         EntityFactory entityFactory = new EntityFactory(mock(SpaceKillerGame.class),
-                engine, assets, tweenManager, null, mock(ScreenShake.class),
+                engine, assets, tweenManager, null, mock(CameraShakeSystem.class),
                 Level1);
         squadron.add(engine.createComponent(SquadronComponent.class));
         bonusEntityFactory = new BonusEntityFactory(entityFactory);
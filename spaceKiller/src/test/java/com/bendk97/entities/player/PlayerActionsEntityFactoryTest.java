@@ -23,7 +23,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.runner.GdxTestRunner;
 import com.bendk97.screens.levels.Level;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,7 +56,7 @@ public class PlayerActionsEntityFactoryTest {
     private TweenManager tweenManager;
 
     @Mock
-    private ScreenShake screenShake;
+    private CameraShakeSystem screenShake;
 
     @Spy
     PooledEngine engine = new PooledEngine();
@@ -195,22 +195,19 @@ public class PlayerActionsEntityFactoryTest {
 
     private void player_fires(PowerLevel powerLevel, String regionName) {
         ComponentMapperHelper.player.get(player).powerLevel = powerLevel;
-        Entity bullet = new Entity();
-        when(engine.createEntity()).thenReturn(bullet);
         playerActionsEntityFactory.createPlayerFire(player);
 
-        check_bullet(regionName, bullet);
+        assertThat(engine.getEntities()).hasSize(1);
+        check_bullet(regionName, engine.getEntities().get(0));
     }
 
     private void player_fires_side(PowerLevel powerLevel, String regionNameLeft, String regionNameRight) {
         ComponentMapperHelper.player.get(player).powerLevel = powerLevel;
-        Entity bulletLeft = new Entity();
-        Entity bulletRight = new Entity();
-        when(engine.createEntity()).thenReturn(bulletLeft).thenReturn(bulletRight);
         playerActionsEntityFactory.createPlayerFireSide(player);
 
-        check_bullet(regionNameLeft, bulletLeft);
-        check_bullet(regionNameRight, bulletRight);
+        assertThat(engine.getEntities()).hasSize(2);
+        check_bullet(regionNameLeft, engine.getEntities().get(0));
+        check_bullet(regionNameRight, engine.getEntities().get(1));
     }
 
     private void check_bullet(String regionName, Entity bullet) {
@@ -22,7 +22,7 @@ import com.bendk97.components.helpers.ComponentMapperHelper;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.player.PlayerData;
 import com.bendk97.runner.GdxTestRunner;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -76,7 +76,7 @@ public class PlayerEntityFactoryTest {
         when(sprites.findRegions(anyString())).thenReturn(Array.with(atlasRegion, atlasRegion, atlasRegion, atlasRegion));
         when(sprites.findRegion(anyString())).thenReturn(atlasRegion);
         EntityFactory entityFactory = new EntityFactory(mock(SpaceKillerGame.class),
-                engine, assets, tweenManager, null, mock(ScreenShake.class),
+                engine, assets, tweenManager, null, mock(CameraShakeSystem.class),
                 Level1);
         playerEntityFactory = new PlayerEntityFactory(entityFactory, game);
         player.add(engine.createComponent(PositionComponent.class));
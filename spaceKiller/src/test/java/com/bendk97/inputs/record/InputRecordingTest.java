@@ -0,0 +1,68 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.inputs.record;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.bendk97.listeners.InputListener;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(JUnit4.class)
+public class InputRecordingTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recorded_inputs_are_replayed_at_their_tick() throws IOException {
+        InputRecorder recorder = new InputRecorder(mock(InputListener.class), new InputRecording(42L));
+        recorder.setTick(3);
+        recorder.goLeft();
+        recorder.fire();
+        recorder.setTick(200);
+        recorder.dropBomb();
+        recorder.setTick(201);
+        recorder.stop();
+        FileHandle file = new FileHandle(folder.newFile("inputs.bin"));
+        recorder.getRecording().write(file);
+
+        InputRecording recording = InputRecording.read(file);
+        assertThat(recording.getSeed()).isEqualTo(42L);
+        assertThat(recording.size()).isEqualTo(4);
+
+        InputListener listener = mock(InputListener.class);
+        InputReplayer replayer = new InputReplayer(recording);
+        replayer.replay(2, listener);
+        verifyZeroInteractions(listener);
+        replayer.replay(3, listener);
+        replayer.replay(199, listener);
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).goLeft();
+        inOrder.verify(listener).fire();
+        verifyNoMoreInteractions(listener);
+        replayer.replay(201, listener);
+        inOrder.verify(listener).dropBomb();
+        inOrder.verify(listener).stop();
+        assertThat(replayer.isFinished()).isTrue();
+    }
+
+    @Test(expected = IOException.class)
+    public void unknown_file_is_rejected() throws IOException {
+        FileHandle file = new FileHandle(folder.newFile("other.bin"));
+        file.writeString("not a recording", false);
+        InputRecording.read(file);
+    }
+}
@@ -14,13 +14,17 @@ import com.bendk97.assets.GameAssets;
 import com.bendk97.components.*;
 import com.bendk97.components.PlayerComponent.PowerLevel;
 import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityCommandBuffer;
 import com.bendk97.entities.EntityFactory;
 import com.bendk97.entities.enemies.EnemyEntityFactory;
+import com.bendk97.entities.paths.BakedPath;
 import com.bendk97.entities.player.PlayerEntityFactory;
 import com.bendk97.listeners.PlayerListener;
 import com.bendk97.runner.GdxTestRunner;
 import com.bendk97.screens.levels.LevelScreen;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.systems.collision.ContactBuffer;
+import com.bendk97.systems.collision.ContactType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -61,7 +65,7 @@ public class CollisionListenerImplTest {
     private LevelScreen levelScreen;
 
     @Mock
-    private ScreenShake screenShake;
+    private CameraShakeSystem screenShake;
 
     @InjectMocks
     private CollisionListenerImpl collisionListener;
@@ -73,6 +77,7 @@ public class CollisionListenerImplTest {
         MockitoAnnotations.initMocks(this);
         this.entityFactory.enemyEntityFactory = enemyEntityFactory;
         this.entityFactory.playerEntityFactory = playerEntityFactory;
+        this.entityFactory.commands = new EntityCommandBuffer(engine);
         engine.addSystem(collisionListener);
     }
 
@@ -131,12 +136,13 @@ public class CollisionListenerImplTest {
        @Test
     public void boss_is_shoot_by_bullet() {
         Entity boss = createEntity(engine, BossComponent.class, EnemyComponent.class,
-                StatusHealthComponent.class, SpriteComponent.class, PositionComponent.class);
+                StatusHealthComponent.class, SpriteComponent.class, PositionComponent.class, PathComponent.class);
         Entity player = createEntity(engine, PlayerComponent.class);
         Entity bullet = createEntity(engine, PlayerBulletComponent.class, PositionComponent.class);
         EnemyComponent enemyComponent = ComponentMapperHelper.enemy.get(boss);
         enemyComponent.squadron = createEntity(engine, SquadronComponent.class);
         enemyComponent.isBoss = true;
+        ComponentMapperHelper.path.get(boss).path = new BakedPath(new float[]{0f, 0f, 0f, 100f}, 0f, 1f);
         enemyComponent.initLifeGauge(1);
         ComponentMapperHelper.sprite.get(boss).sprite = new Sprite();
         Entity explosion = createEntity(engine, SpriteComponent.class, PositionComponent.class, BombExplosionComponent.class);
@@ -150,6 +156,7 @@ public class CollisionListenerImplTest {
         verify(screenShake).shake(anyFloat(), anyFloat(), anyBoolean());
         assertThat(ComponentMapperHelper.healthBar.get(boss)).isNull();
         assertThat(enemyComponent.isDead()).isEqualTo(true);
+        assertThat(ComponentMapperHelper.path.get(boss).path).isNull();
     }
 
     @Test
@@ -331,7 +338,78 @@ public class CollisionListenerImplTest {
 
         verify(assets).playSound(SOUND_EXPLOSION);
         verify(enemyEntityFactory).createEntityExploding(anyFloat(), anyFloat());
-        verify(tweenManager).killTarget(any());
+        // moved along its path by the ECS: no tween to look for
+        verify(tweenManager, never()).killTarget(any());
+    }
+
+    @Test
+    public void one_bullet_kills_only_the_first_enemy_it_meets() {
+        Entity player = createEntity(engine, PlayerComponent.class, PositionComponent.class);
+        Entity bullet = createEntity(engine, PlayerBulletComponent.class, PositionComponent.class);
+        Entity enemy1 = createEntity(engine, EnemyComponent.class, PositionComponent.class);
+        Entity enemy2 = createEntity(engine, EnemyComponent.class, PositionComponent.class);
+        ComponentMapperHelper.enemy.get(enemy1).initLifeGauge(1);
+        ComponentMapperHelper.enemy.get(enemy2).initLifeGauge(1);
+        ContactBuffer contacts = new ContactBuffer();
+        contacts.add(ContactType.ENEMY_SHOOT, bullet, enemy1, 0.6f);
+        contacts.add(ContactType.ENEMY_SHOOT, bullet, enemy2, 0.2f);
+        contacts.sort();
+
+        collisionListener.resolveContacts(contacts);
+
+        assertThat(ComponentMapperHelper.enemy.get(enemy1).isDead()).isFalse();
+        assertThat(ComponentMapperHelper.enemy.get(enemy2).isDead()).isTrue();
+        verify(playerListener).updateScore(player, enemy2, 1);
+        verify(playerListener, never()).updateScore(player, enemy1, 1);
+    }
+
+    @Test
+    public void every_bullet_hits_in_the_same_pass() {
+        createEntity(engine, PlayerComponent.class, PositionComponent.class);
+        Entity bullet1 = createEntity(engine, PlayerBulletComponent.class, PositionComponent.class);
+        Entity bullet2 = createEntity(engine, PlayerBulletComponent.class, PositionComponent.class);
+        Entity enemy = createEntity(engine, EnemyComponent.class, PositionComponent.class, SpriteComponent.class);
+        ComponentMapperHelper.enemy.get(enemy).initLifeGauge(10);
+        ContactBuffer contacts = new ContactBuffer();
+        contacts.add(ContactType.ENEMY_SHOOT, bullet1, enemy, 0f);
+        contacts.add(ContactType.ENEMY_SHOOT, bullet2, enemy, 0f);
+
+        collisionListener.resolveContacts(contacts);
+
+        assertThat(ComponentMapperHelper.enemy.get(enemy).getLifeGauge()).isEqualTo(8);
+    }
+
+    @Test
+    public void player_is_hit_only_once_per_pass() {
+        Entity player = createEntity(engine, PlayerComponent.class, PositionComponent.class);
+        Entity bullet1 = createEntity(engine, EnemyBulletComponent.class);
+        Entity bullet2 = createEntity(engine, EnemyBulletComponent.class);
+        Entity enemy = createEntity(engine, EnemyComponent.class, PositionComponent.class);
+        ContactBuffer contacts = new ContactBuffer();
+        contacts.add(ContactType.PLAYER_HIT_BY_ENEMY_BULLET, player, bullet1, 0f);
+        contacts.add(ContactType.PLAYER_HIT_BY_ENEMY_BULLET, player, bullet2, 0f);
+        contacts.add(ContactType.PLAYER_HIT_BY_ENEMY_BODY, player, enemy, 0f);
+
+        collisionListener.resolveContacts(contacts);
+
+        verify(playerListener, times(1)).loseLive(player);
+    }
+
+    @Test
+    public void contacts_are_sorted_by_time_of_impact() {
+        Entity player = createEntity(engine, PlayerComponent.class);
+        Entity powerUp = createEntity(engine, PowerUpComponent.class);
+        Entity bombUp = createEntity(engine, BombUpComponent.class);
+        ContactBuffer contacts = new ContactBuffer();
+        contacts.add(ContactType.PLAYER_POWER_UP, player, powerUp, 0.8f);
+        contacts.add(ContactType.PLAYER_BOMB_UP, player, bombUp, 0.1f);
+
+        contacts.sort();
+
+        assertThat(contacts.get(0).second).isSameAs(bombUp);
+        assertThat(contacts.get(1).second).isSameAs(powerUp);
+        contacts.clear();
+        assertThat(contacts.size()).isZero();
     }
 
 }
@@ -21,7 +21,8 @@ import com.bendk97.entities.player.PlayerActionsEntityFactory;
 import com.bendk97.entities.player.PlayerEntityFactory;
 import com.bendk97.runner.GdxTestRunner;
 import com.bendk97.screens.levels.LevelScreen;
-import com.bendk97.screens.levels.utils.ScreenShake;
+import com.bendk97.systems.CameraShakeSystem;
+import com.bendk97.systems.TimerSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,7 +44,7 @@ public class PlayerListenerImplTest {
     private LevelScreen screen;
 
     @Mock
-    private ScreenShake screenShake;
+    private CameraShakeSystem screenShake;
 
     @Mock
     private EntityFactory entityFactory;
@@ -62,6 +63,7 @@ public class PlayerListenerImplTest {
         MockitoAnnotations.initMocks(this);
         entityFactory.playerEntityFactory = playerEntityFactory;
         entityFactory.playerActionsEntityFactory = playerActionsEntityFactory;
+        entityFactory.timer = new TimerSystem(0);
         Engine engine = new Engine();
 
         SnapshotArray<Entity> bombs = new SnapshotArray<>(Entity.class);
@@ -0,0 +1,144 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.pools;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector3;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.VelocityComponent;
+import com.bendk97.runner.GdxTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@RunWith(GdxTestRunner.class)
+public class PoolProfileTest {
+
+    private final Preferences preferences = new MemoryPreferences();
+
+    @Test
+    public void recorded_peaks_are_kept_from_one_game_to_the_other() {
+        PoolProfile profile = new PoolProfile(preferences, "Level1");
+        profile.record("Sprite", 120);
+        profile.save();
+
+        assertThat(new PoolProfile(preferences, "Level1").getPeak("Sprite")).isEqualTo(120);
+        assertThat(new PoolProfile(preferences, "Level2").getPeak("Sprite")).isZero();
+    }
+
+    @Test
+    public void recorded_peak_decreases_slowly_when_fewer_objects_are_used() {
+        PoolProfile profile = new PoolProfile(preferences, "Level1");
+        profile.record("Sprite", 100);
+        profile.save();
+
+        profile = new PoolProfile(preferences, "Level1");
+        profile.record("Sprite", 10);
+        assertThat(profile.getPeak("Sprite")).isEqualTo(75);
+        profile.record("Sprite", 200);
+        assertThat(profile.getPeak("Sprite")).isEqualTo(200);
+    }
+
+    @Test
+    public void game_pool_is_prewarmed_then_trimmed() {
+        PoolVector3 pool = new PoolVector3(100);
+        pool.prewarm(40);
+        assertThat(pool.getFree()).isEqualTo(40);
+
+        Vector3 vector3 = pool.obtain();
+        assertThat(pool.getFree()).isEqualTo(39);
+        assertThat(pool.getHighWaterMark()).isEqualTo(1);
+        pool.free(vector3);
+
+        pool.trim(10);
+        assertThat(pool.getFree()).isEqualTo(10);
+        assertThat(pool.getAlive()).isZero();
+    }
+
+    @Test
+    public void profile_without_storage_keeps_its_peaks_for_itself() {
+        PoolProfile profile = new PoolProfile(null, "Level1");
+        profile.record("Sprite", 120);
+        profile.save();
+
+        assertThat(profile.getPeak("Sprite")).isEqualTo(120);
+        assertThat(new PoolProfile(null, "Level1").getPeak("Sprite")).isZero();
+    }
+
+    @Test
+    public void trimmed_sprites_do_not_keep_their_texture() {
+        PoolSprite pool = new PoolSprite(100);
+        pool.clear();
+        Sprite sprite = pool.getSprite(mock(Texture.class));
+        pool.free(sprite);
+
+        pool.trim(10);
+
+        assertThat(pool.getFree()).isEqualTo(1);
+        assertThat(sprite.getTexture()).isNull();
+    }
+
+    @Test
+    public void engine_pools_count_components_as_they_are_added_and_removed() {
+        PooledEngine engine = new PooledEngine();
+        EnginePools enginePools = new EnginePools(engine);
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(PositionComponent.class));
+        engine.addEntity(entity);
+        for (int i = 0; i < 3; ++i) {
+            Entity other = engine.createEntity();
+            other.add(engine.createComponent(VelocityComponent.class));
+            engine.addEntity(other);
+        }
+        entity.add(engine.createComponent(VelocityComponent.class));
+        entity.remove(PositionComponent.class);
+        engine.removeAllEntities();
+        for (int i = 0; i < 5; ++i) {
+            Entity other = engine.createEntity();
+            other.add(engine.createComponent(VelocityComponent.class));
+            engine.addEntity(other);
+        }
+        PoolProfile profile = new PoolProfile(preferences, "Level1");
+        enginePools.record(profile);
+
+        assertThat(profile.getPeak("Entity")).isEqualTo(5);
+        assertThat(profile.getPeak(PositionComponent.class.getName())).isEqualTo(1);
+        assertThat(profile.getPeak(VelocityComponent.class.getName())).isEqualTo(5);
+    }
+
+    @Test
+    public void engine_pools_peaks_are_sampled_then_prewarmed() {
+        PooledEngine engine = new PooledEngine();
+        for (int i = 0; i < 5; ++i) {
+            Entity entity = engine.createEntity();
+            entity.add(engine.createComponent(PositionComponent.class));
+            if (i < 2) {
+                entity.add(engine.createComponent(VelocityComponent.class));
+            }
+            engine.addEntity(entity);
+        }
+        EnginePools enginePools = new EnginePools(engine);
+        enginePools.sample();
+        PoolProfile profile = new PoolProfile(preferences, "Level1");
+        enginePools.record(profile);
+        profile.save();
+
+        PooledEngine nextEngine = new PooledEngine();
+        new EnginePools(nextEngine).prewarm(new PoolProfile(preferences, "Level1"));
+
+        assertThat(nextEngine.getEntities()).isEmpty();
+        assertThat(profile.getPeak("Entity")).isEqualTo(5);
+        assertThat(profile.getPeak(PositionComponent.class.getName())).isEqualTo(5);
+        assertThat(profile.getPeak(VelocityComponent.class.getName())).isEqualTo(2);
+    }
+}
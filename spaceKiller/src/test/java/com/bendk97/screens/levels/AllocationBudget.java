@@ -0,0 +1,212 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.bendk97.pools.MemoryPreferences;
+import com.bendk97.screens.levels.utils.FrameProfiler;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plays a level with the {@link LevelSimulationRunner} and measures the bytes allocated by each system for each
+ * simulated frame, with the allocation counter of the thread, once the level is warmed up.
+ * <p>
+ * To be run in its own JVM with the subclass mock maker (see the allocationTest task): the inline mock maker
+ * instruments {@link Object#equals(Object)}, allocating on each call of the game once any class is mocked.
+ * <p>
+ * When a system goes beyond its budget, the same game is played again under a flight recording to report the call
+ * sites allocating the most on behalf of the system.
+ */
+public class AllocationBudget {
+
+    private static final int TOP_CALL_SITES = 10;
+    private static final String GAME_PACKAGE = "com.bendk97.";
+    private static final String ENTITY_MANAGER = "com.badlogic.ashley.core.EntityManager";
+
+    /**
+     * allocation counter of HotSpot for the current thread, less its own allocations: reading the counter allocates,
+     * more or less depending on the compilation of the reading code, so the cost of a read is measured at each read
+     */
+    static final class ThreadAllocationCounter implements FrameProfiler.AllocationCounter {
+        private final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private final ThreadLocal<long[]> overhead = ThreadLocal.withInitial(() -> new long[1]);
+
+        ThreadAllocationCounter() {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long[] threadOverhead = overhead.get();
+            long threadId = Thread.currentThread().getId();
+            long first = threads.getThreadAllocatedBytes(threadId);
+            long second = threads.getThreadAllocatedBytes(threadId);
+            // both reads cost the same, the first one being counted by the previous measure
+            threadOverhead[0] += 2 * (second - first);
+            return second - threadOverhead[0];
+        }
+    }
+
+    private final Level level;
+    private int warmUpSeconds = 20;
+    private int seconds = 60;
+    private FrameProfiler profiler;
+    // peaks recorded by the first game
+    private final MemoryPreferences poolProfiles = new MemoryPreferences();
+
+    public AllocationBudget(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * seconds of script played before measuring: pools, caches and the JIT get to their steady state
+     */
+    public AllocationBudget warmUp(int warmUpSeconds) {
+        this.warmUpSeconds = warmUpSeconds;
+        return this;
+    }
+
+    /**
+     * plays a first game to record the peaks of the pools, prewarmed for the measured game as on the device
+     * <p>
+     * to be called on the thread of the application
+     */
+    public AllocationBudget play(int seconds) {
+        this.seconds = seconds;
+        LevelSimulationRunner firstGame = new LevelSimulationRunner(level);
+        firstGame.setPoolProfiles(poolProfiles);
+        firstGame.run(warmUpSeconds + seconds);
+        LevelSimulationRunner runner = new LevelSimulationRunner(level);
+        runner.setPoolProfiles(poolProfiles);
+        runner.measureAllocations(new ThreadAllocationCounter(), warmUpSeconds, null);
+        runner.run(seconds);
+        profiler = runner.getProfiler();
+        return this;
+    }
+
+    /**
+     * @return the section measured for the system, null if the system was never run in steady state
+     */
+    public FrameProfiler.Section section(Class<? extends EntitySystem> system) {
+        return section(system.getSimpleName());
+    }
+
+    public FrameProfiler.Section section(String name) {
+        for (FrameProfiler.Section section : profiler.getSections()) {
+            if (section.name.equals(name) && section.samplesSinceReset > 0) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @throws AssertionError with the top allocating call sites if one frame of the system allocated more
+     */
+    public void assertFrameBudget(Class<? extends EntitySystem> system, long bytesPerFrame) {
+        FrameProfiler.Section section = section(system);
+        if (section == null) {
+            throw new AssertionError(system.getSimpleName() + " did not run in steady state");
+        }
+        if (section.maxBytes > bytesPerFrame) {
+            throw new AssertionError(String.format("%s allocated up to %d bytes in a frame (%d bytes in %d frames), "
+                            + "budget is %d bytes%n%s", system.getSimpleName(), section.maxBytes, section.bytes,
+                    section.samplesSinceReset, bytesPerFrame, topCallSites(system)));
+        }
+    }
+
+    /**
+     * plays the game again under a flight recording
+     *
+     * @return allocation sites seen under the system or under the pending operations of the engine, processed in the
+     * section of the system, by estimated bytes
+     */
+    String topCallSites(Class<?> system) {
+        Path file = null;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationInNewTLAB").withStackTrace();
+            recording.enable("jdk.ObjectAllocationOutsideTLAB").withStackTrace();
+            LevelSimulationRunner runner = new LevelSimulationRunner(level);
+            runner.setPoolProfiles(poolProfiles);
+            runner.measureAllocations(null, warmUpSeconds, recording::start);
+            runner.run(seconds);
+            recording.stop();
+            file = Files.createTempFile("allocations", ".jfr");
+            recording.dump(file);
+            return format(callSites(RecordingFile.readAllEvents(file), system.getName()));
+        } catch (IOException e) {
+            return "no call sites: " + e.getMessage();
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+        }
+    }
+
+    private static Map<String, Long> callSites(List<RecordedEvent> events, String system) {
+        Map<String, Long> bytesBySite = new HashMap<>();
+        for (RecordedEvent event : events) {
+            RecordedStackTrace stackTrace = event.getStackTrace();
+            if (stackTrace == null || !runsUnder(stackTrace, system) && !runsUnder(stackTrace, ENTITY_MANAGER)) {
+                continue;
+            }
+            long bytes = event.hasField("tlabSize") ? event.getLong("tlabSize") : event.getLong("allocationSize");
+            bytesBySite.merge(site(stackTrace), bytes, Long::sum);
+        }
+        return bytesBySite;
+    }
+
+    private static boolean runsUnder(RecordedStackTrace stackTrace, String type) {
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return first frame in the code of the game, the allocating frame otherwise
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame site = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith(GAME_PACKAGE)) {
+                site = frame;
+                break;
+            }
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber()
+                + " <- allocating in " + frames.get(0).getMethod().getType().getName() + "."
+                + frames.get(0).getMethod().getName();
+    }
+
+    private static String format(Map<String, Long> bytesBySite) {
+        List<Map.Entry<String, Long>> sites = new ArrayList<>(bytesBySite.entrySet());
+        sites.sort((site1, site2) -> Long.compare(site2.getValue(), site1.getValue()));
+        StringBuilder sb = new StringBuilder("top allocating call sites:");
+        for (int i = 0; i < Math.min(TOP_CALL_SITES, sites.size()); ++i) {
+            sb.append(String.format("%n  %8d bytes  %s", sites.get(i).getValue(), sites.get(i).getKey()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels;
+
+import com.bendk97.runner.GdxTestRunner;
+import com.bendk97.systems.MovementSystem;
+import com.bendk97.systems.collision.CollisionSystem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class AllocationBudgetTest {
+
+    // entities removed on collisions are processed by the engine in the section of the system: its entity set and
+    // families still grow once in a while, up to the most crowded waves (a sorted system grows along with its family)
+    private static final long ENGINE_GROWTH = 768L;
+
+    @Test
+    public void movement_and_collisions_do_not_allocate_once_level_1_is_warmed_up() {
+        AllocationBudget budget = new AllocationBudget(Level.Level1).warmUp(20).play(60);
+        budget.assertFrameBudget(MovementSystem.class, 0);
+        budget.assertFrameBudget(CollisionSystem.class, ENGINE_GROWTH);
+    }
+
+    @Test
+    public void movement_and_collisions_do_not_allocate_once_level_2_is_warmed_up() {
+        AllocationBudget budget = new AllocationBudget(Level.Level2).warmUp(20).play(60);
+        budget.assertFrameBudget(MovementSystem.class, 0);
+        budget.assertFrameBudget(CollisionSystem.class, ENGINE_GROWTH);
+    }
+}
@@ -25,9 +25,9 @@ import com.bendk97.listeners.impl.CollisionListenerImpl;
 import com.bendk97.listeners.impl.InputListenerImpl;
 import com.bendk97.listeners.impl.PlayerListenerImpl;
 import com.bendk97.runner.GdxTestRunner;
-import com.bendk97.screens.levels.utils.ScreenShake;
 import com.bendk97.systems.*;
 import com.bendk97.systems.collision.CollisionSystem;
+import com.bendk97.systems.scheduler.SystemScheduler;
 import com.bendk97.systems.screen.GameOverRenderingSystem;
 import com.bendk97.systems.screen.PauseRenderingSystem;
 import org.junit.Before;
@@ -101,20 +101,24 @@ public class LevelScreenTest {
     public void systems_creation() {
         levelScreen.createSystems(mock(Entity.class),
                 mock(SnapshotArray.class),
-                mock(SnapshotArray.class), mock(SpriteBatch.class), mock(ScreenShake.class));
+                mock(SnapshotArray.class), mock(SpriteBatch.class), mock(CameraShakeSystem.class));
 
-        assertThat(levelScreen.engine.getSystems()).hasSize(29);
+        assertThat(levelScreen.engine.getSystems()).hasSize(33);
         assertThat(levelScreen.engine.getSystems())
                 .hasOnlyElementsOfTypes(
+                        TimerSystem.class,
                         PlayerListenerImpl.class,
                         InputListenerImpl.class,
                         CollisionListenerImpl.class,
                         DirectionableSpriteSystem.class,
                         AnimationSystem.class,
                         BombExplosionSystem.class,
+                        SystemScheduler.class,
                         StateSystem.class,
                         MovementPlayerSystem.class,
                         MovementSystem.class,
+                        PathFollowSystem.class,
+                        CameraShakeSystem.class,
                         ShieldSystem.class,
                         BatcherBeginSystem.class,
                         BackgroundRenderingSystem.class,
@@ -143,9 +147,9 @@ public class LevelScreenTest {
         SpaceKillerGameConstants.DEBUG = true;
         levelScreen.createSystems(mock(Entity.class),
                 mock(SnapshotArray.class),
-                mock(SnapshotArray.class), mock(SpriteBatch.class), mock(ScreenShake.class));
+                mock(SnapshotArray.class), mock(SpriteBatch.class), mock(CameraShakeSystem.class));
 
-        assertThat(levelScreen.engine.getSystems()).hasSize(30);
+        assertThat(levelScreen.engine.getSystems()).hasSize(34);
         assertThat(levelScreen.engine.getSystems())
                 .hasAtLeastOneElementOfType(
                         DebugStatsSystem.class
@@ -0,0 +1,488 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.bendk97.Settings;
+import com.bendk97.SpaceKillerGame;
+import com.bendk97.assets.GameAssets;
+import com.bendk97.components.InvulnerableComponent;
+import com.bendk97.components.PlayerComponent;
+import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.google.Achievement;
+import com.bendk97.google.PlayServices;
+import com.bendk97.inputs.record.InputRecording;
+import com.bendk97.player.PlayerData;
+import com.bendk97.pools.GamePool;
+import com.bendk97.pools.GamePools;
+import com.bendk97.random.GameRandom;
+import com.bendk97.screens.levels.utils.FixedTimestep;
+import com.bendk97.screens.levels.utils.FrameProfiler;
+import com.bendk97.screens.levels.utils.StressRamp;
+import com.bendk97.share.IntentShare;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_HEIGHT;
+import static com.bendk97.SpaceKillerGameConstants.SCREEN_WIDTH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Plays a level script headless and as fast as possible, rendering stubbed out like in {@link com.bendk97.runner.GdxTestRunner}.
+ * The player is invulnerable and fires at its normal rate, or replays a recorded session. The timer follows the
+ * simulated time and the random is seeded, so that two runs play the same.
+ * For each second of script, reports the entities, the running tweens, the peaks of the game pools and the time spent
+ * in each system.
+ * <p>
+ * Usage: LevelSimulationRunner [Level1|Level2|Level3|Stress] [seconds] [recorded inputs]
+ */
+public class LevelSimulationRunner {
+
+    private static final float STEP = FixedTimestep.STEP;
+    private static final int TOP_SYSTEMS = 5;
+    private static final long DEFAULT_SEED = 97L;
+    private static final String STRESS = "Stress";
+
+    public static class SecondReport {
+        public final int second;
+        public final int entities;
+        // most tweens and timelines running at once during the second
+        public final int tweens;
+        public final ObjectIntMap<String> poolPeaks = new ObjectIntMap<>();
+        public final ObjectFloatMap<String> systemMillis = new ObjectFloatMap<>();
+
+        SecondReport(int second, int entities, int tweens) {
+            this.second = second;
+            this.entities = entities;
+            this.tweens = tweens;
+        }
+    }
+
+    private final Level level;
+    private final SilentAssets assets = new SilentAssets();
+    private final GamePool<?>[] pools = {GamePools.poolSprite, GamePools.poolVector2, GamePools.poolVector3,
+            GamePools.poolCircle, GamePools.poolRectangle, GamePools.poolColor, GamePools.poolTask};
+    private boolean levelFinished = false;
+    private long[] lastTotals = new long[0];
+    private long seed = DEFAULT_SEED;
+    private InputRecording inputs = null;
+    private FrameProfiler.AllocationCounter allocationCounter = null;
+    private int steadySecond = Integer.MAX_VALUE;
+    private Runnable onSteadyState = null;
+    private FrameProfiler profiler;
+    private boolean stress = false;
+    private StressRamp stressRamp;
+    private Preferences poolProfiles = null;
+
+    public LevelSimulationRunner(Level level) {
+        this.level = level;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * plays the {@link StressLevelScreen} instead of the level, until its target frame time is missed
+     */
+    public void setStress(boolean stress) {
+        this.stress = stress;
+    }
+
+    /**
+     * @return ramp of the last stress run, null if not a stress run
+     */
+    public StressRamp getStressRamp() {
+        return stressRamp;
+    }
+
+    /**
+     * keeps the pool profiles of the runs in this storage, instead of starting each run from empty pools
+     */
+    public void setPoolProfiles(Preferences poolProfiles) {
+        this.poolProfiles = poolProfiles;
+    }
+
+    /**
+     * plays the recorded session (and its seed) instead of firing continuously
+     */
+    public void setInputs(InputRecording inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * measures the bytes allocated by each section of the profiler, from the given second of script
+     *
+     * @param onSteadyState called when the measure starts, may be null
+     */
+    public void measureAllocations(FrameProfiler.AllocationCounter allocationCounter, int steadySecond,
+                                   Runnable onSteadyState) {
+        this.allocationCounter = allocationCounter;
+        this.steadySecond = steadySecond;
+        this.onSteadyState = onSteadyState;
+    }
+
+    /**
+     * @return profiler of the last run
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public boolean isLevelFinished() {
+        return levelFinished;
+    }
+
+    /**
+     * to be called on the thread of the application
+     *
+     * @return a report for each second of script played, until the given second or the end of the level
+     */
+    public Array<SecondReport> run(int seconds) {
+        mockGraphics();
+        mockAssets();
+        // persisted setting of the user, switched back once played
+        boolean lightFXEnabled = Settings.isLightFXEnabled();
+        if (lightFXEnabled) {
+            Settings.changeLightFXEnabled();
+        }
+        try {
+            return play(seconds);
+        } finally {
+            if (lightFXEnabled) {
+                Settings.changeLightFXEnabled();
+            }
+        }
+    }
+
+    private Array<SecondReport> play(int seconds) {
+        GameRandom.seedNextLevel(inputs != null ? inputs.getSeed() : seed);
+        LevelScreen screen = createScreen(mockGame());
+        if (inputs != null) {
+            screen.replay(inputs);
+        }
+        profiler = screen.getProfiler();
+        profiler.setEnabled(true);
+        profiler.setAllocationCounter(allocationCounter);
+        Entity player = screen.engine.getEntitiesFor(Family.all(PlayerComponent.class).get()).first();
+        player.add(screen.engine.createComponent(InvulnerableComponent.class));
+
+        Array<SecondReport> reports = new Array<>(seconds);
+        float lastFire = 0f;
+        int second = (int) Math.floor(screen.getCurrentTimeScript());
+        try {
+            while (second < seconds && !levelFinished) {
+                ((HeadlessApplication) Gdx.app).executeRunnables();
+                lastFire += STEP;
+                if (inputs == null && lastFire * 1000f > ComponentMapperHelper.player.get(player).fireDelay) {
+                    screen.getEntityFactory().playerActionsEntityFactory.createPlayerFire(player);
+                    lastFire = 0f;
+                }
+                screen.stepSimulation(STEP);
+                int newSecond = (int) Math.floor(screen.getCurrentTimeScript());
+                if (newSecond > second) {
+                    reports.add(report(second, screen));
+                    second = newSecond;
+                    if (second == steadySecond) {
+                        profiler.resetAllocations();
+                        if (onSteadyState != null) {
+                            onSteadyState.run();
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (stress) {
+                stressRamp = ((StressLevelScreen) screen).getRamp();
+            }
+            screen.dispose();
+        }
+        return reports;
+    }
+
+    private SecondReport report(int second, LevelScreen screen) {
+        SecondReport report = new SecondReport(second, screen.engine.getEntities().size(),
+                screen.getTweenManager().getPeak());
+        screen.getTweenManager().resetPeak();
+        for (GamePool<?> pool : pools) {
+            report.poolPeaks.put(pool.getName(), pool.getPeak());
+            pool.resetPeak();
+        }
+        Array<FrameProfiler.Section> sections = screen.getProfiler().getSections();
+        if (lastTotals.length < sections.size) {
+            long[] totals = new long[sections.size];
+            System.arraycopy(lastTotals, 0, totals, 0, lastTotals.length);
+            lastTotals = totals;
+        }
+        for (int i = 0; i < sections.size; ++i) {
+            FrameProfiler.Section section = sections.get(i);
+            report.systemMillis.put(section.name, (section.total - lastTotals[i]) / 1000000f);
+            lastTotals[i] = section.total;
+        }
+        return report;
+    }
+
+    private LevelScreen createScreen(SpaceKillerGame game) {
+        SpriteBatch batcher = stub(SpriteBatch.class);
+        if (stress) {
+            return new StressLevelScreen(assets, game, batcher);
+        }
+        switch (level) {
+            case Level3:
+                return new Level3Screen(assets, game, batcher);
+            case Level2:
+                return new Level2Screen(assets, game, batcher);
+            case Level1:
+            default:
+                return new Level1Screen(assets, game, batcher);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpaceKillerGame mockGame() {
+        SpaceKillerGame game = spy(new SpaceKillerGame(new OfflinePlayServices(), stub(IntentShare.class)));
+        // never the pool profiles of the game
+        doReturn(poolProfiles).when(game).getPoolProfiles();
+        doAnswer(invocation -> levelFinished = true).when(game)
+                .goToScreen(any(Class.class), any(PlayerData.class), any(Sprite.class));
+        doAnswer(invocation -> levelFinished = true).when(game).goToScreen(any(Class.class));
+        return game;
+    }
+
+    private static void mockGraphics() {
+        Gdx.gl20 = stub(GL20.class);
+        // screenshot taken at the end of the level
+        when(Gdx.gl20.glCheckFramebufferStatus(anyInt())).thenReturn(GL20.GL_FRAMEBUFFER_COMPLETE);
+        Gdx.gl = Gdx.gl20;
+        Gdx.gl30 = stub(GL30.class);
+        Gdx.graphics = stub(Graphics.class);
+        when(Gdx.graphics.getWidth()).thenReturn((int) SCREEN_WIDTH);
+        when(Gdx.graphics.getHeight()).thenReturn((int) SCREEN_HEIGHT);
+    }
+
+    private void mockAssets() {
+        TextureAtlas textureAtlas = stub(TextureAtlas.class);
+        AtlasRegion atlasRegion = new AtlasRegion(new StubTexture(), 0, 0, 32, 32);
+        when(textureAtlas.findRegions(anyString())).thenReturn(new Array<>(
+                new AtlasRegion[]{atlasRegion, atlasRegion, atlasRegion, atlasRegion}
+        ));
+        when(textureAtlas.findRegion(anyString())).thenReturn(atlasRegion);
+        ObjectSet<Texture> textures = new ObjectSet<>();
+        textures.add(stub(Texture.class));
+        when(textures.first().getTextureData()).thenReturn(stub(TextureData.class));
+        when(textures.first().getTextureData().consumePixmap()).thenReturn(stub(Pixmap.class));
+        when(textureAtlas.getTextures()).thenReturn(textures);
+        assets.mocks.put(TextureAtlas.class, textureAtlas);
+        BitmapFontCache font = stub(BitmapFontCache.class);
+        when(font.getColor()).thenReturn(new Color(Color.WHITE));
+        assets.font = font;
+    }
+
+    /**
+     * assets played during the game, silent: a mock would allocate on each call, counted in the allocations of the game
+     */
+    private static class SilentAssets extends GameAssets {
+        // every other asset (textures, sounds, musics) is a mock of its type
+        private final ObjectMap<Class<?>, Object> mocks = new ObjectMap<>();
+        private BitmapFontCache font;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(AssetDescriptor<T> descriptor) {
+            if (!mocks.containsKey(descriptor.type)) {
+                mocks.put(descriptor.type, mock(descriptor.type, withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS)));
+            }
+            return (T) mocks.get(descriptor.type);
+        }
+
+        @Override
+        public BitmapFontCache getFont(AssetDescriptor<BitmapFont> descriptor) {
+            return font;
+        }
+
+        @Override
+        public void playSound(AssetDescriptor<Sound> sound, float volume) {
+        }
+
+        @Override
+        public Music playMusic(AssetDescriptor<Music> musicDescriptor, float volume) {
+            return null;
+        }
+
+        @Override
+        public void stopMusic(AssetDescriptor<Music> music) {
+        }
+    }
+
+    /**
+     * signed out play services, unlocking achievements while playing without allocating like a mock
+     */
+    private static class OfflinePlayServices implements PlayServices {
+        @Override
+        public void startGooglePlay() {
+        }
+
+        @Override
+        public void signIn() {
+        }
+
+        @Override
+        public void signOut() {
+        }
+
+        @Override
+        public void rateGame() {
+        }
+
+        @Override
+        public void unlockAchievement(Achievement achievement) {
+        }
+
+        @Override
+        public void submitScore(int highScore) {
+        }
+
+        @Override
+        public void showAchievement() {
+        }
+
+        @Override
+        public void showScore() {
+        }
+
+        @Override
+        public boolean isSignedIn() {
+            return false;
+        }
+    }
+
+    /**
+     * texture of the atlas regions, sized 0 like a mock but not allocating when sprites are set to its regions
+     */
+    private static class StubTexture extends Texture {
+        StubTexture() {
+            super(GL20.GL_TEXTURE_2D, 0, stub(TextureData.class));
+        }
+
+        @Override
+        public void load(TextureData data) {
+        }
+
+        @Override
+        public int getWidth() {
+            return 0;
+        }
+
+        @Override
+        public int getHeight() {
+            return 0;
+        }
+    }
+
+    /**
+     * mock not recording its invocations, which would be counted in the allocations of the game
+     */
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static String format(SecondReport report) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%4ds entities=%4d tweens=%3d", report.second, report.entities, report.tweens));
+        for (ObjectIntMap.Entry<String> peak : report.poolPeaks) {
+            sb.append(' ').append(peak.key).append('=').append(peak.value);
+        }
+        sb.append(" |");
+        Array<ObjectFloatMap.Entry<String>> systems = new Array<>();
+        for (ObjectFloatMap.Entry<String> system : report.systemMillis) {
+            ObjectFloatMap.Entry<String> entry = new ObjectFloatMap.Entry<>();
+            entry.key = system.key;
+            entry.value = system.value;
+            systems.add(entry);
+        }
+        systems.sort((system1, system2) -> Float.compare(system2.value, system1.value));
+        for (int i = 0; i < Math.min(TOP_SYSTEMS, systems.size); ++i) {
+            sb.append(String.format(" %s=%.2fms", systems.get(i).key, systems.get(i).value));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        boolean stress = args.length > 0 && STRESS.equals(args[0]);
+        Level level = stress ? Level.Level3 : args.length > 0 ? Level.valueOf(args[0]) : Level.Level1;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        InputRecording inputs = args.length > 2 ? InputRecording.read(new FileHandle(args[2])) : null;
+        CountDownLatch done = new CountDownLatch(1);
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void render() {
+                if (done.getCount() == 0) {
+                    return;
+                }
+                try {
+                    LevelSimulationRunner runner = new LevelSimulationRunner(level);
+                    runner.setInputs(inputs);
+                    runner.setStress(stress);
+                    long start = TimeUtils.millis();
+                    Array<SecondReport> reports = runner.run(seconds);
+                    long wallMillis = TimeUtils.timeSinceMillis(start);
+                    for (SecondReport report : reports) {
+                        System.out.println(format(report));
+                    }
+                    System.out.println(String.format("%s: %d s of script in %.1f s%s", stress ? STRESS : level, reports.size,
+                            wallMillis / 1000f, runner.isLevelFinished() ? ", level finished" : ""));
+                    if (stress) {
+                        StringWriter result = new StringWriter();
+                        runner.getStressRamp().write(result);
+                        System.out.print(result);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    done.countDown();
+                    Gdx.app.exit();
+                }
+            }
+        }, new HeadlessApplicationConfiguration());
+        done.await();
+    }
+}
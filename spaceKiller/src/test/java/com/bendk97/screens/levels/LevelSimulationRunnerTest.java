@@ -0,0 +1,64 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels;
+
+import com.badlogic.gdx.utils.Array;
+import com.bendk97.Settings;
+import com.bendk97.runner.GdxTestRunner;
+import com.bendk97.screens.levels.LevelSimulationRunner.SecondReport;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(GdxTestRunner.class)
+public class LevelSimulationRunnerTest {
+
+    @Test
+    public void level_script_is_played_faster_than_real_time() {
+        LevelSimulationRunner runner = new LevelSimulationRunner(Level.Level1);
+        long start = System.currentTimeMillis();
+
+        Array<SecondReport> reports = runner.run(30);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(30000L);
+        assertThat(reports.size).isEqualTo(35);
+        assertThat(reports.first().second).isEqualTo(-5);
+        assertThat(reports.peek().second).isEqualTo(29);
+        assertThat(reports.peek().entities).isPositive();
+        assertThat(reports.peek().poolPeaks.get("Sprite", 0)).isPositive();
+        assertThat(reports.peek().systemMillis.containsKey("CollisionSystem")).isTrue();
+    }
+
+    @Test
+    public void runs_with_the_same_seed_play_the_same() {
+        Array<SecondReport> reports1 = new LevelSimulationRunner(Level.Level1).run(15);
+        Array<SecondReport> reports2 = new LevelSimulationRunner(Level.Level1).run(15);
+
+        assertThat(reports2.size).isEqualTo(reports1.size);
+        for (int i = 0; i < reports1.size; ++i) {
+            assertThat(reports2.get(i).entities).isEqualTo(reports1.get(i).entities);
+        }
+    }
+
+    @Test
+    public void light_effects_setting_is_left_as_it_was() {
+        boolean lightFXEnabled = Settings.isLightFXEnabled();
+        if (!lightFXEnabled) {
+            Settings.changeLightFXEnabled();
+        }
+        try {
+            new LevelSimulationRunner(Level.Level1).run(1);
+
+            assertThat(Settings.isLightFXEnabled()).isTrue();
+        } finally {
+            if (Settings.isLightFXEnabled() != lightFXEnabled) {
+                Settings.changeLightFXEnabled();
+            }
+        }
+    }
+}
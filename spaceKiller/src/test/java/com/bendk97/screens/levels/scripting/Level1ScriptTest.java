@@ -10,9 +10,9 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Texture;
 import com.bendk97.components.GameOverComponent;
 import com.bendk97.components.VelocityComponent;
+import com.bendk97.screens.levels.timeline.TimelineEvent;
 import org.junit.Test;
 
-import java.util.LinkedList;
 
 import static com.bendk97.assets.GameAssets.*;
 import static com.bendk97.entities.EntityFactoryIds.BOSS_LEVEL_1;
@@ -55,21 +55,21 @@ public class Level1ScriptTest extends LevelScriptTest{
     public void thirteen_enemies_squadrons_happen_during_first_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(60);
-        verify(scripting, times(16)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(16)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
     public void eighteen_enemies_squadrons_happen_during_second_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(61, 120);
-        verify(scripting, times(23)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(23)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
     public void eighteen_enemies_squadrons_happen_during_last_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(121, 180);
-        verify(scripting, times(30)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(30)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
@@ -11,9 +11,9 @@ import com.badlogic.gdx.graphics.Texture;
 import com.bendk97.components.GameOverComponent;
 import com.bendk97.components.PlayerComponent;
 import com.bendk97.components.VelocityComponent;
+import com.bendk97.screens.levels.timeline.TimelineEvent;
 import org.junit.Test;
 
-import java.util.LinkedList;
 
 import static com.bendk97.assets.GameAssets.*;
 import static com.bendk97.entities.EntityFactoryIds.BOSS_LEVEL_2;
@@ -65,7 +65,7 @@ public class Level2ScriptTest extends LevelScriptTest {
     public void twenty_three_enemies_squadrons_happen_during_first_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(20, 90);
-        verify(scripting, times(23)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(23)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
@@ -79,7 +79,7 @@ public class Level2ScriptTest extends LevelScriptTest {
     public void twenty_nine_enemies_squadrons_happen_during_second_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(91, 160);
-        verify(scripting, times(29)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(29)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
@@ -93,7 +93,7 @@ public class Level2ScriptTest extends LevelScriptTest {
     public void thirty_eight_enemies_squadrons_happen_during_last_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(161, 250);
-        verify(scripting, times(38)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(38)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
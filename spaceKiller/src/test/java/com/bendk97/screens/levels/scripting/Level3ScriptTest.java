@@ -12,9 +12,9 @@ import com.bendk97.components.GameOverComponent;
 import com.bendk97.components.PlayerComponent;
 import com.bendk97.components.TankComponent.TankLevel;
 import com.bendk97.components.VelocityComponent;
+import com.bendk97.screens.levels.timeline.TimelineEvent;
 import org.junit.Test;
 
-import java.util.LinkedList;
 
 import static com.bendk97.assets.GameAssets.*;
 import static com.bendk97.entities.EntityFactoryIds.BOSS_LEVEL_3;
@@ -66,7 +66,7 @@ public class Level3ScriptTest extends LevelScriptTest {
     public void seventeen_enemies_squadrons_happen_during_first_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(15, 80);
-        verify(scripting, times(17)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(17)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
@@ -87,7 +87,7 @@ public class Level3ScriptTest extends LevelScriptTest {
     public void twenty_four_enemies_squadrons_happen_during_second_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(81, 145);
-        verify(scripting, times(24)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(24)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
@@ -108,7 +108,7 @@ public class Level3ScriptTest extends LevelScriptTest {
     public void twenty_four_enemies_squadrons_happen_during_last_part_of_level() {
         scripting = spy(scripting);
         launchScriptTimer(146, 210);
-        verify(scripting, times(24)).executeScriptFromList(any(LinkedList.class));
+        verify(scripting, times(24)).spawnSquadron(any(TimelineEvent.class), anyInt());
     }
 
     @Test
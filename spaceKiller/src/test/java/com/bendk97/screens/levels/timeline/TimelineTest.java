@@ -0,0 +1,87 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.timeline;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.bendk97.runner.GdxTestRunner;
+import com.bendk97.screens.levels.Level;
+import com.bendk97.screens.levels.timeline.TimelineEvent.Type;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@RunWith(GdxTestRunner.class)
+public class TimelineTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void compiled_timelines_are_up_to_date_with_their_json_source() {
+        for (Level level : Level.values()) {
+            FileHandle timeline = Gdx.files.classpath(level.timeline);
+            FileHandle source = Gdx.files.classpath(level.timeline.replace(TimelineCompiler.EXTENSION, TimelineCompiler.SOURCE_EXTENSION));
+            assertThat(TimelineCompiler.compile(source)).as(level.timeline).isEqualTo(timeline.readBytes());
+        }
+    }
+
+    @Test
+    public void events_are_decoded_only_a_few_seconds_ahead_and_freed_once_over() {
+        TimelinePlayer player = new TimelinePlayer(Gdx.files.classpath(Level.Level1.timeline));
+        assertThat(player.getDecodedEvents()).isZero();
+        player.prefetch(0f);
+        // asteroids, mists, first squadrons
+        assertThat(player.getDecodedEvents()).isEqualTo(3);
+        player.prefetch(62.5f);
+        // + squadrons of the second part and GO
+        assertThat(player.getDecodedEvents()).isEqualTo(6);
+        player.play(61, mock(TimelinePlayer.Listener.class));
+        assertThat(player.getDecodedEvents()).isEqualTo(5);
+        player.play(65, mock(TimelinePlayer.Listener.class));
+        assertThat(player.getDecodedEvents()).isEqualTo(4);
+        player.dispose();
+    }
+
+    @Test
+    public void periodic_events_are_executed_at_every_multiple_of_their_periods() {
+        TimelinePlayer player = new TimelinePlayer(Gdx.files.classpath(Level.Level1.timeline));
+        // events are given back to their pool once over: counted when executed
+        int[] executed = new int[Type.values().length];
+        int[] bossSecond = new int[1];
+        for (int second = 0; second <= 250; ++second) {
+            player.play(second, (event, at) -> {
+                executed[event.type.ordinal()]++;
+                if (event.type == Type.BOSS) {
+                    bossSecond[0] = at;
+                }
+            });
+        }
+        assertThat(executed[Type.SQUADRON.ordinal()]).isEqualTo(16 + 23 + 30);
+        assertThat(executed[Type.MIST.ordinal()]).isEqualTo(9);
+        assertThat(executed[Type.BOSS.ordinal()]).isEqualTo(1);
+        assertThat(bossSecond[0]).isEqualTo(189);
+        player.dispose();
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void timeline_of_another_version_is_rejected() throws IOException {
+        byte[] bytes = Gdx.files.classpath(Level.Level1.timeline).readBytes();
+        // version follows the magic number
+        bytes[5] = (byte) (TimelineFormat.VERSION + 1);
+        FileHandle file = new FileHandle(folder.newFile("level.timeline"));
+        file.writeBytes(bytes, false);
+        new TimelinePlayer(file);
+    }
+}
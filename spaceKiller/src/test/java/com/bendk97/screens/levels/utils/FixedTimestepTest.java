@@ -0,0 +1,48 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(JUnit4.class)
+public class FixedTimestepTest {
+
+    private final FixedTimestep timestep = new FixedTimestep(0.1f, 5);
+
+    @Test
+    public void short_frames_accumulate_until_a_step() {
+        assertThat(timestep.advance(0.04f)).isEqualTo(0);
+        assertThat(timestep.alpha()).isCloseTo(0.4f, within(0.001f));
+        assertThat(timestep.advance(0.07f)).isEqualTo(1);
+        assertThat(timestep.alpha()).isCloseTo(0.1f, within(0.001f));
+    }
+
+    @Test
+    public void long_frames_run_several_steps() {
+        assertThat(timestep.advance(0.35f)).isEqualTo(3);
+        assertThat(timestep.alpha()).isCloseTo(0.5f, within(0.001f));
+    }
+
+    @Test
+    public void delta_spike_is_clamped() {
+        assertThat(timestep.advance(3f)).isEqualTo(5);
+        assertThat(timestep.alpha()).isEqualTo(0f);
+        assertThat(timestep.advance(0.1f)).isEqualTo(1);
+    }
+
+    @Test
+    public void pause_does_not_step() {
+        timestep.advance(0.05f);
+        assertThat(timestep.advance(0f)).isEqualTo(0);
+        assertThat(timestep.alpha()).isCloseTo(0.5f, within(0.001f));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class FrameProfilerTest {
+
+    private static class CountingSystem extends EntitySystem {
+        int updates = 0;
+
+        CountingSystem(int priority) {
+            super(priority);
+        }
+
+        @Override
+        public void update(float deltaTime) {
+            updates++;
+        }
+    }
+
+    private static class OtherCountingSystem extends CountingSystem {
+        OtherCountingSystem(int priority) {
+            super(priority);
+        }
+    }
+
+    @Test
+    public void each_processing_system_is_updated_once_and_sampled() {
+        Engine engine = new Engine();
+        CountingSystem system = new CountingSystem(0);
+        CountingSystem disabled = new OtherCountingSystem(1);
+        engine.addSystem(system);
+        engine.addSystem(disabled);
+        disabled.setProcessing(false);
+        FrameProfiler profiler = new FrameProfiler(true);
+
+        profiler.updateEngine(engine, 0.1f);
+        profiler.updateEngine(engine, 0.1f);
+
+        assertThat(system.updates).isEqualTo(2);
+        assertThat(disabled.updates).isEqualTo(0);
+        assertThat(system.checkProcessing()).isTrue();
+        assertThat(disabled.checkProcessing()).isFalse();
+        Array<FrameProfiler.Section> sections = profiler.computePercentiles();
+        assertThat(sections.size).isEqualTo(1);
+        assertThat(sections.first().name).isEqualTo("CountingSystem");
+    }
+
+    @Test
+    public void disabled_profiler_only_updates_the_engine() {
+        Engine engine = new Engine();
+        CountingSystem system = new CountingSystem(0);
+        engine.addSystem(system);
+        FrameProfiler profiler = new FrameProfiler(false);
+
+        profiler.updateEngine(engine, 0.1f);
+        profiler.end(FrameProfiler.TWEEN_MANAGER, profiler.begin());
+
+        assertThat(system.updates).isEqualTo(1);
+        assertThat(profiler.computePercentiles().size).isEqualTo(0);
+    }
+
+    @Test
+    public void percentiles_are_computed_on_the_last_samples() {
+        FrameProfiler profiler = new FrameProfiler(true);
+        for (int i = 0; i < 100; ++i) {
+            profiler.end(FrameProfiler.TWEEN_MANAGER, profiler.begin());
+        }
+        FrameProfiler.Section section = profiler.computePercentiles().first();
+        assertThat(section.p50).isLessThanOrEqualTo(section.p95);
+        assertThat(section.p95).isLessThanOrEqualTo(section.p99);
+        assertThat(section.p99).isLessThanOrEqualTo(section.max);
+    }
+
+    @Test
+    public void trace_is_a_chrome_trace_event_json() throws IOException {
+        FrameProfiler profiler = new FrameProfiler(true);
+        profiler.end(FrameProfiler.UPDATE_SCRIPT_LEVEL, profiler.begin());
+        profiler.end(FrameProfiler.TWEEN_MANAGER, profiler.begin());
+        StringWriter writer = new StringWriter();
+
+        profiler.dumpTrace(writer);
+
+        JsonValue events = new JsonReader().parse(writer.toString()).get("traceEvents");
+        assertThat(events.size).isEqualTo(2);
+        assertThat(events.get(0).getString("name")).isEqualTo(FrameProfiler.UPDATE_SCRIPT_LEVEL);
+        assertThat(events.get(1).getString("ph")).isEqualTo("X");
+        assertThat(events.get(1).getDouble("dur")).isGreaterThanOrEqualTo(0d);
+    }
+}
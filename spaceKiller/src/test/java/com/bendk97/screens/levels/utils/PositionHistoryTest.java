@@ -0,0 +1,75 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.bendk97.components.PositionComponent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static com.bendk97.helpers.EntityTestHelper.createEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class PositionHistoryTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final PositionHistory positionHistory = new PositionHistory(engine);
+
+    @Test
+    public void previous_coordinates_are_the_ones_at_the_beginning_of_the_step() {
+        PositionComponent position = createEntity(engine, PositionComponent.class).getComponent(PositionComponent.class);
+        position.setXY(10f, 10f);
+
+        positionHistory.startStep();
+        position.setXY(12f, 14f);
+        position.setX(13f);
+
+        assertThat(position.hasMovedInStep()).isTrue();
+        assertThat(position.previousX()).isEqualTo(10f);
+        assertThat(position.previousY()).isEqualTo(10f);
+        assertThat(position.interpolatedX(0.5f)).isEqualTo(11.5f);
+
+        positionHistory.startStep();
+
+        assertThat(position.hasMovedInStep()).isFalse();
+        assertThat(position.previousX()).isEqualTo(13f);
+        assertThat(position.previousY()).isEqualTo(14f);
+    }
+
+    @Test
+    public void entity_entering_the_engine_starts_the_step_where_it_is() {
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.setXY(100f, 200f);
+        entity.add(position);
+
+        engine.addEntity(entity);
+        position.setY(205f);
+
+        assertThat(position.previousX()).isEqualTo(100f);
+        assertThat(position.previousY()).isEqualTo(200f);
+        assertThat(position.interpolatedY(0.2f)).isEqualTo(201f);
+    }
+
+    @Test
+    public void steps_of_another_engine_do_not_count() {
+        PositionComponent position = createEntity(engine, PositionComponent.class).getComponent(PositionComponent.class);
+        PooledEngine otherEngine = new PooledEngine();
+        PositionHistory otherHistory = new PositionHistory(otherEngine);
+        createEntity(otherEngine, PositionComponent.class);
+        positionHistory.startStep();
+        position.setXY(10f, 10f);
+
+        otherHistory.startStep();
+
+        assertThat(position.hasMovedInStep()).isTrue();
+        assertThat(position.previousX()).isEqualTo(0f);
+    }
+}
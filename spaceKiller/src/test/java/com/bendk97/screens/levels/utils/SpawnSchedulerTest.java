@@ -0,0 +1,124 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.Array;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.entities.ArchetypeRegistry;
+import com.bendk97.entities.EntityCommandBuffer;
+import com.bendk97.entities.EntityFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static com.bendk97.pools.GamePools.poolSprite;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(JUnit4.class)
+public class SpawnSchedulerTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final EntityFactory entityFactory = mock(EntityFactory.class);
+    private final ScriptItemExecutor scriptItemExecutor = mock(ScriptItemExecutor.class);
+    private final SpawnScheduler spawns = new SpawnScheduler(scriptItemExecutor, entityFactory, null);
+    private final Array<Entity> created = new Array<>();
+
+    @Before
+    public void init() {
+        entityFactory.engine = engine;
+        entityFactory.archetypes = new ArchetypeRegistry(engine);
+        entityFactory.commands = new EntityCommandBuffer(engine);
+        doCallRealMethod().when(entityFactory).addEntity(any(Entity.class));
+        doCallRealMethod().when(entityFactory).stageEntities(any());
+        // a squadron entity and its ships
+        doAnswer(invocation -> {
+            ScriptItem scriptItem = invocation.getArgument(0);
+            for (int i = 0; i <= scriptItem.number; ++i) {
+                Entity entity = engine.createEntity();
+                entity.add(engine.createComponent(PositionComponent.class));
+                entity.add(engine.createComponent(SpriteComponent.class)).getComponent(SpriteComponent.class).sprite =
+                        poolSprite.obtain();
+                entityFactory.addEntity(entity);
+                created.add(entity);
+            }
+            return null;
+        }).when(scriptItemExecutor).create(any(ScriptItem.class));
+    }
+
+    private ScriptItem squadron(int number) {
+        return new ScriptItemBuilder().number(number).createScriptItem();
+    }
+
+    @Test
+    public void staged_squadrons_are_created_within_the_budget_and_enter_the_level_on_time() {
+        ScriptItem first = squadron(7);
+        ScriptItem second = squadron(5);
+        ScriptItem third = squadron(1);
+        spawns.stage(first, 10);
+        spawns.stage(second, 10);
+        spawns.stage(third, 11);
+
+        // 8 entities
+        spawns.update();
+        verify(scriptItemExecutor).create(first);
+        verify(scriptItemExecutor, never()).create(second);
+        // 6 + 2 entities
+        spawns.update();
+        verify(scriptItemExecutor).create(second);
+        verify(scriptItemExecutor).create(third);
+        assertThat(engine.getEntities()).isEmpty();
+
+        spawns.activate(10);
+        assertThat(engine.getEntities()).hasSize(14);
+        verify(scriptItemExecutor).countEnemies(first);
+        verify(scriptItemExecutor).countEnemies(second);
+        verify(scriptItemExecutor, never()).countEnemies(third);
+        assertThat(spawns.getStaged()).isEqualTo(1);
+
+        spawns.activate(11);
+        assertThat(engine.getEntities()).hasSize(16);
+        assertThat(spawns.getStaged()).isEqualTo(0);
+    }
+
+    @Test
+    public void squadrons_not_created_yet_are_created_when_due() {
+        ScriptItem squadron = squadron(3);
+        spawns.stage(squadron, 5);
+
+        spawns.activate(5);
+        verify(scriptItemExecutor).create(squadron);
+        verify(scriptItemExecutor).countEnemies(squadron);
+        assertThat(engine.getEntities()).hasSize(4);
+    }
+
+    @Test
+    public void cleared_squadrons_never_enter_the_level_and_go_back_to_the_pools() {
+        int sprites = poolSprite.getAlive();
+        spawns.stage(squadron(3), 5);
+        spawns.update();
+        Entity last = created.peek();
+        PositionComponent position = last.getComponent(PositionComponent.class);
+        assertThat(poolSprite.getAlive()).isEqualTo(sprites + 4);
+
+        spawns.clear();
+
+        spawns.activate(5);
+        assertThat(engine.getEntities()).isEmpty();
+        verify(scriptItemExecutor, never()).countEnemies(any(ScriptItem.class));
+        assertThat(poolSprite.getAlive()).isEqualTo(sprites);
+        assertThat(last.getComponents()).isEmpty();
+        // the last released entity and component are handed out first
+        assertThat(engine.createEntity()).isSameAs(last);
+        assertThat(engine.createComponent(PositionComponent.class)).isSameAs(position);
+    }
+}
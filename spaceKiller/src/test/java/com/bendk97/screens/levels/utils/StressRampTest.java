@@ -0,0 +1,66 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.screens.levels.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class StressRampTest {
+
+    private final StressRamp ramp = new StressRamp(16f, 2, "enemies", "bullets");
+
+    @Test
+    public void load_goes_up_once_a_step_is_within_the_target_frame_time() {
+        assertThat(ramp.endSecond(10f)).isFalse();
+        assertThat(ramp.getStep()).isEqualTo(1);
+        assertThat(ramp.endSecond(20f)).isTrue();
+        assertThat(ramp.getStep()).isEqualTo(2);
+        assertThat(ramp.getSustainedStep()).isEqualTo(1);
+        assertThat(ramp.getSustainedFrameMillis()).isEqualTo(15f);
+        assertThat(ramp.isFinished()).isFalse();
+    }
+
+    @Test
+    public void counts_of_the_last_step_sustained_are_kept_once_the_target_is_missed() {
+        ramp.count(0, 10);
+        ramp.count(0, 8);
+        ramp.count(1, 50);
+        ramp.endSecond(10f);
+        ramp.endSecond(10f);
+        ramp.count(0, 30);
+        ramp.count(1, 200);
+        ramp.endSecond(18f);
+        assertThat(ramp.endSecond(18f)).isFalse();
+
+        assertThat(ramp.isFinished()).isTrue();
+        assertThat(ramp.getStep()).isEqualTo(2);
+        assertThat(ramp.getSustainedStep()).isEqualTo(1);
+        assertThat(ramp.getSustainedCount(0)).isEqualTo(10);
+        assertThat(ramp.getSustainedCount(1)).isEqualTo(50);
+        assertThat(ramp.endSecond(1f)).isFalse();
+    }
+
+    @Test
+    public void results_are_written_as_json() throws IOException {
+        ramp.count(0, 10);
+        ramp.endSecond(10f);
+        ramp.endSecond(10f);
+        ramp.endSecond(20f);
+        ramp.endSecond(20f);
+        StringWriter writer = new StringWriter();
+        ramp.write(writer);
+        assertThat(writer.toString()).isEqualTo("{\"targetFrameMillis\":16.0,\"secondsPerStep\":2,\"sustainedStep\":1,"
+                + "\"sustainedFrameMillis\":10.0,\"missedFrameMillis\":20.0,\"families\":{\"enemies\":10,\"bullets\":0}}\n");
+    }
+}
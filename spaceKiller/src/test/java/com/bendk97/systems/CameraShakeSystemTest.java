@@ -0,0 +1,116 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.bendk97.random.GameRandom;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(JUnit4.class)
+public class CameraShakeSystemTest {
+
+    private static final float STEP = 1f / 60f;
+
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private final CameraShakeSystem cameraShake = new CameraShakeSystem(0, camera);
+
+    private void play(float seconds) {
+        for (float time = 0f; time < seconds; time += STEP) {
+            cameraShake.update(STEP);
+        }
+    }
+
+    @Test
+    public void shake_moves_the_camera_around_its_position_until_it_is_over() {
+        camera.position.set(100f, 200f, 0f);
+        cameraShake.shake(20f, 0.5f, false);
+
+        float moved = 0f;
+        for (int step = 0; step < 25; ++step) {
+            cameraShake.update(STEP);
+            assertThat(Math.abs(camera.position.x - 100f)).isLessThanOrEqualTo(20f);
+            assertThat(Math.abs(camera.position.y - 200f)).isLessThanOrEqualTo(20f);
+            moved = Math.max(moved, camera.position.dst(100f, 200f, 0f));
+        }
+        assertThat(moved).isGreaterThan(0f);
+
+        play(0.2f);
+        assertThat(cameraShake.isShaking()).isFalse();
+        assertThat(camera.position.x).isEqualTo(100f);
+        assertThat(camera.position.y).isEqualTo(200f);
+    }
+
+    /**
+     * @return sum of the squared offsets of the camera while the shakes of a seeded sequence are played
+     */
+    private float shaken(boolean first, boolean second) {
+        GameRandom.seedNextLevel(97L);
+        GameRandom.startLevel();
+        camera.position.set(100f, 200f, 0f);
+        CameraShakeSystem cameraShake = new CameraShakeSystem(0, camera);
+        if (first) {
+            cameraShake.shake(10f, 0.5f, false);
+        } else {
+            // seed of the first shake
+            GameRandom.get().nextInt();
+        }
+        if (second) {
+            cameraShake.shake(10f, 1f, false);
+        }
+        float shaken = 0f;
+        for (int step = 0; step < 62; ++step) {
+            cameraShake.update(STEP);
+            assertThat(Math.abs(camera.position.x - 100f)).isLessThanOrEqualTo(20f);
+            shaken += camera.position.dst2(100f, 200f, 0f);
+        }
+        assertThat(cameraShake.isShaking()).isFalse();
+        assertThat(camera.position.x).isEqualTo(100f);
+        return shaken;
+    }
+
+    @Test
+    public void overlapping_shakes_add_up() {
+        float first = shaken(true, false);
+        float second = shaken(false, true);
+        float both = shaken(true, true);
+
+        assertThat(first).isGreaterThan(0f);
+        assertThat(second).isGreaterThan(0f);
+        assertThat(both).isGreaterThan(Math.max(first, second));
+    }
+
+    @Test
+    public void camera_placed_by_other_systems_is_shaken_from_its_new_position() {
+        camera.position.set(100f, 200f, 0f);
+        cameraShake.shake(20f, 1f, false);
+        play(0.2f);
+
+        // following the player
+        camera.position.x = 150f;
+        play(0.5f);
+        assertThat(Math.abs(camera.position.x - 150f)).isLessThanOrEqualTo(20f);
+        play(0.5f);
+        assertThat(camera.position.x).isEqualTo(150f);
+        assertThat(camera.position.y).isEqualTo(200f);
+    }
+
+    @Test
+    public void noise_is_smooth_between_minus_one_and_one() {
+        float previous = CameraShakeSystem.noise(0f, 97);
+        for (float time = 0.01f; time < 100f; time += 0.01f) {
+            float noise = CameraShakeSystem.noise(time, 97);
+            assertThat(noise).isBetween(-1f, 1f);
+            assertThat(noise).isCloseTo(previous, within(0.1f));
+            previous = noise;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
+import com.bendk97.components.PathComponent;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.helpers.ComponentMapperHelper;
+import com.bendk97.entities.EntityFactory;
+import com.bendk97.entities.enemies.EnemyEntityFactory;
+import com.bendk97.entities.enemies.SquadronFactory;
+import com.bendk97.entities.paths.BakedPath;
+import com.bendk97.entities.paths.PathBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(JUnit4.class)
+public class PathFollowSystemTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final EntityFactory entityFactory = mock(EntityFactory.class);
+    private final SquadronFactory squadronFactory = mock(SquadronFactory.class);
+    private final BakedPath line = new BakedPath(new float[]{0f, 0f, 0f, 100f}, 0f, -1f);
+
+    @Before
+    public void init() {
+        entityFactory.enemyEntityFactory = mock(EnemyEntityFactory.class);
+        entityFactory.enemyEntityFactory.squadronFactory = squadronFactory;
+        engine.addSystem(new PathFollowSystem(0, entityFactory));
+    }
+
+    private Entity ship(BakedPath path, float speed, PathComponent.Mode mode) {
+        Entity ship = engine.createEntity();
+        ship.add(engine.createComponent(PositionComponent.class));
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.sprite = new Sprite();
+        ship.add(sprite);
+        PathComponent pathComponent = engine.createComponent(PathComponent.class);
+        pathComponent.path = path;
+        pathComponent.speed = speed;
+        pathComponent.mode = mode;
+        ship.add(pathComponent);
+        engine.addEntity(ship);
+        return ship;
+    }
+
+    private Vector2 position(Entity ship) {
+        PositionComponent position = ComponentMapperHelper.position.get(ship);
+        return new Vector2(position.x(), position.y());
+    }
+
+    @Test
+    public void ship_queued_before_the_start_is_removed_at_the_end_of_the_path() {
+        Entity ship = ship(line, 50f, PathComponent.Mode.ONCE);
+        ComponentMapperHelper.path.get(ship).distance = -50f;
+        ComponentMapperHelper.path.get(ship).originX = 10f;
+
+        // coming up from below
+        engine.update(0.5f);
+        assertThat(position(ship)).isEqualTo(new Vector2(10f, -25f));
+        engine.update(2f);
+        assertThat(position(ship)).isEqualTo(new Vector2(10f, 75f));
+        verify(squadronFactory, never()).removeEntitySquadron(ship);
+        engine.update(1f);
+        verify(squadronFactory).removeEntitySquadron(ship);
+    }
+
+    @Test
+    public void ship_goes_back_and_forth_waiting_at_both_ends() {
+        Entity ship = ship(line, 100f, PathComponent.Mode.YOYO);
+        ComponentMapperHelper.path.get(ship).pause = 1f;
+
+        engine.update(1f);
+        assertThat(position(ship)).isEqualTo(new Vector2(0f, 100f));
+        engine.update(0.5f);
+        engine.update(0.5f);
+        assertThat(position(ship)).isEqualTo(new Vector2(0f, 100f));
+        engine.update(0.25f);
+        assertThat(position(ship)).isEqualTo(new Vector2(0f, 75f));
+    }
+
+    @Test
+    public void waypoint_path_is_followed_in_time_with_its_waits() {
+        // boss coming down, waiting 2s, then moving right twice as fast
+        BakedPath path = new PathBuilder().start(0f, 100f)
+                .moveBy(0f, -50f, 1f)
+                .waitFor(2f)
+                .moveBy(100f, 0f, 0.5f)
+                .build(0f, 0f);
+        Entity boss = ship(path, 1f, PathComponent.Mode.LOOP);
+
+        engine.update(0.5f);
+        assertThat(position(boss)).isEqualTo(new Vector2(0f, 75f));
+        engine.update(2f);
+        assertThat(position(boss)).isEqualTo(new Vector2(0f, 50f));
+        engine.update(0.75f);
+        assertThat(position(boss)).isEqualTo(new Vector2(50f, 50f));
+    }
+
+    @Test
+    public void stopped_ship_is_left_where_it_is() {
+        Entity boss = ship(line, 100f, PathComponent.Mode.ONCE);
+        engine.update(0.5f);
+        ComponentMapperHelper.path.get(boss).stop();
+        engine.update(0.5f);
+        assertThat(position(boss)).isEqualTo(new Vector2(0f, 50f));
+        verifyZeroInteractions(squadronFactory);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.bendk97.components.EnemyComponent;
+import com.bendk97.components.PlayerComponent;
+import com.bendk97.components.TankComponent;
+import com.bendk97.components.TankComponent.TankLevel;
+import com.bendk97.random.GameRandom;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class TankAttackSystemTest {
+
+    private final PooledEngine engine = new PooledEngine();
+
+    @Before
+    public void init() {
+        engine.addSystem(new TankAttackSystem(0));
+        Entity player = engine.createEntity();
+        player.add(engine.createComponent(PlayerComponent.class));
+        engine.addEntity(player);
+    }
+
+    private Entity tank(TankLevel level) {
+        Entity tank = engine.createEntity();
+        tank.add(engine.createComponent(EnemyComponent.class));
+        TankComponent tankComponent = engine.createComponent(TankComponent.class);
+        tankComponent.setLevel(level);
+        tank.add(tankComponent);
+        engine.addEntity(tank);
+        return tank;
+    }
+
+    @Test
+    public void tank_fires_on_the_time_of_the_simulation() {
+        Entity tank = tank(TankLevel.EASY);
+        TankComponent tankComponent = tank.getComponent(TankComponent.class);
+        float beforeShoot = tankComponent.delayShoot / 1000f - tankComponent.sinceLastShoot;
+
+        engine.update(beforeShoot - 0.01f);
+        assertThat(tank.getComponent(EnemyComponent.class).attackCapacity).isZero();
+
+        engine.update(0.02f);
+        assertThat(tank.getComponent(EnemyComponent.class).attackCapacity).isEqualTo(1);
+        assertThat(tankComponent.nbShootsBeforeLastReload).isEqualTo(1);
+    }
+
+    @Test
+    public void tank_characteristics_are_drawn_from_the_seed_of_the_level() {
+        GameRandom.seedNextLevel(42L);
+        GameRandom.startLevel();
+        TankComponent tank1 = tank(TankLevel.HARD).getComponent(TankComponent.class);
+        GameRandom.seedNextLevel(42L);
+        GameRandom.startLevel();
+        TankComponent tank2 = tank(TankLevel.HARD).getComponent(TankComponent.class);
+
+        assertThat(tank2.nbShoots).isEqualTo(tank1.nbShoots);
+        assertThat(tank2.delayShoot).isEqualTo(tank1.delayShoot);
+        assertThat(tank2.delayBetweenBursts).isEqualTo(tank1.delayBetweenBursts);
+    }
+}
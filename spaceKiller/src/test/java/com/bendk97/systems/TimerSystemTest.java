@@ -0,0 +1,156 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.Array;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static com.bendk97.pools.GamePools.poolTask;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class TimerSystemTest {
+
+    private final PooledEngine engine = new PooledEngine();
+    private final TimerSystem timer = new TimerSystem(0);
+    private final Array<String> executed = new Array<>();
+
+    @Before
+    public void init() {
+        engine.addSystem(timer);
+    }
+
+    private TimerSystem.Task task(String name) {
+        return new TimerSystem.Task() {
+            @Override
+            public void run() {
+                executed.add(name);
+            }
+        };
+    }
+
+    @Test
+    public void tasks_run_in_time_order_then_in_scheduling_order() {
+        timer.schedule(task("3s"), 3f);
+        timer.schedule(task("1s-first"), 1f);
+        timer.schedule(task("2s"), 2f);
+        timer.schedule(task("1s-second"), 1f);
+
+        engine.update(0.5f);
+        assertThat(executed).isEmpty();
+        engine.update(0.5f);
+        assertThat(executed).containsExactly("1s-first", "1s-second");
+        engine.update(2f);
+        assertThat(executed).containsExactly("1s-first", "1s-second", "2s", "3s");
+        assertThat(timer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void tasks_wait_while_the_game_is_paused() {
+        timer.schedule(task("1s"), 1f);
+        for (int i = 0; i < 100; ++i) {
+            engine.update(0f);
+        }
+        assertThat(executed).isEmpty();
+        engine.update(1f);
+        assertThat(executed).containsExactly("1s");
+    }
+
+    @Test
+    public void task_scheduled_by_a_task_runs_at_next_update() {
+        timer.schedule(new TimerSystem.Task() {
+            @Override
+            public void run() {
+                executed.add("first");
+                timer.schedule(task("second"), 0f);
+            }
+        }, 0f);
+
+        engine.update(0.1f);
+        assertThat(executed).containsExactly("first");
+        engine.update(0.1f);
+        assertThat(executed).containsExactly("first", "second");
+    }
+
+    @Test
+    public void task_can_be_scheduled_again_once_run() {
+        TimerSystem.Task task = task("task");
+        timer.schedule(task, 0f);
+        assertThat(task.isScheduled()).isTrue();
+        engine.update(0.1f);
+        assertThat(task.isScheduled()).isFalse();
+        timer.schedule(task, 0f);
+        engine.update(0.1f);
+        assertThat(executed).containsExactly("task", "task");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void task_may_not_be_scheduled_twice() {
+        TimerSystem.Task task = task("task");
+        timer.schedule(task, 1f);
+        timer.schedule(task, 2f);
+    }
+
+    @Test
+    public void actions_run_with_their_arguments_on_pooled_tasks() {
+        Entity entity1 = new Entity();
+        Entity entity2 = new Entity();
+        int alive = poolTask.getAlive();
+        timer.schedule(entity -> executed.add(entity == entity1 ? "entity" : "other"), entity1, 1f);
+        timer.schedule((first, second) -> executed.add(first == entity1 && second == entity2 ? "entities" : "other"),
+                entity1, entity2, 2f);
+        timer.schedule((entity, value) -> executed.add("value " + value), entity1, 3f, 3f);
+        assertThat(poolTask.getAlive()).isEqualTo(alive + 3);
+
+        engine.update(3f);
+
+        assertThat(executed).containsExactly("entity", "entities", "value 3.0");
+        assertThat(poolTask.getAlive()).isEqualTo(alive);
+    }
+
+    @Test
+    public void cancelled_action_is_not_run() {
+        int alive = poolTask.getAlive();
+        long handle = timer.schedule(entity -> executed.add("cancelled"), null, 1f);
+        timer.schedule(entity -> executed.add("kept"), null, 1f);
+
+        assertThat(timer.cancel(handle)).isTrue();
+        assertThat(timer.cancel(handle)).isFalse();
+        engine.update(1f);
+
+        assertThat(executed).containsExactly("kept");
+        assertThat(poolTask.getAlive()).isEqualTo(alive);
+    }
+
+    @Test
+    public void action_already_run_cannot_be_cancelled() {
+        long handle = timer.schedule(entity -> executed.add("run"), null, 0f);
+        engine.update(0.1f);
+
+        assertThat(timer.cancel(handle)).isFalse();
+        assertThat(executed).containsExactly("run");
+    }
+
+    @Test
+    public void cleared_timer_gives_back_its_pooled_tasks() {
+        int alive = poolTask.getAlive();
+        timer.schedule(entity -> executed.add("cleared"), null, 1f);
+        timer.schedule(task("cleared"), 1f);
+
+        timer.clear();
+        engine.update(1f);
+
+        assertThat(executed).isEmpty();
+        assertThat(timer.isEmpty()).isTrue();
+        assertThat(poolTask.getAlive()).isEqualTo(alive);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(JUnit4.class)
+public class CollisionProxyTest {
+
+    private static CollisionProxy proxy(float x, float y, float radius, float deltaX, float deltaY) {
+        CollisionProxy proxy = new CollisionProxy();
+        proxy.circle.set(x, y, radius);
+        proxy.deltaX = deltaX;
+        proxy.deltaY = deltaY;
+        return proxy;
+    }
+
+    @Test
+    public void fast_bullet_going_through_an_enemy_is_detected() {
+        CollisionProxy enemy = proxy(100f, 100f, 5f, 0f, 0f);
+        // bullet was below the enemy, is now above it
+        CollisionProxy bullet = proxy(100f, 130f, 2f, 0f, 60f);
+        assertThat(enemy.timeOfImpact(bullet)).isCloseTo(23f / 60f, within(0.001f));
+        assertThat(bullet.timeOfImpact(enemy)).isCloseTo(23f / 60f, within(0.001f));
+    }
+
+    @Test
+    public void overlapping_circles_collide_at_the_beginning() {
+        CollisionProxy enemy = proxy(100f, 100f, 5f, 0f, 0f);
+        CollisionProxy bullet = proxy(100f, 103f, 2f, 0f, 0f);
+        assertThat(enemy.timeOfImpact(bullet)).isEqualTo(0f);
+    }
+
+    @Test
+    public void bullet_passing_aside_is_not_detected() {
+        CollisionProxy enemy = proxy(100f, 100f, 5f, 0f, 0f);
+        CollisionProxy bullet = proxy(110f, 130f, 2f, 0f, 60f);
+        assertThat(enemy.timeOfImpact(bullet)).isEqualTo(-1f);
+    }
+
+    @Test
+    public void bullet_not_reaching_the_enemy_yet_is_not_detected() {
+        CollisionProxy enemy = proxy(100f, 100f, 5f, 0f, 0f);
+        CollisionProxy bullet = proxy(100f, 80f, 2f, 0f, 10f);
+        assertThat(enemy.timeOfImpact(bullet)).isEqualTo(-1f);
+    }
+
+    @Test
+    public void relative_move_is_swept_when_both_move() {
+        // enemy and bullet cross each other
+        CollisionProxy enemy = proxy(100f, 70f, 5f, 0f, -40f);
+        CollisionProxy bullet = proxy(100f, 130f, 2f, 0f, 40f);
+        assertThat(enemy.timeOfImpact(bullet)).isCloseTo(13f / 80f, within(0.001f));
+    }
+
+    @Test
+    public void displacement_is_swept_from_the_previous_pass() {
+        Entity entity = new Entity();
+        PositionComponent position = new PositionComponent();
+        position.setXY(100f, 100f);
+        SpriteComponent spriteComponent = new SpriteComponent();
+        spriteComponent.sprite = new Sprite();
+        spriteComponent.sprite.setSize(4f, 4f);
+        entity.add(position);
+        entity.add(spriteComponent);
+        CollisionProxy proxy = new CollisionProxy();
+        proxy.entity = entity;
+        proxy.refresh();
+        // three steps between two passes
+        for (int step = 0; step < 3; ++step) {
+            position.startStep();
+            position.setY(position.y() + 7f);
+        }
+        proxy.refresh();
+        assertThat(proxy.changed).isTrue();
+        assertThat(proxy.deltaY).isEqualTo(21f);
+        assertThat(proxy.minY).isEqualTo(100f);
+        proxy.refresh();
+        assertThat(proxy.deltaY).isEqualTo(0f);
+        proxy.refresh();
+        assertThat(proxy.changed).isFalse();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.bendk97.entities.CollisionMask;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@RunWith(JUnit4.class)
+public class MaskCollisionDetectorTest {
+
+    private final MaskCollisionDetector detector = new MaskCollisionDetector();
+
+    private static Sprite sprite(int width, int height, float x, float y) {
+        Sprite sprite = new Sprite(mock(Texture.class), width, height);
+        sprite.setOrigin(width / 2f, height / 2f);
+        sprite.setPosition(x, y);
+        return sprite;
+    }
+
+    // opaque diagonal from top left to bottom right
+    private static CollisionMask diagonal(int size) {
+        CollisionMask mask = new CollisionMask(size, size);
+        for (int i = 0; i < size; ++i) {
+            mask.set(i, i);
+        }
+        return mask;
+    }
+
+    private static CollisionMask opaque(int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                mask.set(x, y);
+            }
+        }
+        return mask;
+    }
+
+    @Test
+    public void word_reads_pixels_across_words() {
+        CollisionMask mask = new CollisionMask(100, 1);
+        mask.set(63, 0);
+        mask.set(64, 0);
+        assertThat(mask.word(0, 60)).isEqualTo(0b11000L);
+        assertThat(mask.word(0, -10)).isEqualTo(0L);
+        assertThat(mask.word(0, 64)).isEqualTo(1L);
+        assertThat(mask.word(0, 100)).isEqualTo(0L);
+    }
+
+    @Test
+    public void transparent_pixels_do_not_collide() {
+        // bottom left corner of the diagonal sprite is transparent
+        Sprite diagonal = sprite(100, 100, 0f, 0f);
+        Sprite bullet = sprite(10, 10, 5f, 5f);
+        assertThat(detector.overlaps(diagonal, diagonal(100), bullet, null)).isFalse();
+    }
+
+    @Test
+    public void opaque_pixels_collide() {
+        Sprite diagonal = sprite(100, 100, 0f, 0f);
+        Sprite bullet = sprite(10, 10, 45f, 45f);
+        assertThat(detector.overlaps(diagonal, diagonal(100), bullet, opaque(10, 10))).isTrue();
+    }
+
+    @Test
+    public void disjoint_bounds_do_not_collide() {
+        Sprite sprite1 = sprite(10, 10, 0f, 0f);
+        Sprite sprite2 = sprite(10, 10, 20f, 0f);
+        assertThat(detector.overlaps(sprite1, null, sprite2, null)).isFalse();
+    }
+
+    @Test
+    public void rotation_is_applied_to_the_mask() {
+        Sprite diagonal = sprite(100, 100, 0f, 0f);
+        Sprite bullet = sprite(10, 10, 5f, 5f);
+        // a quarter turn brings the diagonal on the bottom left corner
+        diagonal.setRotation(90f);
+        assertThat(detector.overlaps(diagonal, diagonal(100), bullet, null)).isTrue();
+    }
+
+    @Test
+    public void scale_is_applied_to_the_mask() {
+        // thin vertical laser on the right of its sprite
+        CollisionMask laser = new CollisionMask(10, 100);
+        for (int y = 0; y < 100; ++y) {
+            laser.set(8, y);
+        }
+        Sprite laserSprite = sprite(10, 100, 0f, 0f);
+        Sprite bullet = sprite(4, 4, 12f, 48f);
+        assertThat(detector.overlaps(laserSprite, laser, bullet, null)).isFalse();
+        laserSprite.setScale(3f, 1f);
+        assertThat(detector.overlaps(laserSprite, laser, bullet, null)).isTrue();
+    }
+
+    @Test
+    public void wide_sprites_are_compared_on_several_words() {
+        Sprite wide1 = sprite(200, 1, 0f, 0f);
+        Sprite wide2 = sprite(200, 1, 0f, 0f);
+        CollisionMask mask1 = new CollisionMask(200, 1);
+        CollisionMask mask2 = new CollisionMask(200, 1);
+        mask1.set(150, 0);
+        mask2.set(151, 0);
+        assertThat(detector.overlaps(wide1, mask1, wide2, mask2)).isFalse();
+        mask2.set(150, 0);
+        assertThat(detector.overlaps(wide1, mask1, wide2, mask2)).isTrue();
+    }
+}
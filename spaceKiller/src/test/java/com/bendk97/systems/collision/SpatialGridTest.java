@@ -0,0 +1,114 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.collision;
+
+import com.badlogic.gdx.utils.Array;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class SpatialGridTest {
+
+    private final SpatialGrid grid = new SpatialGrid(0f, 0f, 400f, 400f, 100f);
+    private final Array<CollisionProxy> result = new Array<>(false, 4, CollisionProxy.class);
+
+    private static CollisionProxy proxy(float minX, float minY, float maxX, float maxY, CollisionLayer layer) {
+        CollisionProxy proxy = new CollisionProxy();
+        proxy.minX = minX;
+        proxy.minY = minY;
+        proxy.maxX = maxX;
+        proxy.maxY = maxY;
+        proxy.layers = layer.bit;
+        return proxy;
+    }
+
+    @Test
+    public void query_returns_proxies_sharing_a_cell() {
+        CollisionProxy player = proxy(10f, 10f, 30f, 30f, CollisionLayer.PLAYER);
+        CollisionProxy near = proxy(50f, 50f, 60f, 60f, CollisionLayer.POWER_UP);
+        CollisionProxy far = proxy(350f, 350f, 360f, 360f, CollisionLayer.POWER_UP);
+        grid.update(player);
+        grid.update(near);
+        grid.update(far);
+
+        grid.query(player, CollisionLayer.POWER_UP.bit, result);
+
+        assertThat(result).containsExactly(near);
+    }
+
+    @Test
+    public void query_filters_layers() {
+        CollisionProxy player = proxy(10f, 10f, 30f, 30f, CollisionLayer.PLAYER);
+        CollisionProxy bullet = proxy(20f, 20f, 25f, 25f, CollisionLayer.PLAYER_BULLET);
+        grid.update(player);
+        grid.update(bullet);
+
+        grid.query(player, CollisionLayer.ENEMY_BULLET.bit, result);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void query_does_not_return_twice_a_proxy_covering_several_cells() {
+        CollisionProxy boss = proxy(50f, 50f, 250f, 250f, CollisionLayer.ENEMY);
+        CollisionProxy bullet = proxy(90f, 90f, 210f, 210f, CollisionLayer.PLAYER_BULLET);
+        grid.update(boss);
+        grid.update(bullet);
+
+        grid.query(bullet, CollisionLayer.ENEMY.bit, result);
+
+        assertThat(result).containsExactly(boss);
+    }
+
+    @Test
+    public void update_moves_proxy_to_new_cells() {
+        CollisionProxy enemy = proxy(10f, 10f, 20f, 20f, CollisionLayer.ENEMY);
+        CollisionProxy bullet = proxy(310f, 310f, 320f, 320f, CollisionLayer.PLAYER_BULLET);
+        grid.update(enemy);
+        grid.update(bullet);
+        grid.query(bullet, CollisionLayer.ENEMY.bit, result);
+        assertThat(result).isEmpty();
+
+        enemy.minX = enemy.minY = 305f;
+        enemy.maxX = enemy.maxY = 315f;
+        grid.update(enemy);
+        grid.query(bullet, CollisionLayer.ENEMY.bit, result);
+
+        assertThat(result).containsExactly(enemy);
+        assertThat(enemy.minColumn).isEqualTo(3);
+        assertThat(enemy.minRow).isEqualTo(3);
+    }
+
+    @Test
+    public void out_of_field_proxies_are_clamped_to_border_cells() {
+        CollisionProxy enemy = proxy(-80f, 420f, -60f, 480f, CollisionLayer.ENEMY);
+        CollisionProxy bullet = proxy(5f, 395f, 10f, 399f, CollisionLayer.PLAYER_BULLET);
+        grid.update(enemy);
+        grid.update(bullet);
+
+        grid.query(bullet, CollisionLayer.ENEMY.bit, result);
+
+        assertThat(result).containsExactly(enemy);
+    }
+
+    @Test
+    public void removed_proxy_is_not_returned() {
+        CollisionProxy enemy = proxy(10f, 10f, 20f, 20f, CollisionLayer.ENEMY);
+        CollisionProxy bullet = proxy(15f, 15f, 18f, 18f, CollisionLayer.PLAYER_BULLET);
+        grid.update(enemy);
+        grid.update(bullet);
+
+        grid.remove(enemy);
+        grid.query(bullet, CollisionLayer.ENEMY.bit, result);
+
+        assertThat(result).isEmpty();
+        assertThat(enemy.inGrid).isFalse();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.systems.scheduler;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.bendk97.components.PositionComponent;
+import com.bendk97.components.SpriteComponent;
+import com.bendk97.components.StateComponent;
+import com.bendk97.components.VelocityComponent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(JUnit4.class)
+public class SystemSchedulerTest {
+
+    private static class AccessSystem extends EntitySystem implements ScheduledSystem {
+        private final SystemAccess access;
+        private final Array<String> log;
+        private final String name;
+
+        AccessSystem(int priority, SystemAccess access, Array<String> log, String name) {
+            super(priority);
+            this.access = access;
+            this.log = log;
+            this.name = name;
+        }
+
+        @Override
+        public SystemAccess access() {
+            return access;
+        }
+
+        @Override
+        public void update(float deltaTime) {
+            synchronized (log) {
+                log.add(name);
+            }
+        }
+    }
+
+    private final Array<String> log = new Array<>();
+
+    @Test
+    public void systems_without_conflicts_run_in_the_same_wave() {
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class), log, "state"));
+        scheduler.schedule(new AccessSystem(2, new SystemAccess().reads(VelocityComponent.class).writes(PositionComponent.class), log, "move"));
+        scheduler.schedule(new AccessSystem(3, new SystemAccess().reads(SpriteComponent.class), log, "sprite"));
+        assertThat(scheduler.getWaves()).isEqualTo(1);
+        scheduler.update(0.1f);
+        assertThat(log).containsExactlyInAnyOrder("state", "move", "sprite");
+    }
+
+    @Test
+    public void conflicting_systems_run_in_priority_order() {
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(3, new SystemAccess().reads(PositionComponent.class), log, "read"));
+        scheduler.schedule(new AccessSystem(2, new SystemAccess().writes(PositionComponent.class), log, "write"));
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class), log, "state"));
+        assertThat(scheduler.getWaves()).isEqualTo(2);
+        scheduler.update(0.1f);
+        assertThat(log.indexOf("write", false)).isLessThan(log.indexOf("read", false));
+    }
+
+    @Test
+    public void undeclared_systems_run_alone() {
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class), log, "state"));
+        EntitySystem undeclared = new EntitySystem(2) {
+            @Override
+            public void update(float deltaTime) {
+                log.add("undeclared");
+            }
+        };
+        scheduler.schedule(undeclared);
+        scheduler.schedule(new AccessSystem(3, new SystemAccess().reads(SpriteComponent.class), log, "sprite"));
+        assertThat(scheduler.isScheduled(undeclared)).isTrue();
+        assertThat(scheduler.getWaves()).isEqualTo(3);
+        scheduler.update(0.1f);
+        assertThat(log).containsExactly("state", "undeclared", "sprite");
+    }
+
+    @Test
+    public void systems_writing_the_same_state_run_one_after_the_other() {
+        Object camera = new Object();
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class).writesState(camera), log, "follow"));
+        scheduler.schedule(new AccessSystem(2, new SystemAccess().writes(PositionComponent.class).readsState(camera), log, "shake"));
+        scheduler.schedule(new AccessSystem(3, new SystemAccess().reads(SpriteComponent.class).readsState(new Object()), log, "sprite"));
+        assertThat(scheduler.getWaves()).isEqualTo(2);
+        scheduler.update(0.1f);
+        assertThat(log.indexOf("follow", false)).isLessThan(log.indexOf("shake", false));
+    }
+
+    @Test
+    public void synced_systems_are_synced_once_all_systems_have_run() {
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class), log, "state"));
+        class Synced extends AccessSystem implements SyncedSystem {
+            Synced() {
+                super(2, new SystemAccess().writes(PositionComponent.class), log, "move");
+            }
+
+            @Override
+            public void sync() {
+                log.add("sync");
+            }
+        }
+        scheduler.schedule(new Synced());
+        scheduler.schedule(new AccessSystem(3, new SystemAccess().reads(PositionComponent.class), log, "read"));
+        scheduler.update(0.1f);
+        assertThat(log.peek()).isEqualTo("sync");
+        assertThat(log).containsOnlyOnce("sync");
+    }
+
+    @Test
+    public void failures_of_workers_are_rethrown() {
+        SystemScheduler scheduler = new SystemScheduler(0, 2);
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(StateComponent.class), log, "state"));
+        scheduler.schedule(new AccessSystem(1, new SystemAccess().writes(PositionComponent.class), log, "move") {
+            @Override
+            public void update(float deltaTime) {
+                throw new IllegalStateException();
+            }
+        });
+        assertThatThrownBy(() -> scheduler.update(0.1f)).isInstanceOf(GdxRuntimeException.class);
+    }
+}
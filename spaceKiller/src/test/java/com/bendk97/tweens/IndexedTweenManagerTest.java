@@ -0,0 +1,84 @@
+/*
+ * Developed by Benjamin Lefèvre
+ * Last modified 18/10/26 09:12
+ * Copyright (c) 2018. All rights reserved.
+ */
+
+package com.bendk97.tweens;
+
+import aurelienribon.tweenengine.Timeline;
+import aurelienribon.tweenengine.Tween;
+import com.bendk97.components.PositionComponent;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static com.bendk97.tweens.PositionComponentTweenAccessor.POSITION_X;
+import static com.bendk97.tweens.PositionComponentTweenAccessor.POSITION_Y;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnit4.class)
+public class IndexedTweenManagerTest {
+
+    private final IndexedTweenManager tweenManager = new IndexedTweenManager();
+    private final PositionComponent ship = new PositionComponent();
+    private final PositionComponent bullet = new PositionComponent();
+
+    @BeforeClass
+    public static void registerAccessor() {
+        Tween.registerAccessor(PositionComponent.class, new PositionComponentTweenAccessor());
+    }
+
+    @Test
+    public void kill_target_only_kills_the_tweens_of_the_target() {
+        Tween.to(ship, POSITION_X, 1f).target(100f).start(tweenManager);
+        Tween.to(bullet, POSITION_X, 1f).target(100f).start(tweenManager);
+
+        tweenManager.killTarget(ship);
+        tweenManager.update(0.5f);
+
+        assertThat(ship.x()).isEqualTo(0f);
+        assertThat(bullet.x()).isEqualTo(50f);
+        assertThat(tweenManager.containsTarget(ship)).isFalse();
+        assertThat(tweenManager.containsTarget(bullet)).isTrue();
+        assertThat(tweenManager.getLiveTweens()).isEqualTo(1);
+    }
+
+    @Test
+    public void kill_target_kills_the_timelines_animating_it() {
+        Timeline.createSequence()
+                .push(Tween.to(bullet, POSITION_Y, 1f).target(100f))
+                .beginParallel()
+                .push(Tween.to(ship, POSITION_X, 1f).target(100f))
+                .end()
+                .start(tweenManager);
+
+        tweenManager.killTarget(ship);
+        tweenManager.update(0.5f);
+
+        assertThat(bullet.y()).isEqualTo(0f);
+        assertThat(tweenManager.containsTarget(bullet)).isFalse();
+        assertThat(tweenManager.getTweenedTargets()).isEqualTo(0);
+    }
+
+    @Test
+    public void finished_tweens_are_forgotten() {
+        Tween.to(ship, POSITION_X, 1f).target(100f).start(tweenManager);
+        Tween.to(ship, POSITION_Y, 2f).target(100f).start(tweenManager);
+        assertThat(tweenManager.getLiveTweens()).isEqualTo(2);
+
+        tweenManager.update(1.5f);
+        tweenManager.update(0f);
+        assertThat(tweenManager.getLiveTweens()).isEqualTo(1);
+        assertThat(tweenManager.containsTarget(ship)).isTrue();
+
+        tweenManager.update(1f);
+        tweenManager.update(0f);
+        assertThat(tweenManager.getLiveTweens()).isEqualTo(0);
+        assertThat(tweenManager.containsTarget(ship)).isFalse();
+        assertThat(tweenManager.getPeak()).isEqualTo(2);
+        tweenManager.resetPeak();
+        assertThat(tweenManager.getPeak()).isEqualTo(0);
+    }
+}